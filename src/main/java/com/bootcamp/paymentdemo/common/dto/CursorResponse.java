@@ -0,0 +1,20 @@
+package com.bootcamp.paymentdemo.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    public CursorResponse(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.bootcamp.paymentdemo.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Snowflake 방식 64비트 id 발급기 (부호 1 | 타임스탬프 41 | 노드 10 | 시퀀스 12)
+// 같은 노드에서 발급한 id는 항상 증가하므로 인덱스 삽입이 B-tree 끝에 붙음
+@Component
+@Slf4j
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z 기준 (41비트로 약 69년)
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    // 문자열 id 정렬 순서를 숫자 순서와 맞추기 위한 자릿수 (long 최대 19자리)
+    private static final int ID_DIGITS = 19;
+
+    private final long nodeId;
+    private final long maxBackwardMillis;
+    private final LongSupplier clock;
+
+    // 마지막 발급 상태 (타임스탬프 << SEQUENCE_BITS | 시퀀스), CAS로만 갱신
+    private final AtomicLong lastState = new AtomicLong(0);
+
+    // 노드 id는 기본값 없이 설정에서만 받음 (미지정이면 기동 실패, 노드끼리 겹치면 id 충돌)
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${id.snowflake.node-id}") long nodeId,
+                                @Value("${id.snowflake.max-backward-millis:5000}") long maxBackwardMillis) {
+        this(nodeId, maxBackwardMillis, System::currentTimeMillis);
+        log.info("Snowflake 노드 id: {}", nodeId);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long maxBackwardMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 id는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다.");
+        }
+        this.nodeId = nodeId;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            long prev = lastState.get();
+            long prevTimestamp = prev >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > prevTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // 같은 밀리초이거나 시계가 뒤로 간 경우: 마지막 타임스탬프를 이어서 사용
+                if (prevTimestamp - now > maxBackwardMillis) {
+                    throw new IllegalStateException("시스템 시계가 " + (prevTimestamp - now) + "ms 뒤로 이동하여 id를 발급할 수 없습니다.");
+                }
+                // 시퀀스가 넘치면 시계가 다음 밀리초로 넘어갈 때까지 대기 (미래 시각을 당겨 쓰지 않음)
+                if ((prev & MAX_SEQUENCE) == MAX_SEQUENCE) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                next = prev + 1;
+            }
+
+            if (lastState.compareAndSet(prev, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & MAX_SEQUENCE;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    // 접두어 + 19자리 고정 폭 id (문자열 정렬 = 발급 순서)
+    public String nextId(String prefix) {
+        String id = Long.toString(nextId());
+        return prefix + "0".repeat(ID_DIGITS - id.length()) + id;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,65 @@
+package com.bootcamp.paymentdemo.common.scheduler;
+
+import com.bootcamp.paymentdemo.external.portone.cache.PortOnePaymentCache;
+import com.bootcamp.paymentdemo.external.portone.cache.PortOnePaymentCacheStats;
+import com.bootcamp.paymentdemo.external.portone.resilience.PortOneCircuitBreaker;
+import com.bootcamp.paymentdemo.external.portone.resilience.PortOneResilience;
+import com.bootcamp.paymentdemo.external.portone.resilience.PortOneResilienceStats;
+import com.bootcamp.paymentdemo.webhook.dto.WebhookDedupStats;
+import com.bootcamp.paymentdemo.webhook.service.WebhookDeduplicator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 메모리에만 있는 운영 통계를 주기적으로 key=value 로그로 남김 (로그 수집기에서 검색/알림)
+// 값은 서버 시작 후 누적값 (카운터 증가량은 이전 로그와의 차이로 계산)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OperationalStatsScheduler {
+
+    private final PortOneResilience portOneResilience;
+    private final PortOnePaymentCache portOnePaymentCache;
+    private final WebhookDeduplicator webhookDeduplicator;
+
+    // 1분마다 실행
+    @Scheduled(fixedDelay = 60000)
+    public void logStats() {
+        logPortOneResilience();
+        logPortOnePaymentCache();
+        logWebhookDedup();
+    }
+
+    // PG 호출 종류별 서킷/벌크헤드/타임아웃 상태 (서킷이 닫혀 있지 않으면 WARN)
+    private void logPortOneResilience() {
+        for (PortOneResilienceStats stats : portOneResilience.getStats()) {
+            String format = "portone.resilience operation={} state={} failureRate={} bufferedCalls={} "
+                    + "breakerRejections={} bulkheadRejections={} p99Ms={} timeoutMs={}";
+            Object[] args = {stats.operation(), stats.state(), String.format("%.1f", stats.failureRate()),
+                    stats.bufferedCalls(), stats.breakerRejections(), stats.bulkheadRejections(),
+                    stats.p99Millis(), stats.timeoutMillis()};
+            if (stats.state() == PortOneCircuitBreaker.State.CLOSED) {
+                log.info(format, args);
+            } else {
+                log.warn(format, args);
+            }
+        }
+    }
+
+    // PG 결제 조회 캐시 (캐시 적중 + 진행 중 요청 합류로 줄인 PG 호출)
+    private void logPortOnePaymentCache() {
+        PortOnePaymentCacheStats stats = portOnePaymentCache.getStats();
+        log.info("portone.payment-cache lookups={} hits={} coalesced={} loads={} invalidations={} size={} hitRatio={}",
+                stats.lookups(), stats.hits(), stats.coalesced(), stats.loads(), stats.invalidations(),
+                stats.size(), String.format("%.3f", stats.hitRatio()));
+    }
+
+    // 웹훅 중복 제거 적중률 (최근 캐시에서 DB 없이 걸러 낸 비율)
+    private void logWebhookDedup() {
+        WebhookDedupStats stats = webhookDeduplicator.getStats();
+        log.info("webhook.dedup lookups={} cacheHits={} hitRate={} bloomPositives={} bloomFalsePositives={} dbDuplicates={}",
+                stats.lookups(), stats.cacheHits(), String.format("%.3f", stats.hitRate()),
+                stats.bloomPositives(), stats.bloomFalsePositives(), stats.dbDuplicates());
+    }
+}
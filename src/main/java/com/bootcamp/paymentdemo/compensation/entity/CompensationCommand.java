@@ -0,0 +1,88 @@
+package com.bootcamp.paymentdemo.compensation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 결제 실패 시 보상 명령 아웃박스 (실패 처리와 같은 트랜잭션에서 기록, 디스패처가 실행)
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_compensation_status_next_attempt", columnList = "status, nextAttemptAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CompensationCommand {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 같은 결제 건의 같은 보상은 한 번만 기록 (PG 호출 시 Idempotency-Key 로도 사용)
+    @Column(unique = true, nullable = false)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CompensationType type;
+
+    @Column(nullable = false)
+    private String dbPaymentId;
+
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    private CompensationStatus status;
+
+    private LocalDateTime createdAt;
+
+    // 실행 시도 횟수 및 다음 시도 시각 (재시도 백오프)
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime completedAt;
+
+    @Builder
+    public CompensationCommand(CompensationType type, String dbPaymentId, String reason) {
+        this.idempotencyKey = idempotencyKey(type, dbPaymentId);
+        this.type = type;
+        this.dbPaymentId = dbPaymentId;
+        this.reason = reason;
+        this.status = CompensationStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public static String idempotencyKey(CompensationType type, String dbPaymentId) {
+        return "cmp-" + type.name().toLowerCase() + "-" + dbPaymentId;
+    }
+
+    public boolean isPending() {
+        return this.status == CompensationStatus.PENDING;
+    }
+
+    public void markDone() {
+        this.status = CompensationStatus.DONE;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    // 실행 실패 기록 - 최대 횟수에 도달하면 FAILED, 아니면 backoff 후 재시도
+    public void recordFailure(String error, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = CompensationStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+    }
+}
@@ -0,0 +1,7 @@
+package com.bootcamp.paymentdemo.compensation.entity;
+
+public enum CompensationStatus {
+    PENDING,    // 실행 대기 (재시도 포함)
+    DONE,       // 실행 완료
+    FAILED      // 최대 재시도 초과 (수동 처리 필요)
+}
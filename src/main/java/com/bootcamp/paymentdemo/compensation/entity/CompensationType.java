@@ -0,0 +1,6 @@
+package com.bootcamp.paymentdemo.compensation.entity;
+
+public enum CompensationType {
+    PG_CANCEL,      // PG사 결제 취소
+    POINT_ROLLBACK  // 사용 포인트 복구
+}
@@ -0,0 +1,19 @@
+package com.bootcamp.paymentdemo.compensation.repository;
+
+import com.bootcamp.paymentdemo.compensation.entity.CompensationCommand;
+import com.bootcamp.paymentdemo.compensation.entity.CompensationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CompensationCommandRepository extends JpaRepository<CompensationCommand, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    // 실행 시각이 도래한 대기 명령 (기록 순)
+    List<CompensationCommand> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(CompensationStatus status, LocalDateTime now, Pageable pageable);
+}
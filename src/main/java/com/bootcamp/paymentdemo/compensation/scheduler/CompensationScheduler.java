@@ -0,0 +1,29 @@
+package com.bootcamp.paymentdemo.compensation.scheduler;
+
+import com.bootcamp.paymentdemo.compensation.entity.CompensationCommand;
+import com.bootcamp.paymentdemo.compensation.service.CompensationCommandService;
+import com.bootcamp.paymentdemo.compensation.service.CompensationDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CompensationScheduler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final CompensationCommandService compensationCommandService;
+    private final CompensationDispatcher compensationDispatcher;
+
+    // 실행 시각이 된 보상 명령을 워커 풀에 넣음 (1초마다 실행, PG 호출을 기다리지 않음)
+    @Scheduled(fixedDelay = 1000)
+    public void dispatchDueCommands() {
+        for (CompensationCommand command : compensationCommandService.findDueCommands(BATCH_SIZE)) {
+            if (!compensationDispatcher.submit(command)) {
+                // 워커 풀이 가득 참 - 나머지는 다음 주기에
+                return;
+            }
+        }
+    }
+}
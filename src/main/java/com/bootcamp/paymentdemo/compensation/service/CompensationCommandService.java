@@ -0,0 +1,82 @@
+package com.bootcamp.paymentdemo.compensation.service;
+
+import com.bootcamp.paymentdemo.compensation.entity.CompensationCommand;
+import com.bootcamp.paymentdemo.compensation.entity.CompensationStatus;
+import com.bootcamp.paymentdemo.compensation.entity.CompensationType;
+import com.bootcamp.paymentdemo.compensation.repository.CompensationCommandRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 보상 명령 기록/상태 관리 (실행은 CompensationDispatcher)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CompensationCommandService {
+
+    private final CompensationCommandRepository compensationCommandRepository;
+
+    @Value("${compensation.retry.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${compensation.retry.initial-backoff:PT5S}")
+    private Duration initialBackoff;
+
+    @Value("${compensation.retry.max-backoff:PT10M}")
+    private Duration maxBackoff;
+
+    // 결제 실패 처리와 같은 트랜잭션에서 기록 (실패 처리가 롤백되면 명령도 남지 않음)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(CompensationType type, String dbPaymentId, String reason) {
+        if (compensationCommandRepository.existsByIdempotencyKey(CompensationCommand.idempotencyKey(type, dbPaymentId))) {
+            log.warn("이미 기록된 보상 명령: type={}, dbPaymentId={}", type, dbPaymentId);
+            return;
+        }
+        compensationCommandRepository.save(CompensationCommand.builder()
+                .type(type)
+                .dbPaymentId(dbPaymentId)
+                .reason(reason)
+                .build());
+    }
+
+    // 실행 시각이 도래한 대기 명령
+    @Transactional(readOnly = true)
+    public List<CompensationCommand> findDueCommands(int limit) {
+        return compensationCommandRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                CompensationStatus.PENDING, LocalDateTime.now(), PageRequest.ofSize(limit));
+    }
+
+    @Transactional
+    public void markDone(Long commandId) {
+        compensationCommandRepository.findById(commandId).ifPresent(CompensationCommand::markDone);
+    }
+
+    @Transactional
+    public void recordFailure(Long commandId, String error) {
+        compensationCommandRepository.findById(commandId).ifPresent(command -> {
+            Duration backoff = backoff(command.getAttempts() + 1);
+            command.recordFailure(error, maxAttempts, backoff);
+            if (command.getStatus() == CompensationStatus.FAILED) {
+                log.error("보상 명령 최종 실패, 수동 처리 필요: type={}, dbPaymentId={}, 시도={}, 오류={}",
+                        command.getType(), command.getDbPaymentId(), command.getAttempts(), error);
+                return;
+            }
+            log.warn("보상 명령 실패, {} 후 재시도: type={}, dbPaymentId={}, 시도={}, 오류={}",
+                    backoff, command.getType(), command.getDbPaymentId(), command.getAttempts(), error);
+        });
+    }
+
+    // 지수 백오프 (initialBackoff * 2^(attempt-1), 최대 maxBackoff)
+    Duration backoff(int attempt) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
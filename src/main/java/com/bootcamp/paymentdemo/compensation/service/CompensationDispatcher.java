@@ -0,0 +1,110 @@
+package com.bootcamp.paymentdemo.compensation.service;
+
+import com.bootcamp.paymentdemo.compensation.entity.CompensationCommand;
+import com.bootcamp.paymentdemo.external.portone.client.PortOneClient;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOneCancelRequest;
+import com.bootcamp.paymentdemo.external.portone.exception.PortOneApiException;
+import com.bootcamp.paymentdemo.payment.service.PaymentVerificationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 보상 명령 실행 (PG 호출은 트랜잭션 밖, 결과만 짧은 트랜잭션으로 기록)
+// 같은 명령이 중복 실행돼도 PG는 Idempotency-Key, 포인트 복구는 상태 확인으로 한 번만 반영됨
+// 실행은 크기가 정해진 워커 풀에서 (PG 장애로 취소 호출이 오래 걸려도 스케줄러 스레드를 붙잡지 않음)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CompensationDispatcher {
+
+    private static final String ALREADY_CANCELLED = "PAYMENT_ALREADY_CANCELLED";
+
+    private final CompensationCommandService compensationCommandService;
+    private final PortOneClient portOneClient;
+    private final PaymentVerificationService paymentVerificationService;
+
+    @Value("${compensation.worker.threads:4}")
+    private int workerThreads;
+
+    @Value("${compensation.worker.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ExecutorService executor;
+
+    // 워커 풀에 들어가 대기/실행 중인 명령 id (다음 주기에 같은 명령을 다시 넣지 않도록)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "compensation-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // 명령 실행 예약 - 대기열이 가득 차면 false (명령은 PENDING으로 남아 다음 주기에 다시 예약)
+    public boolean submit(CompensationCommand command) {
+        if (!inFlight.add(command.getId())) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    dispatch(command);
+                } finally {
+                    inFlight.remove(command.getId());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(command.getId());
+            return false;
+        }
+    }
+
+    public void dispatch(CompensationCommand command) {
+        try {
+            switch (command.getType()) {
+                case PG_CANCEL -> cancelAtPg(command);
+                case POINT_ROLLBACK -> paymentVerificationService.rollbackPoints(command.getDbPaymentId());
+            }
+            compensationCommandService.markDone(command.getId());
+            log.info("보상 명령 실행 완료: type={}, dbPaymentId={}", command.getType(), command.getDbPaymentId());
+        } catch (Exception e) {
+            compensationCommandService.recordFailure(command.getId(), e.getMessage());
+        }
+    }
+
+    private void cancelAtPg(CompensationCommand command) {
+        try {
+            portOneClient.cancelPayment(command.getDbPaymentId(),
+                    PortOneCancelRequest.fullCancel(command.getReason()), command.getIdempotencyKey());
+        } catch (PortOneApiException e) {
+            // 이전 시도에서 취소가 반영됐지만 응답을 받지 못한 경우
+            if (!ALREADY_CANCELLED.equals(e.getType())) {
+                throw e;
+            }
+            log.info("이미 취소된 결제 건: {}", command.getDbPaymentId());
+        }
+    }
+}
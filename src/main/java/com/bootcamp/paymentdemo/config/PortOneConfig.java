@@ -1,13 +1,21 @@
 package com.bootcamp.paymentdemo.config;
 
+import com.bootcamp.paymentdemo.external.portone.client.PortOneConnectionLimiter;
+import com.bootcamp.paymentdemo.external.portone.client.PortOneOperation;
+import com.bootcamp.paymentdemo.external.portone.client.PortOneRequestFactory;
+import com.bootcamp.paymentdemo.external.portone.client.PortOneRestClients;
+import com.bootcamp.paymentdemo.external.portone.resilience.PortOneResilience;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 @Configuration
 public class PortOneConfig {
@@ -18,20 +26,52 @@ public class PortOneConfig {
     @Value("${portone.api.secret}")
     private String apiSecret;
 
+    // jdk: JDK HttpClient (커넥션 풀, keep-alive, https에서 HTTP/2) / simple: HttpURLConnection
+    // 평문 HTTP 스텁 벤치마크(PortOneTransportBenchmarkTest)에서는 p99 개선이 없어 기본값은 simple 유지
+    // TLS 스텁에서 HTTP/2/커넥션 재사용 효과가 확인되면 jdk로 전환
+    @Value("${portone.http.transport:simple}")
+    private String transport;
+
+    @Value("${portone.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${portone.http.connection-acquire-timeout:PT2S}")
+    private Duration connectionAcquireTimeout;
+
+    @Value("${portone.http.connect-timeout:PT3S}")
+    private Duration connectTimeout;
+
+    @Value("${portone.http.http2:true}")
+    private boolean http2;
+
     @Bean
-    public RestClient portOneRestClient() {
-        return RestClient.builder()
-                .baseUrl(baseUrl)
-                .defaultHeader("Authorization", "PortOne " + apiSecret)
-                .defaultHeader("Content-Type", "application/json")
-                .requestFactory(clientHttpRequestFactory())
-                .build();
+    public PortOneRestClients portOneRestClients(PortOneResilience portOneResilience) {
+        // 호출 종류마다 RestClient를 두되 HttpClient(커넥션 풀)와 동시 요청 제한은 공유
+        HttpClient httpClient = "jdk".equalsIgnoreCase(transport) ? httpClient() : null;
+        Executor executor = new SimpleAsyncTaskExecutor("portone-body-");
+        PortOneConnectionLimiter connectionLimiter = new PortOneConnectionLimiter(maxConnections, connectionAcquireTimeout);
+
+        Map<PortOneOperation, RestClient> clients = new EnumMap<>(PortOneOperation.class);
+        for (PortOneOperation operation : PortOneOperation.values()) {
+            clients.put(operation, RestClient.builder()
+                    .baseUrl(baseUrl)
+                    .defaultHeader("Authorization", "PortOne " + apiSecret)
+                    .defaultHeader("Content-Type", "application/json")
+                    // 읽기 타임아웃은 요청마다 최근 응답 시간으로 다시 계산
+                    .requestFactory(new PortOneRequestFactory(httpClient, executor, connectTimeout,
+                            () -> portOneResilience.timeout(operation)))
+                    .requestInterceptor(connectionLimiter)
+                    .build());
+        }
+        return new PortOneRestClients(clients);
     }
 
-    private ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(60));
-        factory.setReadTimeout(Duration.ofSeconds(60));
-        return factory;
+    private HttpClient httpClient() {
+        // HTTP/2는 TLS(ALPN)에서만 협상 (평문 h2c 업그레이드는 시도하지 않음)
+        boolean useHttp2 = http2 && baseUrl.startsWith("https");
+        return HttpClient.newBuilder()
+                .version(useHttp2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
     }
-}
\ No newline at end of file
+}
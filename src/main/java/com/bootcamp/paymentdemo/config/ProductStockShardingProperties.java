@@ -0,0 +1,16 @@
+package com.bootcamp.paymentdemo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "product.stock-sharding")
+public class ProductStockShardingProperties {
+    // 상품 id -> 샤드 수 (2 이상이면 샤딩 재고 사용, 0이면 해제)
+    private Map<Long, Integer> shardCounts = new LinkedHashMap<>();
+}
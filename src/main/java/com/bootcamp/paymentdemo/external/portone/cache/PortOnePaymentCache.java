@@ -0,0 +1,150 @@
+package com.bootcamp.paymentdemo.external.portone.cache;
+
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// PortOne 결제 조회 단기 캐시
+// - 같은 결제 건에 대한 동시 조회는 한 번의 PG 호출로 합침
+// - 확정된 상태(PAID/CANCELLED/FAILED 등)만 TTL 동안 보관, 진행 중 상태는 합류만 하고 보관하지 않음
+// - 취소/환불 호출 시 해당 결제 건 무효화
+@Slf4j
+@Component
+public class PortOnePaymentCache {
+
+    @Value("${portone.cache.payment-ttl:PT3S}")
+    private Duration ttl;
+
+    @Value("${portone.cache.max-entries:10000}")
+    private int maxEntries;
+
+    private LongSupplier clock = System::nanoTime;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private long ttlNanos;
+
+    @PostConstruct
+    public void init() {
+        ttlNanos = ttl.toNanos();
+    }
+
+    public PortOnePaymentResponse get(String paymentId, Supplier<PortOnePaymentResponse> loader) {
+        lookups.increment();
+
+        while (true) {
+            Entry current = entries.get(paymentId);
+            if (current != null) {
+                if (!current.future.isDone()) {
+                    coalesced.increment();
+                    return join(current.future);
+                }
+                if (current.expiresAt - clock.getAsLong() > 0) {
+                    hits.increment();
+                    return join(current.future);
+                }
+                // 만료된 항목은 교체 대상
+                entries.remove(paymentId, current);
+                continue;
+            }
+
+            Entry loading = new Entry();
+            if (entries.putIfAbsent(paymentId, loading) != null) {
+                continue;
+            }
+            return load(paymentId, loading, loader);
+        }
+    }
+
+    // 취소/환불 등으로 상태가 바뀐 결제 건 제거 (진행 중인 조회 결과도 보관되지 않음)
+    public void invalidate(String paymentId) {
+        if (entries.remove(paymentId) != null) {
+            invalidations.increment();
+        }
+    }
+
+    public PortOnePaymentCacheStats getStats() {
+        return new PortOnePaymentCacheStats(
+                lookups.sum(),
+                hits.sum(),
+                coalesced.sum(),
+                loads.sum(),
+                invalidations.sum(),
+                entries.size()
+        );
+    }
+
+    private PortOnePaymentResponse load(String paymentId, Entry loading, Supplier<PortOnePaymentResponse> loader) {
+        loads.increment();
+        PortOnePaymentResponse response;
+        try {
+            response = loader.get();
+        } catch (RuntimeException e) {
+            // 실패는 보관하지 않음, 합류한 요청에는 같은 예외 전달
+            entries.remove(paymentId, loading);
+            loading.future.completeExceptionally(e);
+            throw e;
+        }
+
+        if (isCacheable(response)) {
+            loading.expiresAt = clock.getAsLong() + ttlNanos;
+        } else {
+            entries.remove(paymentId, loading);
+        }
+        loading.future.complete(response);
+
+        if (entries.size() > maxEntries) {
+            evictExpired();
+        }
+        return response;
+    }
+
+    private void evictExpired() {
+        long now = clock.getAsLong();
+        entries.entrySet().removeIf(e -> e.getValue().future.isDone() && e.getValue().expiresAt - now <= 0);
+        if (entries.size() > maxEntries) {
+            log.warn("PortOne 결제 조회 캐시 용량 초과: size={}, maxEntries={}", entries.size(), maxEntries);
+            entries.entrySet().removeIf(e -> e.getValue().future.isDone());
+        }
+    }
+
+    private boolean isCacheable(PortOnePaymentResponse response) {
+        return response != null
+                && (response.isPaid() || response.isCancelled() || response.isFailed()
+                || "PARTIAL_CANCELLED".equalsIgnoreCase(response.status()));
+    }
+
+    private PortOnePaymentResponse join(CompletableFuture<PortOnePaymentResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<PortOnePaymentResponse> future = new CompletableFuture<>();
+        // future 완료 전에 기록되고 완료 이후에만 읽힘
+        private volatile long expiresAt;
+    }
+}
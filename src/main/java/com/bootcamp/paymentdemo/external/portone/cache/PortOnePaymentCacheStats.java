@@ -0,0 +1,21 @@
+package com.bootcamp.paymentdemo.external.portone.cache;
+
+// PortOne 결제 조회 캐시 통계 (모니터링용)
+public record PortOnePaymentCacheStats(
+        long lookups,
+        long hits,
+        long coalesced,
+        long loads,
+        long invalidations,
+        int size
+) {
+
+    // PG 호출 없이 응답한 비율 (캐시 적중 + 진행 중 요청 합류)
+    public double hitRatio() {
+        return lookups == 0 ? 0.0 : (double) savedRoundTrips() / lookups;
+    }
+
+    public long savedRoundTrips() {
+        return hits + coalesced;
+    }
+}
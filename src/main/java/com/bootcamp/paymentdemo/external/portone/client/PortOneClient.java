@@ -1,69 +1,95 @@
 package com.bootcamp.paymentdemo.external.portone.client;
 
+import com.bootcamp.paymentdemo.external.portone.cache.PortOnePaymentCache;
 import com.bootcamp.paymentdemo.external.portone.dto.*;
 import com.bootcamp.paymentdemo.external.portone.error.PortOneError;
 import com.bootcamp.paymentdemo.external.portone.error.PortOneErrorCase;
 import com.bootcamp.paymentdemo.external.portone.exception.PortOneApiException;
 import com.bootcamp.paymentdemo.external.portone.exception.PortOneException;
+import com.bootcamp.paymentdemo.external.portone.resilience.PortOneResilience;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
 import tools.jackson.databind.ObjectMapper;
 
 @Component
 @RequiredArgsConstructor
 public class PortOneClient {
 
-    private final RestClient restClient;
+    private final PortOneRestClients restClients;
+    private final PortOneResilience portOneResilience;
+    private final PortOnePaymentCache paymentCache;
     private final ObjectMapper objectMapper;
 
     public PortOnePaymentResponse createInstantPayment(String paymentId, PortOnePaymentRequest request) {
-        return restClient.post()
-                .uri("/payments/{paymentId}/instant", paymentId)
-                .header("Idempotency-Key", paymentId)
-                .body(request)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, (req, res) -> {
-                    PortOneError error = parseErrorResponse(res);
-                    throw new PortOneApiException(
-                            error != null ? error.type() : "UNKNOWN_ERROR",
-                            error != null ? error.message() : "Unknown error occurred",
-                            res.getStatusCode().value()
-                    );
-                })
-                .body(PortOnePaymentResponse.class);
+        return portOneResilience.execute(PortOneOperation.INSTANT_PAYMENT, () ->
+                restClients.get(PortOneOperation.INSTANT_PAYMENT).post()
+                        .uri("/payments/{paymentId}/instant", paymentId)
+                        .header("Idempotency-Key", paymentId)
+                        .body(request)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, (req, res) -> {
+                            PortOneError error = parseErrorResponse(res);
+                            throw new PortOneApiException(
+                                    error != null ? error.type() : "UNKNOWN_ERROR",
+                                    error != null ? error.message() : "Unknown error occurred",
+                                    res.getStatusCode().value()
+                            );
+                        })
+                        .body(PortOnePaymentResponse.class));
     }
 
+    // 같은 결제 건 조회는 캐시/진행 중 요청으로 합침
     public PortOnePaymentResponse getPayment(String paymentId) {
-        return restClient.get()
-                .uri("/payments/{paymentId}", paymentId)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, (req, res) -> {
-                    PortOneError error = parseErrorResponse(res);
-                    throw new PortOneApiException(
-                            error != null ? error.type() : "UNKNOWN_ERROR",
-                            error != null ? error.message() : "Unknown error occurred",
-                            res.getStatusCode().value()
-                    );
-                })
-                .body(PortOnePaymentResponse.class);
+        return paymentCache.get(paymentId, () -> fetchPayment(paymentId));
+    }
+
+    private PortOnePaymentResponse fetchPayment(String paymentId) {
+        return portOneResilience.execute(PortOneOperation.GET_PAYMENT, () ->
+                restClients.get(PortOneOperation.GET_PAYMENT).get()
+                        .uri("/payments/{paymentId}", paymentId)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, (req, res) -> {
+                            PortOneError error = parseErrorResponse(res);
+                            throw new PortOneApiException(
+                                    error != null ? error.type() : "UNKNOWN_ERROR",
+                                    error != null ? error.message() : "Unknown error occurred",
+                                    res.getStatusCode().value()
+                            );
+                        })
+                        .body(PortOnePaymentResponse.class));
     }
 
     public PortOnePaymentResponse cancelPayment(String paymentId, PortOneCancelRequest request) {
-        return restClient.post()
-                .uri("/payments/{paymentId}/cancel", paymentId)
-                .body(request)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, (req, res) -> {
-                    PortOneError error = parseErrorResponse(res);
-                    throw new PortOneApiException(
-                            error != null ? error.type() : "UNKNOWN_ERROR",
-                            error != null ? error.message() : "Unknown error occurred",
-                            res.getStatusCode().value()
-                    );
-                })
-                .body(PortOnePaymentResponse.class);
+        return cancelPayment(paymentId, request, null);
+    }
+
+    // 재시도되는 보상 취소는 같은 Idempotency-Key로 호출해 중복 취소 방지
+    public PortOnePaymentResponse cancelPayment(String paymentId, PortOneCancelRequest request, String idempotencyKey) {
+        try {
+            return portOneResilience.execute(PortOneOperation.CANCEL_PAYMENT, () ->
+                    restClients.get(PortOneOperation.CANCEL_PAYMENT).post()
+                            .uri("/payments/{paymentId}/cancel", paymentId)
+                            .headers(headers -> {
+                                if (idempotencyKey != null) {
+                                    headers.set("Idempotency-Key", idempotencyKey);
+                                }
+                            })
+                            .body(request)
+                            .retrieve()
+                            .onStatus(HttpStatusCode::isError, (req, res) -> {
+                                PortOneError error = parseErrorResponse(res);
+                                throw new PortOneApiException(
+                                        error != null ? error.type() : "UNKNOWN_ERROR",
+                                        error != null ? error.message() : "Unknown error occurred",
+                                        res.getStatusCode().value()
+                                );
+                            })
+                            .body(PortOnePaymentResponse.class));
+        } finally {
+            // 취소 성공/실패와 무관하게 PG 상태가 바뀌었을 수 있으므로 조회 캐시 무효화
+            paymentCache.invalidate(paymentId);
+        }
     }
 
     private PortOneError parseErrorResponse(org.springframework.http.client.ClientHttpResponse response) {
@@ -77,22 +103,25 @@ public class PortOneClient {
     // PortOne 환불 API 요청
     public PortOneRefundResponse refundPayment(String paymentId, PortOneRefundRequest request) {
         try {
-            return restClient.post()
-                    .uri("/payments/{paymentId}/cancel", paymentId)
-                    .body(request)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, (req, res) -> {
-                       PortOneError error = parseErrorResponse(res);
-                       throw new PortOneException(
-                               PortOneErrorCase.caseToHttpStatus(error.type()), error.message()
-                       );
-                    }).body(PortOneRefundResponse.class);
+            return portOneResilience.execute(PortOneOperation.REFUND_PAYMENT, () ->
+                    restClients.get(PortOneOperation.REFUND_PAYMENT).post()
+                            .uri("/payments/{paymentId}/cancel", paymentId)
+                            .body(request)
+                            .retrieve()
+                            .onStatus(HttpStatusCode::isError, (req, res) -> {
+                               PortOneError error = parseErrorResponse(res);
+                               throw new PortOneException(
+                                       PortOneErrorCase.caseToHttpStatus(error.type()), error.message()
+                               );
+                            }).body(PortOneRefundResponse.class));
         } catch (PortOneException e) {
             throw e;
         } catch (Exception e) {
             throw new PortOneException(
                     HttpStatus.INTERNAL_SERVER_ERROR, "PortOne 호출 중 알 수 없는 오류"
             );
+        } finally {
+            paymentCache.invalidate(paymentId);
         }
     }
 }
\ No newline at end of file
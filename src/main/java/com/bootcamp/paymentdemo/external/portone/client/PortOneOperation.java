@@ -0,0 +1,10 @@
+package com.bootcamp.paymentdemo.external.portone.client;
+
+// PortOne API 호출 종류 (호출별 타임아웃 구분)
+public enum PortOneOperation {
+
+    INSTANT_PAYMENT,
+    GET_PAYMENT,
+    CANCEL_PAYMENT,
+    REFUND_PAYMENT
+}
@@ -0,0 +1,45 @@
+package com.bootcamp.paymentdemo.external.portone.client;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+// 요청마다 읽기 타임아웃을 다시 정하는 요청 팩토리 (응답 시간 기반 타임아웃 적용용)
+// httpClient가 있으면 JDK HttpClient(커넥션 풀 공유), 없으면 HttpURLConnection
+public class PortOneRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpClient httpClient;
+    private final Executor executor;
+    private final Duration connectTimeout;
+    private final Supplier<Duration> readTimeout;
+
+    public PortOneRequestFactory(HttpClient httpClient, Executor executor, Duration connectTimeout, Supplier<Duration> readTimeout) {
+        this.httpClient = httpClient;
+        this.executor = executor;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        Duration timeout = readTimeout.get();
+        if (httpClient != null) {
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient, executor);
+            factory.setReadTimeout(timeout);
+            return factory.createRequest(uri, httpMethod);
+        }
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeout);
+        factory.setReadTimeout(timeout);
+        return factory.createRequest(uri, httpMethod);
+    }
+}
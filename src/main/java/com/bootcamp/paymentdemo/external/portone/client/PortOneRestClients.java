@@ -0,0 +1,25 @@
+package com.bootcamp.paymentdemo.external.portone.client;
+
+import org.springframework.web.client.RestClient;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 호출 종류별 RestClient (같은 커넥션 풀을 공유하고 읽기 타임아웃만 다름)
+public class PortOneRestClients {
+
+    private final Map<PortOneOperation, RestClient> clients;
+
+    public PortOneRestClients(Map<PortOneOperation, RestClient> clients) {
+        this.clients = new EnumMap<>(clients);
+        for (PortOneOperation operation : PortOneOperation.values()) {
+            if (!this.clients.containsKey(operation)) {
+                throw new IllegalArgumentException("RestClient가 설정되지 않은 호출: " + operation);
+            }
+        }
+    }
+
+    public RestClient get(PortOneOperation operation) {
+        return clients.get(operation);
+    }
+}
@@ -1,10 +1,17 @@
 package com.bootcamp.paymentdemo.external.portone.exception;
 
 import com.bootcamp.paymentdemo.common.exception.ServiceException;
+import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+@Getter
 public class PortOneApiException extends ServiceException {
+
+    // PortOne 에러 타입 (예: PAYMENT_ALREADY_CANCELLED)
+    private final String type;
+
     public PortOneApiException(String type, String message, int status) {
         super(String.format("[%d %s] %s", status, type, message), HttpStatus.valueOf(status));
+        this.type = type;
     }
 }
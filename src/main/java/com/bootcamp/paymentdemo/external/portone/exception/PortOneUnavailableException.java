@@ -0,0 +1,10 @@
+package com.bootcamp.paymentdemo.external.portone.exception;
+
+import org.springframework.http.HttpStatus;
+
+// 서킷 브레이커 또는 벌크헤드가 PortOne 호출을 보내지 않고 거절한 경우
+public class PortOneUnavailableException extends PortOneException {
+    public PortOneUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
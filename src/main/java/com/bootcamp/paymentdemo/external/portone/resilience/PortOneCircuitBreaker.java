@@ -0,0 +1,139 @@
+package com.bootcamp.paymentdemo.external.portone.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+// 최근 windowSize건의 성공/실패로 판단하는 서킷 브레이커
+// CLOSED: 실패율이 임계치를 넘으면 OPEN / OPEN: openDuration 동안 호출 거절 후 HALF_OPEN
+// HALF_OPEN: halfOpenCalls건만 시험 호출, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+@Slf4j
+public class PortOneCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    // 원형 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int bufferedFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public PortOneCircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                                 long openDurationMillis, int halfOpenCalls, LongSupplier clock) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+        this.window = new boolean[windowSize];
+    }
+
+    // 호출 허용 여부
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMillis) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        switch (state) {
+            case CLOSED -> record(false);
+            case HALF_OPEN -> {
+                if (++halfOpenSucceeded >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // OPEN 전에 시작된 호출의 결과는 무시
+            }
+        }
+    }
+
+    public synchronized void onFailure() {
+        switch (state) {
+            case CLOSED -> {
+                record(true);
+                if (bufferedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> transitionTo(State.OPEN);
+            case OPEN -> {
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        // 조회 시점에 대기 시간이 지났으면 HALF_OPEN으로 보이도록 함
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    // 실패율 (%)
+    public synchronized double failureRate() {
+        return bufferedCalls == 0 ? 0.0 : bufferedFailures * 100.0 / bufferedCalls;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    private void record(boolean failure) {
+        if (bufferedCalls == windowSize) {
+            if (window[windowIndex]) {
+                bufferedFailures--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            bufferedFailures++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("PortOne 서킷 상태 변경: {} {} -> {} (실패율 {}%)", name, state, next, String.format("%.1f", failureRate()));
+        state = next;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = clock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            bufferedCalls = 0;
+            bufferedFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.bootcamp.paymentdemo.external.portone.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+// 최근 응답 시간 표본으로 p99 기반 타임아웃 계산
+// p99 * multiplier를 minTimeout ~ 설정 타임아웃 사이로 제한 (표본이 부족하면 설정 타임아웃 사용)
+// 타임아웃된 호출도 타임아웃 값으로 기록되어야 PG 응답이 느려졌을 때 타임아웃이 따라 늘어남
+public class PortOneLatencyTracker {
+
+    // 표본이 이만큼 쌓일 때마다 p99 재계산
+    private static final int RECALCULATE_EVERY = 20;
+
+    private final long[] samples;
+    private final int minSamples;
+    private final double multiplier;
+    private final Duration minTimeout;
+
+    private int index;
+    private int count;
+    private int sinceRecalculation;
+    private long p99Nanos = -1;
+
+    public PortOneLatencyTracker(int sampleSize, int minSamples, double multiplier, Duration minTimeout) {
+        this.samples = new long[sampleSize];
+        this.minSamples = minSamples;
+        this.multiplier = multiplier;
+        this.minTimeout = minTimeout;
+    }
+
+    public synchronized void record(long elapsedNanos) {
+        samples[index] = elapsedNanos;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRecalculation >= RECALCULATE_EVERY || p99Nanos < 0) {
+            recalculate();
+        }
+    }
+
+    public synchronized Optional<Duration> p99() {
+        return count < minSamples || p99Nanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(p99Nanos));
+    }
+
+    // 이번 호출에 쓸 타임아웃 (configured가 상한)
+    public Duration timeout(Duration configured) {
+        return p99()
+                .map(p99 -> Duration.ofNanos((long) (p99.toNanos() * multiplier)))
+                .map(adaptive -> adaptive.compareTo(minTimeout) < 0 ? minTimeout : adaptive)
+                .map(adaptive -> adaptive.compareTo(configured) > 0 ? configured : adaptive)
+                .orElse(configured);
+    }
+
+    private void recalculate() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        p99Nanos = sorted[Math.max(0, (int) Math.ceil(count * 0.99) - 1)];
+        sinceRecalculation = 0;
+    }
+}
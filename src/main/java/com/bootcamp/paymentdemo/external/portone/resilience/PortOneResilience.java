@@ -0,0 +1,203 @@
+package com.bootcamp.paymentdemo.external.portone.resilience;
+
+import com.bootcamp.paymentdemo.common.exception.ServiceException;
+import com.bootcamp.paymentdemo.external.portone.client.PortOneOperation;
+import com.bootcamp.paymentdemo.external.portone.exception.PortOneUnavailableException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// PortOne 호출 보호 (호출 종류별 서킷 브레이커 + 전체 벌크헤드 + 응답 시간 기반 타임아웃)
+// PG 장애 시 요청 스레드가 타임아웃까지 묶여 톰캣 풀이 고갈되지 않도록 빠르게 거절
+@Component
+@Slf4j
+public class PortOneResilience {
+
+    @Value("${portone.resilience.breaker.window-size:50}")
+    private int windowSize;
+
+    @Value("${portone.resilience.breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${portone.resilience.breaker.failure-rate-threshold:50}")
+    private double failureRateThreshold;
+
+    @Value("${portone.resilience.breaker.open-duration:PT30S}")
+    private Duration openDuration;
+
+    @Value("${portone.resilience.breaker.half-open-calls:5}")
+    private int halfOpenCalls;
+
+    // PG 호출이 동시에 점유할 수 있는 요청 스레드 수
+    @Value("${portone.resilience.bulkhead.max-concurrent:20}")
+    private int maxConcurrent;
+
+    @Value("${portone.resilience.bulkhead.max-wait:PT0.1S}")
+    private Duration maxWait;
+
+    @Value("${portone.resilience.timeout.sample-size:200}")
+    private int sampleSize;
+
+    @Value("${portone.resilience.timeout.min-samples:50}")
+    private int minSamples;
+
+    @Value("${portone.resilience.timeout.multiplier:3}")
+    private double timeoutMultiplier;
+
+    @Value("${portone.resilience.timeout.min:PT0.5S}")
+    private Duration minTimeout;
+
+    // 호출별 최대 읽기 타임아웃 (조회는 짧게, 취소/환불은 PG 처리 시간을 고려해 길게)
+    @Value("${portone.http.timeout.instant-payment:PT30S}")
+    private Duration instantPaymentTimeout;
+
+    @Value("${portone.http.timeout.get-payment:PT5S}")
+    private Duration getPaymentTimeout;
+
+    @Value("${portone.http.timeout.cancel-payment:PT15S}")
+    private Duration cancelPaymentTimeout;
+
+    @Value("${portone.http.timeout.refund-payment:PT15S}")
+    private Duration refundPaymentTimeout;
+
+    private Semaphore bulkhead;
+    private final Map<PortOneOperation, PortOneCircuitBreaker> breakers = new EnumMap<>(PortOneOperation.class);
+    private final Map<PortOneOperation, PortOneLatencyTracker> latencies = new EnumMap<>(PortOneOperation.class);
+    private final Map<PortOneOperation, LongAdder> breakerRejections = new EnumMap<>(PortOneOperation.class);
+    private final Map<PortOneOperation, LongAdder> bulkheadRejections = new EnumMap<>(PortOneOperation.class);
+
+    @PostConstruct
+    public void init() {
+        bulkhead = new Semaphore(maxConcurrent, true);
+        for (PortOneOperation operation : PortOneOperation.values()) {
+            breakers.put(operation, new PortOneCircuitBreaker(operation.name(), windowSize, minimumCalls,
+                    failureRateThreshold, openDuration.toMillis(), halfOpenCalls, System::currentTimeMillis));
+            latencies.put(operation, new PortOneLatencyTracker(sampleSize, minSamples, timeoutMultiplier, minTimeout));
+            breakerRejections.put(operation, new LongAdder());
+            bulkheadRejections.put(operation, new LongAdder());
+        }
+    }
+
+    public <T> T execute(PortOneOperation operation, Supplier<T> call) {
+        if (!acquireBulkhead()) {
+            bulkheadRejections.get(operation).increment();
+            throw new PortOneUnavailableException("PortOne 동시 호출 한도 초과: " + operation);
+        }
+
+        try {
+            PortOneCircuitBreaker breaker = breakers.get(operation);
+            if (!breaker.tryAcquire()) {
+                breakerRejections.get(operation).increment();
+                throw new PortOneUnavailableException("PortOne 장애로 호출 차단 중: " + operation);
+            }
+
+            Duration applied = timeout(operation);
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                breaker.onSuccess();
+                latencies.get(operation).record(System.nanoTime() - start);
+                return result;
+            } catch (RuntimeException e) {
+                if (isPgFailure(e)) {
+                    breaker.onFailure();
+                    if (isTimeout(e)) {
+                        // 실제 응답 시간은 타임아웃 이상이므로 적용한 타임아웃 값으로 기록 (빼면 p99가 낮게 고정되어 타임아웃이 다시 늘어나지 못함)
+                        latencies.get(operation).record(Math.max(System.nanoTime() - start, applied.toNanos()));
+                    }
+                } else {
+                    // 4xx 등 요청 자체의 오류는 PG가 정상 응답한 것으로 봄
+                    breaker.onSuccess();
+                    latencies.get(operation).record(System.nanoTime() - start);
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // 이번 호출에 적용할 읽기 타임아웃 (최근 p99 기반, 설정값이 상한)
+    // HALF_OPEN 시험 호출은 장애 전 표본으로 줄어든 타임아웃에 걸려 다시 OPEN되지 않도록 설정값 사용
+    public Duration timeout(PortOneOperation operation) {
+        Duration configured = configuredTimeout(operation);
+        if (breakers.get(operation).getState() == PortOneCircuitBreaker.State.HALF_OPEN) {
+            return configured;
+        }
+        return latencies.get(operation).timeout(configured);
+    }
+
+    public PortOneCircuitBreaker.State state(PortOneOperation operation) {
+        return breakers.get(operation).getState();
+    }
+
+    public List<PortOneResilienceStats> getStats() {
+        List<PortOneResilienceStats> stats = new ArrayList<>();
+        for (PortOneOperation operation : PortOneOperation.values()) {
+            PortOneCircuitBreaker breaker = breakers.get(operation);
+            stats.add(new PortOneResilienceStats(
+                    operation,
+                    breaker.getState(),
+                    breaker.failureRate(),
+                    breaker.getBufferedCalls(),
+                    breakerRejections.get(operation).sum(),
+                    bulkheadRejections.get(operation).sum(),
+                    latencies.get(operation).p99().map(Duration::toMillis).orElse(null),
+                    timeout(operation).toMillis()
+            ));
+        }
+        return stats;
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 타임아웃/연결 실패/5xx만 PG 장애로 집계
+    private boolean isPgFailure(RuntimeException e) {
+        if (e instanceof ServiceException serviceException) {
+            return serviceException.getStatus().is5xxServerError();
+        }
+        if (e instanceof RestClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
+
+    private boolean isTimeout(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Duration configuredTimeout(PortOneOperation operation) {
+        return switch (operation) {
+            case INSTANT_PAYMENT -> instantPaymentTimeout;
+            case GET_PAYMENT -> getPaymentTimeout;
+            case CANCEL_PAYMENT -> cancelPaymentTimeout;
+            case REFUND_PAYMENT -> refundPaymentTimeout;
+        };
+    }
+}
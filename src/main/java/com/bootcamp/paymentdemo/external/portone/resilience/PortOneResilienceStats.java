@@ -0,0 +1,16 @@
+package com.bootcamp.paymentdemo.external.portone.resilience;
+
+import com.bootcamp.paymentdemo.external.portone.client.PortOneOperation;
+
+// 호출 종류별 서킷/벌크헤드/타임아웃 상태 (모니터링용)
+public record PortOneResilienceStats(
+        PortOneOperation operation,
+        PortOneCircuitBreaker.State state,
+        double failureRate,
+        int bufferedCalls,
+        long breakerRejections,
+        long bulkheadRejections,
+        Long p99Millis,
+        long timeoutMillis
+) {
+}
@@ -0,0 +1,7 @@
+package com.bootcamp.paymentdemo.order.consts;
+
+public enum ReservationStatus {
+    HELD,       // 결제 대기 중 재고 확보
+    CONFIRMED,  // 결제 완료로 판매 확정
+    RELEASED    // 만료되어 재고 반환
+}
@@ -1,6 +1,7 @@
 package com.bootcamp.paymentdemo.order.controller;
 
 import com.bootcamp.paymentdemo.common.dto.ApiResponse;
+import com.bootcamp.paymentdemo.common.dto.CursorResponse;
 import com.bootcamp.paymentdemo.order.dto.OrderCreateRequest;
 import com.bootcamp.paymentdemo.order.dto.OrderCreateResponse;
 import com.bootcamp.paymentdemo.order.dto.OrderGetDetailResponse;
@@ -32,11 +33,26 @@ public class OrderController {
                 .body(ApiResponse.success(HttpStatus.CREATED, "주문 생성 성공", response));
     }
 
-    @GetMapping
+    // 페이지 파라미터 없는 기존 호출 - 응답 형태는 유지하되 최신 주문 일부만 반환 (cursor/size 페이지 조회로 이전 예정)
+    @Deprecated
+    @GetMapping(params = {"!cursor", "!size"})
     public ResponseEntity<ApiResponse<List<OrderGetDetailResponse>>> getAllOrders(Principal principal){
         String email = principal.getName();
         log.info("주문 목록 조회 요청: email={}", email);
         List<OrderGetDetailResponse> response = orderService.findAllOrders(email);
+        return ResponseEntity.status(HttpStatus.OK)
+                .header("Deprecation", "true")
+                .body(ApiResponse.success(HttpStatus.OK, "주문 목록 조회 성공", response));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorResponse<OrderGetDetailResponse>>> getOrders(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            Principal principal){
+        String email = principal.getName();
+        log.info("주문 목록 페이지 조회 요청: email={}, size={}", email, size);
+        CursorResponse<OrderGetDetailResponse> response = orderService.findOrders(email, cursor, size);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.success(HttpStatus.OK, "주문 목록 조회 성공", response));
     }
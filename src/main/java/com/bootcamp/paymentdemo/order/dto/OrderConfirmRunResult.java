@@ -0,0 +1,20 @@
+package com.bootcamp.paymentdemo.order.dto;
+
+import java.time.Duration;
+
+// 자동 확정 1회 실행 결과
+// skipped: 그 사이 취소/수동 확정되어 건너뛴 주문
+// lag: 이번 실행에서 가장 오래된 대상 주문이 확정 기준 시각보다 늦어진 시간
+public record OrderConfirmRunResult(int confirmedCount, int skippedCount, int failedCount,
+                                    Duration elapsed, Duration lag) {
+
+    public int totalCount() {
+        return confirmedCount + skippedCount + failedCount;
+    }
+
+    // 초당 처리 건수
+    public double throughput() {
+        long millis = Math.max(elapsed.toMillis(), 1);
+        return totalCount() * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bootcamp.paymentdemo.order.dto;
+
+import java.time.LocalDateTime;
+
+// 자동 확정 대상 주문 (엔티티 대신 id, 생성 시각만 조회)
+public record OrderConfirmTarget(Long id, LocalDateTime createdAt) {
+}
@@ -0,0 +1,36 @@
+package com.bootcamp.paymentdemo.order.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+// 주문 목록 키셋 커서 (createdAt, id)
+// 클라이언트에는 내부 값을 알 수 없는 토큰 문자열로만 전달
+public record OrderCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    // DB 컬럼은 마이크로초까지만 저장되므로 영속성 컨텍스트의 나노초 값을 그대로 쓰면 같은 행이 다시 조회됨
+    public static OrderCursor from(OrderHeaderView order) {
+        return new OrderCursor(order.createdAt().truncatedTo(ChronoUnit.MICROS), order.orderId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bootcamp.paymentdemo.order.dto;
+
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 주문 상세 조회 한 행 (주문 + 주문 상품 조인, 주문 상품이 없으면 상품 컬럼은 null)
+public record OrderDetailRow(Long orderId, String orderNumber, OrderStatus status, LocalDateTime createdAt,
+                             BigDecimal totalAmount, BigDecimal usedPoints, BigDecimal finalAmount,
+                             BigDecimal earnedPoints,
+                             Long productId, String productName, BigDecimal orderPrice, Integer count) {
+
+    public OrderHeaderView header() {
+        return new OrderHeaderView(orderId, orderNumber, status, createdAt,
+                totalAmount, usedPoints, finalAmount, earnedPoints);
+    }
+
+    public boolean hasLine() {
+        return productId != null;
+    }
+
+    public OrderProductGetResponse line() {
+        return new OrderProductGetResponse(productId, productName, orderPrice, count);
+    }
+}
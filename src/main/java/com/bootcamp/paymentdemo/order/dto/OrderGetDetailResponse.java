@@ -60,6 +60,20 @@ public class OrderGetDetailResponse {
         );
     }
 
+    public static OrderGetDetailResponse from(OrderHeaderView order, List<OrderProductGetResponse> orderProducts) {
+        return new OrderGetDetailResponse(
+                order.orderId(),
+                order.orderNumber(),
+                order.status().name(),
+                order.createdAt(),
+                order.totalAmount(),
+                order.usedPoints(),
+                order.finalAmount(),
+                order.earnedPoints(),
+                orderProducts
+        );
+    }
+
     //포인트 요약 정보
     @Getter
     public static class PointSummary {
@@ -0,0 +1,12 @@
+package com.bootcamp.paymentdemo.order.dto;
+
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 주문 조회용 프로젝션 (응답에 필요한 컬럼만 조회, 엔티티 로딩 없음)
+public record OrderHeaderView(Long orderId, String orderNumber, OrderStatus status, LocalDateTime createdAt,
+                              BigDecimal totalAmount, BigDecimal usedPoints, BigDecimal finalAmount,
+                              BigDecimal earnedPoints) {
+}
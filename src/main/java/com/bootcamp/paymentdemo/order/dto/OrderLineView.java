@@ -0,0 +1,11 @@
+package com.bootcamp.paymentdemo.order.dto;
+
+import java.math.BigDecimal;
+
+// 주문 상품 조회용 프로젝션
+public record OrderLineView(Long orderId, Long productId, String productName, BigDecimal orderPrice, int count) {
+
+    public OrderProductGetResponse toResponse() {
+        return new OrderProductGetResponse(productId, productName, orderPrice, count);
+    }
+}
@@ -10,7 +10,11 @@ import java.math.BigDecimal;
 
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+        indexes = {
+                @Index(name = "idx_orders_user_created_at_id", columnList = "user_id, created_at, id"),
+                @Index(name = "idx_orders_status_id", columnList = "order_status, id")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
@@ -0,0 +1,39 @@
+package com.bootcamp.paymentdemo.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@Entity
+@Table(name = "order_number_segments")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderNumberSegment {
+
+    // 주문번호 날짜 (yyyyMMdd 단위로 순번이 초기화됨)
+    @Id
+    @Column(name = "seq_date")
+    private LocalDate seqDate;
+
+    // 다음 노드가 예약을 시작할 순번
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    public OrderNumberSegment(LocalDate seqDate) {
+        this.seqDate = seqDate;
+        this.nextValue = 1;
+    }
+
+    // 순번 블록 예약 (예약 시작 순번 반환)
+    public long reserve(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("예약할 블록 크기는 0보다 커야 합니다.");
+        }
+        long start = this.nextValue;
+        this.nextValue += blockSize;
+        return start;
+    }
+}
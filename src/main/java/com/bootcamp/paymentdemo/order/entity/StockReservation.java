@@ -0,0 +1,64 @@
+package com.bootcamp.paymentdemo.order.entity;
+
+import com.bootcamp.paymentdemo.common.entity.Base;
+import com.bootcamp.paymentdemo.order.consts.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(
+        name = "stock_reservations",
+        indexes = @Index(name = "idx_stock_reservations_status_expires_at", columnList = "status, expires_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation extends Base {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, unique = true)
+    private Long orderId;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public StockReservation(Long orderId, LocalDateTime expiresAt) {
+        this.orderId = orderId;
+        this.expiresAt = expiresAt;
+        this.status = ReservationStatus.HELD;
+    }
+
+    // 결제 완료 시 판매 확정
+    public void confirm() {
+        if (this.status != ReservationStatus.HELD) {
+            throw new IllegalStateException("재고 예약이 만료된 주문입니다.");
+        }
+        this.status = ReservationStatus.CONFIRMED;
+    }
+
+    // 결제 검증 중에 만료되면 결과가 나올 때까지 연장
+    public void extend(LocalDateTime expiresAt) {
+        if (this.status != ReservationStatus.HELD) {
+            throw new IllegalStateException("확보 중인 재고 예약만 연장할 수 있습니다.");
+        }
+        this.expiresAt = expiresAt;
+    }
+
+    // 만료 시 재고 반환
+    public void release() {
+        if (this.status != ReservationStatus.HELD) {
+            throw new IllegalStateException("확보 중인 재고 예약만 반환할 수 있습니다.");
+        }
+        this.status = ReservationStatus.RELEASED;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bootcamp.paymentdemo.order.repository;
+
+import com.bootcamp.paymentdemo.order.entity.OrderNumberSegment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface OrderNumberSegmentRepository extends JpaRepository<OrderNumberSegment, LocalDate> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from OrderNumberSegment s where s.seqDate = :seqDate")
+    Optional<OrderNumberSegment> findBySeqDateWithLock(@Param("seqDate") LocalDate seqDate);
+}
@@ -1,20 +1,66 @@
 package com.bootcamp.paymentdemo.order.repository;
 
 import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.dto.OrderConfirmTarget;
+import com.bootcamp.paymentdemo.order.dto.OrderDetailRow;
+import com.bootcamp.paymentdemo.order.dto.OrderHeaderView;
 import com.bootcamp.paymentdemo.order.entity.Order;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order,Long> {
-    List<Order> findByOrderStatusAndCreatedAtBefore(OrderStatus orderStatus, LocalDateTime date);
-
-    long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     Optional<Order> findByOrderNumber(String orderNumber);
 
-    // 특정 사용자의 모든 주문 조회
-    List<Order> findByUser_UserIdOrderByCreatedAtDesc(Long userId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findByIdWithLock(@Param("id") Long id);
+
+    // 상태별 (id, 생성 시각) 청크 조회 - 확정 마감 타이밍 휠 재구성용
+    @Query("SELECT new com.bootcamp.paymentdemo.order.dto.OrderConfirmTarget(o.id, o.createdAt) FROM Order o " +
+            "WHERE o.orderStatus = :status AND o.id > :lastId ORDER BY o.id")
+    List<OrderConfirmTarget> findTargetsByStatus(@Param("status") OrderStatus status,
+                                                 @Param("lastId") Long lastId,
+                                                 Pageable pageable);
+
+    // 자동 확정 대상 id 청크 조회 - lastId 이후부터 id 순으로 (order_status, id) 인덱스 범위 조회
+    @Query("SELECT new com.bootcamp.paymentdemo.order.dto.OrderConfirmTarget(o.id, o.createdAt) FROM Order o " +
+            "WHERE o.orderStatus = :status AND o.createdAt < :threshold AND o.id > :lastId ORDER BY o.id")
+    List<OrderConfirmTarget> findConfirmTargets(@Param("status") OrderStatus status,
+                                                @Param("threshold") LocalDateTime threshold,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    // 주문 목록 첫 페이지 (user_id, created_at, id) 인덱스 사용
+    @Query("SELECT new com.bootcamp.paymentdemo.order.dto.OrderHeaderView(" +
+            "o.id, o.orderNumber, o.orderStatus, o.createdAt, o.totalAmount, o.usedPoints, o.finalAmount, o.earnedPoints) " +
+            "FROM Order o WHERE o.user.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderHeaderView> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 주문 목록 다음 페이지 - 커서 이후부터 조회 (OFFSET 없이 인덱스 범위 조회)
+    @Query("SELECT new com.bootcamp.paymentdemo.order.dto.OrderHeaderView(" +
+            "o.id, o.orderNumber, o.orderStatus, o.createdAt, o.totalAmount, o.usedPoints, o.finalAmount, o.earnedPoints) " +
+            "FROM Order o WHERE o.user.userId = :userId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderHeaderView> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    // 주문 상세 - 주문과 주문 상품을 한 번에 조회 (프로젝션)
+    @Query("SELECT new com.bootcamp.paymentdemo.order.dto.OrderDetailRow(" +
+            "o.id, o.orderNumber, o.orderStatus, o.createdAt, o.totalAmount, o.usedPoints, o.finalAmount, o.earnedPoints, " +
+            "op.productId, op.productName, op.orderPrice, op.count) " +
+            "FROM Order o LEFT JOIN OrderProduct op ON op.order = o " +
+            "WHERE o.id = :orderId ORDER BY op.id")
+    List<OrderDetailRow> findDetailRows(@Param("orderId") Long orderId);
 }
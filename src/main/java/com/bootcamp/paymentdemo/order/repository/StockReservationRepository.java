@@ -0,0 +1,39 @@
+package com.bootcamp.paymentdemo.order.repository;
+
+import com.bootcamp.paymentdemo.order.consts.ReservationStatus;
+import com.bootcamp.paymentdemo.order.entity.StockReservation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from StockReservation r where r.orderId = :orderId")
+    Optional<StockReservation> findByOrderIdWithLock(@Param("orderId") Long orderId);
+
+    @Query("select r.orderId from StockReservation r where r.id in :ids")
+    List<Long> findOrderIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 만료된 예약 잠금 조회 (확정과 동시에 일어나도 한쪽만 성공)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from StockReservation r where r.id in :ids and r.status = :status and r.expiresAt <= :now")
+    List<StockReservation> findExpiredWithLock(@Param("ids") Collection<Long> ids,
+                                               @Param("status") ReservationStatus status,
+                                               @Param("now") LocalDateTime now);
+
+    // (status, expires_at) 인덱스 범위 조회 [id, expiresAt]
+    @Query("select r.id, r.expiresAt from StockReservation r where r.status = :status order by r.expiresAt")
+    List<Object[]> findDeadlinesByStatus(@Param("status") ReservationStatus status);
+
+    @Query("select r.id from StockReservation r where r.status = :status and r.expiresAt <= :now order by r.expiresAt")
+    List<Long> findExpiredIds(@Param("status") ReservationStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -1,10 +1,8 @@
 package com.bootcamp.paymentdemo.order.scheduler;
 
-import com.bootcamp.paymentdemo.membership.service.MembershipService;
-import com.bootcamp.paymentdemo.order.consts.OrderStatus;
-import com.bootcamp.paymentdemo.order.entity.Order;
-import com.bootcamp.paymentdemo.order.repository.OrderRepository;
-import com.bootcamp.paymentdemo.order.service.OrderService;
+import com.bootcamp.paymentdemo.order.dto.OrderConfirmTarget;
+import com.bootcamp.paymentdemo.order.service.OrderConfirmDeadlineWheel;
+import com.bootcamp.paymentdemo.order.service.OrderConfirmPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,31 +16,33 @@ import java.util.List;
 @Slf4j
 public class OrderScheduler {
 
-    private final OrderRepository orderRepository;
-    private final OrderService orderService;
-
-    // 시간이 지나면 자동 확정
-    @Scheduled(cron = "0 */5 * * * *") // 매 분 0초 마다 실행
-    public void autoConfirmOrder() {
-        log.info("자동 주문 확정 스케줄러 시작");
-
-        LocalDateTime thresholdDate = LocalDateTime.now().minusMinutes(5); // 테스트용 1분 이후 확정
-
-        // 현재는 리스트로 가져오는 방식
-        List<Order> ordersToConfirm = orderRepository.findByOrderStatusAndCreatedAtBefore(
-                OrderStatus.PENDING_CONFIRMATION,
-                thresholdDate
-        );
-
-        int successCount = 0; // 성공 횟수 담기(로그를 정확하게 표시하기 위해)
-        for (Order order : ordersToConfirm) {
-            try {
-                orderService.confirmOrder(order.getId());
-                successCount++;
-            } catch (Exception e) {
-                log.error("자동 주문 확정 실패: orderId={}, message={}", order.getId(), e.getMessage());
-            }
+    // 휠이 처리하지 못한 주문만 보정하도록 마감보다 여유를 둠
+    private static final long SWEEP_GRACE_MINUTES = 10;
+
+    private final OrderConfirmPipeline orderConfirmPipeline;
+    private final OrderConfirmDeadlineWheel orderConfirmDeadlineWheel;
+
+    // 확정 마감이 도래한 주문 자동 확정 (1초마다 타이밍 휠 확인)
+    @Scheduled(fixedDelay = 1000)
+    public void confirmDueOrders() {
+        List<OrderConfirmTarget> dueOrders = orderConfirmDeadlineWheel.pollDue();
+        if (dueOrders.isEmpty()) {
+            return;
         }
-        log.info("자동 주문 확정 스케줄러 완료: 처리 건수={}", successCount);
+        LocalDateTime thresholdDate = LocalDateTime.now().minus(orderConfirmDeadlineWheel.getConfirmDelay());
+        orderConfirmPipeline.confirmAll(dueOrders, thresholdDate);
+    }
+
+    // 다른 노드에서 결제 완료되었거나 휠에서 누락된 주문 보정 (1시간마다 실행)
+    @Scheduled(fixedDelay = 3600000)
+    public void sweepOverdueOrders() {
+        log.info("자동 주문 확정 보정 시작");
+
+        LocalDateTime thresholdDate = LocalDateTime.now()
+                .minus(orderConfirmDeadlineWheel.getConfirmDelay())
+                .minusMinutes(SWEEP_GRACE_MINUTES);
+
+        // 대상 id를 청크로 나눠 워커 풀에서 병렬 확정
+        orderConfirmPipeline.run(thresholdDate);
     }
 }
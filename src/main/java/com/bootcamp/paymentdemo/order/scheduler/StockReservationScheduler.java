@@ -0,0 +1,61 @@
+package com.bootcamp.paymentdemo.order.scheduler;
+
+import com.bootcamp.paymentdemo.order.service.StockReservationExpiryQueue;
+import com.bootcamp.paymentdemo.order.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final StockReservationService stockReservationService;
+    private final StockReservationExpiryQueue stockReservationExpiryQueue;
+
+    // 만료 큐에서 만료된 예약만 꺼내 반환 (5초마다 실행)
+    @Scheduled(fixedDelay = 5000)
+    public void releaseExpiredReservations() {
+        int releasedCount = 0;
+        List<Long> expiredIds;
+        while (!(expiredIds = stockReservationExpiryQueue.pollExpired(LocalDateTime.now(), CHUNK_SIZE)).isEmpty()) {
+            releasedCount += release(expiredIds);
+        }
+        if (releasedCount > 0) {
+            log.info("재고 예약 만료 스케줄러 완료: 처리 건수={}", releasedCount);
+        }
+    }
+
+    // 큐에 없는 만료 예약 보정 (1분마다 실행)
+    @Scheduled(fixedDelay = 60000)
+    public void sweepExpiredReservations() {
+        int releasedCount = 0;
+        List<Long> expiredIds;
+        while (!(expiredIds = stockReservationService.findExpiredIds(CHUNK_SIZE)).isEmpty()) {
+            int released = release(expiredIds);
+            if (released == 0) {
+                break;
+            }
+            releasedCount += released;
+        }
+        if (releasedCount > 0) {
+            log.info("재고 예약 만료 보정 완료: 처리 건수={}", releasedCount);
+        }
+    }
+
+    private int release(List<Long> expiredIds) {
+        try {
+            return stockReservationService.releaseExpired(expiredIds);
+        } catch (Exception e) {
+            log.error("재고 예약 반환 실패: 건수={}, message={}", expiredIds.size(), e.getMessage());
+            return 0;
+        }
+    }
+}
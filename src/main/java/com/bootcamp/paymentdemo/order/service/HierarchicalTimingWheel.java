@@ -0,0 +1,122 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 계층형 타이밍 휠
+// 1단계는 tickMillis 단위 슬롯 wheelSize개, 범위를 넘는 항목은 한 칸이 아래 단계 한 바퀴인 상위 단계에 넣음
+// 상위 단계 슬롯이 만료되면 항목을 다시 넣어 아래 단계로 내려보내고, 1단계 슬롯이 만료되면 항목을 반환
+// 큐에는 항목이 아니라 슬롯만 들어가므로 항목 수와 무관하게 단계 수 x wheelSize 개를 넘지 않음
+public class HierarchicalTimingWheel<T> {
+
+    private final Level root;
+    private final PriorityQueue<Bucket> bucketQueue = new PriorityQueue<>(Comparator.comparingLong(b -> b.expiration));
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.root = new Level(tickMillis, wheelSize, startMillis);
+    }
+
+    // 항목 등록 - 이미 만료 시각이 지났으면 false (호출한 쪽에서 바로 처리)
+    public synchronized boolean add(T item, long dueMillis) {
+        if (!root.add(new Entry<>(item, dueMillis))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    // 현재 시각까지 만료된 항목 반환
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        Bucket bucket;
+        while ((bucket = bucketQueue.peek()) != null && bucket.expiration <= nowMillis) {
+            bucketQueue.poll();
+            root.advanceClock(bucket.expiration);
+            for (Entry<T> entry : bucket.flush()) {
+                // 상위 단계 항목은 아래 단계로 다시 들어가고, 1단계까지 내려와 만료된 항목만 반환
+                if (!root.add(entry)) {
+                    expired.add(entry.item());
+                    size--;
+                }
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private record Entry<T>(T item, long dueMillis) {
+    }
+
+    private class Bucket {
+        private long expiration = -1;
+        private List<Entry<T>> entries = new ArrayList<>();
+
+        // 슬롯이 새 주기로 쓰이면 true (큐에 다시 넣어야 함)
+        private boolean setExpiration(long expiration) {
+            boolean changed = this.expiration != expiration;
+            this.expiration = expiration;
+            return changed;
+        }
+
+        private List<Entry<T>> flush() {
+            List<Entry<T>> flushed = entries;
+            entries = new ArrayList<>();
+            expiration = -1;
+            return flushed;
+        }
+    }
+
+    private class Level {
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final List<Bucket> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket());
+            }
+            this.currentTime = startMillis - (startMillis % tickMillis);
+        }
+
+        private boolean add(Entry<T> entry) {
+            if (entry.dueMillis() < currentTime + tickMillis) {
+                return false;
+            }
+            if (entry.dueMillis() < currentTime + interval) {
+                long virtualId = entry.dueMillis() / tickMillis;
+                Bucket bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.entries.add(entry);
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    bucketQueue.add(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMillis) {
+            if (timeMillis >= currentTime + tickMillis) {
+                currentTime = timeMillis - (timeMillis % tickMillis);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.dto.OrderConfirmTarget;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 주문별 자동 확정 마감 관리 (생성 시각 + confirmDelay)
+// 결제 완료 시 타이밍 휠에 등록하고, 마감이 지난 주문만 꺼내 확정하므로 주문 테이블을 주기적으로 훑지 않음
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderConfirmDeadlineWheel {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 60;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+
+    @Getter
+    @Value("${order.auto-confirm.delay:PT5M}")
+    private Duration confirmDelay;
+
+    private volatile HierarchicalTimingWheel<OrderConfirmTarget> wheel =
+            new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+
+    // 등록 시점에 이미 마감이 지난 주문 (다음 poll에서 바로 반환)
+    private final ConcurrentLinkedQueue<OrderConfirmTarget> overdue = new ConcurrentLinkedQueue<>();
+
+    // 휠 교체와 등록을 직렬화 (재구성 중 등록된 주문을 새 휠에 다시 넣기 위함)
+    private final Object swapLock = new Object();
+
+    // 재구성 중 등록된 주문 (재구성 중이 아니면 null, swapLock으로 보호)
+    private List<OrderConfirmTarget> registeredDuringRebuild;
+
+    // 서버 시작 시 확정 대기 주문으로 휠 재구성
+    // DB 조회는 잠금 없이 하고, 그동안 등록된 주문은 기존 휠에도 넣어 두었다가 교체 직전에 새 휠로 다시 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (swapLock) {
+            registeredDuringRebuild = new ArrayList<>();
+        }
+        try {
+            HierarchicalTimingWheel<OrderConfirmTarget> rebuilt =
+                    new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+            List<OrderConfirmTarget> rebuiltOverdue = new ArrayList<>();
+
+            int count = 0;
+            long lastId = 0L;
+            List<OrderConfirmTarget> chunk;
+            while (!(chunk = orderRepository.findTargetsByStatus(
+                    OrderStatus.PENDING_CONFIRMATION, lastId, PageRequest.ofSize(REBUILD_CHUNK_SIZE))).isEmpty()) {
+                for (OrderConfirmTarget target : chunk) {
+                    add(rebuilt, target, rebuiltOverdue);
+                }
+                count += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+
+            synchronized (swapLock) {
+                overdue.clear();
+                overdue.addAll(rebuiltOverdue);
+                // 조회 결과와 겹칠 수 있지만 자동 확정은 상태를 확인하므로 중복 등록은 무해
+                for (OrderConfirmTarget target : registeredDuringRebuild) {
+                    add(rebuilt, target, overdue);
+                }
+                wheel = rebuilt;
+            }
+
+            log.info("주문 확정 마감 타이밍 휠 재구성 완료: 건수={}", count);
+        } finally {
+            synchronized (swapLock) {
+                registeredDuringRebuild = null;
+            }
+        }
+    }
+
+    // 확정 마감 등록 (트랜잭션 안에서 호출되면 커밋 후 등록 - 롤백된 결제 완료는 등록하지 않음)
+    public void register(Long orderId, LocalDateTime createdAt) {
+        OrderConfirmTarget target = new OrderConfirmTarget(orderId, createdAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(target);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(target);
+            }
+        });
+    }
+
+    // 마감이 지난 주문 꺼내기
+    public List<OrderConfirmTarget> pollDue() {
+        List<OrderConfirmTarget> due = new ArrayList<>(wheel.advance(System.currentTimeMillis()));
+        OrderConfirmTarget target;
+        while ((target = overdue.poll()) != null) {
+            due.add(target);
+        }
+        return due;
+    }
+
+    public int size() {
+        return wheel.size() + overdue.size();
+    }
+
+    private void enqueue(OrderConfirmTarget target) {
+        synchronized (swapLock) {
+            add(wheel, target, overdue);
+            if (registeredDuringRebuild != null) {
+                registeredDuringRebuild.add(target);
+            }
+        }
+    }
+
+    private void add(HierarchicalTimingWheel<OrderConfirmTarget> into, OrderConfirmTarget target,
+                     Collection<OrderConfirmTarget> overdueInto) {
+        long dueMillis = target.createdAt().plus(confirmDelay)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!into.add(target, dueMillis)) {
+            overdueInto.add(target);
+        }
+    }
+}
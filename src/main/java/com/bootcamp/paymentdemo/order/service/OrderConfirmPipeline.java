@@ -0,0 +1,169 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.dto.OrderConfirmRunResult;
+import com.bootcamp.paymentdemo.order.dto.OrderConfirmTarget;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 자동 주문 확정 파이프라인
+// 확정은 워커 스레드에서 주문마다 별도 트랜잭션으로 처리
+// 처리 중인 건수가 maxInFlight에 도달하면 다음 제출을 멈춤 (back-pressure)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderConfirmPipeline {
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+
+    @Value("${order.auto-confirm.workers:4}")
+    private int workers;
+
+    @Value("${order.auto-confirm.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${order.auto-confirm.max-in-flight:200}")
+    private int maxInFlight;
+
+    private ExecutorService executor;
+
+    // 마지막 실행 결과 (모니터링용)
+    @Getter
+    private volatile OrderConfirmRunResult lastResult;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "order-confirm-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // threshold 이전에 생성된 확정 대기 주문 일괄 확정 (id 청크 단위로 대상만 조회)
+    public OrderConfirmRunResult run(LocalDateTime threshold) {
+        Run run = new Run(threshold);
+        try {
+            long lastId = 0L;
+            List<OrderConfirmTarget> chunk;
+            while (!(chunk = orderRepository.findConfirmTargets(
+                    OrderStatus.PENDING_CONFIRMATION, threshold, lastId, PageRequest.ofSize(chunkSize))).isEmpty()) {
+                for (OrderConfirmTarget target : chunk) {
+                    run.submit(target);
+                }
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("자동 주문 확정 중단: 처리 건수={}", run.confirmed.get());
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 워커가 더 받지 않음 (남은 주문은 다음 실행에서 처리)
+            log.warn("자동 주문 확정 중단 (워커 종료): 처리 건수={}", run.confirmed.get());
+        }
+        return run.finish();
+    }
+
+    // 마감이 도래한 주문 확정 (확정 마감 타이밍 휠에서 꺼낸 대상)
+    public OrderConfirmRunResult confirmAll(List<OrderConfirmTarget> targets, LocalDateTime threshold) {
+        Run run = new Run(threshold);
+        try {
+            for (OrderConfirmTarget target : targets) {
+                run.submit(target);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("자동 주문 확정 중단: 처리 건수={}", run.confirmed.get());
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 워커가 더 받지 않음 (남은 주문은 다음 실행에서 처리)
+            log.warn("자동 주문 확정 중단 (워커 종료): 처리 건수={}", run.confirmed.get());
+        }
+        return run.finish();
+    }
+
+    // 1회 실행 상태 (집계 + 동시 처리 건수 제한)
+    private class Run {
+        private final LocalDateTime threshold;
+        private final long startedAt = System.nanoTime();
+        private final Semaphore inFlight = new Semaphore(maxInFlight);
+        private final AtomicInteger confirmed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private LocalDateTime oldestCreatedAt;
+
+        private Run(LocalDateTime threshold) {
+            this.threshold = threshold;
+        }
+
+        private void submit(OrderConfirmTarget target) throws InterruptedException {
+            if (oldestCreatedAt == null || target.createdAt().isBefore(oldestCreatedAt)) {
+                oldestCreatedAt = target.createdAt();
+            }
+            inFlight.acquire();
+            try {
+                executor.execute(() -> confirm(target.id()));
+            } catch (RejectedExecutionException e) {
+                // 작업이 실행되지 않으므로 허가를 돌려줘야 finish()가 끝없이 기다리지 않음
+                inFlight.release();
+                failed.incrementAndGet();
+                throw e;
+            }
+        }
+
+        private void confirm(Long orderId) {
+            try {
+                if (orderService.autoConfirmOrder(orderId)) {
+                    confirmed.incrementAndGet();
+                } else {
+                    skipped.incrementAndGet();
+                }
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.error("자동 주문 확정 실패: orderId={}, message={}", orderId, e.getMessage());
+            } finally {
+                inFlight.release();
+            }
+        }
+
+        private OrderConfirmRunResult finish() {
+            // 제출한 작업이 모두 끝날 때까지 대기
+            inFlight.acquireUninterruptibly(maxInFlight);
+            inFlight.release(maxInFlight);
+
+            Duration lag = oldestCreatedAt == null || oldestCreatedAt.isAfter(threshold)
+                    ? Duration.ZERO : Duration.between(oldestCreatedAt, threshold);
+            OrderConfirmRunResult result = new OrderConfirmRunResult(
+                    confirmed.get(), skipped.get(), failed.get(), Duration.ofNanos(System.nanoTime() - startedAt), lag);
+            lastResult = result;
+
+            if (result.totalCount() > 0) {
+                log.info("자동 주문 확정 완료: 성공={}, 건너뜀={}, 실패={}, 소요={}ms, 처리량={}/s, 지연={}ms",
+                        result.confirmedCount(), result.skippedCount(), result.failedCount(),
+                        result.elapsed().toMillis(), String.format("%.1f", result.throughput()), result.lag().toMillis());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderNumberAllocator {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final OrderNumberSegmentService orderNumberSegmentService;
+
+    @Value("${order.number.block-size:100}")
+    private int blockSize;
+
+    // 현재 노드가 예약해 둔 순번 블록
+    private volatile Block currentBlock;
+
+    // 주문 번호 발급 (ORD-날짜-4자리숫자)
+    public String nextOrderNumber() {
+        LocalDate today = LocalDate.now();
+
+        while (true) {
+            Block block = currentBlock;
+
+            // 1. 예약된 블록 안에서는 DB 조회 없이 발급
+            if (block != null && block.date.equals(today)) {
+                long seq = block.next.getAndIncrement();
+                if (seq < block.end) {
+                    return format(today, seq);
+                }
+            }
+
+            // 2. 블록 소진 또는 날짜 변경 시 새 블록 예약
+            refill(block, today);
+        }
+    }
+
+    private synchronized void refill(Block exhausted, LocalDate today) {
+        // 다른 스레드가 이미 교체했으면 그대로 사용
+        if (currentBlock != exhausted) {
+            return;
+        }
+
+        long start;
+        try {
+            start = orderNumberSegmentService.reserveBlock(today, blockSize);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 날짜의 첫 행을 먼저 만든 경우 -> 잠금 조회로 재시도
+            log.debug("주문번호 세그먼트 생성 경합, 재시도: date={}", today);
+            start = orderNumberSegmentService.reserveBlock(today, blockSize);
+        }
+
+        currentBlock = new Block(today, start, start + blockSize);
+
+        log.info("주문번호 블록 예약: date={}, range=[{}, {})", today, start, start + blockSize);
+    }
+
+    private String format(LocalDate date, long seq) {
+        // %04d : 숫자가 4자리보다 작으면 앞에 0을 채움 (1 -> 0001, 12 -> 0012)
+        return String.format("ORD-%s-%04d", date.format(DATE_FORMAT), seq);
+    }
+
+    private static final class Block {
+        private final LocalDate date;
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(LocalDate date, long start, long end) {
+            this.date = date;
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
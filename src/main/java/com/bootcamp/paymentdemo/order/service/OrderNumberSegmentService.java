@@ -0,0 +1,27 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.order.entity.OrderNumberSegment;
+import com.bootcamp.paymentdemo.order.repository.OrderNumberSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class OrderNumberSegmentService {
+
+    private final OrderNumberSegmentRepository orderNumberSegmentRepository;
+
+    // 순번 블록 예약
+    // 주문 트랜잭션과 분리해서 바로 커밋 -> 다른 노드가 행 잠금을 오래 기다리지 않음
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveBlock(LocalDate seqDate, int blockSize) {
+        OrderNumberSegment segment = orderNumberSegmentRepository.findBySeqDateWithLock(seqDate)
+                .orElseGet(() -> orderNumberSegmentRepository.saveAndFlush(new OrderNumberSegment(seqDate)));
+
+        return segment.reserve(blockSize);
+    }
+}
@@ -0,0 +1,85 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.order.dto.OrderProductRequest;
+import com.bootcamp.paymentdemo.product.consts.ProductStatus;
+import com.bootcamp.paymentdemo.product.entity.Product;
+import com.bootcamp.paymentdemo.product.exception.ProductNotFoundException;
+import com.bootcamp.paymentdemo.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class OrderPricingService {
+
+    private final ProductRepository productRepository;
+
+    // 주문 상품 일괄 조회 + 검증 + 금액 계산 (상품 조회는 한 번의 IN 쿼리)
+    @Transactional(readOnly = true)
+    public PricedOrder price(List<OrderProductRequest> orderItems) {
+        if (orderItems == null || orderItems.isEmpty()) {
+            throw new IllegalArgumentException("주문 상품이 비어 있습니다.");
+        }
+
+        // 1. 상품별 요청 수량 합산 (같은 상품이 여러 줄로 들어와도 재고는 합계로 검증)
+        Map<Long, Integer> requestedCounts = new LinkedHashMap<>();
+        for (OrderProductRequest item : orderItems) {
+            if (item.getCount() <= 0) {
+                throw new IllegalArgumentException("차감할 수량은 0보다 커야 합니다.");
+            }
+            requestedCounts.merge(item.getProductId(), item.getCount(), Integer::sum);
+        }
+
+        // 2. 상품 일괄 조회
+        Map<Long, Product> products = productRepository.findAllById(requestedCounts.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 3. 상품 상태 및 재고 검증
+        requestedCounts.forEach((productId, count) -> {
+            Product product = products.get(productId);
+            if (product == null) {
+                throw new ProductNotFoundException("상품을 찾을 수 없습니다.");
+            }
+            if (product.getStatus() != ProductStatus.FOR_SALE) {
+                throw new IllegalStateException(
+                        String.format("판매 중인 상품이 아닙니다. 상품: %s", product.getName())
+                );
+            }
+            // 샤딩 재고 상품은 재고가 하위 카운터에 나뉘어 있으므로 차감 단계의 조건부 UPDATE로만 검증
+            if (!product.isStockSharded() && product.getStock() < count) {
+                throw new IllegalStateException(
+                        String.format("재고가 부족합니다. 상품: %s (현재 재고: %d, 요청 수량: %d)",
+                                product.getName(), product.getStock(), count)
+                );
+            }
+        });
+
+        // 4. 주문 라인별 금액 계산
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        List<PricedLine> lines = new ArrayList<>(orderItems.size());
+
+        for (OrderProductRequest item : orderItems) {
+            Product product = products.get(item.getProductId());
+            lines.add(new PricedLine(product, item.getCount()));
+            totalAmount = totalAmount.add(product.getPrice().multiply(BigDecimal.valueOf(item.getCount())));
+        }
+
+        return new PricedOrder(lines, totalAmount);
+    }
+
+    // 가격 계산 결과 (조회한 상품 엔티티를 재고 차감 단계로 그대로 넘김)
+    public record PricedOrder(List<PricedLine> lines, BigDecimal totalAmount) {
+    }
+
+    public record PricedLine(Product product, int count) {
+    }
+}
@@ -1,34 +1,36 @@
 package com.bootcamp.paymentdemo.order.service;
 
+import com.bootcamp.paymentdemo.common.dto.CursorResponse;
 import com.bootcamp.paymentdemo.membership.service.MembershipService;
 import com.bootcamp.paymentdemo.order.consts.OrderStatus;
 import com.bootcamp.paymentdemo.order.dto.*;
 import com.bootcamp.paymentdemo.order.entity.Order;
 import com.bootcamp.paymentdemo.order.exception.OrderNotFoundException;
 import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import com.bootcamp.paymentdemo.order.service.OrderPricingService.PricedOrder;
 import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
 import com.bootcamp.paymentdemo.orderProduct.repository.OrderProductRepository;
 import com.bootcamp.paymentdemo.point.service.PointService;
-import com.bootcamp.paymentdemo.product.entity.Product;
-import com.bootcamp.paymentdemo.product.exception.ProductNotFoundException;
-import com.bootcamp.paymentdemo.product.repository.ProductRepository;
 import com.bootcamp.paymentdemo.product.service.ProductService;
+import com.bootcamp.paymentdemo.product.service.ProductStockEngine.StockLine;
+import com.bootcamp.paymentdemo.product.service.ProductStockEngine.StockLineResult;
 import com.bootcamp.paymentdemo.user.entity.User;
 import com.bootcamp.paymentdemo.user.exception.UserNotFoundException;
 import com.bootcamp.paymentdemo.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -36,14 +38,25 @@ import java.util.List;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
     private final OrderProductRepository orderProductRepository;
     private final UserRepository userRepository;
     private final PointService pointService;
     private final ProductService productService;
     private final MembershipService membershipService;
+    private final OrderNumberAllocator orderNumberAllocator;
+    private final OrderPricingService orderPricingService;
+    private final StockReservationService stockReservationService;
+    private final OrderConfirmDeadlineWheel orderConfirmDeadlineWheel;
 
-    @Transactional
+    // 주문 목록 페이지 크기 (기본값, 최대값)
+    @Value("${order.history.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${order.history.max-page-size:100}")
+    private int maxPageSize;
+
+    // 샤드 재고 차감이 교착되지 않도록 READ COMMITTED (ProductStockShardEngine.tryDecrease 참고)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public OrderCreateResponse createOrder(OrderCreateRequest request, String email) {
 
         // 1. 사용자 조회
@@ -52,17 +65,9 @@ public class OrderService {
 
         log.info("주문 생성 시작: userId={}, email={}", user.getUserId(), email);
 
-        // 2. 상품 정보 조회 및 총 금액 계산
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        List<TempProductInfo> tempItems = new ArrayList<>();
-
-        for (var itemRequest : request.getOrderItems()) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
-
-            tempItems.add(new TempProductInfo(product, itemRequest.getCount()));
-            totalAmount = totalAmount.add(product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getCount())));
-        }
+        // 2. 상품 일괄 조회, 검증 및 총 금액 계산
+        PricedOrder pricedOrder = orderPricingService.price(request.getOrderItems());
+        BigDecimal totalAmount = pricedOrder.totalAmount();
 
         // 3. 포인트 계산 및 검증
         BigDecimal usedPoints = (request.getUsedPoints() != null) ? request.getUsedPoints() : BigDecimal.ZERO;
@@ -83,7 +88,7 @@ public class OrderService {
         // 6. 주문 엔티티 저장
         Order order = orderRepository.save(Order.builder()
                 .user(user)
-                .orderNumber(generateOrderNumber())
+                .orderNumber(orderNumberAllocator.nextOrderNumber())
                 .totalAmount(totalAmount)
                 .usedPoints(usedPoints)
                 .finalAmount(finalAmount)
@@ -96,38 +101,51 @@ public class OrderService {
                 order.getId(), order.getOrderNumber(), totalAmount, usedPoints, finalAmount, earnedPoints);
 
         // 7. OrderProduct 저장
-        List<OrderProduct> orderProducts = tempItems.stream()
-                .map(item -> OrderProduct.builder()
+        List<OrderProduct> orderProducts = pricedOrder.lines().stream()
+                .map(line -> OrderProduct.builder()
                         .order(order)
-                        .productId(item.product.getId())
-                        .productName(item.product.getName())
-                        .orderPrice(item.product.getPrice())
-                        .count(item.count)
+                        .productId(line.product().getId())
+                        .productName(line.product().getName())
+                        .orderPrice(line.product().getPrice())
+                        .count(line.count())
                         .build())
                 .toList();
 
         orderProductRepository.saveAll(orderProducts);
 
-        // 8. 재고 차감
-        for (OrderProduct orderProduct : orderProducts) {
-            productService.decreaseStock(orderProduct.getProductId(), orderProduct.getCount());
+        // 8. 재고 차감 (조건부 UPDATE 배치, 한 라인이라도 실패하면 주문 전체 롤백)
+        List<StockLineResult> stockResults = productService.decreaseStocks(pricedOrder.lines().stream()
+                .map(line -> new StockLine(line.product().getId(), line.count()))
+                .toList());
+
+        for (StockLineResult result : stockResults) {
+            if (!result.success()) {
+                throw new IllegalStateException(
+                        String.format("재고가 부족합니다. 상품 ID: %d (요청 수량: %d)", result.productId(), result.quantity())
+                );
+            }
         }
 
         log.info("재고 차감 완료: orderId={}, 상품 수={}", order.getId(), orderProducts.size());
 
-        // 9. 응답 반환 (모든 포인트 정보 포함)
+        // 9. 재고 확보 (결제 대기 시간이 지나면 자동 반환)
+        stockReservationService.hold(order.getId());
+
+        // 10. 응답 반환 (모든 포인트 정보 포함)
         // 포인트는 결제 완료 시점에 차감됨
         return OrderCreateResponse.from(order);
     }
 
-    // 주문 내역 조회
+    // 주문 내역 조회 (페이지 파라미터 없는 기존 클라이언트용, 최신 maxPageSize건까지만)
+    // 전체 목록은 findOrders 키셋 페이지로 조회
+    @Deprecated
     @Transactional(readOnly = true)
     public List<OrderGetDetailResponse> findAllOrders(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        // 해당 사용자의 주문만 조회로 수정
-        List<Order> orders = orderRepository.findByUser_UserIdOrderByCreatedAtDesc(user.getUserId());
+        // 키셋 첫 페이지와 같은 인덱스 조회 (필요한 컬럼만 프로젝션으로 조회)
+        List<OrderHeaderView> orders = orderRepository.findFirstPageByUserId(user.getUserId(), PageRequest.ofSize(maxPageSize));
 
         List<OrderGetDetailResponse> orderGetResponses = orders.stream()
                 .map(order -> OrderGetDetailResponse.from(order, new ArrayList<>()))
@@ -135,27 +153,73 @@ public class OrderService {
         return orderGetResponses;
     }
 
+    // 주문 목록 조회 (키셋 페이지네이션, 최신순)
+    // cursor가 없으면 첫 페이지, 있으면 커서 다음부터 조회하므로 깊은 페이지도 첫 페이지와 비용이 같음
+    @Transactional(readOnly = true)
+    public CursorResponse<OrderGetDetailResponse> findOrders(String email, String cursor, Integer size) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+
+        int pageSize = resolvePageSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<OrderHeaderView> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findFirstPageByUserId(user.getUserId(), limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            orders = orderRepository.findPageByUserIdAfter(user.getUserId(), after.createdAt(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (orders.size() > pageSize) {
+            orders = orders.subList(0, pageSize);
+            nextCursor = OrderCursor.from(orders.get(pageSize - 1)).encode();
+        }
+
+        // 페이지 주문들의 주문 상품은 한 번에 조회
+        Map<Long, List<OrderProductGetResponse>> linesByOrderId = new HashMap<>();
+        if (!orders.isEmpty()) {
+            List<Long> orderIds = orders.stream().map(OrderHeaderView::orderId).toList();
+            for (OrderLineView line : orderProductRepository.findLineViewsByOrderIds(orderIds)) {
+                linesByOrderId.computeIfAbsent(line.orderId(), id -> new ArrayList<>()).add(line.toResponse());
+            }
+        }
+
+        List<OrderGetDetailResponse> content = orders.stream()
+                .map(order -> OrderGetDetailResponse.from(order, linesByOrderId.getOrDefault(order.orderId(), List.of())))
+                .toList();
+        return new CursorResponse<>(content, pageSize, nextCursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
     // 주문 상세 조회
     @Transactional(readOnly = true)
     public OrderGetDetailResponse findOrderDetail(Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다."));
-
-        List<OrderProduct> orderProducts = orderProductRepository.findByOrder_Id(orderId);
+        // 주문과 주문 상품을 한 번에 프로젝션으로 조회 (엔티티 로딩/변경 감지 없음)
+        List<OrderDetailRow> rows = orderRepository.findDetailRows(orderId);
+        if (rows.isEmpty()) {
+            throw new OrderNotFoundException("주문을 찾을 수 없습니다.");
+        }
 
-        // OrderProduct 변환
-        List<OrderProductGetResponse> orderProductGetResponses = orderProducts.stream()
-                .map(op -> new OrderProductGetResponse(
-                        op.getProductId(),
-                        op.getProductName(),
-                        op.getOrderPrice(),
-                        op.getCount()
-                ))
+        List<OrderProductGetResponse> orderProductGetResponses = rows.stream()
+                .filter(OrderDetailRow::hasLine)
+                .map(OrderDetailRow::line)
                 .toList();
 
         log.info("주문 상세 조회: orderId={}, 주문상품 수={}", orderId, orderProductGetResponses.size());
 
-        return OrderGetDetailResponse.from(order, orderProductGetResponses);
+        return OrderGetDetailResponse.from(rows.get(0).header(), orderProductGetResponses);
     }
 
     // 결제 완료 처리 Payment 서비스에서만 호출
@@ -171,34 +235,61 @@ public class OrderService {
         log.info("결제 완료 처리: orderId={}, orderNumber={}, 현재 상태={}",
                 orderId, order.getOrderNumber(), order.getOrderStatus());
 
-        // 3. 포인트 사용 (차감)
+        // 3. 확보해 둔 재고를 판매로 확정 (이미 만료되어 반환된 경우 예외)
+        stockReservationService.confirm(orderId);
+
+        // 4. 포인트 사용 (차감)
         User user = order.getUser();
 
         if (order.getUsedPoints().compareTo(BigDecimal.ZERO) > 0) {
             pointService.usePoints(user, order);
         }
+
+        // 5. 확정 마감 등록 (커밋 후 타이밍 휠에 등록)
+        orderConfirmDeadlineWheel.register(order.getId(), order.getCreatedAt());
     }
 
     // 주문 수동 확정
+    // 자동 확정과 같은 잠금 조회로 직렬화 (먼저 확정된 주문은 잠금 획득 후 상태 검증에서 실패)
     @Transactional
     public void confirmOrder(Long orderId) {
-        // 1. 주문 조회
-        Order order = orderRepository.findById(orderId)
+        // 1. 주문 잠금 조회
+        Order order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다."));
 
-        // 2. 주문 확정 (상태 검증은 엔티티 내부에서 처리)
+        // 2. 주문 확정 (잠금 획득 후 PENDING_CONFIRMATION 상태 검증은 엔티티 내부에서 처리)
+        confirm(order);
+    }
+
+    // 주문 자동 확정 (확정 마감 도래 시 호출)
+    // 그 사이 취소/수동 확정된 주문은 건너뜀, 잠금 조회로 같은 주문이 두 번 확정되지 않도록 함
+    @Transactional
+    public boolean autoConfirmOrder(Long orderId) {
+        Order order = orderRepository.findByIdWithLock(orderId)
+                .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다."));
+
+        if (order.getOrderStatus() != OrderStatus.PENDING_CONFIRMATION) {
+            log.info("자동 확정 대상 아님: orderId={}, 현재 상태={}", orderId, order.getOrderStatus());
+            return false;
+        }
+
+        confirm(order);
+        return true;
+    }
+
+    private void confirm(Order order) {
         order.confirm();
 
-        log.info("주문 수동 확정 완료: orderId={}, orderNumber={}, 현재 상태={}",
-                orderId, order.getOrderNumber(), order.getOrderStatus());
+        log.info("주문 확정 완료: orderId={}, orderNumber={}, 현재 상태={}",
+                order.getId(), order.getOrderNumber(), order.getOrderStatus());
 
-        // 3. 포인트 적립
+        // 포인트 적립
         User user = order.getUser();
         pointService.earnPoints(user, order);
         log.info("포인트 적립 완료: userId={}, orderId={}, 적립 포인트={}",
-                user.getUserId(), orderId, order.getEarnedPoints());
+                user.getUserId(), order.getId(), order.getEarnedPoints());
 
-        // 4. 멤버십 갱신
+        // 멤버십 갱신
         membershipService.handleOrderCompleted(
                 order.getUser().getUserId(),
                 order.getFinalAmount(),
@@ -230,26 +321,6 @@ public class OrderService {
     }
 
     // ----------
-    // 주문 번호 생성
-    private String generateOrderNumber() {
-        // 1. 오늘 날짜 (yyyyMMdd)
-        LocalDate today = LocalDate.now();
-        String datePart = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // 2. 오늘 생성된 주문 수 조회
-        LocalDateTime startOfDay = today.atStartOfDay();
-        LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
-
-        long todayOrderCount = orderRepository.countByCreatedAtBetween(startOfDay, endOfDay);
-
-        // 3. 순번 생성 (기존 개수 + 1)
-        long nextSeq = todayOrderCount + 1;
-
-        // 4. 포맷팅 (ORD-날짜-4자리숫자)
-        // %04d : 숫자가 4자리보다 작으면 앞에 0을 채움 (1 -> 0001, 12 -> 0012)
-        return String.format("ORD-%s-%04d", datePart, nextSeq);
-    }
-
     // 포인트 사용 가능 여부 검증
     private void validatePointsToUse(User user, BigDecimal pointsToUse) {
         // 포인트 사용이 없으면 검증 불필요
@@ -289,10 +360,6 @@ public class OrderService {
     }
 
 
-    // 임시 저장
-    private record TempProductInfo(Product product, int count) {
-    }
-
     @Transactional
     public void rollbackUsedPoint(Long orderId) {
         Order order = orderRepository.findById(orderId)
@@ -0,0 +1,72 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.order.consts.ReservationStatus;
+import com.bootcamp.paymentdemo.order.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+
+// 만료 시각 순으로 정렬된 재고 예약 큐
+// 만료 처리 시 테이블을 훑지 않고 큐 앞쪽에서 만료된 것만 꺼냄
+// 확정/반환된 예약은 큐에서 지우지 않고 꺼낼 때 잠금 조회에서 걸러짐
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StockReservationExpiryQueue {
+
+    private final StockReservationRepository stockReservationRepository;
+
+    private final PriorityBlockingQueue<Deadline> queue = new PriorityBlockingQueue<>(
+            1024, Comparator.comparing(Deadline::expiresAt).thenComparing(Deadline::reservationId));
+
+    // 서버 시작 시 확보 중인 예약으로 큐 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        queue.clear();
+        for (Object[] row : stockReservationRepository.findDeadlinesByStatus(ReservationStatus.HELD)) {
+            queue.add(new Deadline((Long) row[0], (LocalDateTime) row[1]));
+        }
+        log.info("재고 예약 만료 큐 재구성 완료: 건수={}", queue.size());
+    }
+
+    public void add(Long reservationId, LocalDateTime expiresAt) {
+        queue.add(new Deadline(reservationId, expiresAt));
+    }
+
+    // 만료된 예약 최대 maxCount개 꺼내기
+    public List<Long> pollExpired(LocalDateTime now, int maxCount) {
+        List<Long> expired = new ArrayList<>();
+        while (expired.size() < maxCount) {
+            Deadline head = queue.peek();
+            if (head == null || head.expiresAt().isAfter(now)) {
+                break;
+            }
+            Deadline polled = queue.poll();
+            if (polled == null) {
+                break;
+            }
+            // peek 이후 다른 스레드가 먼저 꺼내 간 경우 아직 만료되지 않은 항목은 되돌림
+            if (polled.expiresAt().isAfter(now)) {
+                queue.add(polled);
+                break;
+            }
+            expired.add(polled.reservationId());
+        }
+        return expired;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private record Deadline(Long reservationId, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.consts.ReservationStatus;
+import com.bootcamp.paymentdemo.order.entity.Order;
+import com.bootcamp.paymentdemo.order.entity.StockReservation;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import com.bootcamp.paymentdemo.order.repository.StockReservationRepository;
+import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
+import com.bootcamp.paymentdemo.orderProduct.repository.OrderProductRepository;
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final StockReservationExpiryQueue stockReservationExpiryQueue;
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final ProductService productService;
+    private final PaymentRepository paymentRepository;
+
+    // 결제 대기 주문의 재고 확보 유지 시간
+    @Value("${order.stock-reservation.ttl:PT30M}")
+    private Duration ttl;
+
+    // 결제 검증 중에 만료된 예약의 연장 시간 (PG 조회 타임아웃보다 길게)
+    @Value("${order.stock-reservation.verifying-extension:PT5M}")
+    private Duration verifyingExtension;
+
+    // 재고 확보 (주문 생성 시 호출, 재고는 이미 차감된 상태)
+    @Transactional
+    public StockReservation hold(Long orderId) {
+        StockReservation reservation = stockReservationRepository.save(
+                new StockReservation(orderId, LocalDateTime.now().plus(ttl)));
+
+        stockReservationExpiryQueue.add(reservation.getId(), reservation.getExpiresAt());
+
+        return reservation;
+    }
+
+    // 판매 확정 (결제 완료 시 호출)
+    @Transactional
+    public void confirm(Long orderId) {
+        // 예약 기능 도입 전에 생성된 주문은 예약이 없으므로 그대로 통과
+        stockReservationRepository.findByOrderIdWithLock(orderId).ifPresent(reservation -> {
+            reservation.confirm();
+            log.info("재고 예약 확정: orderId={}, reservationId={}", orderId, reservation.getId());
+        });
+    }
+
+    // 만료 예약 일괄 반환 (재고 복구 + 결제 대기 주문 취소)
+    @Transactional
+    public int releaseExpired(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 결제 검증 중인 주문 확인 (결제 확정과 같은 순서로 결제 행을 먼저 잠가 교착 방지)
+        Set<Long> verifyingOrderIds = new HashSet<>(paymentRepository.findOrderIdsByStatusWithLock(
+                stockReservationRepository.findOrderIdsByIdIn(reservationIds), PaymentStatus.VERIFYING));
+
+        // 2. 아직 확보 중인 만료 예약만 잠금 조회 (이미 확정/반환된 것은 제외)
+        LocalDateTime now = LocalDateTime.now();
+        List<StockReservation> expired = new ArrayList<>();
+        for (StockReservation reservation : stockReservationRepository.findExpiredWithLock(
+                reservationIds, ReservationStatus.HELD, now)) {
+            if (verifyingOrderIds.contains(reservation.getOrderId())) {
+                // 반환하면 검증 성공 후 판매 확정이 실패해 결제를 취소하게 되므로 결과가 나올 때까지 연장
+                reservation.extend(now.plus(verifyingExtension));
+                stockReservationExpiryQueue.add(reservation.getId(), reservation.getExpiresAt());
+                log.info("결제 검증 중인 재고 예약 연장: orderId={}, reservationId={}",
+                        reservation.getOrderId(), reservation.getId());
+            } else {
+                expired.add(reservation);
+            }
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> orderIds = expired.stream().map(StockReservation::getOrderId).toList();
+
+        // 3. 재고 복구 (주문 상품은 한 번에 조회, 같은 상품은 수량을 합쳐 한 번만 갱신)
+        Map<Long, Integer> restoreCounts = new TreeMap<>();
+        for (OrderProduct orderProduct : orderProductRepository.findByOrder_IdIn(orderIds)) {
+            restoreCounts.merge(orderProduct.getProductId(), orderProduct.getCount(), Integer::sum);
+        }
+        restoreCounts.forEach(productService::increaseStock);
+
+        // 4. 결제 대기 주문 취소 (포인트는 결제 완료 시점에 차감되므로 복구할 것 없음)
+        for (Order order : orderRepository.findAllById(orderIds)) {
+            if (order.getOrderStatus() == OrderStatus.PENDING_PAYMENT) {
+                order.cancel();
+            }
+        }
+
+        expired.forEach(StockReservation::release);
+
+        log.info("만료 재고 예약 반환: 건수={}", expired.size());
+
+        return expired.size();
+    }
+
+    // 다른 노드에서 만든 예약 등 큐에 없는 만료 예약 조회 ((status, expires_at) 인덱스 범위 조회)
+    @Transactional(readOnly = true)
+    public List<Long> findExpiredIds(int maxCount) {
+        return stockReservationRepository.findExpiredIds(
+                ReservationStatus.HELD, LocalDateTime.now(), PageRequest.of(0, maxCount));
+    }
+}
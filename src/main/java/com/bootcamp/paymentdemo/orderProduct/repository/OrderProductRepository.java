@@ -1,8 +1,12 @@
 package com.bootcamp.paymentdemo.orderProduct.repository;
 
+import com.bootcamp.paymentdemo.order.dto.OrderLineView;
 import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderProductRepository extends JpaRepository<OrderProduct, Long> {
@@ -10,4 +14,13 @@ public interface OrderProductRepository extends JpaRepository<OrderProduct, Long
     // 주문 ID로 주문 상품 목록 조회
     // order.id를 통해 조회 (네스티드 프로퍼티)
     List<OrderProduct> findByOrder_Id(Long orderId);
+
+    // 여러 주문의 주문 상품 일괄 조회
+    List<OrderProduct> findByOrder_IdIn(Collection<Long> orderIds);
+
+    // 여러 주문의 주문 상품 일괄 조회 (프로젝션, 주문 목록 페이지용)
+    @Query("SELECT new com.bootcamp.paymentdemo.order.dto.OrderLineView(" +
+            "op.order.id, op.productId, op.productName, op.orderPrice, op.count) " +
+            "FROM OrderProduct op WHERE op.order.id IN :orderIds ORDER BY op.id")
+    List<OrderLineView> findLineViewsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -6,8 +6,10 @@ import lombok.Getter;
 public enum PaymentStatus {
 
     PENDING("PENDING"),
+    VERIFYING("VERIFYING"),
     PAID("PAID"),
     FAIL("FAIL"),
+    REFUNDING("REFUNDING"),
     REFUND("REFUND");
 
     private final String statusName;
@@ -0,0 +1,28 @@
+package com.bootcamp.paymentdemo.payment.consts;
+
+import lombok.Getter;
+
+// 결제 상태 전이 (허용된 from → to 만 정의)
+@Getter
+public enum PaymentTransition {
+
+    CLAIM(PaymentStatus.PENDING, PaymentStatus.VERIFYING),            // PG 검증 선점
+    RELEASE(PaymentStatus.VERIFYING, PaymentStatus.PENDING),          // 선점 해제 (PG 조회 실패, 오래된 선점)
+    COMPLETE(PaymentStatus.VERIFYING, PaymentStatus.PAID),            // 결제 확정
+    FAIL(PaymentStatus.VERIFYING, PaymentStatus.FAIL),                // 검증 실패 (금액 불일치, 내부 오류)
+    START_REFUND(PaymentStatus.PAID, PaymentStatus.REFUNDING),        // 환불 선점 (PG 환불 호출 전)
+    COMPLETE_REFUND(PaymentStatus.REFUNDING, PaymentStatus.REFUND),   // 환불 완료
+    ABORT_REFUND(PaymentStatus.REFUNDING, PaymentStatus.PAID);        // PG 환불 실패 시 선점 해제
+
+    private final PaymentStatus from;
+    private final PaymentStatus to;
+
+    PaymentTransition(PaymentStatus from, PaymentStatus to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public boolean isAllowedFrom(PaymentStatus status) {
+        return this.from == status;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bootcamp.paymentdemo.payment.consts;
+
+public enum PaymentTransitionOutcome {
+    APPLIED,        // 전이 성공
+    INVALID_STATE,  // 현재 상태에서 허용되지 않는 전이 (다른 요청이 먼저 처리함)
+    CONFLICT        // 동시 변경으로 재시도 횟수 초과
+}
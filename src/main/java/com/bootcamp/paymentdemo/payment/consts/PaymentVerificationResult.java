@@ -0,0 +1,10 @@
+package com.bootcamp.paymentdemo.payment.consts;
+
+// PG 검증 결과 반영 결과
+public enum PaymentVerificationResult {
+
+    PAID,
+    AMOUNT_MISMATCH,
+    // 반영 전에 선점이 해제됨 (오래된 선점 복구 등)
+    NOT_CLAIMED
+}
@@ -35,6 +35,11 @@ public class PaymentController {
 
         log.info("결제 확정 요청: dbPaymentId={}", dbPaymentId);
         PaymentConfirmResponse response = paymentService.confirmPayment(dbPaymentId);
+        if (response.isInProgress()) {
+            // 다른 요청이 검증 중이면 결과를 기다리지 않고 처리 중으로 응답
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(HttpStatus.ACCEPTED, "결제 확정 처리 중", response));
+        }
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.success(HttpStatus.OK, "결제 확정 성공", response));
     }
@@ -0,0 +1,28 @@
+package com.bootcamp.paymentdemo.payment.dto;
+
+// 검증 선점 결과 (claimed=false면 이미 다른 요청이 처리했거나 처리 중, inProgress=true면 다른 요청이 검증 중)
+public record PaymentClaim(
+        boolean claimed,
+        boolean inProgress,
+        Long orderId,
+        String orderNumber
+) {
+
+    public static PaymentClaim claimed(Long orderId, String orderNumber) {
+        return new PaymentClaim(true, false, orderId, orderNumber);
+    }
+
+    public static PaymentClaim notClaimed(Long orderId, String orderNumber) {
+        return new PaymentClaim(false, false, orderId, orderNumber);
+    }
+
+    public static PaymentClaim inProgress(Long orderId, String orderNumber) {
+        return new PaymentClaim(false, true, orderId, orderNumber);
+    }
+
+    public PaymentConfirmResponse toResponse() {
+        return inProgress
+                ? PaymentConfirmResponse.inProgress(orderId, orderNumber)
+                : new PaymentConfirmResponse(orderId, orderNumber);
+    }
+}
@@ -6,10 +6,21 @@ import lombok.Getter;
 public class PaymentConfirmResponse {
     private final Long orderId;
     private final String orderNumber;
+    // 다른 요청(서버)이 검증 중이라 결과가 아직 확정되지 않음
+    private final boolean inProgress;
 
     public PaymentConfirmResponse(Long orderId, String orderNumber) {
+        this(orderId, orderNumber, false);
+    }
+
+    private PaymentConfirmResponse(Long orderId, String orderNumber, boolean inProgress) {
         this.orderId = orderId;
         this.orderNumber = orderNumber;
+        this.inProgress = inProgress;
+    }
+
+    public static PaymentConfirmResponse inProgress(Long orderId, String orderNumber) {
+        return new PaymentConfirmResponse(orderId, orderNumber, true);
     }
 
-}
\ No newline at end of file
+}
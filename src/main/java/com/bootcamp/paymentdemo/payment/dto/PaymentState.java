@@ -0,0 +1,7 @@
+package com.bootcamp.paymentdemo.payment.dto;
+
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+
+// 상태 전이 재시도 시 다시 읽는 현재 상태
+public record PaymentState(PaymentStatus status, long version) {
+}
@@ -0,0 +1,28 @@
+package com.bootcamp.paymentdemo.payment.dto;
+
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransitionOutcome;
+
+// 상태 전이 결과 (status/version 은 전이 후 또는 마지막으로 확인한 값)
+public record PaymentTransitionResult(
+        PaymentTransitionOutcome outcome,
+        PaymentStatus status,
+        long version
+) {
+
+    public static PaymentTransitionResult applied(PaymentStatus status, long version) {
+        return new PaymentTransitionResult(PaymentTransitionOutcome.APPLIED, status, version);
+    }
+
+    public static PaymentTransitionResult invalidState(PaymentStatus status, long version) {
+        return new PaymentTransitionResult(PaymentTransitionOutcome.INVALID_STATE, status, version);
+    }
+
+    public static PaymentTransitionResult conflict(PaymentStatus status, long version) {
+        return new PaymentTransitionResult(PaymentTransitionOutcome.CONFLICT, status, version);
+    }
+
+    public boolean isApplied() {
+        return outcome == PaymentTransitionOutcome.APPLIED;
+    }
+}
@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "payments", schema = "test")
@@ -39,10 +40,20 @@ public class Payment extends BaseEntity {
     @Column(name = "points_to_use")
     private BigDecimal pointsToUse;
 
+    // 상태 변경은 PaymentStateMachine 의 CAS 전이로만 수행
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PaymentStatus status;
 
+    // PG 검증 선점 시각 (오래된 VERIFYING 복구 기준)
+    @Column(name = "verification_started_at")
+    private LocalDateTime verificationStartedAt;
+
+    // 상태 전이 CAS 및 엔티티 변경 시 낙관적 락 버전
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Builder
     public Payment(String dbPaymentId, Order order, BigDecimal totalAmount, BigDecimal pointsToUse, PaymentStatus status) {
         this.dbPaymentId = dbPaymentId;
@@ -52,15 +63,14 @@ public class Payment extends BaseEntity {
         this.status = status;
     }
 
-    // 결제 완료 시 호출
-    public void completePayment(String paymentId) {
-        this.paymentId = paymentId;
-        this.status = PaymentStatus.PAID;
+    public boolean isVerifying() {
+        return this.status == PaymentStatus.VERIFYING;
     }
 
     public boolean isAlreadyProcessed() {
 
         return this.status == PaymentStatus.PAID ||
+                this.status == PaymentStatus.REFUNDING ||
                 this.status == PaymentStatus.REFUND ||
                 this.status == PaymentStatus.FAIL;
     }
@@ -75,9 +85,9 @@ public class Payment extends BaseEntity {
         return this.status == PaymentStatus.REFUND;
     }
 
-    // 환불 후 상태 변경
-    public void refund() {
-        this.status = PaymentStatus.REFUND;
+    // 다른 환불 요청이 PG 환불 진행 중
+    public boolean isRefunding() {
+        return this.status == PaymentStatus.REFUNDING;
     }
 
     public void cancelPointUsage() {
@@ -1,21 +1,66 @@
 package com.bootcamp.paymentdemo.payment.repository;
 
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.dto.PaymentState;
 import com.bootcamp.paymentdemo.payment.entity.Payment;
-import com.bootcamp.paymentdemo.refund.entity.Refund;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment,Long> {
 
+    Optional<Payment> findByDbPaymentId(String dbPaymentId);
+
+    // 트랜잭션 밖에서 환불 가능 여부 검증용 (주문 함께 조회)
+    @Query("select p from Payment p join fetch p.order where p.dbPaymentId = :dbPaymentId")
+    Optional<Payment> findWithOrderByDbPaymentId(@Param("dbPaymentId") String dbPaymentId);
+
+    // 선점 후 오래 방치된 결제 건 (PG 호출 중 서버 종료 등)
+    @Query("select p.dbPaymentId from Payment p where p.status = :status and p.verificationStartedAt < :before")
+    List<String> findDbPaymentIdsByStatusAndVerificationStartedAtBefore(@Param("status") PaymentStatus status,
+                                                                        @Param("before") LocalDateTime before);
+
+    // 재고 예약 만료 반환 전 검증 중인 결제 확인 (잠금 읽기로 검증 선점과 직렬화)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select p from Payment p where p.dbPaymentId = :dbPaymentId")
-    Optional<Payment> findByDbPaymentIdWithLock(@Param("dbPaymentId") String dbPaymentId);
+    @Query("select p.order.id from Payment p where p.order.id in :orderIds and p.status = :status")
+    List<Long> findOrderIdsByStatusWithLock(@Param("orderIds") Collection<Long> orderIds,
+                                            @Param("status") PaymentStatus status);
 
-    Optional<Payment> findByDbPaymentId(String dbPaymentId);
+    // CAS 실패 후 재조회 (READ COMMITTED 트랜잭션에서 최신 커밋 행을 읽음, 잠금 없음)
+    @Query("select new com.bootcamp.paymentdemo.payment.dto.PaymentState(p.status, p.version) from Payment p where p.id = :id")
+    Optional<PaymentState> findStateById(@Param("id") Long id);
+
+    // 상태 전이 CAS - 읽은 뒤 다른 요청이 상태/버전을 바꿨으면 0건 갱신
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Payment p set p.status = :to, p.version = p.version + 1
+            where p.id = :id and p.status = :from and p.version = :version""")
+    int compareAndSetStatus(@Param("id") Long id, @Param("from") PaymentStatus from,
+                            @Param("version") long version, @Param("to") PaymentStatus to);
+
+    // 검증 선점/해제 CAS (선점 시각 함께 변경)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Payment p set p.status = :to, p.version = p.version + 1, p.verificationStartedAt = :verificationStartedAt
+            where p.id = :id and p.status = :from and p.version = :version""")
+    int compareAndSetVerification(@Param("id") Long id, @Param("from") PaymentStatus from,
+                                  @Param("version") long version, @Param("to") PaymentStatus to,
+                                  @Param("verificationStartedAt") LocalDateTime verificationStartedAt);
 
+    // 결제 확정 CAS (PG 결제 ID 함께 기록)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Payment p set p.status = :to, p.version = p.version + 1, p.paymentId = :paymentId
+            where p.id = :id and p.status = :from and p.version = :version""")
+    int compareAndSetPaid(@Param("id") Long id, @Param("from") PaymentStatus from,
+                          @Param("version") long version, @Param("to") PaymentStatus to,
+                          @Param("paymentId") String paymentId);
 }
@@ -0,0 +1,51 @@
+package com.bootcamp.paymentdemo.payment.scheduler;
+
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.payment.service.PaymentService;
+import com.bootcamp.paymentdemo.payment.service.PaymentVerificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentVerificationRecoveryScheduler {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentVerificationService paymentVerificationService;
+    private final PaymentService paymentService;
+
+    // PG 호출 타임아웃보다 충분히 길게 설정
+    @Value("${payment.verification.stale-after:PT2M}")
+    private Duration staleAfter;
+
+    // 오래된 VERIFYING 선점을 PENDING으로 되돌리고 확정 재시도 (1분마다 실행)
+    @Scheduled(fixedDelay = 60000)
+    public void recoverStaleVerifications() {
+        LocalDateTime before = LocalDateTime.now().minus(staleAfter);
+        List<String> staleIds = paymentRepository
+                .findDbPaymentIdsByStatusAndVerificationStartedAtBefore(PaymentStatus.VERIFYING, before);
+        if (staleIds.isEmpty()) {
+            return;
+        }
+
+        log.info("오래된 결제 검증 선점 복구 시작: {}건", staleIds.size());
+        for (String dbPaymentId : staleIds) {
+            try {
+                if (paymentVerificationService.releaseStale(dbPaymentId, before)) {
+                    paymentService.confirmPayment(dbPaymentId);
+                }
+            } catch (Exception e) {
+                log.error("결제 검증 선점 복구 실패: {}, 오류: {}", dbPaymentId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.bootcamp.paymentdemo.payment.service;
+
+import com.bootcamp.paymentdemo.external.portone.client.PortOneClient;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import com.bootcamp.paymentdemo.payment.consts.PaymentVerificationResult;
+import com.bootcamp.paymentdemo.payment.dto.PaymentClaim;
+import com.bootcamp.paymentdemo.payment.dto.PaymentConfirmResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// 결제 확정 (PaymentService.confirmPayment에서 single-flight를 거쳐 호출)
+// PG 호출 동안 DB 락과 커넥션을 잡지 않도록 선점 / PG 조회 / 결과 반영을 나눠 수행
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentConfirmService {
+
+    private final PaymentVerificationService paymentVerificationService;
+    private final PortOneClient portOneClient;
+
+    public PaymentConfirmResponse confirm(String dbPaymentId) {
+        // 1. 검증 선점 및 멱등성 체크
+        PaymentClaim claim = paymentVerificationService.claim(dbPaymentId);
+        if (!claim.claimed()) {
+            return claim.toResponse();
+        }
+
+        // 2. PortOne 검증 (트랜잭션 밖)
+        PortOnePaymentResponse portOneResponse;
+        try {
+            portOneResponse = portOneClient.getPayment(dbPaymentId);
+        } catch (Exception e) {
+            log.error("PortOne 결제 조회 실패, 선점 해제: {}", e.getMessage());
+            paymentVerificationService.release(dbPaymentId);
+            return new PaymentConfirmResponse(null, claim.orderNumber());
+        }
+
+        // 3. 결과 반영
+        PaymentVerificationResult result;
+        try {
+            result = paymentVerificationService.apply(dbPaymentId, portOneResponse);
+        } catch (Exception e) {
+            // 4. FAIL 처리와 보상 명령(포인트 복구, PG사 취소) 기록 - 실행은 보상 디스패처가 비동기로 수행
+            //    기록마저 실패하면 VERIFYING으로 남아 복구 스케줄러가 확정을 다시 시도함
+            log.error("내부 처리 실패, 자동 취소 예약: {}", e.getMessage());
+            try {
+                paymentVerificationService.fail(dbPaymentId);
+            } catch (Exception ex) {
+                log.error("결제 실패 처리 중 오류: {}", ex.getMessage());
+            }
+            return new PaymentConfirmResponse(null, claim.orderNumber());
+        }
+
+        return switch (result) {
+            case PAID -> claim.toResponse();
+            // 금액 불일치는 반영 트랜잭션에서 보상 명령까지 기록됨
+            case AMOUNT_MISMATCH, NOT_CLAIMED -> new PaymentConfirmResponse(null, claim.orderNumber());
+        };
+    }
+}
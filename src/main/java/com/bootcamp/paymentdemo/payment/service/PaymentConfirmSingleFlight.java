@@ -0,0 +1,58 @@
+package com.bootcamp.paymentdemo.payment.service;
+
+import com.bootcamp.paymentdemo.payment.dto.PaymentConfirmResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 같은 결제 건의 동시 확정 요청을 하나로 합침 (결제 확정 API, 웹훅)
+// 먼저 들어온 요청만 PG 검증과 DB 트랜잭션을 수행하고, 나머지는 그 결과를 그대로 받음
+// 같은 서버 안에서만 합쳐지므로 다른 서버와의 동시 요청은 검증 선점(CAS)으로 막고, 밀린 쪽은 처리 중으로 응답
+@Component
+@Slf4j
+public class PaymentConfirmSingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<PaymentConfirmResponse>> inFlight =
+            new ConcurrentHashMap<>();
+
+    public PaymentConfirmResponse execute(String dbPaymentId, Supplier<PaymentConfirmResponse> confirm) {
+        CompletableFuture<PaymentConfirmResponse> mine = new CompletableFuture<>();
+        CompletableFuture<PaymentConfirmResponse> running = inFlight.putIfAbsent(dbPaymentId, mine);
+
+        if (running != null) {
+            log.info("진행 중인 결제 확정 결과 대기: dbPaymentId={}", dbPaymentId);
+            return await(running);
+        }
+
+        try {
+            PaymentConfirmResponse response = confirm.get();
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(dbPaymentId, mine);
+        }
+    }
+
+    // 진행 중인 확정 건수 (모니터링용)
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private PaymentConfirmResponse await(CompletableFuture<PaymentConfirmResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bootcamp.paymentdemo.payment.service;
+
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransition;
+import com.bootcamp.paymentdemo.payment.dto.PaymentState;
+import com.bootcamp.paymentdemo.payment.dto.PaymentTransitionResult;
+import com.bootcamp.paymentdemo.payment.entity.Payment;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 결제 상태 전이 (비관적 락 대신 status + version 조건부 UPDATE)
+// - 읽은 상태/버전 그대로일 때만 갱신, 다른 요청이 먼저 바꿨으면 다시 읽고 전이 가능하면 재시도
+// - 전이는 READ COMMITTED 트랜잭션에서 실행: 재조회가 잠금 없는 일반 SELECT 로도 최신 커밋 행을 읽음
+//   (REPEATABLE READ 면 트랜잭션 시작 시점 스냅샷을 다시 읽어 재시도가 항상 충돌로 끝남)
+//   이미 열린 트랜잭션에 참여하면 격리 수준은 호출 측 설정을 따르므로 호출 측도 READ COMMITTED 로 시작해야 함
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentStateMachine {
+
+    private final PaymentRepository paymentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${payment.state.max-retries:3}")
+    private int maxRetries;
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public PaymentTransitionResult transition(Payment payment, PaymentTransition transition) {
+        PaymentStatus status = payment.getStatus();
+        long version = payment.getVersion();
+
+        for (int attempt = 0; ; attempt++) {
+            if (!transition.isAllowedFrom(status)) {
+                return PaymentTransitionResult.invalidState(status, version);
+            }
+
+            if (compareAndSet(payment, transition, version) == 1) {
+                // 영속 상태 엔티티는 DB 값으로 동기화 (이후 dirty checking 이 옛 버전으로 덮어쓰지 않도록)
+                if (entityManager.contains(payment)) {
+                    entityManager.refresh(payment);
+                }
+                return PaymentTransitionResult.applied(transition.getTo(), version + 1);
+            }
+
+            if (attempt >= maxRetries) {
+                log.warn("결제 상태 전이 충돌: {}, 전이: {}, 시도: {}", payment.getDbPaymentId(), transition, attempt + 1);
+                return PaymentTransitionResult.conflict(status, version);
+            }
+
+            PaymentState current = paymentRepository.findStateById(payment.getId())
+                    .orElseThrow(() -> new IllegalArgumentException("결제 건을 찾을 수 없습니다."));
+            status = current.status();
+            version = current.version();
+        }
+    }
+
+    private int compareAndSet(Payment payment, PaymentTransition transition, long version) {
+        PaymentStatus from = transition.getFrom();
+        PaymentStatus to = transition.getTo();
+        return switch (transition) {
+            case CLAIM -> paymentRepository.compareAndSetVerification(payment.getId(), from, version, to, LocalDateTime.now());
+            case RELEASE -> paymentRepository.compareAndSetVerification(payment.getId(), from, version, to, null);
+            case COMPLETE -> paymentRepository.compareAndSetPaid(payment.getId(), from, version, to, payment.getDbPaymentId());
+            default -> paymentRepository.compareAndSetStatus(payment.getId(), from, version, to);
+        };
+    }
+}
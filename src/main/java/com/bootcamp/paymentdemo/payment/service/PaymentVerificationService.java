@@ -0,0 +1,149 @@
+package com.bootcamp.paymentdemo.payment.service;
+
+import com.bootcamp.paymentdemo.compensation.entity.CompensationType;
+import com.bootcamp.paymentdemo.compensation.service.CompensationCommandService;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import com.bootcamp.paymentdemo.order.entity.Order;
+import com.bootcamp.paymentdemo.order.service.OrderService;
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransition;
+import com.bootcamp.paymentdemo.payment.consts.PaymentVerificationResult;
+import com.bootcamp.paymentdemo.payment.dto.PaymentClaim;
+import com.bootcamp.paymentdemo.payment.dto.PaymentTransitionResult;
+import com.bootcamp.paymentdemo.payment.entity.Payment;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 결제 확정의 짧은 트랜잭션 단계 (선점 → PG 조회는 트랜잭션 밖 → 결과 반영)
+// 상태 변경은 PaymentStateMachine 의 CAS 로 수행하므로 행 잠금 없이 동시 요청 중 하나만 전이에 성공
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentVerificationService {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentStateMachine paymentStateMachine;
+    private final OrderService orderService;
+    private final CompensationCommandService compensationCommandService;
+
+    // 1단계: 검증 선점 (PENDING → VERIFYING)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public PaymentClaim claim(String dbPaymentId) {
+        Payment payment = getPayment(dbPaymentId);
+        Order order = payment.getOrder();
+
+        PaymentTransitionResult result = paymentStateMachine.transition(payment, PaymentTransition.CLAIM);
+        if (result.isApplied()) {
+            return PaymentClaim.claimed(order.getId(), order.getOrderNumber());
+        }
+
+        // 다른 요청이 검증 중인 건은 처리 중으로 응답 (실패 건과 구분)
+        PaymentStatus status = result.status();
+        if (status == PaymentStatus.VERIFYING) {
+            return PaymentClaim.inProgress(order.getId(), order.getOrderNumber());
+        }
+
+        // 실패한 건은 주문 확정으로 응답하지 않음
+        boolean settled = status == PaymentStatus.PAID || status == PaymentStatus.REFUNDING || status == PaymentStatus.REFUND;
+        return PaymentClaim.notClaimed(settled ? order.getId() : null, order.getOrderNumber());
+    }
+
+    // 3단계: PG 조회 결과 반영 (VERIFYING → PAID / FAIL)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public PaymentVerificationResult apply(String dbPaymentId, PortOnePaymentResponse portOneResponse) {
+        Payment payment = getPayment(dbPaymentId);
+
+        if (!payment.isVerifying()) {
+            log.warn("선점이 해제된 결제 건 결과 반영 생략: {}, 상태: {}", dbPaymentId, payment.getStatus());
+            return PaymentVerificationResult.NOT_CLAIMED;
+        }
+
+        // 금액 검증
+        BigDecimal expectedPayAmount = payment.getOrder().getFinalAmount();
+        BigDecimal actualPayAmount = portOneResponse.amount().total();
+
+        if (expectedPayAmount.compareTo(actualPayAmount) != 0) {
+            log.error("금액 불일치! DB(예상): {}, PortOne(실제): {}", expectedPayAmount, actualPayAmount);
+            if (!transition(payment, PaymentTransition.FAIL)) {
+                return PaymentVerificationResult.NOT_CLAIMED;
+            }
+            compensate(payment, "금액 위변조 감지");
+            return PaymentVerificationResult.AMOUNT_MISMATCH;
+        }
+
+        // 결제 성공 처리
+        if (!transition(payment, PaymentTransition.COMPLETE)) {
+            return PaymentVerificationResult.NOT_CLAIMED;
+        }
+        orderService.completePayment(payment.getOrder().getId());
+        log.info("결제 및 주문 최종 확정 완료: {}", dbPaymentId);
+        return PaymentVerificationResult.PAID;
+    }
+
+    // 결과 반영 실패 시 보상 (반영 트랜잭션은 롤백된 뒤 새 트랜잭션에서 수행)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void fail(String dbPaymentId) {
+        Payment payment = getPayment(dbPaymentId);
+        if (!payment.isVerifying()) {
+            return;
+        }
+        if (transition(payment, PaymentTransition.FAIL)) {
+            compensate(payment, "서버 오류 자동 취소");
+        }
+    }
+
+    // 보상 명령 실행: 사용 포인트 복구 (이미 복구된 주문은 변경 없음)
+    @Transactional
+    public void rollbackPoints(String dbPaymentId) {
+        Payment payment = getPayment(dbPaymentId);
+        orderService.rollbackUsedPoint(payment.getOrder().getId());
+        payment.cancelPointUsage();
+    }
+
+    // PG 조회 실패 시 선점 해제 (재시도 가능하도록 PENDING 복귀)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void release(String dbPaymentId) {
+        Payment payment = getPayment(dbPaymentId);
+        if (payment.isVerifying()) {
+            transition(payment, PaymentTransition.RELEASE);
+        }
+    }
+
+    // 오래된 선점 해제 (before 이전에 선점된 건만, 읽은 뒤 다시 선점됐으면 CAS 실패로 건너뜀)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public boolean releaseStale(String dbPaymentId, LocalDateTime before) {
+        Payment payment = getPayment(dbPaymentId);
+        if (!payment.isVerifying() || !payment.getVerificationStartedAt().isBefore(before)) {
+            return false;
+        }
+        log.warn("오래된 결제 검증 선점 해제: {}, 선점 시각: {}", dbPaymentId, payment.getVerificationStartedAt());
+        return transition(payment, PaymentTransition.RELEASE);
+    }
+
+    private boolean transition(Payment payment, PaymentTransition transition) {
+        PaymentTransitionResult result = paymentStateMachine.transition(payment, transition);
+        if (!result.isApplied()) {
+            log.warn("결제 상태 전이 생략: {}, 전이: {}, 결과: {}, 현재 상태: {}",
+                    payment.getDbPaymentId(), transition, result.outcome(), result.status());
+        }
+        return result.isApplied();
+    }
+
+    // 보상 명령을 FAIL 처리와 같은 트랜잭션에 기록 (실행은 CompensationDispatcher가 재시도하며 수행)
+    private void compensate(Payment payment, String reason) {
+        compensationCommandService.enqueue(CompensationType.POINT_ROLLBACK, payment.getDbPaymentId(), reason);
+        compensationCommandService.enqueue(CompensationType.PG_CANCEL, payment.getDbPaymentId(), reason);
+    }
+
+    private Payment getPayment(String dbPaymentId) {
+        return paymentRepository.findByDbPaymentId(dbPaymentId)
+                .orElseThrow(() -> new IllegalArgumentException("결제 건을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,9 @@
+package com.bootcamp.paymentdemo.point.dto;
+
+import com.bootcamp.paymentdemo.point.entity.PointTransaction;
+
+import java.math.BigDecimal;
+
+// 적립 내역(lot) 하나에서 차감할 포인트
+public record PointLotAllocation(PointTransaction lot, BigDecimal amount) {
+}
@@ -0,0 +1,52 @@
+package com.bootcamp.paymentdemo.point.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 사용자별 포인트 잔액 체크포인트 (lastPointId 이하 내역의 합계)
+// 잔액 = balance + SUM(lastPointId 이후 내역)
+@Getter
+@Entity
+@Table(name = "point_checkpoints")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointCheckpoint {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 체크포인트에 반영된 마지막 포인트 내역 ID (high-water mark)
+    @Column(nullable = false)
+    private Long lastPointId;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal balance;
+
+    @Column(nullable = false)
+    private LocalDateTime checkpointedAt;
+
+    public PointCheckpoint(Long userId, Long lastPointId, BigDecimal balance) {
+        this.userId = userId;
+        this.lastPointId = lastPointId;
+        this.balance = balance;
+        this.checkpointedAt = LocalDateTime.now();
+    }
+
+    // (기존 lastPointId, lastPointId] 구간 합계만큼 전진
+    public void advance(Long lastPointId, BigDecimal delta) {
+        this.lastPointId = lastPointId;
+        this.balance = this.balance.add(delta);
+        this.checkpointedAt = LocalDateTime.now();
+    }
+
+    // 전체 합계로 다시 계산한 값으로 교체 (검증 불일치 시)
+    public void rebuild(BigDecimal balance) {
+        this.balance = balance;
+        this.checkpointedAt = LocalDateTime.now();
+    }
+}
@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "point_transactions")
+@Table(name = "point_transactions", indexes = {
+        @Index(name = "idx_point_transactions_user_id_point_id", columnList = "user_id, point_id"),
+        @Index(name = "idx_point_transactions_type_expires_at", columnList = "type, expiresAt")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class PointTransaction {
@@ -0,0 +1,15 @@
+package com.bootcamp.paymentdemo.point.repository;
+
+import com.bootcamp.paymentdemo.point.entity.PointCheckpoint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PointCheckpointRepository extends JpaRepository<PointCheckpoint, Long> {
+    // 검증 대상 사용자 (userId 커서 기반 청크 조회)
+    @Query("SELECT c.userId FROM PointCheckpoint c WHERE c.userId > :lastUserId ORDER BY c.userId")
+    List<Long> findUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+}
@@ -2,13 +2,19 @@ package com.bootcamp.paymentdemo.point.repository;
 
 import com.bootcamp.paymentdemo.point.entity.PointTransaction;
 import com.bootcamp.paymentdemo.point.consts.PointType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,15 +22,52 @@ public interface PointRepository extends JpaRepository<PointTransaction, Long> {
     @Query("SELECT p FROM PointTransaction p LEFT JOIN FETCH p.order WHERE p.user.userId = :userId ORDER BY p.createdAt DESC")
     Page<PointTransaction> findPointTransactions(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT SUM(p.amount) FROM PointTransaction p WHERE p.user.userId = :userId")
-    BigDecimal calculatePointBalance(@Param("userId") Long userId);
+    // 체크포인트 이후 내역 합계 (user_id, point_id 인덱스 범위 스캔)
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM PointTransaction p WHERE p.user.userId = :userId AND p.id > :afterId")
+    BigDecimal sumAfter(@Param("userId") Long userId, @Param("afterId") Long afterId);
+
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM PointTransaction p " +
+            "WHERE p.user.userId = :userId AND p.id > :afterId AND p.id <= :upToId")
+    BigDecimal sumBetween(@Param("userId") Long userId, @Param("afterId") Long afterId, @Param("upToId") Long upToId);
+
+    // settledBefore 이전에 생성된 내역 중 가장 큰 ID (체크포인트가 넘어갈 수 있는 상한)
+    @Query("SELECT MAX(p.id) FROM PointTransaction p WHERE p.user.userId = :userId AND p.createdAt <= :settledBefore")
+    Optional<Long> findSettledHighWaterMark(@Param("userId") Long userId,
+                                            @Param("settledBefore") LocalDateTime settledBefore);
+
+    // 체크포인트 이후 확정된 내역이 있는 사용자 (userId 커서 기반 청크 조회)
+    @Query("SELECT DISTINCT p.user.userId FROM PointTransaction p WHERE p.user.userId > :lastUserId " +
+            "AND p.createdAt <= :settledBefore AND p.id > COALESCE(" +
+            "(SELECT c.lastPointId FROM PointCheckpoint c WHERE c.userId = p.user.userId), 0) " +
+            "ORDER BY p.user.userId")
+    List<Long> findUserIdsToCheckpoint(@Param("lastUserId") Long lastUserId,
+                                       @Param("settledBefore") LocalDateTime settledBefore, Pageable pageable);
 
     Optional<PointTransaction> findByOrderIdAndType(Long orderId, PointType pointType);
 
     @Query("SELECT p FROM PointTransaction p WHERE p.user.userId = :userId AND p.type = 'EARNED' AND " +
-            "p.remainingAmount > 0 AND p.expiresAt > CURRENT_DATE ORDER BY p.expiresAt ASC")
+            "p.remainingAmount > 0 AND p.expiresAt > CURRENT_DATE ORDER BY p.expiresAt ASC, p.id ASC")
     List<PointTransaction> findAvailablePoints(@Param("userId") Long userId);
 
-    @Query("SELECT p FROM PointTransaction p JOIN FETCH p.user WHERE p.type = 'EARNED' AND p.remainingAmount > 0 AND p.expiresAt < CURRENT_DATE")
-    List<PointTransaction> findExpiredPoints();
+    // 소멸 대상 적립 내역 ID (point_id 커서 기반 청크 조회)
+    @Query("SELECT p.id FROM PointTransaction p WHERE p.type = 'EARNED' AND p.remainingAmount > 0 " +
+            "AND p.expiresAt < :today AND p.id > :lastId ORDER BY p.id")
+    List<Long> findExpiredPointIds(@Param("lastId") Long lastId, @Param("today") LocalDate today, Pageable pageable);
+
+    // 소멸 대상 잠금 조회 (조회 후 복구/소멸된 내역은 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id FROM PointTransaction p WHERE p.id IN :ids AND p.type = 'EARNED' " +
+            "AND p.remainingAmount > 0 AND p.expiresAt < :today")
+    List<Long> lockExpiredPointIds(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
+    // 잔여 포인트만큼 소멸 내역 일괄 생성
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO PointTransaction (user, amount, type, createdAt) " +
+            "SELECT p.user, -p.remainingAmount, :type, :now FROM PointTransaction p WHERE p.id IN :ids")
+    int insertExpiredTransactions(@Param("ids") Collection<Long> ids, @Param("type") PointType type,
+                                  @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PointTransaction p SET p.remainingAmount = 0 WHERE p.id IN :ids")
+    int clearRemainingAmount(@Param("ids") Collection<Long> ids);
 }
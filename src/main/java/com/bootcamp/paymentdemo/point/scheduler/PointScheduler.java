@@ -28,4 +28,20 @@ public class PointScheduler {
         int successCount = pointService.syncPointBalance();
         log.info("스냅샷 정합성 보정 스케줄러 완료: 처리 건수={}", successCount);
     }
+
+    // 포인트 잔액 체크포인트 전진 (매시 10분 실행)
+    @Scheduled(cron = "0 10 * * * *")
+    public void autoCheckpointPointBalance() {
+        log.info("포인트 체크포인트 스케줄러 시작");
+        int successCount = pointService.checkpointBalances();
+        log.info("포인트 체크포인트 스케줄러 완료: 처리 건수={}", successCount);
+    }
+
+    // 포인트 체크포인트 검증 (매주 일요일 03시 실행)
+    @Scheduled(cron = "0 0 3 * * SUN")
+    public void autoVerifyPointCheckpoint() {
+        log.info("포인트 체크포인트 검증 스케줄러 시작");
+        int mismatchCount = pointService.verifyCheckpoints();
+        log.info("포인트 체크포인트 검증 스케줄러 완료: 불일치 건수={}", mismatchCount);
+    }
 }
@@ -0,0 +1,155 @@
+package com.bootcamp.paymentdemo.point.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 포인트 잔액 스냅샷 정합성 보정
+// user_id 구간마다 워커 스레드가 (체크포인트 + 이후 내역) 집계를 스냅샷과 조인해 어긋난 행만 순방향 커서로 읽고
+// 보정은 JDBC 배치로 반영 (읽은 스냅샷 값이 그대로일 때만 갱신)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PointBalanceReconciler {
+
+    private static final String DRIFTED_BALANCES_SQL = """
+            SELECT b.user_id, b.current_points,
+                   COALESCE(c.balance, 0) + COALESCE(SUM(p.amount), 0) AS actual_points
+            FROM user_point_balances b
+            LEFT JOIN point_checkpoints c ON c.user_id = b.user_id
+            LEFT JOIN point_transactions p ON p.user_id = b.user_id AND p.point_id > COALESCE(c.last_point_id, 0)
+            WHERE b.user_id >= ? AND b.user_id < ?
+            GROUP BY b.user_id, b.current_points, c.balance
+            HAVING b.current_points <> COALESCE(c.balance, 0) + COALESCE(SUM(p.amount), 0)""";
+
+    private static final String CORRECT_BALANCE_SQL =
+            "UPDATE user_point_balances SET current_points = ?, updated_at = ? WHERE user_id = ? AND current_points = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${point.sync.workers:4}")
+    private int workers;
+
+    // 워커 하나가 맡는 user_id 구간 크기
+    @Value("${point.sync.range-size:10000}")
+    private long rangeSize;
+
+    @Value("${point.sync.batch-size:500}")
+    private int batchSize;
+
+    @Value("${point.sync.fetch-size:1000}")
+    private int fetchSize;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "point-sync-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // 전체 사용자 보정 (보정 건수 반환)
+    public int reconcile() {
+        Long[] bounds = jdbcTemplate.queryForObject(
+                "SELECT MIN(user_id), MAX(user_id) FROM user_point_balances",
+                (rs, rowNum) -> new Long[]{rs.getObject(1, Long.class), rs.getObject(2, Long.class)});
+        if (bounds == null || bounds[0] == null) {
+            return 0;
+        }
+        return reconcile(bounds[0], bounds[1] + 1);
+    }
+
+    // [fromUserId, toUserId) 사용자 보정 (rangeSize 단위로 나눠 워커에 분배, 보정 건수 반환)
+    public int reconcile(long fromUserId, long toUserId) {
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (long from = fromUserId; from < toUserId; from += rangeSize) {
+            long start = from;
+            long end = Math.min(from + rangeSize, toUserId);
+            futures.add(executor.submit(() -> reconcileRange(start, end)));
+        }
+
+        int corrected = 0;
+        for (Future<Integer> future : futures) {
+            try {
+                corrected += future.get();
+            } catch (ExecutionException e) {
+                log.error("포인트 정합성 보정 실패", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("포인트 정합성 보정 중단: 보정 건수={}", corrected);
+                break;
+            }
+        }
+        return corrected;
+    }
+
+    // [from, to) 구간 보정
+    private int reconcileRange(long from, long to) {
+        List<Object[]> pending = new ArrayList<>(batchSize);
+        int[] corrected = {0};
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    DRIFTED_BALANCES_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL Connector/J는 URL에 useCursorFetch=true가 있어야 fetchSize만큼씩 서버 커서로 읽음 (없으면 결과 전체를 메모리에 적재)
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, from);
+            ps.setLong(2, to);
+            return ps;
+        }, rs -> {
+            long userId = rs.getLong("user_id");
+            BigDecimal snapshot = rs.getBigDecimal("current_points");
+            BigDecimal actual = rs.getBigDecimal("actual_points");
+            log.info("포인트 정합성 보정: userId={}, 스냅샷={}, 실제 포인트 잔액={}", userId, snapshot, actual);
+
+            pending.add(new Object[]{actual, now, userId, snapshot});
+            if (pending.size() >= batchSize) {
+                corrected[0] += flush(pending);
+            }
+        });
+        corrected[0] += flush(pending);
+        return corrected[0];
+    }
+
+    private int flush(List<Object[]> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        int corrected = 0;
+        for (int result : jdbcTemplate.batchUpdate(CORRECT_BALANCE_SQL, pending)) {
+            if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                corrected++;
+            }
+        }
+        pending.clear();
+        return corrected;
+    }
+}
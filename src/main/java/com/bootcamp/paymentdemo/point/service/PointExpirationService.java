@@ -0,0 +1,42 @@
+package com.bootcamp.paymentdemo.point.service;
+
+import com.bootcamp.paymentdemo.point.consts.PointType;
+import com.bootcamp.paymentdemo.point.repository.PointRepository;
+import com.bootcamp.paymentdemo.user.repository.UserPointBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 포인트 소멸 청크 처리 (엔티티를 읽지 않고 청크 단위 일괄 쿼리로 처리)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointExpirationService {
+
+    private final PointRepository pointRepository;
+    private final UserPointBalanceRepository userPointBalanceRepository;
+
+    // 청크의 소멸 대상 적립 내역 소멸 (처리 건수 반환)
+    @Transactional
+    public int expire(List<Long> candidateIds, LocalDate today) {
+        // 조회 이후 복구/소멸된 내역은 제외하고 잠금
+        List<Long> pointIds = pointRepository.lockExpiredPointIds(candidateIds, today);
+        if (pointIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        // remainingAmount 를 0으로 바꾸기 전에 소멸 내역과 사용자별 잔액 차감을 먼저 반영
+        pointRepository.insertExpiredTransactions(pointIds, PointType.EXPIRED, now);
+        int userCount = userPointBalanceRepository.deductExpiredPoints(pointIds, now);
+        pointRepository.clearRemainingAmount(pointIds);
+
+        log.info("포인트 소멸 완료: 내역 {}건, 사용자 {}명", pointIds.size(), userCount);
+        return pointIds.size();
+    }
+}
@@ -0,0 +1,79 @@
+package com.bootcamp.paymentdemo.point.service;
+
+import com.bootcamp.paymentdemo.point.entity.PointCheckpoint;
+import com.bootcamp.paymentdemo.point.repository.PointCheckpointRepository;
+import com.bootcamp.paymentdemo.point.repository.PointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// 체크포인트 기반 포인트 잔액 계산 (전체 내역 SUM 대신 체크포인트 + 이후 내역 SUM)
+// 사용자 단위 트랜잭션이며 여러 사용자 순회는 PointService 에서 호출
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointLedgerService {
+
+    private final PointRepository pointRepository;
+    private final PointCheckpointRepository pointCheckpointRepository;
+
+    // 포인트 잔액 = 체크포인트 잔액 + 체크포인트 이후 내역 합계
+    @Transactional(readOnly = true)
+    public BigDecimal balanceOf(Long userId) {
+        Optional<PointCheckpoint> checkpoint = pointCheckpointRepository.findById(userId);
+        if (checkpoint.isEmpty()) {
+            return pointRepository.sumAfter(userId, 0L);
+        }
+        return checkpoint.get().getBalance()
+                .add(pointRepository.sumAfter(userId, checkpoint.get().getLastPointId()));
+    }
+
+    // settledBefore 이전에 생성된 내역까지 체크포인트 전진 (전진했으면 true)
+    // IDENTITY ID는 커밋 순서와 다를 수 있으므로 아직 커밋되지 않았을 수 있는 최근 내역은 넘기지 않음
+    @Transactional
+    public boolean checkpoint(Long userId, LocalDateTime settledBefore) {
+        Long highWaterMark = pointRepository.findSettledHighWaterMark(userId, settledBefore).orElse(null);
+        if (highWaterMark == null) {
+            return false;
+        }
+
+        Optional<PointCheckpoint> existing = pointCheckpointRepository.findById(userId);
+        if (existing.isEmpty()) {
+            BigDecimal balance = pointRepository.sumBetween(userId, 0L, highWaterMark);
+            pointCheckpointRepository.save(new PointCheckpoint(userId, highWaterMark, balance));
+            return true;
+        }
+
+        PointCheckpoint checkpoint = existing.get();
+        if (highWaterMark <= checkpoint.getLastPointId()) {
+            return false;
+        }
+        checkpoint.advance(highWaterMark,
+                pointRepository.sumBetween(userId, checkpoint.getLastPointId(), highWaterMark));
+        return true;
+    }
+
+    // 체크포인트 잔액이 lastPointId 이하 전체 내역 합계와 같은지 검증, 다르면 전체 합계로 재구성
+    @Transactional
+    public boolean verify(Long userId) {
+        PointCheckpoint checkpoint = pointCheckpointRepository.findById(userId).orElse(null);
+        if (checkpoint == null) {
+            return true;
+        }
+
+        BigDecimal fullSum = pointRepository.sumBetween(userId, 0L, checkpoint.getLastPointId());
+        if (fullSum.compareTo(checkpoint.getBalance()) == 0) {
+            return true;
+        }
+
+        log.error("포인트 체크포인트 불일치, 재구성: userId={}, lastPointId={}, 체크포인트 잔액={}, 실제 합계={}",
+                userId, checkpoint.getLastPointId(), checkpoint.getBalance(), fullSum);
+        checkpoint.rebuild(fullSum);
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+package com.bootcamp.paymentdemo.point.service;
+
+import com.bootcamp.paymentdemo.point.dto.PointLotAllocation;
+import com.bootcamp.paymentdemo.point.entity.PointTransaction;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// 사용할 포인트를 적립 내역별로 나눔 (만료일 임박 순으로 정렬된 목록을 앞에서부터 소진, DB 접근 없이 계산만)
+public final class PointLotAllocator {
+
+    private PointLotAllocator() {
+    }
+
+    // 사용 가능한 포인트가 부족하면 가능한 만큼만 나눔
+    public static List<PointLotAllocation> allocate(List<PointTransaction> lots, BigDecimal amount) {
+        List<PointLotAllocation> allocations = new ArrayList<>();
+        BigDecimal remaining = amount;
+
+        for (PointTransaction lot : lots) {
+            if (remaining.signum() <= 0) {
+                break;
+            }
+            BigDecimal share = remaining.min(lot.getRemainingAmount());
+            if (share.signum() > 0) {
+                allocations.add(new PointLotAllocation(lot, share));
+                remaining = remaining.subtract(share);
+            }
+        }
+        return allocations;
+    }
+
+    public static BigDecimal total(List<PointLotAllocation> allocations) {
+        return allocations.stream()
+                .map(PointLotAllocation::amount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -1,11 +1,14 @@
 package com.bootcamp.paymentdemo.point.service;
 
 import com.bootcamp.paymentdemo.common.dto.PageResponse;
+import com.bootcamp.paymentdemo.common.id.SnowflakeIdGenerator;
 import com.bootcamp.paymentdemo.order.entity.Order;
 import com.bootcamp.paymentdemo.point.dto.PointGetResponse;
+import com.bootcamp.paymentdemo.point.dto.PointLotAllocation;
 import com.bootcamp.paymentdemo.point.entity.PointTransaction;
 import com.bootcamp.paymentdemo.point.consts.PointType;
 import com.bootcamp.paymentdemo.point.entity.PointUsage;
+import com.bootcamp.paymentdemo.point.repository.PointCheckpointRepository;
 import com.bootcamp.paymentdemo.point.repository.PointRepository;
 import com.bootcamp.paymentdemo.point.repository.PointUsageRepository;
 import com.bootcamp.paymentdemo.user.entity.User;
@@ -15,12 +18,18 @@ import com.bootcamp.paymentdemo.user.repository.UserPointBalanceRepository;
 import com.bootcamp.paymentdemo.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -30,8 +39,22 @@ public class PointService {
 
     private final PointRepository pointRepository;
     private final PointUsageRepository pointUsageRepository;
+    private final PointCheckpointRepository pointCheckpointRepository;
     private final UserRepository userRepository;
     private final UserPointBalanceRepository userPointBalanceRepository;
+    private final PointLedgerService pointLedgerService;
+    private final PointExpirationService pointExpirationService;
+    private final PointBalanceReconciler pointBalanceReconciler;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    @Value("${point.expiration.chunk-size:1000}")
+    private int expirationChunkSize;
+
+    @Value("${point.checkpoint.settle-lag:PT10M}")
+    private Duration checkpointSettleLag;
+
+    @Value("${point.checkpoint.chunk-size:500}")
+    private int checkpointChunkSize;
 
     // 포인트 내역 조회
     @Transactional(readOnly = true)
@@ -48,14 +71,15 @@ public class PointService {
     // 포인트 잔액 조회
     @Transactional(readOnly = true)
     public BigDecimal checkPointBalance(User user) {
-        BigDecimal balance = pointRepository.calculatePointBalance(user.getUserId());
+        BigDecimal balance = pointLedgerService.balanceOf(user.getUserId());
 
         log.info("포인트 잔액 조회: userId={}, 잔액={}", user.getUserId(), balance);
 
-        return balance != null ? balance : BigDecimal.ZERO;
+        return balance;
     }
 
     // 포인트 사용
+    // 적립 내역별 차감액을 메모리에서 모두 계산한 뒤 PointUsage INSERT / 적립 내역 UPDATE 는 flush 시 JDBC 배치로 반영
     @Transactional
     public void usePoints(User user, Order order) {
         BigDecimal usedPoints = order.getUsedPoints();
@@ -63,29 +87,17 @@ public class PointService {
         // 사용 가능한 적립 포인트 조회
         // 만료일 임박한 포인트부터 사용
         List<PointTransaction> earnedTransactionList = pointRepository.findAvailablePoints(user.getUserId());
+        List<PointLotAllocation> allocations = PointLotAllocator.allocate(earnedTransactionList, usedPoints);
 
-        // 차감하고 남은 포인트
-        BigDecimal remaining = usedPoints;
-
-        // 조회한 포인트 PointUsage에 저장, 잔액 차감
-        for (PointTransaction earnedTransaction : earnedTransactionList) {
-            BigDecimal deductAmount;
-            if (remaining.compareTo(earnedTransaction.getRemainingAmount()) >= 0) {
-                deductAmount = earnedTransaction.getRemainingAmount();
-            } else {
-                deductAmount = remaining;
-            }
-
-            PointUsage pointUsage = new PointUsage(earnedTransaction, order, deductAmount);
-            pointUsageRepository.save(pointUsage);
-            earnedTransaction.deduct(deductAmount);
-
-            remaining = remaining.subtract(deductAmount);
-            if (remaining.compareTo(BigDecimal.ZERO) == 0) break;
+        List<PointUsage> pointUsageList = new ArrayList<>(allocations.size());
+        for (PointLotAllocation allocation : allocations) {
+            allocation.lot().deduct(allocation.amount());
+            pointUsageList.add(new PointUsage(snowflakeIdGenerator.nextId(), allocation.lot(), order, allocation.amount()));
         }
+        pointUsageRepository.saveAll(pointUsageList);
 
         // 실제 사용된 포인트 계산
-        BigDecimal actualUsedPoints = usedPoints.subtract(remaining);
+        BigDecimal actualUsedPoints = PointLotAllocator.total(allocations);
 
         // 실제 사용된 포인트만큼만 기록
         if (actualUsedPoints.compareTo(BigDecimal.ZERO) > 0) {
@@ -144,60 +156,80 @@ public class PointService {
         log.info("포인트 적립 완료: userId={}, orderId={}, 적립 포인트={}", user.getUserId(), order.getId(), pointsToEarn);
     }
 
-    // 포인트 소멸
-    @Transactional
+    // 포인트 소멸 (청크마다 별도 트랜잭션으로 커밋)
+    // 소멸된 적립 내역은 remainingAmount 가 0이 되어 대상에서 빠지므로 중단 후 다시 실행하면 남은 것부터 처리
     public int expirePoints() {
-        // remainingAmount가 0보다 크고, 만료일이 지난 포인트 조회
-        List<PointTransaction> earnedTransactionList = pointRepository.findExpiredPoints();
-
+        LocalDate today = LocalDate.now();
         int successCount = 0;
+        Long lastId = 0L;
 
-        // PointTransaction에 저장, remainingAmount 0으로 변경
-        for (PointTransaction earnedTransaction : earnedTransactionList) {
+        while (true) {
+            List<Long> pointIds = pointRepository.findExpiredPointIds(
+                    lastId, today, PageRequest.ofSize(expirationChunkSize));
+            if (pointIds.isEmpty()) {
+                return successCount;
+            }
             try {
-                BigDecimal remaining = earnedTransaction.getRemainingAmount();
-                PointTransaction expiredTransaction = new PointTransaction(
-                        earnedTransaction.getUser(), null, remaining.negate(), PointType.EXPIRED);
-                pointRepository.save(expiredTransaction);
-
-                earnedTransaction.deduct(remaining);
-
-                // 스냅샷 업데이트
-                updatePointBalance(earnedTransaction.getUser(), remaining.negate());
-                successCount++;
-
-                log.info("포인트 소멸 완료: userId={}, 소멸 포인트={}", expiredTransaction.getUser().getUserId(), remaining);
+                successCount += pointExpirationService.expire(pointIds, today);
             } catch (Exception e) {
-                log.error("포인트 소멸 실패: pointId={}", earnedTransaction.getId());
+                log.error("포인트 소멸 실패: pointId={}~{}", pointIds.get(0), pointIds.get(pointIds.size() - 1), e);
             }
+            lastId = pointIds.get(pointIds.size() - 1);
         }
-        return successCount;
     }
 
-    // 스냅샷 정합성 보정
-    @Transactional
+    // 스냅샷 정합성 보정 (보정 건수 반환)
     public int syncPointBalance() {
-        // UserPointBalance 리스트 조회
-        List<UserPointBalance> userPointBalanceList = userPointBalanceRepository.findAll();
+        return pointBalanceReconciler.reconcile();
+    }
 
+    // 포인트 잔액 체크포인트 전진 (사용자마다 별도 트랜잭션)
+    public int checkpointBalances() {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(checkpointSettleLag);
         int successCount = 0;
+        Long lastUserId = 0L;
 
-        // UserPointBalance의 currentPoints와 실제 포인트가 다르면 보정
-        for (UserPointBalance userPointBalance : userPointBalanceList) {
-            try {
-                BigDecimal balance = pointRepository.calculatePointBalance(userPointBalance.getUserId());
-                BigDecimal actualPointBalance = balance != null ? balance : BigDecimal.ZERO;
-                if (actualPointBalance.compareTo(userPointBalance.getCurrentPoints()) != 0) {
-                    userPointBalance.syncPointBalance(actualPointBalance);
-                    successCount++;
+        while (true) {
+            List<Long> userIds = pointRepository.findUserIdsToCheckpoint(
+                    lastUserId, settledBefore, PageRequest.ofSize(checkpointChunkSize));
+            if (userIds.isEmpty()) {
+                return successCount;
+            }
+            for (Long userId : userIds) {
+                try {
+                    if (pointLedgerService.checkpoint(userId, settledBefore)) {
+                        successCount++;
+                    }
+                } catch (Exception e) {
+                    log.error("포인트 체크포인트 갱신 실패: userId={}", userId, e);
+                }
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+    }
 
-                    log.info("포인트 정합성 보정: userId={}, 실제 포인트 잔액={}", userPointBalance.getUserId(), actualPointBalance);
+    // 체크포인트 검증 (불일치 사용자 수 반환, 불일치 시 전체 합계로 재구성)
+    public int verifyCheckpoints() {
+        int mismatchCount = 0;
+        Long lastUserId = 0L;
+
+        while (true) {
+            List<Long> userIds = pointCheckpointRepository.findUserIdsAfter(
+                    lastUserId, PageRequest.ofSize(checkpointChunkSize));
+            if (userIds.isEmpty()) {
+                return mismatchCount;
+            }
+            for (Long userId : userIds) {
+                try {
+                    if (!pointLedgerService.verify(userId)) {
+                        mismatchCount++;
+                    }
+                } catch (Exception e) {
+                    log.error("포인트 체크포인트 검증 실패: userId={}", userId, e);
                 }
-            } catch (Exception e) {
-                log.error("포인트 정합성 보정 실패: userId={}", userPointBalance.getUserId());
             }
+            lastUserId = userIds.get(userIds.size() - 1);
         }
-        return successCount;
     }
 
     // 스냅샷 업데이트
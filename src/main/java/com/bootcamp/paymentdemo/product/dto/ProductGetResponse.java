@@ -26,11 +26,16 @@ public class ProductGetResponse {
 
     // 정적 팩토리 메서드
     public static ProductGetResponse from(Product product) {
+        return from(product, product.getStock());
+    }
+
+    // 샤딩 재고 상품은 합산한 재고로 응답
+    public static ProductGetResponse from(Product product, int stock) {
         return new ProductGetResponse(
                 product.getId(),
                 product.getName(),
                 product.getPrice(),
-                product.getStock(),
+                stock,
                 product.getCategory(),
                 product.getStatus().name()
         );
@@ -25,9 +25,14 @@ public class Product extends BaseEntity {
     @Column(nullable = false, precision = 18, scale = 2)
     private BigDecimal price;
 
-    @Column(nullable = false)
+    // 재고는 조건부 UPDATE(ProductStockEngine)로만 변경 -> 더티 체킹으로 덮어쓰지 않음
+    @Column(nullable = false, updatable = false)
     private int stock;
 
+    // 샤딩 재고 사용 시 하위 카운터 수 (null 이면 products.stock 단일 행 사용)
+    @Column(name = "stock_shard_count", updatable = false)
+    private Integer stockShardCount;
+
     @Column(nullable = false, length = 100)
     private String category;
 
@@ -43,25 +48,12 @@ public class Product extends BaseEntity {
         this.status = status;
     }
 
-    // 재고 차감 (주문 생성 시)
-    public void decreaseStock(int quantity) {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("차감할 수량은 0보다 커야 합니다.");
-        }
-        if (this.stock < quantity) {
-            throw new IllegalStateException(
-                String.format("재고가 부족합니다. 상품: %s (현재 재고: %d, 요청 수량: %d)",
-                    this.name, this.stock, quantity)
-            );
-        }
-        this.stock -= quantity;
+    public boolean isStockSharded() {
+        return this.stockShardCount != null && this.stockShardCount > 0;
     }
 
-    // 재고 복구 (주문 취소/환불 시)
-    public void increaseStock(int quantity) {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("복구할 수량은 0보다 커야 합니다.");
-        }
-        this.stock += quantity;
+    // DB 재고 변경 후 영속성 컨텍스트에 올라와 있는 값 맞추기
+    public void syncStock(int delta) {
+        this.stock += delta;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.bootcamp.paymentdemo.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 인기 상품 재고 하위 카운터 (재고 변경은 ProductStockShardEngine의 조건부 UPDATE로만 수행)
+@Getter
+@Entity
+@Table(
+        name = "product_stock_shards",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "shard_no"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+
+    @Column(nullable = false)
+    private int stock;
+}
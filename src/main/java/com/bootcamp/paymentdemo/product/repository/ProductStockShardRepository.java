@@ -0,0 +1,20 @@
+package com.bootcamp.paymentdemo.product.repository;
+
+import com.bootcamp.paymentdemo.product.entity.ProductStockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+    // 상품별 샤드 재고 합계 [productId, sum]
+    @Query("select s.productId, sum(s.stock) from ProductStockShard s where s.productId in :productIds group by s.productId")
+    List<Object[]> sumStockByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // 비어 있는 샤드가 있지만 전체 재고로 다시 채울 수 있는 상품
+    @Query("select s.productId from ProductStockShard s group by s.productId having min(s.stock) = 0 and sum(s.stock) >= count(s)")
+    List<Long> findProductIdsNeedingRebalance();
+}
@@ -0,0 +1,61 @@
+package com.bootcamp.paymentdemo.product.scheduler;
+
+import com.bootcamp.paymentdemo.config.ProductStockShardingProperties;
+import com.bootcamp.paymentdemo.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductStockShardScheduler {
+
+    private final ProductService productService;
+    private final ProductStockShardingProperties productStockShardingProperties;
+
+    // 서버 시작 시 설정(product.stock-sharding.shard-counts)대로 샤딩 재고 전환/해제
+    // 여러 노드가 동시에 시작해도 전환은 상품 행 잠금으로 한 번만 일어나고 나머지는 상태 확인에서 걸러짐
+    @EventListener(ApplicationReadyEvent.class)
+    public void applyConfiguredSharding() {
+        for (Map.Entry<Long, Integer> entry : productStockShardingProperties.getShardCounts().entrySet()) {
+            Long productId = entry.getKey();
+            int shardCount = entry.getValue();
+            try {
+                productService.applyStockSharding(productId, shardCount);
+            } catch (EmptyResultDataAccessException e) {
+                // 상태 확인과 전환 사이에 다른 노드가 먼저 적용함
+                log.info("샤딩 재고 설정은 다른 노드에서 적용됨: productId={}", productId);
+            } catch (Exception e) {
+                log.error("샤딩 재고 설정 적용 실패: productId={}, 샤드 수={}, message={}", productId, shardCount, e.getMessage());
+            }
+        }
+    }
+
+    // 비어 버린 재고 샤드 재분배 (1분마다 실행)
+    @Scheduled(fixedDelay = 60000)
+    public void rebalanceStockShards() {
+        List<Long> productIds = productService.findProductsNeedingRebalance();
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        int successCount = 0;
+        for (Long productId : productIds) {
+            try {
+                productService.rebalanceStockShards(productId);
+                successCount++;
+            } catch (Exception e) {
+                log.error("샤드 재고 재분배 실패: productId={}, message={}", productId, e.getMessage());
+            }
+        }
+        log.info("샤드 재고 재분배 스케줄러 완료: 처리 건수={}", successCount);
+    }
+}
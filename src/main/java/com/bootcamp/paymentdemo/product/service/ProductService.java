@@ -4,12 +4,18 @@ import com.bootcamp.paymentdemo.product.dto.ProductGetResponse;
 import com.bootcamp.paymentdemo.product.entity.Product;
 import com.bootcamp.paymentdemo.product.exception.ProductNotFoundException;
 import com.bootcamp.paymentdemo.product.repository.ProductRepository;
+import com.bootcamp.paymentdemo.product.repository.ProductStockShardRepository;
+import com.bootcamp.paymentdemo.product.service.ProductStockEngine.StockLine;
+import com.bootcamp.paymentdemo.product.service.ProductStockEngine.StockLineResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -17,12 +23,18 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductStockEngine productStockEngine;
+    private final ProductStockShardEngine productStockShardEngine;
+    private final ProductStockShardRepository productStockShardRepository;
 
     // 상품 목록 조회
     @Transactional(readOnly = true)
     public List<ProductGetResponse> findAllProducts() {
-        List<ProductGetResponse> products =  productRepository.findAll().stream()
-                .map(ProductGetResponse::from)
+        List<Product> productList = productRepository.findAll();
+        Map<Long, Integer> shardedStocks = sumShardedStocks(productList);
+
+        List<ProductGetResponse> products = productList.stream()
+                .map(product -> ProductGetResponse.from(product, shardedStocks.getOrDefault(product.getId(), product.getStock())))
                 .toList();
 
         log.info("상품 목록 조회 완료: 개수={}", products.size());
@@ -33,36 +45,151 @@ public class ProductService {
     // 상품 단건 조회
     @Transactional(readOnly = true)
     public ProductGetResponse findOneProduct(Long productId) {
-        ProductGetResponse product = productRepository.findById(productId)
-                .map(ProductGetResponse::from)
+        Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
 
+        int stock = sumShardedStocks(List.of(product)).getOrDefault(productId, product.getStock());
+
         log.info("상품 단건 조회 완료: productId={}", productId);
 
-        return product;
+        return ProductGetResponse.from(product, stock);
     }
 
-    // 재고 차감 (주문 생성 시 호출)
+    // 샤딩 재고 전환 (인기 상품의 재고를 shardCount개 하위 카운터로 분산)
     @Transactional
-    public void decreaseStock(Long productId, int quantity) {
+    public void enableStockSharding(Long productId, int shardCount) {
+        if (shardCount < 2) {
+            throw new IllegalArgumentException("샤드 수는 2 이상이어야 합니다.");
+        }
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+        if (product.isStockSharded()) {
+            throw new IllegalStateException("이미 샤딩 재고를 사용하는 상품입니다.");
+        }
 
-        product.decreaseStock(quantity);
+        productStockEngine.enableSharding(productId, shardCount);
 
-        log.info("재고 차감 완료: productId={}, productName={}, 차감수량={}, 남은재고={}",
-                productId, product.getName(), quantity, product.getStock());
+        log.info("샤딩 재고 전환 완료: productId={}, 샤드 수={}", productId, shardCount);
     }
 
-    // 재고 복구 (주문 취소/환불 시 호출)
+    // 샤딩 재고 해제 (하위 카운터를 합쳐 단일 재고로 복귀)
     @Transactional
-    public void increaseStock(Long productId, int quantity) {
+    public void disableStockSharding(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+        if (!product.isStockSharded()) {
+            throw new IllegalStateException("샤딩 재고를 사용하지 않는 상품입니다.");
+        }
+
+        productStockEngine.disableSharding(productId);
 
-        product.increaseStock(quantity);
+        log.info("샤딩 재고 해제 완료: productId={}", productId);
+    }
+
+    // 설정 기반 샤딩 재고 적용 (shardCount 0이면 해제, 이미 원하는 상태면 변경 없음)
+    @Transactional
+    public void applyStockSharding(Long productId, int shardCount) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+
+        if (shardCount == 0) {
+            if (product.isStockSharded()) {
+                disableStockSharding(productId);
+            }
+            return;
+        }
+        if (!product.isStockSharded()) {
+            enableStockSharding(productId, shardCount);
+        } else if (product.getStockShardCount() != shardCount) {
+            // 샤드 수 변경은 해제 후 다시 전환 (재고 합계는 유지)
+            disableStockSharding(productId);
+            enableStockSharding(productId, shardCount);
+        }
+    }
+
+    // 비어 버린 샤드 재분배 대상 조회
+    @Transactional(readOnly = true)
+    public List<Long> findProductsNeedingRebalance() {
+        return productStockShardRepository.findProductIdsNeedingRebalance();
+    }
+
+    // 샤드 재분배 (상품 단위 트랜잭션)
+    @Transactional
+    public void rebalanceStockShards(Long productId) {
+        productStockShardEngine.rebalance(productId);
 
-        log.info("재고 복구 완료: productId={}, productName={}, 복구수량={}, 현재재고={}",
-                productId, product.getName(), quantity, product.getStock());
+        log.info("샤드 재고 재분배 완료: productId={}", productId);
+    }
+
+    // 재고 차감 (조건부 UPDATE 한 번, 엔티티 조회 없음)
+    // 샤드 재고 차감이 교착되지 않도록 READ COMMITTED (ProductStockShardEngine.tryDecrease 참고)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void decreaseStock(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감할 수량은 0보다 커야 합니다.");
+        }
+
+        if (!productStockEngine.tryDecrease(productId, quantity)) {
+            // 실패 원인 구분은 실패 시에만 조회
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+            // 샤딩 재고 상품은 products.stock이 0이므로 하위 카운터 합계로 표시
+            int stock = sumShardedStocks(List.of(product)).getOrDefault(productId, product.getStock());
+            throw new IllegalStateException(
+                    String.format("재고가 부족합니다. 상품: %s (현재 재고: %d, 요청 수량: %d)",
+                            product.getName(), stock, quantity)
+            );
+        }
+
+        log.info("재고 차감 완료: productId={}, 차감수량={}", productId, quantity);
+    }
+
+    // 여러 상품 재고 일괄 차감 (상품별 성공 여부 반환, 실패 처리는 호출 측에서 결정)
+    // 이미 열린 트랜잭션에 참여하면 격리 수준은 호출 측 설정을 따름 (주문 생성은 READ COMMITTED로 시작)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<StockLineResult> decreaseStocks(List<StockLine> lines) {
+        for (StockLine line : lines) {
+            if (line.quantity() <= 0) {
+                throw new IllegalArgumentException("차감할 수량은 0보다 커야 합니다.");
+            }
+        }
+
+        List<StockLineResult> results = productStockEngine.tryDecreaseAll(lines);
+
+        log.info("재고 일괄 차감: 라인 수={}, 실패 라인 수={}",
+                results.size(), results.stream().filter(result -> !result.success()).count());
+
+        return results;
+    }
+
+    // 재고 복구 (주문 취소/환불 시 호출)
+    @Transactional
+    public void increaseStock(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("복구할 수량은 0보다 커야 합니다.");
+        }
+
+        if (!productStockEngine.increase(productId, quantity)) {
+            throw new ProductNotFoundException("상품을 찾을 수 없습니다.");
+        }
+
+        log.info("재고 복구 완료: productId={}, 복구수량={}", productId, quantity);
+    }
+
+    // 샤딩 재고 상품의 재고 합계 (샤딩 상품이 없으면 조회하지 않음)
+    private Map<Long, Integer> sumShardedStocks(List<Product> products) {
+        List<Long> shardedIds = products.stream()
+                .filter(Product::isStockSharded)
+                .map(Product::getId)
+                .toList();
+        if (shardedIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (Object[] row : productStockShardRepository.sumStockByProductIds(shardedIds)) {
+            stocks.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return stocks;
     }
 }
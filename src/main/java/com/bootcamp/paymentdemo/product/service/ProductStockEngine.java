@@ -0,0 +1,195 @@
+package com.bootcamp.paymentdemo.product.service;
+
+import com.bootcamp.paymentdemo.product.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class ProductStockEngine {
+
+    private static final String DECREASE_SQL =
+            "UPDATE products SET stock = stock - ?, updated_at = ? WHERE id = ? AND stock >= ?";
+
+    // 샤딩된 상품에는 더하지 않음 (products.stock에 더하면 샤드 엔진에서 보이지 않는 재고가 됨)
+    private static final String INCREASE_SQL =
+            "UPDATE products SET stock = stock + ?, updated_at = ? WHERE id = ? AND stock_shard_count IS NULL";
+
+    private static final int NOT_SHARDED = 0;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductStockShardEngine productStockShardEngine;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 상품별 샤드 수 캐시 (0 = 단일 행)
+    // 다른 노드에서 전환된 경우에도 단일 행 UPDATE가 0건이 되어(차감은 stock = 0, 복구는 stock_shard_count 조건) 다시 읽어 옴
+    private final Map<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    // 조건부 재고 차감 (행 잠금 없이 한 문장으로 검사 + 차감)
+    public boolean tryDecrease(Long productId, int quantity) {
+        int shardCount = shardCount(productId);
+
+        if (shardCount == NOT_SHARDED) {
+            if (jdbcTemplate.update(DECREASE_SQL, quantity, now(), productId, quantity) > 0) {
+                syncManaged(productId, -quantity);
+                return true;
+            }
+            shardCount = refreshShardCount(productId);
+            if (shardCount == NOT_SHARDED) {
+                return false;
+            }
+        }
+
+        if (productStockShardEngine.tryDecrease(productId, shardCount, quantity)) {
+            return true;
+        }
+
+        // 샤딩이 해제된 직후라면 단일 행으로 재시도
+        if (refreshShardCount(productId) == NOT_SHARDED) {
+            return tryDecrease(productId, quantity);
+        }
+        return false;
+    }
+
+    // 여러 상품 조건부 재고 차감 (단일 행 상품은 JDBC 배치 한 번, 상품별 성공 여부 반환)
+    // 같은 상품 라인은 수량을 합치고 상품 id 순으로 갱신 (주문끼리 행 잠금 순서가 엇갈려 교착되지 않도록)
+    public List<StockLineResult> tryDecreaseAll(List<StockLine> lines) {
+        Map<Long, Integer> merged = new TreeMap<>();
+        for (StockLine line : lines) {
+            merged.merge(line.productId(), line.quantity(), Integer::sum);
+        }
+
+        Timestamp now = now();
+        List<StockLine> batched = new ArrayList<>(merged.size());
+        List<Object[]> args = new ArrayList<>(merged.size());
+        Map<Long, StockLineResult> results = new TreeMap<>();
+
+        for (Map.Entry<Long, Integer> entry : merged.entrySet()) {
+            Long productId = entry.getKey();
+            int quantity = entry.getValue();
+            if (shardCount(productId) == NOT_SHARDED) {
+                batched.add(new StockLine(productId, quantity));
+                args.add(new Object[]{quantity, now, productId, quantity});
+            } else {
+                results.put(productId, new StockLineResult(productId, quantity, tryDecrease(productId, quantity)));
+            }
+        }
+
+        int[] counts = args.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(DECREASE_SQL, args);
+
+        for (int i = 0; i < counts.length; i++) {
+            StockLine line = batched.get(i);
+            // SUCCESS_NO_INFO는 조건부 UPDATE가 1건인지 0건(재고 부족)인지 알 수 없음
+            // 단건 재실행은 이미 차감된 경우 두 번 빼게 되므로, 배치 전체를 거부하고 트랜잭션을 롤백시킴
+            // (MySQL Connector/J는 rewriteBatchedStatements에서도 UPDATE 배치의 실제 행 수를 돌려줌)
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException(
+                        String.format("재고 차감 결과를 확인할 수 없습니다. 상품 ID: %d", line.productId()));
+            }
+            boolean success = counts[i] > 0;
+            if (success) {
+                syncManaged(line.productId(), -line.quantity());
+            } else if (refreshShardCount(line.productId()) != NOT_SHARDED) {
+                // 다른 노드에서 샤딩으로 전환된 상품
+                success = tryDecrease(line.productId(), line.quantity());
+            }
+            results.put(line.productId(), new StockLineResult(line.productId(), line.quantity(), success));
+        }
+        return List.copyOf(results.values());
+    }
+
+    // 재고 복구
+    public boolean increase(Long productId, int quantity) {
+        int shardCount = shardCount(productId);
+
+        if (shardCount == NOT_SHARDED) {
+            if (jdbcTemplate.update(INCREASE_SQL, quantity, now(), productId) > 0) {
+                syncManaged(productId, quantity);
+                return true;
+            }
+            shardCount = refreshShardCount(productId);
+            if (shardCount == NOT_SHARDED) {
+                return false;
+            }
+        }
+
+        if (productStockShardEngine.increase(productId, shardCount, quantity)) {
+            return true;
+        }
+        return refreshShardCount(productId) == NOT_SHARDED && increase(productId, quantity);
+    }
+
+    // 샤딩 전환
+    public void enableSharding(Long productId, int shardCount) {
+        productStockShardEngine.split(productId, shardCount);
+        shardCounts.put(productId, shardCount);
+        refreshManaged(productId);
+    }
+
+    // 샤딩 해제
+    public void disableSharding(Long productId) {
+        productStockShardEngine.merge(productId);
+        shardCounts.put(productId, NOT_SHARDED);
+        refreshManaged(productId);
+    }
+
+    private int shardCount(Long productId) {
+        Integer cached = shardCounts.get(productId);
+        return cached != null ? cached : refreshShardCount(productId);
+    }
+
+    private int refreshShardCount(Long productId) {
+        List<Integer> rows = jdbcTemplate.query(
+                "SELECT stock_shard_count FROM products WHERE id = ?",
+                (rs, rowNum) -> rs.getInt("stock_shard_count"), productId);
+
+        // 존재하지 않는 상품은 캐시하지 않음
+        if (rows.isEmpty()) {
+            return NOT_SHARDED;
+        }
+        int shardCount = rows.get(0);
+        shardCounts.put(productId, shardCount);
+        return shardCount;
+    }
+
+    // 같은 트랜잭션에서 이미 조회한 상품이 있으면 추가 조회 없이 메모리 값만 보정
+    private void syncManaged(Long productId, int delta) {
+        Product product = entityManager.getReference(Product.class, productId);
+        if (Hibernate.isInitialized(product)) {
+            product.syncStock(delta);
+        }
+    }
+
+    // 샤딩 전환/해제는 드물게 일어나므로 영속성 컨텍스트 값을 DB에서 다시 읽음
+    private void refreshManaged(Long productId) {
+        Product product = entityManager.getReference(Product.class, productId);
+        if (Hibernate.isInitialized(product)) {
+            entityManager.refresh(product);
+        }
+    }
+
+    private Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+
+    public record StockLine(Long productId, int quantity) {
+    }
+
+    public record StockLineResult(Long productId, int quantity, boolean success) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.bootcamp.paymentdemo.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@RequiredArgsConstructor
+public class ProductStockShardEngine {
+
+    private static final String DECREASE_SHARD_SQL =
+            "UPDATE product_stock_shards SET stock = stock - ? WHERE product_id = ? AND shard_no = ? AND stock >= ?";
+
+    private static final String INCREASE_SHARD_SQL =
+            "UPDATE product_stock_shards SET stock = stock + ? WHERE product_id = ? AND shard_no = ?";
+
+    private static final String LOCK_SHARDS_SQL =
+            "SELECT shard_no, stock FROM product_stock_shards WHERE product_id = ? ORDER BY shard_no FOR UPDATE";
+
+    private static final String SET_SHARD_SQL =
+            "UPDATE product_stock_shards SET stock = ? WHERE product_id = ? AND shard_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 샤드 재고 차감 (READ COMMITTED 트랜잭션에서 호출해야 함)
+    // 1. 임의의 샤드 하나에 조건부 UPDATE (대부분 첫 시도에 성공)
+    // 2. 부족하면 샤드 전체를 shard_no 순서로 잠가 합계에서 차감 후 재분배
+    //    REPEATABLE READ에서는 조건이 맞지 않은 1번 UPDATE의 행 잠금이 트랜잭션 끝까지 남아
+    //    서로 다른 샤드를 찔러 본 두 요청이 2번에서 교착됨 - READ COMMITTED는 조건 불일치 행의 잠금을 바로 풀어 줌
+    public boolean tryDecrease(Long productId, int shardCount, int quantity) {
+        int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+        if (jdbcTemplate.update(DECREASE_SHARD_SQL, quantity, productId, shardNo, quantity) > 0) {
+            return true;
+        }
+        return takeAcrossShards(productId, quantity);
+    }
+
+    // 샤드 재고 복구 (임의의 샤드에 더함)
+    public boolean increase(Long productId, int shardCount, int quantity) {
+        int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+        return jdbcTemplate.update(INCREASE_SHARD_SQL, quantity, productId, shardNo) > 0;
+    }
+
+    // 재분배 (비어 버린 샤드에 다른 샤드 재고를 옮김)
+    public void rebalance(Long productId) {
+        List<int[]> shards = lockShards(productId);
+        int total = shards.stream().mapToInt(shard -> shard[1]).sum();
+        redistribute(productId, shards, total);
+    }
+
+    // 샤딩 전환 (products.stock -> 하위 카운터로 분배)
+    public void split(Long productId, int shardCount) {
+        Integer stock = jdbcTemplate.queryForObject(
+                "SELECT stock FROM products WHERE id = ? AND stock_shard_count IS NULL FOR UPDATE",
+                Integer.class, productId);
+
+        List<Object[]> rows = new ArrayList<>(shardCount);
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            rows.add(new Object[]{productId, shardNo, share(stock, shardCount, shardNo)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product_stock_shards (product_id, shard_no, stock) VALUES (?, ?, ?)", rows);
+        jdbcTemplate.update("UPDATE products SET stock = 0, stock_shard_count = ?, updated_at = ? WHERE id = ?",
+                shardCount, now(), productId);
+    }
+
+    // 샤딩 해제 (하위 카운터 합계 -> products.stock)
+    public void merge(Long productId) {
+        jdbcTemplate.queryForObject(
+                "SELECT id FROM products WHERE id = ? AND stock_shard_count IS NOT NULL FOR UPDATE",
+                Long.class, productId);
+
+        int total = lockShards(productId).stream().mapToInt(shard -> shard[1]).sum();
+        jdbcTemplate.update("DELETE FROM product_stock_shards WHERE product_id = ?", productId);
+        jdbcTemplate.update("UPDATE products SET stock = ?, stock_shard_count = NULL, updated_at = ? WHERE id = ?",
+                total, now(), productId);
+    }
+
+    private boolean takeAcrossShards(Long productId, int quantity) {
+        List<int[]> shards = lockShards(productId);
+        int total = shards.stream().mapToInt(shard -> shard[1]).sum();
+        if (shards.isEmpty() || total < quantity) {
+            return false;
+        }
+        redistribute(productId, shards, total - quantity);
+        return true;
+    }
+
+    // 샤드 행 잠금 조회 (항상 shard_no 순서로 잠가 교착 상태 방지) [shardNo, stock]
+    private List<int[]> lockShards(Long productId) {
+        return jdbcTemplate.query(LOCK_SHARDS_SQL,
+                (rs, rowNum) -> new int[]{rs.getInt("shard_no"), rs.getInt("stock")}, productId);
+    }
+
+    private void redistribute(Long productId, List<int[]> shards, int total) {
+        List<Object[]> rows = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            rows.add(new Object[]{share(total, shards.size(), i), productId, shards.get(i)[0]});
+        }
+        jdbcTemplate.batchUpdate(SET_SHARD_SQL, rows);
+    }
+
+    // 균등 분배 (나머지는 앞쪽 샤드부터 1개씩)
+    private int share(int total, int shardCount, int index) {
+        return total / shardCount + (index < total % shardCount ? 1 : 0);
+    }
+
+    private Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -5,4 +5,5 @@ public class Constants {
     public static final String MSG_PAYMENT_NOT_FOUND = "결제 정보를 찾을 수 없습니다";
     public static final String MSG_REFUND_ALREADY_PROCESSED = "이미 환불된 결제입니다";
     public static final String MSG_REFUND_INVALID_STATUS = "환불 기간이 만료되어 환불할 수 없습니다";
+    public static final String MSG_REFUND_IN_PROGRESS = "환불이 진행 중인 결제입니다";
 }
@@ -11,7 +11,8 @@ import static com.bootcamp.paymentdemo.refund.consts.Constants.*;
 public enum ErrorEnum {
     ERR_PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, MSG_PAYMENT_NOT_FOUND),
     ERR_REFUND_ALREADY_PROCESSED(HttpStatus.CONFLICT, MSG_REFUND_ALREADY_PROCESSED),
-    ERR_REFUND_INVALID_STATUS(HttpStatus.CONFLICT, MSG_REFUND_INVALID_STATUS);
+    ERR_REFUND_INVALID_STATUS(HttpStatus.CONFLICT, MSG_REFUND_INVALID_STATUS),
+    ERR_REFUND_IN_PROGRESS(HttpStatus.CONFLICT, MSG_REFUND_IN_PROGRESS);
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,73 @@
+package com.bootcamp.paymentdemo.refund.service;
+
+import com.bootcamp.paymentdemo.membership.service.MembershipService;
+import com.bootcamp.paymentdemo.order.service.OrderService;
+import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
+import com.bootcamp.paymentdemo.orderProduct.repository.OrderProductRepository;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransition;
+import com.bootcamp.paymentdemo.payment.entity.Payment;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.payment.service.PaymentStateMachine;
+import com.bootcamp.paymentdemo.product.service.ProductService;
+import com.bootcamp.paymentdemo.refund.entity.Refund;
+import com.bootcamp.paymentdemo.refund.exception.RefundException;
+import com.bootcamp.paymentdemo.refund.repository.RefundRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.bootcamp.paymentdemo.refund.consts.ErrorEnum.*;
+
+// PG 환불 성공 후 내부 반영 (REFUNDING → REFUND 와 주문/재고/멤버십 변경을 한 트랜잭션으로)
+@Service
+@RequiredArgsConstructor
+public class RefundCompletionService {
+
+    private final RefundRepository refundRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentStateMachine paymentStateMachine;
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final OrderProductRepository orderProductRepository;
+    private final MembershipService membershipService;
+
+    // 환불 완료 로직
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void complete(String dbPaymentId, String reason, String portOneRefundId, String refundGroupId) {
+        Payment payment = paymentRepository.findByDbPaymentId(dbPaymentId).orElseThrow(
+                () -> new RefundException(ERR_PAYMENT_NOT_FOUND)
+        );
+
+        // 결제 상태 변경 (환불 선점한 요청만 성공)
+        if (!paymentStateMachine.transition(payment, PaymentTransition.COMPLETE_REFUND).isApplied()) {
+            throw new RefundException(ERR_REFUND_ALREADY_PROCESSED);
+        }
+
+        Refund completedRefund = Refund.createCompleted(
+                payment.getId(), payment.getTotalAmount(), reason, portOneRefundId, refundGroupId
+        );
+
+        // 환불 완료 이력 저장
+        refundRepository.save(completedRefund);
+
+        // 주문 상태 변경
+        orderService.cancelOrder(payment.getOrder().getId(), reason);
+
+        // 상품 재고 복구
+        List<OrderProduct> orderProducts = orderProductRepository.findByOrder_Id(payment.getOrder().getId());
+
+        orderProducts.forEach(orderProduct ->
+                productService.increaseStock(orderProduct.getProductId(), orderProduct.getCount())
+        );
+
+        // 멤버십 갱신
+        membershipService.handleRefund(
+                payment.getOrder().getUser().getUserId(),
+                payment.getOrder().getFinalAmount(),
+                payment.getOrder().getId()
+        );
+    }
+}
@@ -1,60 +1,60 @@
 package com.bootcamp.paymentdemo.refund.service;
 
+import com.bootcamp.paymentdemo.common.id.SnowflakeIdGenerator;
 import com.bootcamp.paymentdemo.external.portone.client.PortOneClient;
 import com.bootcamp.paymentdemo.external.portone.dto.PortOneRefundRequest;
 import com.bootcamp.paymentdemo.external.portone.dto.PortOneRefundResponse;
 import com.bootcamp.paymentdemo.external.portone.error.PortOneErrorCase;
-import com.bootcamp.paymentdemo.membership.service.MembershipService;
-import com.bootcamp.paymentdemo.order.service.OrderService;
-import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
-import com.bootcamp.paymentdemo.orderProduct.repository.OrderProductRepository;
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransition;
+import com.bootcamp.paymentdemo.payment.dto.PaymentTransitionResult;
 import com.bootcamp.paymentdemo.payment.entity.Payment;
 import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
-import com.bootcamp.paymentdemo.product.service.ProductService;
+import com.bootcamp.paymentdemo.payment.service.PaymentStateMachine;
 import com.bootcamp.paymentdemo.refund.dto.RefundRequest;
 import com.bootcamp.paymentdemo.refund.dto.RefundResponse;
-import com.bootcamp.paymentdemo.refund.entity.Refund;
 import com.bootcamp.paymentdemo.external.portone.exception.PortOneException;
 import com.bootcamp.paymentdemo.refund.exception.RefundException;
-import com.bootcamp.paymentdemo.refund.repository.RefundRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.UUID;
 
 import static com.bootcamp.paymentdemo.refund.consts.ErrorEnum.*;
 
+// 환불 (PAID → REFUNDING 선점 → PG 환불은 트랜잭션 밖 → REFUNDING → REFUND 반영)
+// 행 잠금 대신 상태 전이 CAS 로 동시 환불 요청 중 하나만 진행, 나머지는 대기 없이 거절
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class RefundService {
 
-    private final RefundRepository refundRepository;
     private final RefundHistoryService refundHistoryService;
+    private final RefundCompletionService refundCompletionService;
     private final PaymentRepository paymentRepository;
+    private final PaymentStateMachine paymentStateMachine;
     private final PortOneClient portOneClient;
-    private final OrderService orderService;
-    private final ProductService productService;
-    private final OrderProductRepository orderProductRepository;
-    private final MembershipService membershipService;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
 
-    @Transactional
     public RefundResponse refundAll(String dbPaymentId, @Valid RefundRequest refundRequest) {
 
-        Payment lockedPayment = paymentRepository.findByDbPaymentIdWithLock(dbPaymentId).orElseThrow(
+        Payment payment = paymentRepository.findWithOrderByDbPaymentId(dbPaymentId).orElseThrow(
                 () -> new RefundException(ERR_PAYMENT_NOT_FOUND)
         );
 
-        validateRefundable(lockedPayment);
+        validateRefundable(payment);
+
+        // 환불 선점 (다른 요청이 먼저 선점했으면 거절)
+        PaymentTransitionResult claim = paymentStateMachine.transition(payment, PaymentTransition.START_REFUND);
+        if (!claim.isApplied()) {
+            throw new RefundException(claim.status() == PaymentStatus.REFUND
+                    ? ERR_REFUND_ALREADY_PROCESSED : ERR_REFUND_IN_PROGRESS);
+        }
 
-        String refundGroupId = "rfnd-grp-" + UUID.randomUUID();
+        String refundGroupId = snowflakeIdGenerator.nextId("rfnd-grp-");
 
-        refundHistoryService.saveRequestHistory(lockedPayment.getId(), lockedPayment.getTotalAmount(), refundRequest.getReason(), refundGroupId);
+        refundHistoryService.saveRequestHistory(payment.getId(), payment.getTotalAmount(), refundRequest.getReason(), refundGroupId);
 
         String portOneRefundId = null;
 
@@ -62,39 +62,58 @@ public class RefundService {
 
             PortOneRefundRequest portOneRefundRequest = new PortOneRefundRequest(refundRequest.getReason());
 
-            PortOneRefundResponse portOnePaymentResponse = portOneClient.refundPayment(lockedPayment.getPaymentId(), portOneRefundRequest);
+            PortOneRefundResponse portOnePaymentResponse = portOneClient.refundPayment(payment.getPaymentId(), portOneRefundRequest);
 
             validatePortOneResponse(portOnePaymentResponse);
 
             portOneRefundId = portOnePaymentResponse.getCancellation().getId();
 
-            completeRefund(lockedPayment, refundRequest.getReason(), portOneRefundId, refundGroupId);
+            refundCompletionService.complete(dbPaymentId, refundRequest.getReason(), portOneRefundId, refundGroupId);
 
-            return new RefundResponse(lockedPayment.getOrder().getId(), lockedPayment.getOrder().getOrderNumber());
+            return new RefundResponse(payment.getOrder().getId(), payment.getOrder().getOrderNumber());
 
         } catch (PortOneException e) {
             log.error("PortOne API 호출 실패: dbPaymentId={}, refundGroupId={}", dbPaymentId, refundGroupId, e);
 
-            refundHistoryService.saveFailHistory(lockedPayment.getId(), lockedPayment.getTotalAmount(), refundRequest.getReason(), portOneRefundId, refundGroupId);
+            refundHistoryService.saveFailHistory(payment.getId(), payment.getTotalAmount(), refundRequest.getReason(), portOneRefundId, refundGroupId);
+            releaseRefund(payment, portOneRefundId);
 
             throw e;
 
         } catch (RefundException e) {
             log.error("서버 내부 오류 발생: dbPaymentId={}, refundGroupId={}", dbPaymentId, refundGroupId, e);
 
-            refundHistoryService.saveFailHistory(lockedPayment.getId(), lockedPayment.getTotalAmount(), refundRequest.getReason(), portOneRefundId, refundGroupId);
+            refundHistoryService.saveFailHistory(payment.getId(), payment.getTotalAmount(), refundRequest.getReason(), portOneRefundId, refundGroupId);
+            releaseRefund(payment, portOneRefundId);
 
             throw e;
 
         } catch (Exception e) {
             log.error("서버 내부 오류 발생: dbPaymentId={}, refundGroupId={}", dbPaymentId, refundGroupId, e);
 
-            refundHistoryService.saveFailHistory(lockedPayment.getId(), lockedPayment.getTotalAmount(), refundRequest.getReason(), portOneRefundId, refundGroupId);
+            refundHistoryService.saveFailHistory(payment.getId(), payment.getTotalAmount(), refundRequest.getReason(), portOneRefundId, refundGroupId);
+            releaseRefund(payment, portOneRefundId);
 
             throw e;
         }
     }
 
+    // 환불 선점 해제 - PG 환불이 되지 않은 경우만 PAID 로 복귀
+    // PG 환불 후 내부 반영이 실패하면 재환불을 막기 위해 REFUNDING 으로 남김 (수동 확인 필요)
+    private void releaseRefund(Payment payment, String portOneRefundId) {
+        if (portOneRefundId != null) {
+            log.error("PG 환불 완료 후 내부 반영 실패, REFUNDING 상태 유지: dbPaymentId={}, portOneRefundId={}",
+                    payment.getDbPaymentId(), portOneRefundId);
+            return;
+        }
+        Payment refunding = paymentRepository.findByDbPaymentId(payment.getDbPaymentId()).orElse(payment);
+        PaymentTransitionResult result = paymentStateMachine.transition(refunding, PaymentTransition.ABORT_REFUND);
+        if (!result.isApplied()) {
+            log.error("환불 선점 해제 실패: dbPaymentId={}, 결과={}, 상태={}",
+                    payment.getDbPaymentId(), result.outcome(), result.status());
+        }
+    }
+
     // 환불 가능 상태 검증
     private void validateRefundable(Payment payment) {
 
@@ -106,6 +125,10 @@ public class RefundService {
             throw new RefundException(ERR_REFUND_ALREADY_PROCESSED);
         }
 
+        if(payment.isRefunding()) {
+            throw new RefundException(ERR_REFUND_IN_PROGRESS);
+        }
+
         if(!payment.getOrder().isAwaitingConfirmation()) {
             throw new RefundException(ERR_REFUND_INVALID_STATUS);
         }
@@ -116,34 +139,6 @@ public class RefundService {
 
     }
 
-    // 환불 완료 로직
-    private void completeRefund(Payment payment, String reason, String portOneRefundId, String refundGroupId) {
-        Refund completedRefund = Refund.createCompleted(
-                payment.getId(), payment.getTotalAmount(), reason,  portOneRefundId,  refundGroupId
-        );
-
-        // 환불 완료 이력 저장
-        refundRepository.save(completedRefund);
-
-        // 결제 및 주문 상태 변경
-        payment.refund();
-        orderService.cancelOrder(payment.getOrder().getId(), reason);
-
-        // 상품 재고 복구
-        List<OrderProduct> orderProducts = orderProductRepository.findByOrder_Id(payment.getOrder().getId());
-
-        orderProducts.forEach(orderProduct ->
-                productService.increaseStock(orderProduct.getProductId(), orderProduct.getCount())
-        );
-
-        // 멤버십 갱신
-        membershipService.handleRefund(
-                payment.getOrder().getUser().getUserId(),
-                payment.getOrder().getFinalAmount(),
-                payment.getOrder().getId()
-        );
-    }
-
     private void validatePortOneResponse(PortOneRefundResponse response) {
         if (response == null || response.getCancellation() == null) {
             throw new PortOneException(
@@ -2,9 +2,23 @@ package com.bootcamp.paymentdemo.user.repository;
 
 import com.bootcamp.paymentdemo.user.entity.UserPointBalance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 public interface UserPointBalanceRepository extends JpaRepository<UserPointBalance, Long> {
     Optional<UserPointBalance> findByUserId(Long userId);
+
+    // 소멸 대상 적립 내역의 잔여 포인트를 사용자별로 합산해 한 번에 차감
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE UserPointBalance b SET b.currentPoints = b.currentPoints - (
+                SELECT SUM(p.remainingAmount) FROM PointTransaction p WHERE p.id IN :pointIds AND p.user.userId = b.userId
+            ), b.updatedAt = :now
+            WHERE b.userId IN (SELECT p.user.userId FROM PointTransaction p WHERE p.id IN :pointIds)""")
+    int deductExpiredPoints(@Param("pointIds") Collection<Long> pointIds, @Param("now") LocalDateTime now);
 }
@@ -1,63 +1,72 @@
 package com.bootcamp.paymentdemo.webhook.controller;
 
-import com.bootcamp.paymentdemo.payment.service.PaymentService;
+import com.bootcamp.paymentdemo.common.exception.ServiceException;
 import com.bootcamp.paymentdemo.webhook.dto.PortoneWebhookPayload;
-import com.bootcamp.paymentdemo.webhook.service.PortOneSdkWebhookVerifier;
-import io.portone.sdk.server.errors.WebhookVerificationException;
+import com.bootcamp.paymentdemo.webhook.dto.WebhookBody;
+import com.bootcamp.paymentdemo.webhook.exception.InvalidWebhookSignatureException;
+import com.bootcamp.paymentdemo.webhook.service.PortOneWebhookVerifier;
+import com.bootcamp.paymentdemo.webhook.service.PortoneWebhookPayloadParser;
+import com.bootcamp.paymentdemo.webhook.service.WebhookBodyReader;
+import com.bootcamp.paymentdemo.webhook.service.WebhookEventDispatcher;
+import com.bootcamp.paymentdemo.webhook.service.WebhookEventService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
-import tools.jackson.databind.ObjectMapper;
-
-import java.nio.charset.StandardCharsets;
 
 @RestController
 @Slf4j
 @RequiredArgsConstructor
 public class WebhookController {
 
-    private final PortOneSdkWebhookVerifier verifier;
-    private final PaymentService paymentService;
-    private final ObjectMapper objectMapper;
+    private final WebhookBodyReader bodyReader;
+    private final PortOneWebhookVerifier verifier;
+    private final PortoneWebhookPayloadParser payloadParser;
+    private final WebhookEventService webhookEventService;
+    private final WebhookEventDispatcher webhookEventDispatcher;
 
     @PostMapping(value = "/portone-webhook", consumes = "application/json")
     public ResponseEntity<Void> handlePortoneWebhook(
 
-            // 1. 원문 바디
-            @RequestBody byte[] rawBody,
+            // 1. 원문 바디 (스레드별 버퍼에 한 번만 읽음)
+            HttpServletRequest request,
 
             // 2. PortOne V2 필수 헤더 (검증용)
             @RequestHeader("webhook-id") String webhookId,
             @RequestHeader("webhook-timestamp") String webhookTimestamp,
             @RequestHeader("webhook-signature") String webhookSignature
     ) {
-        String bodyString = new String(rawBody, StandardCharsets.UTF_8);
-
         try {
-            // 3. 검증
-            verifier.verify(bodyString, webhookId, webhookSignature, webhookTimestamp);
+            WebhookBody body = bodyReader.read(request.getInputStream(), request.getContentLengthLong());
+
+            // 3. 검증 (바이트 그대로 HMAC 계산)
+            verifier.verify(body, webhookId, webhookSignature, webhookTimestamp);
 
             log.info("[PORTONE_WEBHOOK] 검증 성공: id={}", webhookId);
 
-            // 4. 검증 통과 후 DTO 변환
-            PortoneWebhookPayload payload = objectMapper.readValue(rawBody, PortoneWebhookPayload.class);
+            // 4. 검증 통과 후 사용하는 필드만 스트리밍으로 파싱
+            PortoneWebhookPayload payload = payloadParser.parse(body);
 
-            // 5. 서비스 로직 호출 -> 결제 서비스로 전달
-            paymentService.processWebhook(payload, webhookId);
+            // 5. 원문 저장 후 바로 응답, 결제 확정은 워커 풀에서 처리
+            //    (워커 풀이 가득 차면 저장된 이벤트를 스케줄러가 나중에 넣음)
+            webhookEventService.receive(payload, webhookId, body.asString())
+                    .ifPresent(event -> webhookEventDispatcher.offer(event.getId(), event.getPaymentId()));
 
             return ResponseEntity.ok().build();
 
-        } catch (WebhookVerificationException e) {
+        } catch (InvalidWebhookSignatureException e) {
             log.warn("[PORTONE_WEBHOOK] 시그니처 검증 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        } catch (ServiceException e) {
+            log.warn("[PORTONE_WEBHOOK] 요청 거부: {}", e.getMessage());
+            return ResponseEntity.status(e.getStatus()).build();
         } catch (Exception e) {
             log.error("[PORTONE_WEBHOOK] 처리 중 오류 발생: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,13 @@ package com.bootcamp.paymentdemo.webhook.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class PortoneWebhookPayload {
 
@@ -21,6 +23,7 @@ public class PortoneWebhookPayload {
 
     @Getter
     @NoArgsConstructor
+    @AllArgsConstructor
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Data {
         @JsonProperty("transactionId")
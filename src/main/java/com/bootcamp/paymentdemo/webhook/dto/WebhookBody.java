@@ -0,0 +1,12 @@
+package com.bootcamp.paymentdemo.webhook.dto;
+
+import java.nio.charset.StandardCharsets;
+
+// 요청 바디 뷰 (bytes[0, length) 만 유효, 버퍼는 같은 스레드의 다음 요청에서 재사용됨)
+public record WebhookBody(byte[] bytes, int length) {
+
+    // 저장용 원문 (DB 저장 시 한 번만 문자열로 변환)
+    public String asString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,16 @@
+package com.bootcamp.paymentdemo.webhook.dto;
+
+// 웹훅 중복 제거 통계 (모니터링용)
+public record WebhookDedupStats(
+        long lookups,
+        long cacheHits,
+        long bloomPositives,
+        long bloomFalsePositives,
+        long dbDuplicates
+) {
+
+    // DB 조회 없이 중복으로 응답한 비율
+    public double hitRate() {
+        return lookups == 0 ? 0.0 : (double) cacheHits / lookups;
+    }
+}
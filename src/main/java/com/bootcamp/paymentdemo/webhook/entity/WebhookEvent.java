@@ -6,13 +6,21 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
+// 수신한 웹훅 원문을 저장하는 내구성 큐 (RECEIVED 상태가 처리 대기)
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_webhook_event_status_next_attempt", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_webhook_event_payment_status_id", columnList = "paymentId, status, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class WebhookEvent {
 
+    private static final int MAX_ERROR_LENGTH = 1000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,12 +36,52 @@ public class WebhookEvent {
 
     private LocalDateTime receivedAt;
 
+    // 검증을 통과한 웹훅 원문
+    @Lob
+    private String rawBody;
+
+    // 처리 시도 횟수 및 다음 시도 시각 (재시도 백오프)
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime processedAt;
+
     @Builder
-    public WebhookEvent(String webhookId, String paymentId, String eventStatus) {
+    public WebhookEvent(String webhookId, String paymentId, String eventStatus, String rawBody) {
         this.webhookId = webhookId;
         this.paymentId = paymentId;
         this.eventStatus = eventStatus;
+        this.rawBody = rawBody;
         this.status = WebhookStatus.RECEIVED;
         this.receivedAt = LocalDateTime.now();
+        this.nextAttemptAt = this.receivedAt;
+    }
+
+    public boolean isPending() {
+        return this.status == WebhookStatus.RECEIVED;
+    }
+
+    public void markProcessed() {
+        this.status = WebhookStatus.PROCESSED;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    // 앞선 이벤트가 처리될 때까지 미룸 (시도 횟수는 늘리지 않음)
+    public void deferUntil(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 처리 실패 기록 - 최대 횟수에 도달하면 FAILED, 아니면 backoff 후 재시도
+    public void recordFailure(String error, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = WebhookStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.bootcamp.paymentdemo.webhook.exception;
+
+import com.bootcamp.paymentdemo.common.exception.ServiceException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidWebhookSignatureException extends ServiceException {
+    public InvalidWebhookSignatureException(String message) {
+        super(message, HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -1,12 +1,44 @@
 package com.bootcamp.paymentdemo.webhook.repository;
 
 import com.bootcamp.paymentdemo.webhook.entity.WebhookEvent;
+import com.bootcamp.paymentdemo.webhook.entity.WebhookStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WebhookRepository extends JpaRepository<WebhookEvent, Long> {
 
     boolean existsByWebhookId(String webhookId);
 
-}
\ No newline at end of file
+    // 처리 시각이 도래한 대기 이벤트 (수신 순)
+    List<WebhookEvent> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(WebhookStatus status, LocalDateTime now, Pageable pageable);
+
+    // 처리 선점 - 처리 시각이 된 대기 이벤트만 다음 시도 시각을 임대 만료 시각으로 미룸 (여러 노드 중 한 곳만 1건 갱신)
+    // 처리 중 서버가 죽으면 임대 만료 후 다른 노드가 다시 선점
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update WebhookEvent w set w.nextAttemptAt = :leaseUntil
+            where w.id = :id and w.status = :status and w.nextAttemptAt <= :now""")
+    int claim(@Param("id") Long id, @Param("status") WebhookStatus status,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 같은 결제 건의 앞선 대기 이벤트 중 가장 늦은 다음 시도 시각 (결제 건별 순서 보장, 없으면 empty)
+    @Query("select max(w.nextAttemptAt) from WebhookEvent w where w.paymentId = :paymentId and w.status = :status and w.id < :id")
+    Optional<LocalDateTime> findLatestNextAttemptAtBefore(@Param("paymentId") String paymentId,
+                                                          @Param("status") WebhookStatus status,
+                                                          @Param("id") Long id);
+
+    // 중복 제거 필터 적재용 (id, webhookId) - id 순 청크 조회
+    @Query("select w.id, w.webhookId from WebhookEvent w where w.id > :lastId order by w.id")
+    List<Object[]> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+}
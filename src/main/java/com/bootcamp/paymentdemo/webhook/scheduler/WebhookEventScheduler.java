@@ -0,0 +1,31 @@
+package com.bootcamp.paymentdemo.webhook.scheduler;
+
+import com.bootcamp.paymentdemo.webhook.entity.WebhookEvent;
+import com.bootcamp.paymentdemo.webhook.service.WebhookEventDispatcher;
+import com.bootcamp.paymentdemo.webhook.service.WebhookEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookEventScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final WebhookEventService webhookEventService;
+    private final WebhookEventDispatcher webhookEventDispatcher;
+
+    // 재시도 시각이 된 이벤트와 워커 풀이 가득 차 밀린 이벤트를 다시 넣음 (1초마다 실행)
+    @Scheduled(fixedDelay = 1000)
+    public void dispatchDueEvents() {
+        for (WebhookEvent event : webhookEventService.findDueEvents(BATCH_SIZE)) {
+            if (!webhookEventDispatcher.offer(event.getId(), event.getPaymentId())) {
+                log.warn("웹훅 워커 풀 포화, 남은 이벤트는 다음 주기에 처리");
+                return;
+            }
+        }
+    }
+}
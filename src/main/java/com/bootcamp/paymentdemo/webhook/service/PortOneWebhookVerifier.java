@@ -0,0 +1,102 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.webhook.dto.WebhookBody;
+import com.bootcamp.paymentdemo.webhook.exception.InvalidWebhookSignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+// PortOne V2 웹훅 시그니처 검증 (Standard Webhooks 규격)
+// 서명 대상 "{webhook-id}.{webhook-timestamp}.{body}" 를 문자열로 이어 붙이지 않고 바이트 그대로 HMAC에 흘려 넣음
+@Component
+@Slf4j
+public class PortOneWebhookVerifier {
+
+    private static final String SECRET_PREFIX = "whsec_";
+    private static final String SIGNATURE_VERSION = "v1,";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${portone.webhook.secret}")
+    private String webhookSecret;
+
+    // 허용하는 타임스탬프 오차 (재전송 공격 방지)
+    @Value("${portone.webhook.tolerance:PT5M}")
+    private Duration tolerance;
+
+    private SecretKeySpec key;
+
+    // Mac은 스레드 안전하지 않으므로 스레드별로 재사용
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    void init() {
+        // application.yml에서 가져온 secret으로 검증기 초기화
+        String secret = webhookSecret.startsWith(SECRET_PREFIX)
+                ? webhookSecret.substring(SECRET_PREFIX.length())
+                : webhookSecret;
+        this.key = new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM);
+        log.info("포트원 웹훅 검증기 초기화, yml 파일내에 설정해둔 secret값으로 초기화 완료");
+    }
+
+    // 웹훅 이벤트 검증
+    public void verify(WebhookBody body, String msgId, String msgSignature, String msgTimestamp) {
+        verifyTimestamp(msgTimestamp);
+
+        Mac mac = macs.get();
+        mac.update(msgId.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) '.');
+        mac.update(msgTimestamp.getBytes(StandardCharsets.US_ASCII));
+        mac.update((byte) '.');
+        mac.update(body.bytes(), 0, body.length());
+        byte[] expected = mac.doFinal();
+
+        // 키 교체 기간에는 여러 시그니처가 공백으로 구분되어 옴
+        for (String signature : msgSignature.split(" ")) {
+            if (!signature.startsWith(SIGNATURE_VERSION)) {
+                continue;
+            }
+            byte[] actual;
+            try {
+                actual = Base64.getDecoder().decode(signature.substring(SIGNATURE_VERSION.length()));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (MessageDigest.isEqual(expected, actual)) {
+                return;
+            }
+        }
+        throw new InvalidWebhookSignatureException("웹훅 시그니처가 일치하지 않습니다.");
+    }
+
+    private void verifyTimestamp(String msgTimestamp) {
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(msgTimestamp);
+        } catch (NumberFormatException e) {
+            throw new InvalidWebhookSignatureException("웹훅 타임스탬프 형식이 올바르지 않습니다.");
+        }
+        long now = System.currentTimeMillis() / 1000;
+        if (Math.abs(now - timestamp) > tolerance.toSeconds()) {
+            throw new InvalidWebhookSignatureException("웹훅 타임스탬프가 허용 범위를 벗어났습니다.");
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("웹훅 HMAC 초기화 실패", e);
+        }
+    }
+}
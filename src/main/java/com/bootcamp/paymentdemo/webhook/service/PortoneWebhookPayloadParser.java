@@ -0,0 +1,76 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.webhook.dto.PortoneWebhookPayload;
+import com.bootcamp.paymentdemo.webhook.dto.WebhookBody;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+// 웹훅 바디에서 사용하는 필드(type, timestamp, data.paymentId/transactionId/storeId)만 스트리밍으로 읽음
+// 나머지 필드는 객체 생성 없이 건너뜀
+@Component
+@RequiredArgsConstructor
+public class PortoneWebhookPayloadParser {
+
+    private final ObjectMapper objectMapper;
+
+    public PortoneWebhookPayload parse(WebhookBody body) {
+        String type = null;
+        String timestamp = null;
+        PortoneWebhookPayload.Data data = null;
+
+        try (JsonParser parser = objectMapper.createParser(body.bytes(), 0, body.length())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("웹훅 바디가 JSON 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "type" -> type = scalar(parser);
+                    case "timestamp" -> timestamp = scalar(parser);
+                    case "data" -> {
+                        if (value == JsonToken.START_OBJECT) {
+                            data = parseData(parser);
+                        } else {
+                            // 배열 등 예상과 다른 구조는 건너뛰어야 뒤의 필드를 계속 읽을 수 있음
+                            parser.skipChildren();
+                            data = null;
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new PortoneWebhookPayload(type, timestamp, data);
+    }
+
+    private PortoneWebhookPayload.Data parseData(JsonParser parser) {
+        String transactionId = null;
+        String paymentId = null;
+        String storeId = null;
+
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "transactionId" -> transactionId = scalar(parser);
+                case "paymentId" -> paymentId = scalar(parser);
+                case "storeId" -> storeId = scalar(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new PortoneWebhookPayload.Data(transactionId, paymentId, storeId);
+    }
+
+    // 문자열 필드 자리에 객체/배열이 오면 통째로 건너뛰고 null
+    private String scalar(JsonParser parser) {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+}
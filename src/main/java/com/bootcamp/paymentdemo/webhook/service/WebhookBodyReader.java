@@ -0,0 +1,66 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.common.exception.ServiceException;
+import com.bootcamp.paymentdemo.webhook.dto.WebhookBody;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+// 웹훅 요청 바디를 스레드별 버퍼에 한 번만 읽음 (요청마다 byte[]를 새로 만들지 않음)
+@Component
+public class WebhookBodyReader {
+
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+
+    // 이보다 큰 버퍼는 스레드에 보관하지 않음 (큰 요청 한 번으로 메모리를 계속 점유하지 않도록)
+    @Value("${webhook.body.retained-buffer-size:65536}")
+    private int retainedBufferSize;
+
+    @Value("${webhook.body.max-size:1048576}")
+    private int maxBodySize;
+
+    private final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[INITIAL_CAPACITY]);
+
+    // 반환된 바디는 같은 스레드에서 다음 read 호출 전까지만 유효
+    public WebhookBody read(InputStream in, long contentLength) throws IOException {
+        if (contentLength > maxBodySize) {
+            throw tooLarge();
+        }
+
+        byte[] buffer = buffers.get();
+        if (contentLength > buffer.length) {
+            buffer = new byte[(int) contentLength];
+        }
+
+        int length = 0;
+        int n;
+        while ((n = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += n;
+            if (length == buffer.length) {
+                // 버퍼가 찼을 때만 1바이트 더 읽어서 끝인지 확인, 남았으면 버퍼 확장
+                int next = in.read();
+                if (next == -1) {
+                    break;
+                }
+                if (length >= maxBodySize) {
+                    throw tooLarge();
+                }
+                buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, maxBodySize));
+                buffer[length++] = (byte) next;
+            }
+        }
+
+        if (buffer.length <= retainedBufferSize) {
+            buffers.set(buffer);
+        }
+        return new WebhookBody(buffer, length);
+    }
+
+    private ServiceException tooLarge() {
+        return new ServiceException("웹훅 바디가 너무 큽니다.", HttpStatus.CONTENT_TOO_LARGE);
+    }
+}
@@ -0,0 +1,122 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.webhook.dto.WebhookDedupStats;
+import com.bootcamp.paymentdemo.webhook.repository.WebhookRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 웹훅 id 중복 제거 (unique 제약 insert 앞단)
+// 최근 id 캐시에 있으면 DB 없이 중복 응답, Bloom filter가 없다고 하면 바로 저장
+// Bloom filter가 있을 수도 있다고 할 때만 DB 조회 (최종 판단은 여전히 unique 인덱스)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookDeduplicator {
+
+    private static final int WARM_UP_CHUNK_SIZE = 1000;
+
+    public enum Verdict {
+        DUPLICATE,   // 최근 캐시에 있음
+        MAYBE_SEEN,  // Bloom filter 양성 - DB 확인 필요
+        NEW          // 처음 보는 id
+    }
+
+    private final WebhookRepository webhookRepository;
+
+    @Value("${webhook.dedup.recent-cache-size:10000}")
+    private int recentCacheSize;
+
+    @Value("${webhook.dedup.expected-ids:1000000}")
+    private long expectedIds;
+
+    @Value("${webhook.dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private BloomFilter bloomFilter;
+
+    // 최근 수신 id (삽입 순으로 오래된 것부터 제거, this로 동기화)
+    private Map<String, Boolean> recentIds;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder bloomFalsePositives = new LongAdder();
+    private final LongAdder dbDuplicates = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        bloomFilter = new BloomFilter(expectedIds, falsePositiveRate);
+        recentIds = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > recentCacheSize;
+            }
+        };
+    }
+
+    // 서버 시작 시 저장된 웹훅 id로 Bloom filter 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long lastId = 0L;
+        long count = 0;
+        List<Object[]> chunk;
+        while (!(chunk = webhookRepository.findIdsAfter(lastId, PageRequest.ofSize(WARM_UP_CHUNK_SIZE))).isEmpty()) {
+            for (Object[] row : chunk) {
+                bloomFilter.put((String) row[1]);
+            }
+            lastId = (Long) chunk.get(chunk.size() - 1)[0];
+            count += chunk.size();
+        }
+        log.info("웹훅 중복 제거 Bloom filter 적재 완료: 건수={}", count);
+    }
+
+    public Verdict check(String webhookId) {
+        lookups.increment();
+        synchronized (this) {
+            if (recentIds.containsKey(webhookId)) {
+                cacheHits.increment();
+                return Verdict.DUPLICATE;
+            }
+        }
+        if (bloomFilter.mightContain(webhookId)) {
+            bloomPositives.increment();
+            return Verdict.MAYBE_SEEN;
+        }
+        return Verdict.NEW;
+    }
+
+    // 저장에 성공했거나 DB에서 중복이 확인된 id 기록
+    public void remember(String webhookId) {
+        bloomFilter.put(webhookId);
+        synchronized (this) {
+            recentIds.put(webhookId, Boolean.TRUE);
+        }
+    }
+
+    // DB(조회 또는 unique 제약)에서 중복 확인
+    public void recordDbDuplicate(String webhookId) {
+        dbDuplicates.increment();
+        remember(webhookId);
+    }
+
+    // Bloom filter 양성이었지만 DB에 없던 경우
+    public void recordFalsePositive() {
+        bloomFalsePositives.increment();
+    }
+
+    public WebhookDedupStats getStats() {
+        return new WebhookDedupStats(lookups.sum(), cacheHits.sum(), bloomPositives.sum(),
+                bloomFalsePositives.sum(), dbDuplicates.sum());
+    }
+}
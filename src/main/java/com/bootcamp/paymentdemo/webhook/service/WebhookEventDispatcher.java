@@ -0,0 +1,113 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 웹훅 이벤트 워커 풀
+// 결제 건(paymentId)마다 레인을 두고 레인 하나는 한 워커가 이벤트 id 순으로 처리
+// 메모리에 올라간 이벤트가 capacity에 도달하면 더 받지 않고 DB에 남겨 스케줄러가 나중에 다시 넣음 (back-pressure)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookEventDispatcher {
+
+    private final WebhookEventService webhookEventService;
+
+    @Value("${webhook.worker.threads:4}")
+    private int workerThreads;
+
+    @Value("${webhook.worker.capacity:1000}")
+    private int capacity;
+
+    private ExecutorService executor;
+
+    // 결제 건별 대기 이벤트 id (this로 동기화)
+    private final Map<String, PriorityQueue<Long>> lanes = new HashMap<>();
+
+    // 레인에 있거나 처리 중인 이벤트 id
+    private final Set<Long> queued = new HashSet<>();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "webhook-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // 이벤트 처리 예약 - 가득 차서 받지 못하면 false
+    public synchronized boolean offer(Long eventId, String paymentId) {
+        if (queued.contains(eventId)) {
+            return true;
+        }
+        if (queued.size() >= capacity) {
+            return false;
+        }
+        queued.add(eventId);
+
+        PriorityQueue<Long> lane = lanes.get(paymentId);
+        if (lane != null) {
+            lane.add(eventId);
+            return true;
+        }
+        lane = new PriorityQueue<>();
+        lane.add(eventId);
+        lanes.put(paymentId, lane);
+        executor.execute(() -> drain(paymentId));
+        return true;
+    }
+
+    public synchronized int queuedCount() {
+        return queued.size();
+    }
+
+    private void drain(String paymentId) {
+        while (true) {
+            Long eventId;
+            synchronized (this) {
+                eventId = lanes.get(paymentId).poll();
+                if (eventId == null) {
+                    lanes.remove(paymentId);
+                    return;
+                }
+            }
+
+            boolean done;
+            try {
+                done = webhookEventService.process(eventId);
+            } catch (Exception e) {
+                log.error("웹훅 이벤트 처리 오류: eventId={}, 오류={}", eventId, e.getMessage());
+                done = false;
+            }
+
+            synchronized (this) {
+                queued.remove(eventId);
+                if (!done) {
+                    // 순서 보장을 위해 같은 결제 건의 뒤 이벤트도 미룸 (DB에 남아 스케줄러가 다시 넣음)
+                    queued.removeAll(lanes.remove(paymentId));
+                    return;
+                }
+            }
+        }
+    }
+}
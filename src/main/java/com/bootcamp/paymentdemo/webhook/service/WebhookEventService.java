@@ -0,0 +1,150 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.payment.service.PaymentService;
+import com.bootcamp.paymentdemo.webhook.dto.PortoneWebhookPayload;
+import com.bootcamp.paymentdemo.webhook.entity.WebhookEvent;
+import com.bootcamp.paymentdemo.webhook.entity.WebhookStatus;
+import com.bootcamp.paymentdemo.webhook.repository.WebhookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 웹훅 이벤트 저장 및 처리 (처리는 WebhookEventDispatcher 워커에서 호출)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookEventService {
+
+    private final WebhookRepository webhookRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final WebhookDeduplicator webhookDeduplicator;
+
+    @Value("${webhook.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${webhook.retry.initial-backoff:PT5S}")
+    private Duration initialBackoff;
+
+    @Value("${webhook.retry.max-backoff:PT5M}")
+    private Duration maxBackoff;
+
+    // 처리 선점 유지 시간 (PG 조회를 포함한 처리 시간보다 길게)
+    @Value("${webhook.lease:PT1M}")
+    private Duration lease;
+
+    // 검증된 웹훅 원문 저장 (중복 웹훅이면 empty)
+    public Optional<WebhookEvent> receive(PortoneWebhookPayload payload, String webhookId, String rawBody) {
+        // 중복 제거 필터로 이미 받은 웹훅은 insert 실패 없이 걸러냄
+        switch (webhookDeduplicator.check(webhookId)) {
+            case DUPLICATE -> {
+                log.warn("중복 웹훅 무시: webhookId={}", webhookId);
+                return Optional.empty();
+            }
+            case MAYBE_SEEN -> {
+                if (webhookRepository.existsByWebhookId(webhookId)) {
+                    webhookDeduplicator.recordDbDuplicate(webhookId);
+                    log.warn("중복 웹훅 무시: webhookId={}", webhookId);
+                    return Optional.empty();
+                }
+                webhookDeduplicator.recordFalsePositive();
+            }
+            case NEW -> {
+            }
+        }
+
+        WebhookEvent event = WebhookEvent.builder()
+                .webhookId(webhookId)
+                .paymentId(payload.getData() != null ? payload.getData().getPaymentId() : null)
+                .eventStatus(payload.getType())
+                .rawBody(rawBody)
+                .build();
+        try {
+            WebhookEvent saved = webhookRepository.saveAndFlush(event);
+            webhookDeduplicator.remember(webhookId);
+            return Optional.of(saved);
+        } catch (DataIntegrityViolationException e) {
+            webhookDeduplicator.recordDbDuplicate(webhookId);
+            log.warn("중복 웹훅 무시: webhookId={}", webhookId);
+            return Optional.empty();
+        }
+    }
+
+    // 처리 시각이 도래한 대기 이벤트
+    public List<WebhookEvent> findDueEvents(int limit) {
+        return webhookRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                WebhookStatus.RECEIVED, LocalDateTime.now(), PageRequest.ofSize(limit));
+    }
+
+    // 이벤트 처리 - 완료(또는 더 이상 처리할 필요 없음)면 true, 재시도/대기로 남으면 false
+    public boolean process(Long eventId) {
+        // 다른 노드가 이미 선점했거나 처리 시각 전이면 이 노드에서는 처리하지 않음
+        LocalDateTime now = LocalDateTime.now();
+        if (webhookRepository.claim(eventId, WebhookStatus.RECEIVED, now, now.plus(lease)) == 0) {
+            return true;
+        }
+        WebhookEvent event = webhookRepository.findById(eventId).orElse(null);
+        if (event == null || !event.isPending()) {
+            return true;
+        }
+
+        // 같은 결제 건의 앞선 이벤트가 남아 있으면 그 이벤트의 다음 시도 시각까지 미룸 (매 주기 다시 꺼내지 않도록)
+        if (event.getPaymentId() != null) {
+            Optional<LocalDateTime> earlier = webhookRepository.findLatestNextAttemptAtBefore(
+                    event.getPaymentId(), WebhookStatus.RECEIVED, eventId);
+            if (earlier.isPresent()) {
+                event.deferUntil(earlier.get().isAfter(now) ? earlier.get() : now);
+                webhookRepository.save(event);
+                return false;
+            }
+        }
+
+        try {
+            if (event.getPaymentId() != null) {
+                // PortOne 결제 ID는 결제 요청 시 넘긴 dbPaymentId이므로 별도 조회 없이 확정 (PG 검증은 확정 단계에서 한 번만)
+                paymentService.confirmPayment(event.getPaymentId());
+                ensureNotPending(event.getPaymentId());
+            }
+            event.markProcessed();
+            webhookRepository.save(event);
+            return true;
+
+        } catch (Exception e) {
+            Duration backoff = backoff(event.getAttempts() + 1);
+            event.recordFailure(e.getMessage(), maxAttempts, backoff);
+            webhookRepository.save(event);
+            if (event.getStatus() == WebhookStatus.FAILED) {
+                log.error("웹훅 처리 최종 실패: webhookId={}, 시도={}, 오류={}", event.getWebhookId(), event.getAttempts(), e.getMessage());
+                return true;
+            }
+            log.warn("웹훅 처리 실패, {} 후 재시도: webhookId={}, 시도={}, 오류={}",
+                    backoff, event.getWebhookId(), event.getAttempts(), e.getMessage());
+            return false;
+        }
+    }
+
+    // 확정 후에도 PENDING이면 PG 조회 실패로 선점이 해제된 것이므로 재시도
+    private void ensureNotPending(String dbPaymentId) {
+        paymentRepository.findByDbPaymentId(dbPaymentId)
+                .filter(payment -> payment.getStatus() == PaymentStatus.PENDING)
+                .ifPresent(payment -> {
+                    throw new IllegalStateException("결제가 아직 확정되지 않았습니다: " + dbPaymentId);
+                });
+    }
+
+    // 지수 백오프 (initialBackoff * 2^(attempt-1), 최대 maxBackoff)
+    Duration backoff(int attempt) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
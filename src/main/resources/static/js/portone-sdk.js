@@ -320,6 +320,11 @@ async function confirmPaymentTemplate(paymentId) {
             pathParams: paymentId
         });
 
+        if (result?.inProgress) {
+            showNotification('결제 확정 처리 중입니다. 잠시 후 주문 내역을 확인해주세요.', 'info');
+            return result;
+        }
+
         showNotification('결제 확정 성공!', 'success');
         return result;
     } catch (error) {
@@ -0,0 +1,67 @@
+package com.bootcamp.paymentdemo.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// id 발급 처리량 측정 (./gradlew benchmark 로 실행)
+@Tag("benchmark")
+class SnowflakeIdGeneratorBenchmarkTest {
+
+    private static final int WARMUP = 1_000_000;
+    private static final int ID_COUNT = 4_000_000;
+
+    @Test
+    @DisplayName("단일/다중 스레드 id 발급 처리량")
+    void throughput() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000, System::currentTimeMillis);
+        for (int i = 0; i < WARMUP; i++) {
+            generator.nextId();
+        }
+
+        long single = measure(generator, 1);
+        long multi = measure(generator, Runtime.getRuntime().availableProcessors());
+
+        System.out.printf("[snowflake] 1 thread: %,d ids/s%n", single);
+        System.out.printf("[snowflake] %d threads: %,d ids/s%n", Runtime.getRuntime().availableProcessors(), multi);
+
+        assertThat(single).isPositive();
+    }
+
+    private long measure(SnowflakeIdGenerator generator, int threads) throws Exception {
+        int perThread = ID_COUNT / threads;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long last = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        long id = generator.nextId();
+                        if (id <= last) {
+                            throw new IllegalStateException("id 순서 역전: " + last + " -> " + id);
+                        }
+                        last = id;
+                    }
+                    return last;
+                }));
+            }
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            return (long) perThread * threads * 1_000_000_000L / elapsed;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.bootcamp.paymentdemo.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("id에 타임스탬프와 노드 id가 담기고 같은 밀리초 안에서는 시퀀스로 증가")
+    void nextId_EncodesTimestampAndNode() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, 5000, () -> NOW);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertAll(
+                () -> assertThat(SnowflakeIdGenerator.timestampOf(first).toEpochMilli()).isEqualTo(NOW),
+                () -> assertThat(SnowflakeIdGenerator.nodeIdOf(first)).isEqualTo(7),
+                () -> assertThat(second).isEqualTo(first + 1)
+        );
+    }
+
+    @Test
+    @DisplayName("시퀀스가 넘치면 다음 밀리초까지 기다려 중복 없이 발급")
+    void nextId_SequenceOverflow() {
+        // 시퀀스를 모두 소진한 뒤 몇 번 더 조회되면 시계가 다음 밀리초로 넘어감
+        AtomicLong calls = new AtomicLong();
+        long overflowAt = SnowflakeIdGenerator.MAX_SEQUENCE + 10;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000,
+                () -> calls.incrementAndGet() > overflowAt ? NOW + 1 : NOW);
+
+        long last = 0;
+        for (int i = 0; i <= SnowflakeIdGenerator.MAX_SEQUENCE + 1; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+
+        assertAll(
+                () -> assertThat(calls.get()).isGreaterThan(overflowAt),
+                () -> assertThat(SnowflakeIdGenerator.timestampOf(generator.nextId()).toEpochMilli()).isEqualTo(NOW + 1)
+        );
+    }
+
+    @Test
+    @DisplayName("시계가 허용 범위 안에서 뒤로 가도 id는 계속 증가")
+    void nextId_ClockMovedBackWithinTolerance() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000, clock::get);
+
+        long beforeSkew = generator.nextId();
+        clock.set(NOW - 1000);
+        long afterSkew = generator.nextId();
+
+        assertThat(afterSkew).isGreaterThan(beforeSkew);
+    }
+
+    @Test
+    @DisplayName("시계가 허용 범위를 넘어 뒤로 가면 발급 거부")
+    void nextId_ClockMovedBackTooFar() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000, clock::get);
+
+        generator.nextId();
+        clock.set(NOW - 10000);
+
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    @DisplayName("노드 id 범위 검증")
+    void constructor_InvalidNodeId() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, 5000, () -> NOW)),
+                // 음수는 자동 지정 없이 그대로 거부 (설정 누락/오타로 노드끼리 겹치지 않도록)
+                () -> assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1, 5000))
+        );
+    }
+
+    @Test
+    @DisplayName("문자열 id는 고정 폭이라 문자열 정렬이 발급 순서와 같음")
+    void nextId_PrefixedFixedWidth() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000, System::currentTimeMillis);
+
+        String first = generator.nextId("order_mid_");
+        String second = generator.nextId("order_mid_");
+
+        assertAll(
+                () -> assertThat(first).matches("order_mid_\\d{19}"),
+                () -> assertThat(second).isGreaterThan(first)
+        );
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 중복 없음")
+    void nextId_Concurrent() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000, System::currentTimeMillis);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
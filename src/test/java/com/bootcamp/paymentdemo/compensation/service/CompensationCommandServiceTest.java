@@ -0,0 +1,85 @@
+package com.bootcamp.paymentdemo.compensation.service;
+
+import com.bootcamp.paymentdemo.compensation.entity.CompensationCommand;
+import com.bootcamp.paymentdemo.compensation.entity.CompensationStatus;
+import com.bootcamp.paymentdemo.compensation.entity.CompensationType;
+import com.bootcamp.paymentdemo.compensation.repository.CompensationCommandRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CompensationCommandServiceTest {
+
+    @Mock
+    private CompensationCommandRepository compensationCommandRepository;
+
+    @InjectMocks
+    private CompensationCommandService compensationCommandService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(compensationCommandService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(compensationCommandService, "initialBackoff", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(compensationCommandService, "maxBackoff", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 결제 건의 같은 보상 명령은 한 번만 기록")
+    void enqueue_Duplicate() {
+        given(compensationCommandRepository.existsByIdempotencyKey("cmp-pg_cancel-order_mid_1")).willReturn(true);
+
+        compensationCommandService.enqueue(CompensationType.PG_CANCEL, "order_mid_1", "금액 위변조 감지");
+
+        verify(compensationCommandRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("실패 시 백오프 후 재시도, 최대 횟수 도달 시 FAILED")
+    void recordFailure() {
+        CompensationCommand command = CompensationCommand.builder()
+                .type(CompensationType.PG_CANCEL)
+                .dbPaymentId("order_mid_1")
+                .reason("금액 위변조 감지")
+                .build();
+        given(compensationCommandRepository.findById(1L)).willReturn(Optional.of(command));
+
+        compensationCommandService.recordFailure(1L, "timeout");
+        LocalDateTime firstRetryAt = command.getNextAttemptAt();
+        compensationCommandService.recordFailure(1L, "timeout");
+        compensationCommandService.recordFailure(1L, "timeout");
+
+        assertAll(
+                () -> assertThat(firstRetryAt).isAfter(LocalDateTime.now().plusSeconds(3)),
+                () -> assertThat(command.getAttempts()).isEqualTo(3),
+                () -> assertThat(command.getStatus()).isEqualTo(CompensationStatus.FAILED),
+                () -> assertThat(command.getLastError()).isEqualTo("timeout")
+        );
+    }
+
+    @Test
+    @DisplayName("지수 백오프는 최대값으로 제한")
+    void backoff() {
+        assertAll(
+                () -> assertThat(compensationCommandService.backoff(1)).isEqualTo(Duration.ofSeconds(5)),
+                () -> assertThat(compensationCommandService.backoff(3)).isEqualTo(Duration.ofSeconds(20)),
+                () -> assertThat(compensationCommandService.backoff(30)).isEqualTo(Duration.ofMinutes(10))
+        );
+    }
+}
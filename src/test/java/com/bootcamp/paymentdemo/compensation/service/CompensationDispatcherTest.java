@@ -0,0 +1,155 @@
+package com.bootcamp.paymentdemo.compensation.service;
+
+import com.bootcamp.paymentdemo.compensation.entity.CompensationCommand;
+import com.bootcamp.paymentdemo.compensation.entity.CompensationType;
+import com.bootcamp.paymentdemo.external.portone.client.PortOneClient;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOneCancelRequest;
+import com.bootcamp.paymentdemo.external.portone.exception.PortOneApiException;
+import com.bootcamp.paymentdemo.payment.service.PaymentVerificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompensationDispatcherTest {
+
+    @Mock
+    private CompensationCommandService compensationCommandService;
+    @Mock
+    private PortOneClient portOneClient;
+    @Mock
+    private PaymentVerificationService paymentVerificationService;
+
+    @InjectMocks
+    private CompensationDispatcher compensationDispatcher;
+
+    private final String dbPaymentId = "order_mid_12345";
+
+    @Test
+    @DisplayName("PG 취소: 명령의 Idempotency-Key로 취소 후 완료 처리")
+    void dispatch_PgCancel() {
+        CompensationCommand command = command(CompensationType.PG_CANCEL);
+
+        compensationDispatcher.dispatch(command);
+
+        assertAll(
+                () -> verify(portOneClient).cancelPayment(eq(dbPaymentId), any(PortOneCancelRequest.class),
+                        eq("cmp-pg_cancel-" + dbPaymentId)),
+                () -> verify(compensationCommandService).markDone(command.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("PG 취소: 이미 취소된 결제는 완료로 처리")
+    void dispatch_PgCancel_AlreadyCancelled() {
+        CompensationCommand command = command(CompensationType.PG_CANCEL);
+        given(portOneClient.cancelPayment(anyString(), any(), anyString()))
+                .willThrow(new PortOneApiException("PAYMENT_ALREADY_CANCELLED", "이미 취소된 결제", 409));
+
+        compensationDispatcher.dispatch(command);
+
+        assertAll(
+                () -> verify(compensationCommandService).markDone(command.getId()),
+                () -> verify(compensationCommandService, never()).recordFailure(anyLong(), anyString())
+        );
+    }
+
+    @Test
+    @DisplayName("PG 취소 실패: 실패 기록 후 재시도 대기")
+    void dispatch_PgCancel_Failure() {
+        CompensationCommand command = command(CompensationType.PG_CANCEL);
+        given(portOneClient.cancelPayment(anyString(), any(), anyString()))
+                .willThrow(new ResourceAccessException("timeout"));
+
+        compensationDispatcher.dispatch(command);
+
+        assertAll(
+                () -> verify(compensationCommandService).recordFailure(command.getId(), "timeout"),
+                () -> verify(compensationCommandService, never()).markDone(anyLong())
+        );
+    }
+
+    @Test
+    @DisplayName("포인트 복구 실패: 실패 기록 후 재시도 대기")
+    void dispatch_PointRollback_Failure() {
+        CompensationCommand command = command(CompensationType.POINT_ROLLBACK);
+        willThrow(new IllegalStateException("DB Error")).given(paymentVerificationService).rollbackPoints(dbPaymentId);
+
+        compensationDispatcher.dispatch(command);
+
+        assertAll(
+                () -> verify(compensationCommandService).recordFailure(command.getId(), "DB Error"),
+                () -> verify(portOneClient, never()).cancelPayment(anyString(), any(), anyString())
+        );
+    }
+
+    @Test
+    @DisplayName("실행 예약: 워커 풀에서 실행하고, 실행 중인 명령은 다시 넣지 않으며 대기열이 가득 차면 거절")
+    void submit_BoundedWorkerPool() throws InterruptedException {
+        ReflectionTestUtils.setField(compensationDispatcher, "workerThreads", 1);
+        ReflectionTestUtils.setField(compensationDispatcher, "queueCapacity", 1);
+        compensationDispatcher.init();
+
+        // 첫 명령의 PG 취소가 응답 없이 붙잡혀 있는 상황
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(portOneClient.cancelPayment(anyString(), any(), anyString())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+
+        CompensationCommand first = command(CompensationType.PG_CANCEL, 1L);
+        assertThat(compensationDispatcher.submit(first)).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        boolean resubmitted = compensationDispatcher.submit(first);
+        boolean queued = compensationDispatcher.submit(command(CompensationType.PG_CANCEL, 2L));
+        boolean rejected = compensationDispatcher.submit(command(CompensationType.PG_CANCEL, 3L));
+
+        release.countDown();
+        compensationDispatcher.shutdown();
+        ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(compensationDispatcher, "executor");
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertAll(
+                () -> assertThat(resubmitted).isTrue(),
+                () -> assertThat(queued).isTrue(),
+                () -> assertThat(rejected).isFalse(),
+                () -> verify(portOneClient, times(2)).cancelPayment(anyString(), any(), anyString()),
+                () -> verify(compensationCommandService).markDone(1L),
+                () -> verify(compensationCommandService).markDone(2L),
+                () -> verify(compensationCommandService, never()).markDone(3L)
+        );
+    }
+
+    private CompensationCommand command(CompensationType type) {
+        return command(type, 1L);
+    }
+
+    private CompensationCommand command(CompensationType type, Long id) {
+        CompensationCommand command = CompensationCommand.builder()
+                .type(type)
+                .dbPaymentId(dbPaymentId)
+                .reason("금액 위변조 감지")
+                .build();
+        ReflectionTestUtils.setField(command, "id", id);
+        return command;
+    }
+}
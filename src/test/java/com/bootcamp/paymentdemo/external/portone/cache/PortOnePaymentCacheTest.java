@@ -0,0 +1,150 @@
+package com.bootcamp.paymentdemo.external.portone.cache;
+
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PortOnePaymentCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final AtomicInteger pgCalls = new AtomicInteger();
+    private PortOnePaymentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PortOnePaymentCache();
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.setField(cache, "clock", (LongSupplier) clock::get);
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("TTL 동안 같은 결제 건 조회는 PG 호출 없이 응답")
+    void hitWithinTtl() {
+        cache.get("order_mid_1", pg("PAID"));
+        cache.get("order_mid_1", pg("PAID"));
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+        cache.get("order_mid_1", pg("PAID"));
+
+        PortOnePaymentCacheStats stats = cache.getStats();
+        assertAll(
+                () -> assertThat(pgCalls.get()).isEqualTo(2),
+                () -> assertThat(stats.hits()).isEqualTo(1),
+                () -> assertThat(stats.savedRoundTrips()).isEqualTo(1),
+                () -> assertThat(stats.hitRatio()).isEqualTo(1.0 / 3)
+        );
+    }
+
+    @Test
+    @DisplayName("진행 중 상태(READY 등)는 보관하지 않음")
+    void pendingStatusNotCached() {
+        cache.get("order_mid_1", pg("READY"));
+        PortOnePaymentResponse response = cache.get("order_mid_1", pg("PAID"));
+
+        assertAll(
+                () -> assertThat(pgCalls.get()).isEqualTo(2),
+                () -> assertThat(response.isPaid()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 PG에서 다시 조회")
+    void invalidate() {
+        cache.get("order_mid_1", pg("PAID"));
+        cache.invalidate("order_mid_1");
+        PortOnePaymentResponse response = cache.get("order_mid_1", pg("CANCELLED"));
+
+        assertAll(
+                () -> assertThat(pgCalls.get()).isEqualTo(2),
+                () -> assertThat(response.isCancelled()).isTrue(),
+                () -> assertThat(cache.getStats().invalidations()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("PG 호출 실패는 보관하지 않음")
+    void failureNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get("order_mid_1", () -> {
+            throw new IllegalStateException("PG 장애");
+        }));
+        cache.get("order_mid_1", pg("PAID"));
+
+        assertThat(pgCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 조회는 한 번의 PG 호출로 합쳐짐")
+    void coalescesConcurrentLookups() throws Exception {
+        int threadCount = 8;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            Future<PortOnePaymentResponse> first = executor.submit(() -> cache.get("order_mid_1", () -> {
+                loading.countDown();
+                await(release);
+                return pg("READY").get();
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+
+            List<Future<PortOnePaymentResponse>> others = new ArrayList<>();
+            for (int i = 1; i < threadCount; i++) {
+                others.add(executor.submit(() -> cache.get("order_mid_1", pg("PAID"))));
+            }
+            waitUntil(() -> cache.getStats().coalesced() == threadCount - 1);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).status()).isEqualTo("READY");
+            for (Future<PortOnePaymentResponse> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS).status()).isEqualTo("READY");
+            }
+            assertThat(pgCalls.get()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private Supplier<PortOnePaymentResponse> pg(String status) {
+        return () -> {
+            pgCalls.incrementAndGet();
+            return new PortOnePaymentResponse(status, "order_mid_1", null, null, null, null, null, null,
+                    null, null, null, null, null, null, null, null, null);
+        };
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
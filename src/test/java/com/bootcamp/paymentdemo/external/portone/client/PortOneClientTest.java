@@ -0,0 +1,139 @@
+package com.bootcamp.paymentdemo.external.portone.client;
+
+import com.bootcamp.paymentdemo.config.PortOneConfig;
+import com.bootcamp.paymentdemo.external.portone.cache.PortOnePaymentCache;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOneCancelRequest;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import com.bootcamp.paymentdemo.external.portone.resilience.PortOneResilience;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 로컬 스텁 서버로 PortOne 전송 계층 확인
+class PortOneClientTest {
+
+    private static final String PAYMENT_JSON = """
+            {"status":"PAID","id":"%s","amount":{"total":10000}}""";
+
+    private HttpServer server;
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/payments/", exchange -> {
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String paymentId = exchange.getRequestURI().getPath().split("/")[2];
+            byte[] body = PAYMENT_JSON.formatted(paymentId).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("JDK HttpClient 전송으로 결제 조회/취소")
+    void jdkTransport_GetAndCancel() {
+        PortOneClient client = client("jdk", Duration.ofSeconds(5));
+
+        PortOnePaymentResponse payment = client.getPayment("order_mid_1");
+        PortOnePaymentResponse cancelled = client.cancelPayment("order_mid_1", PortOneCancelRequest.fullCancel("테스트"));
+
+        assertAll(
+                () -> assertThat(payment.id()).isEqualTo("order_mid_1"),
+                () -> assertThat(payment.amount().total()).isEqualByComparingTo("10000"),
+                () -> assertThat(cancelled.status()).isEqualTo("PAID")
+        );
+    }
+
+    @Test
+    @DisplayName("호출별 타임아웃: 조회 타임아웃을 넘기면 실패하고 취소는 자체 타임아웃으로 성공")
+    void perOperationTimeout() {
+        PortOneClient client = client("jdk", Duration.ofMillis(100));
+        responseDelayMillis = 300;
+
+        assertThrows(Exception.class, () -> client.getPayment("order_mid_1"));
+        assertThat(client.cancelPayment("order_mid_1", PortOneCancelRequest.fullCancel("테스트")).id())
+                .isEqualTo("order_mid_1");
+    }
+
+    @Test
+    @DisplayName("응답을 읽고 나면 커넥션 제한 허가 반환 (최대 2개로 연속 10회 호출)")
+    void connectionLimiter_ReleasesPermits() {
+        PortOneClient client = client("jdk", Duration.ofSeconds(5));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(client.getPayment("order_mid_" + i).id()).isEqualTo("order_mid_" + i);
+        }
+    }
+
+    private PortOneClient client(String transport, Duration getPaymentTimeout) {
+        PortOneConfig config = new PortOneConfig();
+        ReflectionTestUtils.setField(config, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(config, "apiSecret", "test-secret");
+        ReflectionTestUtils.setField(config, "transport", transport);
+        ReflectionTestUtils.setField(config, "maxConnections", 2);
+        ReflectionTestUtils.setField(config, "connectionAcquireTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "http2", true);
+        PortOneResilience resilience = resilience(getPaymentTimeout);
+        return new PortOneClient(config.portOneRestClients(resilience), resilience, paymentCache(), JsonMapper.builder().build());
+    }
+
+    private PortOneResilience resilience(Duration getPaymentTimeout) {
+        PortOneResilience resilience = new PortOneResilience();
+        ReflectionTestUtils.setField(resilience, "windowSize", 50);
+        ReflectionTestUtils.setField(resilience, "minimumCalls", 20);
+        ReflectionTestUtils.setField(resilience, "failureRateThreshold", 50.0);
+        ReflectionTestUtils.setField(resilience, "openDuration", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(resilience, "halfOpenCalls", 5);
+        ReflectionTestUtils.setField(resilience, "maxConcurrent", 64);
+        ReflectionTestUtils.setField(resilience, "maxWait", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(resilience, "sampleSize", 200);
+        ReflectionTestUtils.setField(resilience, "minSamples", 50);
+        ReflectionTestUtils.setField(resilience, "timeoutMultiplier", 3.0);
+        ReflectionTestUtils.setField(resilience, "minTimeout", Duration.ofMillis(500));
+        ReflectionTestUtils.setField(resilience, "instantPaymentTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(resilience, "getPaymentTimeout", getPaymentTimeout);
+        ReflectionTestUtils.setField(resilience, "cancelPaymentTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(resilience, "refundPaymentTimeout", Duration.ofSeconds(5));
+        resilience.init();
+        return resilience;
+    }
+
+    private PortOnePaymentCache paymentCache() {
+        PortOnePaymentCache cache = new PortOnePaymentCache();
+        // 전송 계층 측정이 목적이므로 조회 결과를 보관하지 않음
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10000);
+        cache.init();
+        return cache;
+    }
+}
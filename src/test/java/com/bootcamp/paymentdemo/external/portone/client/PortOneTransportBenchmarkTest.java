@@ -0,0 +1,171 @@
+package com.bootcamp.paymentdemo.external.portone.client;
+
+import com.bootcamp.paymentdemo.config.PortOneConfig;
+import com.bootcamp.paymentdemo.external.portone.cache.PortOnePaymentCache;
+import com.bootcamp.paymentdemo.external.portone.resilience.PortOneResilience;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// PortOne 전송 계층별 결제 조회 지연 시간 비교 (./gradlew benchmark 로 실행)
+// 로컬 스텁 서버가 고정 지연 후 응답하고, 여러 스레드가 동시에 조회
+@Tag("benchmark")
+class PortOneTransportBenchmarkTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int CALLS_PER_THREAD = 200;
+    private static final int WARMUP_CALLS = 500;
+    private static final long SERVER_DELAY_MILLIS = 5;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+
+    // 스텁 서버가 본 클라이언트 포트 (서로 다른 포트 수 = 새로 연 커넥션 수)
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.createContext("/payments/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try {
+                Thread.sleep(SERVER_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"status\":\"PAID\",\"id\":\"p\",\"amount\":{\"total\":10000}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(THREAD_COUNT * 2);
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("HttpURLConnection vs JDK HttpClient 동시 조회 p50/p99")
+    void compareTransports() throws Exception {
+        print("simple", run(client("simple")));
+        long[] jdk = run(client("jdk"));
+        print("jdk", jdk);
+
+        assertThat(jdk).hasSize(THREAD_COUNT * CALLS_PER_THREAD);
+    }
+
+    private long[] run(PortOneClient client) throws Exception {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            client.getPayment("warmup");
+        }
+        clientPorts.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                String prefix = "order_mid_" + t + "_";
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[CALLS_PER_THREAD];
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        long start = System.nanoTime();
+                        client.getPayment(prefix + i);
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    return latencies;
+                }));
+            }
+
+            long[] all = new long[THREAD_COUNT * CALLS_PER_THREAD];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            Arrays.sort(all);
+            return all;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void print(String transport, long[] sorted) {
+        System.out.printf("[portone-transport] %-6s p50=%.2fms p99=%.2fms max=%.2fms connections=%d%n", transport,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1_000_000.0, clientPorts.size());
+    }
+
+    private double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1_000_000.0;
+    }
+
+    private PortOneClient client(String transport) {
+        PortOneConfig config = new PortOneConfig();
+        ReflectionTestUtils.setField(config, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(config, "apiSecret", "test-secret");
+        ReflectionTestUtils.setField(config, "transport", transport);
+        ReflectionTestUtils.setField(config, "maxConnections", THREAD_COUNT);
+        ReflectionTestUtils.setField(config, "connectionAcquireTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(config, "http2", true);
+        PortOneResilience resilience = resilience(Duration.ofSeconds(10));
+        return new PortOneClient(config.portOneRestClients(resilience), resilience, paymentCache(), JsonMapper.builder().build());
+    }
+
+    private PortOneResilience resilience(Duration getPaymentTimeout) {
+        PortOneResilience resilience = new PortOneResilience();
+        ReflectionTestUtils.setField(resilience, "windowSize", 50);
+        ReflectionTestUtils.setField(resilience, "minimumCalls", 20);
+        ReflectionTestUtils.setField(resilience, "failureRateThreshold", 50.0);
+        ReflectionTestUtils.setField(resilience, "openDuration", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(resilience, "halfOpenCalls", 5);
+        ReflectionTestUtils.setField(resilience, "maxConcurrent", 64);
+        ReflectionTestUtils.setField(resilience, "maxWait", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(resilience, "sampleSize", 200);
+        ReflectionTestUtils.setField(resilience, "minSamples", 50);
+        ReflectionTestUtils.setField(resilience, "timeoutMultiplier", 3.0);
+        ReflectionTestUtils.setField(resilience, "minTimeout", Duration.ofMillis(500));
+        ReflectionTestUtils.setField(resilience, "instantPaymentTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(resilience, "getPaymentTimeout", getPaymentTimeout);
+        ReflectionTestUtils.setField(resilience, "cancelPaymentTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(resilience, "refundPaymentTimeout", Duration.ofSeconds(5));
+        resilience.init();
+        return resilience;
+    }
+
+    private PortOnePaymentCache paymentCache() {
+        PortOnePaymentCache cache = new PortOnePaymentCache();
+        // 전송 계층 측정이 목적이므로 조회 결과를 보관하지 않음
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10000);
+        cache.init();
+        return cache;
+    }
+}
@@ -0,0 +1,104 @@
+package com.bootcamp.paymentdemo.external.portone.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PortOneCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private PortOneCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 10건 중 최소 4건 이상, 실패율 50% 이상이면 OPEN, 1초 뒤 2건 시험 호출
+        breaker = new PortOneCircuitBreaker("GET_PAYMENT", 10, 4, 50, 1000, 2, clock::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패해도 OPEN 되지 않음")
+    void staysClosedBelowMinimumCalls() {
+        fail(3);
+
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 OPEN, 대기 시간 동안 호출 거절")
+    void opensOnFailureRate() {
+        succeed(2);
+        fail(2);
+
+        assertAll(
+                () -> assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.OPEN),
+                () -> assertThat(breaker.tryAcquire()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 윈도우에서 밀려남")
+    void slidingWindow() {
+        PortOneCircuitBreaker windowed = new PortOneCircuitBreaker("GET_PAYMENT", 4, 4, 50, 1000, 2, clock::get);
+        windowed.onSuccess();
+        windowed.onFailure();
+        for (int i = 0; i < 4; i++) {
+            windowed.onSuccess();
+        }
+
+        assertAll(
+                () -> assertThat(windowed.failureRate()).isZero(),
+                () -> assertThat(windowed.getBufferedCalls()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    @DisplayName("대기 후 HALF_OPEN 시험 호출이 모두 성공하면 CLOSED")
+    void halfOpenThenClosed() {
+        fail(4);
+        clock.addAndGet(1000);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        // 시험 호출 수를 넘는 요청은 거절
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void halfOpenThenOpen() {
+        fail(4);
+        clock.addAndGet(1000);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertAll(
+                () -> assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.OPEN),
+                () -> assertThat(breaker.tryAcquire()).isFalse()
+        );
+    }
+
+    private void succeed(int count) {
+        for (int i = 0; i < count; i++) {
+            breaker.tryAcquire();
+            breaker.onSuccess();
+        }
+    }
+
+    private void fail(int count) {
+        for (int i = 0; i < count; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.bootcamp.paymentdemo.external.portone.resilience;
+
+import com.bootcamp.paymentdemo.external.portone.client.PortOneOperation;
+import com.bootcamp.paymentdemo.external.portone.exception.PortOneApiException;
+import com.bootcamp.paymentdemo.external.portone.exception.PortOneUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PortOneResilienceTest {
+
+    private PortOneResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        resilience = new PortOneResilience();
+        ReflectionTestUtils.setField(resilience, "windowSize", 10);
+        ReflectionTestUtils.setField(resilience, "minimumCalls", 4);
+        ReflectionTestUtils.setField(resilience, "failureRateThreshold", 50.0);
+        ReflectionTestUtils.setField(resilience, "openDuration", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(resilience, "halfOpenCalls", 2);
+        ReflectionTestUtils.setField(resilience, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(resilience, "maxWait", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(resilience, "sampleSize", 100);
+        ReflectionTestUtils.setField(resilience, "minSamples", 20);
+        ReflectionTestUtils.setField(resilience, "timeoutMultiplier", 3.0);
+        ReflectionTestUtils.setField(resilience, "minTimeout", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(resilience, "instantPaymentTimeout", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(resilience, "getPaymentTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(resilience, "cancelPaymentTimeout", Duration.ofSeconds(15));
+        ReflectionTestUtils.setField(resilience, "refundPaymentTimeout", Duration.ofSeconds(15));
+        resilience.init();
+    }
+
+    @Test
+    @DisplayName("PG 장애(타임아웃/5xx)가 이어지면 서킷이 열려 호출 없이 거절")
+    void breakerOpensOnPgFailures() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ResourceAccessException.class, () -> resilience.execute(PortOneOperation.GET_PAYMENT, () -> {
+                throw new ResourceAccessException("timeout");
+            }));
+        }
+
+        assertAll(
+                () -> assertThat(resilience.state(PortOneOperation.GET_PAYMENT)).isEqualTo(PortOneCircuitBreaker.State.OPEN),
+                () -> assertThrows(PortOneUnavailableException.class,
+                        () -> resilience.execute(PortOneOperation.GET_PAYMENT, () -> "called")),
+                // 다른 호출 종류는 영향 없음
+                () -> assertThat(resilience.execute(PortOneOperation.CANCEL_PAYMENT, () -> "ok")).isEqualTo("ok"),
+                () -> assertThat(resilience.getStats().get(PortOneOperation.GET_PAYMENT.ordinal()).breakerRejections()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 PG 장애로 집계하지 않음")
+    void clientErrorsDoNotOpenBreaker() {
+        for (int i = 0; i < 10; i++) {
+            assertThrows(PortOneApiException.class, () -> resilience.execute(PortOneOperation.GET_PAYMENT, () -> {
+                throw new PortOneApiException("PAYMENT_NOT_FOUND", "결제 건 없음", 404);
+            }));
+        }
+
+        assertThat(resilience.state(PortOneOperation.GET_PAYMENT)).isEqualTo(PortOneCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("벌크헤드: 동시 호출 한도를 넘으면 대기 후 거절")
+    void bulkheadRejects() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> resilience.execute(PortOneOperation.GET_PAYMENT, () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            assertThrows(PortOneUnavailableException.class,
+                    () -> resilience.execute(PortOneOperation.REFUND_PAYMENT, () -> "blocked"));
+            assertThat(resilience.getStats().get(PortOneOperation.REFUND_PAYMENT.ordinal()).bulkheadRejections()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("응답 시간 표본이 쌓이면 p99 * 배수로 타임아웃 축소 (최소값/설정값 사이)")
+    void adaptiveTimeout() {
+        assertThat(resilience.timeout(PortOneOperation.GET_PAYMENT)).isEqualTo(Duration.ofSeconds(5));
+
+        PortOneLatencyTracker tracker = new PortOneLatencyTracker(100, 20, 3.0, Duration.ofMillis(100));
+        for (int i = 0; i < 100; i++) {
+            tracker.record(Duration.ofMillis(i < 99 ? 50 : 200).toNanos());
+        }
+
+        assertAll(
+                () -> assertThat(tracker.p99()).contains(Duration.ofMillis(50)),
+                () -> assertThat(tracker.timeout(Duration.ofSeconds(5))).isEqualTo(Duration.ofMillis(150)),
+                () -> assertThat(tracker.timeout(Duration.ofMillis(120))).isEqualTo(Duration.ofMillis(120))
+        );
+    }
+
+    @Test
+    @DisplayName("응답 시간이 늘면 타임아웃된 호출이 타임아웃 값으로 기록되어 타임아웃도 따라 늘어남")
+    void adaptiveTimeoutStepsUpWithLatency() {
+        // 실패율로 서킷이 열리지 않게 하고 ms 단위로 축소
+        ReflectionTestUtils.setField(resilience, "failureRateThreshold", 101.0);
+        ReflectionTestUtils.setField(resilience, "minTimeout", Duration.ofMillis(1));
+        resilience.init();
+
+        // 빠른 구간은 sleep 없이 (sleep 정밀도에 따라 줄어든 타임아웃이 20ms를 넘지 않도록) -> 최소 타임아웃(1ms)
+        for (int i = 0; i < 100; i++) {
+            simulatedCall(Duration.ZERO);
+        }
+        Duration before = resilience.timeout(PortOneOperation.GET_PAYMENT);
+
+        // PG 응답 시간이 20ms로 늘어남: 처음엔 줄어든 타임아웃에 걸리지만 곧 다시 성공해야 함
+        Duration slow = Duration.ofMillis(20);
+        int timeouts = 0;
+        boolean recovered = false;
+        for (int i = 0; i < 200 && !recovered; i++) {
+            try {
+                simulatedCall(slow);
+                recovered = true;
+            } catch (ResourceAccessException e) {
+                timeouts++;
+            }
+        }
+
+        int observedTimeouts = timeouts;
+        boolean observedRecovery = recovered;
+        assertAll(
+                () -> assertThat(before).isLessThan(slow),
+                () -> assertThat(observedTimeouts).isPositive(),
+                () -> assertThat(observedRecovery).isTrue(),
+                () -> assertThat(resilience.timeout(PortOneOperation.GET_PAYMENT)).isGreaterThan(slow)
+        );
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출은 줄어든 타임아웃 대신 설정 타임아웃 사용")
+    void halfOpenProbeUsesConfiguredTimeout() {
+        ReflectionTestUtils.setField(resilience, "openDuration", Duration.ZERO);
+        resilience.init();
+
+        for (int i = 0; i < 100; i++) {
+            resilience.execute(PortOneOperation.GET_PAYMENT, () -> "fast");
+        }
+        assertThat(resilience.timeout(PortOneOperation.GET_PAYMENT)).isEqualTo(Duration.ofMillis(100));
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(ResourceAccessException.class, () -> resilience.execute(PortOneOperation.GET_PAYMENT, () -> {
+                throw new ResourceAccessException("timeout");
+            }));
+        }
+
+        // 대기 시간이 0이라 OPEN 직후 HALF_OPEN
+        Duration probeTimeout = resilience.execute(PortOneOperation.GET_PAYMENT,
+                () -> resilience.timeout(PortOneOperation.GET_PAYMENT));
+
+        assertAll(
+                () -> assertThat(probeTimeout).isEqualTo(Duration.ofSeconds(5)),
+                () -> assertThat(resilience.state(PortOneOperation.GET_PAYMENT)).isEqualTo(PortOneCircuitBreaker.State.HALF_OPEN)
+        );
+    }
+
+    // 요청 팩토리처럼 호출 시점 타임아웃을 읽어, PG 응답 시간이 더 길면 타임아웃까지 기다린 뒤 실패
+    private void simulatedCall(Duration latency) {
+        resilience.execute(PortOneOperation.GET_PAYMENT, () -> {
+            Duration timeout = resilience.timeout(PortOneOperation.GET_PAYMENT);
+            boolean timedOut = latency.compareTo(timeout) > 0;
+            sleep(timedOut ? timeout : latency);
+            if (timedOut) {
+                throw new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"));
+            }
+            return "ok";
+        });
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bootcamp.paymentdemo.external.portone.simulator;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 시뮬레이터 응답 지연/장애 설정
+// - 지연은 로그정규분포 (중앙값과 p99로 지정, 실제 PG 응답처럼 꼬리가 긴 분포)
+// - errorRate: 처리하지 않고 503 PG_PROVIDER 오류 응답
+// - timeoutRate: 처리는 한 뒤 timeoutDelay 동안 응답하지 않음 (클라이언트는 타임아웃, PG에는 반영된 상태)
+public record PortOneFaultProfile(
+        Duration medianLatency,
+        Duration p99Latency,
+        double errorRate,
+        double timeoutRate,
+        Duration timeoutDelay
+) {
+
+    // 표준정규분포의 99번째 백분위수
+    private static final double Z_99 = 2.3263;
+
+    public PortOneFaultProfile {
+        if (p99Latency.compareTo(medianLatency) < 0) {
+            throw new IllegalArgumentException("p99 지연은 중앙값보다 작을 수 없습니다.");
+        }
+        if (errorRate < 0 || timeoutRate < 0 || errorRate + timeoutRate > 1) {
+            throw new IllegalArgumentException("오류/타임아웃 비율은 0 ~ 1 사이여야 합니다.");
+        }
+    }
+
+    // 지연/장애 없음
+    public static PortOneFaultProfile none() {
+        return new PortOneFaultProfile(Duration.ZERO, Duration.ZERO, 0, 0, Duration.ZERO);
+    }
+
+    public static PortOneFaultProfile latency(Duration median, Duration p99) {
+        return new PortOneFaultProfile(median, p99, 0, 0, Duration.ZERO);
+    }
+
+    public PortOneFaultProfile withErrors(double errorRate) {
+        return new PortOneFaultProfile(medianLatency, p99Latency, errorRate, timeoutRate, timeoutDelay);
+    }
+
+    public PortOneFaultProfile withTimeouts(double timeoutRate, Duration timeoutDelay) {
+        return new PortOneFaultProfile(medianLatency, p99Latency, errorRate, timeoutRate, timeoutDelay);
+    }
+
+    long sampleLatencyMillis() {
+        long median = medianLatency.toMillis();
+        if (median <= 0) {
+            return 0;
+        }
+        double sigma = Math.log((double) p99Latency.toMillis() / median) / Z_99;
+        return Math.round(median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    Fault sampleFault() {
+        double r = ThreadLocalRandom.current().nextDouble();
+        if (r < errorRate) {
+            return Fault.ERROR;
+        }
+        if (r < errorRate + timeoutRate) {
+            return Fault.TIMEOUT;
+        }
+        return Fault.NONE;
+    }
+
+    enum Fault {
+        NONE, ERROR, TIMEOUT
+    }
+}
@@ -0,0 +1,351 @@
+package com.bootcamp.paymentdemo.external.portone.simulator;
+
+import com.bootcamp.paymentdemo.external.portone.dto.PortOneCancelRequest;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentRequest;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import com.bootcamp.paymentdemo.external.portone.error.PortOneError;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 부하 테스트용 로컬 PortOne 서버 (PortOneClient가 호출하는 API와 웹훅 발송만 흉내냄)
+// - GET /payments/{id}, POST /payments/{id}/instant, POST /payments/{id}/cancel
+// - pay(): 브라우저 SDK 결제 완료를 흉내내고 Transaction.Paid 웹훅을 서명해 비동기로 발송
+// - 응답 지연/오류/타임아웃은 PortOneFaultProfile 로 실행 중에도 바꿀 수 있음
+public class PortOneSimulator implements AutoCloseable {
+
+    private static final String STORE_ID = "store-simulator";
+    private static final String SECRET_PREFIX = "whsec_";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final HttpClient webhookClient;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final SecretKeySpec webhookKey;
+
+    private final Map<String, SimulatedPayment> payments = new ConcurrentHashMap<>();
+    // Idempotency-Key 별 첫 응답 (같은 키 재요청은 처리 없이 그대로 반환)
+    private final Map<String, byte[]> idempotentResponses = new ConcurrentHashMap<>();
+
+    private volatile PortOneFaultProfile faultProfile = PortOneFaultProfile.none();
+    private volatile String webhookUrl;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong injectedTimeouts = new AtomicLong();
+    private final AtomicLong webhooksSent = new AtomicLong();
+    private final AtomicLong webhooksRejected = new AtomicLong();
+
+    private PortOneSimulator(String webhookSecret) throws IOException {
+        String secret = webhookSecret.startsWith(SECRET_PREFIX)
+                ? webhookSecret.substring(SECRET_PREFIX.length())
+                : webhookSecret;
+        this.webhookKey = new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256");
+
+        // 지연/타임아웃 중인 요청이 스레드를 잡고 있으므로 요청마다 스레드 사용
+        this.executor = Executors.newCachedThreadPool();
+        this.webhookClient = HttpClient.newBuilder().executor(executor).build();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.server.createContext("/payments/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    // 빈 포트로 시작 (webhookSecret 은 애플리케이션의 portone.webhook.secret 과 같아야 함)
+    public static PortOneSimulator start(String webhookSecret) {
+        try {
+            PortOneSimulator simulator = new PortOneSimulator(webhookSecret);
+            simulator.server.start();
+            return simulator;
+        } catch (IOException e) {
+            throw new IllegalStateException("PortOne 시뮬레이터 시작 실패", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void faults(PortOneFaultProfile profile) {
+        this.faultProfile = profile;
+    }
+
+    // pay() 후 웹훅을 보낼 주소 (null 이면 보내지 않음)
+    public void webhookTarget(String url) {
+        this.webhookUrl = url;
+    }
+
+    // 브라우저 결제 완료 (PG에 결제 건 생성) 후 웹훅 비동기 발송
+    public void pay(String paymentId, BigDecimal amount) {
+        payments.put(paymentId, new SimulatedPayment(paymentId, amount, "PAID"));
+        if (webhookUrl != null) {
+            sendWebhookAsync("Transaction.Paid", paymentId);
+        }
+    }
+
+    public Optional<String> status(String paymentId) {
+        return Optional.ofNullable(payments.get(paymentId)).map(SimulatedPayment::status);
+    }
+
+    // 서명된 웹훅 동기 발송 (응답 HTTP 상태 반환)
+    public int sendWebhook(String type, String paymentId) {
+        try {
+            HttpResponse<Void> response = webhookClient.send(webhookRequest(type, paymentId), HttpResponse.BodyHandlers.discarding());
+            recordWebhook(response.statusCode());
+            return response.statusCode();
+        } catch (IOException e) {
+            throw new IllegalStateException("웹훅 발송 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("웹훅 발송 중단", e);
+        }
+    }
+
+    public PortOneSimulatorStats getStats() {
+        return new PortOneSimulatorStats(
+                requests.get(), injectedErrors.get(), injectedTimeouts.get(),
+                webhooksSent.get(), webhooksRejected.get());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            PortOneFaultProfile profile = faultProfile;
+            sleep(profile.sampleLatencyMillis());
+
+            PortOneFaultProfile.Fault fault = profile.sampleFault();
+            if (fault == PortOneFaultProfile.Fault.ERROR) {
+                injectedErrors.incrementAndGet();
+                respond(exchange, 503, error("PG_PROVIDER", "시뮬레이터 장애 주입"));
+                return;
+            }
+
+            Response response = route(exchange);
+
+            if (fault == PortOneFaultProfile.Fault.TIMEOUT) {
+                // 처리는 끝났지만 응답이 늦어 클라이언트는 결과를 모름
+                injectedTimeouts.incrementAndGet();
+                sleep(profile.timeoutDelay().toMillis());
+            }
+            respond(exchange, response.status(), response.body());
+        }
+    }
+
+    private Response route(HttpExchange exchange) throws IOException {
+        // /payments/{id} 또는 /payments/{id}/{action}
+        String[] path = exchange.getRequestURI().getPath().substring("/payments/".length()).split("/");
+        String paymentId = path[0];
+        String action = path.length > 1 ? path[1] : "";
+        String method = exchange.getRequestMethod();
+
+        if ("GET".equals(method) && action.isEmpty()) {
+            return getPayment(paymentId);
+        }
+        if ("POST".equals(method) && ("instant".equals(action) || "cancel".equals(action))) {
+            String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+            String cacheKey = idempotencyKey != null ? action + ":" + idempotencyKey : null;
+            if (cacheKey != null && idempotentResponses.containsKey(cacheKey)) {
+                return new Response(200, idempotentResponses.get(cacheKey));
+            }
+
+            byte[] requestBody = readBody(exchange.getRequestBody());
+            Response response = "instant".equals(action)
+                    ? instantPayment(paymentId, requestBody)
+                    : cancelPayment(paymentId, requestBody);
+
+            if (cacheKey != null && response.status() == 200) {
+                idempotentResponses.putIfAbsent(cacheKey, response.body());
+            }
+            return response;
+        }
+        return new Response(404, error("NOT_FOUND", "지원하지 않는 API"));
+    }
+
+    private Response getPayment(String paymentId) {
+        SimulatedPayment payment = payments.get(paymentId);
+        if (payment == null) {
+            return new Response(404, error("PAYMENT_NOT_FOUND", "결제 건이 존재하지 않습니다."));
+        }
+        return new Response(200, json(payment.toResponse()));
+    }
+
+    private Response instantPayment(String paymentId, byte[] requestBody) {
+        PortOnePaymentRequest request = jsonMapper.readValue(requestBody, PortOnePaymentRequest.class);
+        SimulatedPayment payment = payments.computeIfAbsent(paymentId,
+                id -> new SimulatedPayment(id, request.amount().total(), "PAID"));
+        return new Response(200, json(payment.toResponse()));
+    }
+
+    private Response cancelPayment(String paymentId, byte[] requestBody) {
+        PortOneCancelRequest request = jsonMapper.readValue(requestBody, PortOneCancelRequest.class);
+        SimulatedPayment payment = payments.get(paymentId);
+        if (payment == null) {
+            return new Response(404, error("PAYMENT_NOT_FOUND", "결제 건이 존재하지 않습니다."));
+        }
+        if (!payment.cancel()) {
+            return new Response(409, error("PAYMENT_ALREADY_CANCELLED", "이미 취소된 결제입니다."));
+        }
+
+        Map<String, Object> cancellation = new LinkedHashMap<>();
+        cancellation.put("status", "SUCCEEDED");
+        cancellation.put("id", "cancel-" + UUID.randomUUID());
+        cancellation.put("reason", request.reason());
+        cancellation.put("totalAmount", payment.amount().longValue());
+        cancellation.put("requestedAt", Instant.now().toString());
+        return new Response(200, json(Map.of("cancellation", cancellation)));
+    }
+
+    private void sendWebhookAsync(String type, String paymentId) {
+        webhookClient.sendAsync(webhookRequest(type, paymentId), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> recordWebhook(response != null ? response.statusCode() : -1));
+    }
+
+    private HttpRequest webhookRequest(String type, String paymentId) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("transactionId", "tx-" + paymentId);
+        data.put("paymentId", paymentId);
+        data.put("storeId", STORE_ID);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", type);
+        payload.put("timestamp", Instant.now().toString());
+        payload.put("data", data);
+
+        byte[] body = json(payload);
+        String webhookId = "msg_" + UUID.randomUUID();
+        String timestamp = Long.toString(Instant.now().getEpochSecond());
+
+        return HttpRequest.newBuilder(URI.create(webhookUrl))
+                .header("Content-Type", "application/json")
+                .header("webhook-id", webhookId)
+                .header("webhook-timestamp", timestamp)
+                .header("webhook-signature", "v1," + sign(webhookId, timestamp, body))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    // Standard Webhooks 서명: HMAC-SHA256("{id}.{timestamp}.{body}")
+    private String sign(String webhookId, String timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(webhookKey);
+            mac.update((webhookId + "." + timestamp + ".").getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("웹훅 서명 실패", e);
+        }
+    }
+
+    private void recordWebhook(int status) {
+        if (status >= 200 && status < 300) {
+            webhooksSent.incrementAndGet();
+        } else {
+            webhooksRejected.incrementAndGet();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private byte[] error(String type, String message) {
+        return json(new PortOneError(type, message));
+    }
+
+    private byte[] json(Object value) {
+        return jsonMapper.writeValueAsBytes(value);
+    }
+
+    private static byte[] readBody(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Response(int status, byte[] body) {
+    }
+
+    // PG 쪽 결제 건 (취소는 한 번만 성공)
+    private static final class SimulatedPayment {
+
+        private final String id;
+        private final BigDecimal amount;
+        private final String paidAt = Instant.now().toString();
+        private volatile String status;
+
+        SimulatedPayment(String id, BigDecimal amount, String status) {
+            this.id = id;
+            this.amount = amount;
+            this.status = status;
+        }
+
+        String status() {
+            return status;
+        }
+
+        BigDecimal amount() {
+            return amount;
+        }
+
+        synchronized boolean cancel() {
+            if ("CANCELLED".equals(status)) {
+                return false;
+            }
+            status = "CANCELLED";
+            return true;
+        }
+
+        PortOnePaymentResponse toResponse() {
+            String current = status;
+            BigDecimal cancelled = "CANCELLED".equals(current) ? amount : BigDecimal.ZERO;
+            return new PortOnePaymentResponse(
+                    current, id, "tx-" + id, null, STORE_ID, null, null, null,
+                    paidAt, Instant.now().toString(), null, null,
+                    new PortOnePaymentResponse.Amount(amount, null, null, null, null, amount, cancelled, null),
+                    "KRW", null, paidAt, null);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.bootcamp.paymentdemo.external.portone.simulator;
+
+// 시뮬레이터 누적 지표
+public record PortOneSimulatorStats(
+        long requests,
+        long injectedErrors,
+        long injectedTimeouts,
+        long webhooksSent,
+        long webhooksRejected
+) {
+}
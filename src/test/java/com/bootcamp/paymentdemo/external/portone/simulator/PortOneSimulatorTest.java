@@ -0,0 +1,157 @@
+package com.bootcamp.paymentdemo.external.portone.simulator;
+
+import com.bootcamp.paymentdemo.external.portone.client.PortOneClient;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOneCancelRequest;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOneRefundRequest;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOneRefundResponse;
+import com.bootcamp.paymentdemo.external.portone.exception.PortOneApiException;
+import com.bootcamp.paymentdemo.external.portone.exception.PortOneException;
+import com.bootcamp.paymentdemo.webhook.repository.WebhookRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+// 실제 PortOneClient / 웹훅 컨트롤러를 시뮬레이터에 연결해 계약(경로, 응답 형식, 서명) 검증
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PortOneSimulatorTest {
+
+    private static final String WEBHOOK_SECRET = "whsec_IEyjsd++0+1b/+QrYeDaa+gAfU3htpucGJAqa4hHoT0=";
+
+    private static final PortOneSimulator simulator = PortOneSimulator.start(WEBHOOK_SECRET);
+
+    @DynamicPropertySource
+    static void portOneProperties(DynamicPropertyRegistry registry) {
+        registry.add("portone.api.base-url", simulator::baseUrl);
+        registry.add("portone.webhook.secret", () -> WEBHOOK_SECRET);
+        registry.add("portone.http.timeout.get-payment", () -> "PT1S");
+    }
+
+    @Autowired
+    private PortOneClient portOneClient;
+
+    @Autowired
+    private WebhookRepository webhookRepository;
+
+    @LocalServerPort
+    private int port;
+
+    @AfterEach
+    void tearDown() {
+        simulator.faults(PortOneFaultProfile.none());
+    }
+
+    @AfterAll
+    static void stop() {
+        simulator.close();
+    }
+
+    @Test
+    @DisplayName("결제 조회: 결제된 건은 PAID와 금액 반환, 없는 건은 PAYMENT_NOT_FOUND")
+    void getPayment() {
+        simulator.pay("sim_get_1", new BigDecimal("10000"));
+
+        PortOnePaymentResponse response = portOneClient.getPayment("sim_get_1");
+
+        assertAll(
+                () -> assertThat(response.isPaid()).isTrue(),
+                () -> assertThat(response.amount().total()).isEqualByComparingTo("10000"),
+                () -> assertThatThrownBy(() -> portOneClient.getPayment("sim_get_missing"))
+                        .isInstanceOf(PortOneApiException.class)
+                        .extracting("type").isEqualTo("PAYMENT_NOT_FOUND")
+        );
+    }
+
+    @Test
+    @DisplayName("환불: 한 번만 성공, 두 번째는 PAYMENT_ALREADY_CANCELLED (409)")
+    void refundPayment() {
+        simulator.pay("sim_refund_1", new BigDecimal("5000"));
+
+        PortOneRefundResponse response = portOneClient.refundPayment("sim_refund_1", new PortOneRefundRequest("단순 변심"));
+
+        assertAll(
+                () -> assertThat(response.getCancellation().getStatus()).isEqualTo("SUCCEEDED"),
+                () -> assertThat(response.getCancellation().getTotalAmount()).isEqualTo(5000L),
+                () -> assertThat(simulator.status("sim_refund_1")).contains("CANCELLED"),
+                () -> assertThatThrownBy(() -> portOneClient.refundPayment("sim_refund_1", new PortOneRefundRequest("재요청")))
+                        .isInstanceOf(PortOneException.class)
+                        .extracting("status").isEqualTo(HttpStatus.CONFLICT)
+        );
+    }
+
+    @Test
+    @DisplayName("취소: 같은 Idempotency-Key 재요청은 첫 응답을 그대로 반환")
+    void cancelPayment_Idempotent() {
+        simulator.pay("sim_cancel_1", new BigDecimal("3000"));
+        PortOneCancelRequest request = PortOneCancelRequest.fullCancel("금액 위변조 감지");
+
+        portOneClient.cancelPayment("sim_cancel_1", request, "cmp-pg_cancel-sim_cancel_1");
+        portOneClient.cancelPayment("sim_cancel_1", request, "cmp-pg_cancel-sim_cancel_1");
+
+        assertAll(
+                () -> assertThat(simulator.status("sim_cancel_1")).contains("CANCELLED"),
+                () -> assertThatThrownBy(() -> portOneClient.cancelPayment("sim_cancel_1", request, "other-key"))
+                        .isInstanceOf(PortOneApiException.class)
+                        .extracting("type").isEqualTo("PAYMENT_ALREADY_CANCELLED")
+        );
+    }
+
+    @Test
+    @DisplayName("장애 주입: 오류 응답은 PG_PROVIDER, 응답 지연은 클라이언트 타임아웃")
+    void faults() {
+        simulator.pay("sim_fault_1", new BigDecimal("1000"));
+        simulator.pay("sim_fault_2", new BigDecimal("1000"));
+        PortOneSimulatorStats before = simulator.getStats();
+
+        simulator.faults(PortOneFaultProfile.none().withErrors(1.0));
+        assertThatThrownBy(() -> portOneClient.getPayment("sim_fault_1"))
+                .isInstanceOf(PortOneApiException.class)
+                .extracting("type").isEqualTo("PG_PROVIDER");
+
+        simulator.faults(PortOneFaultProfile.none().withTimeouts(1.0, Duration.ofSeconds(2)));
+        assertThatThrownBy(() -> portOneClient.getPayment("sim_fault_2"))
+                .isInstanceOf(ResourceAccessException.class);
+
+        PortOneSimulatorStats after = simulator.getStats();
+        assertAll(
+                () -> assertThat(after.injectedErrors() - before.injectedErrors()).isEqualTo(1),
+                () -> assertThat(after.injectedTimeouts() - before.injectedTimeouts()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅: 같은 secret으로 서명하면 수신, 다른 secret이면 401")
+    void webhook() {
+        String webhookUrl = "http://127.0.0.1:" + port + "/portone-webhook";
+        simulator.webhookTarget(webhookUrl);
+
+        try (PortOneSimulator forged = PortOneSimulator.start("whsec_" + Base64.getEncoder().encodeToString(new byte[32]))) {
+            forged.webhookTarget(webhookUrl);
+
+            assertAll(
+                    () -> assertThat(simulator.sendWebhook("Transaction.Paid", "sim_webhook_1")).isEqualTo(200),
+                    () -> assertThat(webhookRepository.findAll())
+                            .anyMatch(event -> "sim_webhook_1".equals(event.getPaymentId())),
+                    () -> assertThat(forged.sendWebhook("Transaction.Paid", "sim_webhook_2")).isEqualTo(401)
+            );
+        } finally {
+            simulator.webhookTarget(null);
+        }
+    }
+}
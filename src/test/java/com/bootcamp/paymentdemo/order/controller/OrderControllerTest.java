@@ -227,11 +227,38 @@ class OrderControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
+                .andExpect(header().string("Deprecation", "true"))
                 .andExpect(jsonPath("$.message").value("주문 목록 조회 성공"))
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data", hasSize(greaterThanOrEqualTo(1))));
     }
 
+    @Test
+    @DisplayName("GET /api/orders?size= - 주문 목록 커서 페이지 조회 성공")
+    @WithMockUser(username = "ordercontroller@example.com")
+    void getOrders_CursorPage_Success() throws Exception {
+        // given - 주문 2건 생성
+        for (int i = 0; i < 2; i++) {
+            OrderCreateRequest request = new OrderCreateRequest(
+                    testUser.getUserId(),
+                    BigDecimal.ZERO,
+                    List.of(new OrderProductRequest(testProduct1.getId(), 1))
+            );
+            orderService.createOrder(request, testUser.getEmail());
+        }
+
+        // when & then
+        mockMvc.perform(get("/api/orders")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isNotEmpty());
+    }
+
     @Test
     @DisplayName("GET /api/orders/{orderId} - 주문 상세 조회 성공")
     @WithMockUser(username = "ordercontroller@example.com")
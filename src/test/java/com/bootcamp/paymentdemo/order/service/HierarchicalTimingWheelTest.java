@@ -0,0 +1,67 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("타이밍 휠 - 만료 시각이 지난 항목만 반환")
+    void advance_ReturnsOnlyExpired() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        wheel.add("a", START + 3_000);
+        wheel.add("b", START + 5_000);
+
+        // when & then
+        assertThat(wheel.advance(START + 2_999)).isEmpty();
+        assertThat(wheel.advance(START + 3_000)).containsExactly("a");
+        assertThat(wheel.advance(START + 10_000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("타이밍 휠 - 상위 단계 항목도 마감 시각 틱 안에 반환")
+    void advance_CascadesFromUpperLevels() {
+        // given - 1단계(60초), 2단계(1시간)를 넘어 3단계까지 들어가는 항목
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        long[] delays = {1_500, 59_000, 61_000, 3_599_000, 3_700_000, 7_200_000};
+        for (long delay : delays) {
+            wheel.add(delay, START + delay);
+        }
+
+        // when - 1초씩 시계를 진행하며 반환 시각 기록
+        List<long[]> fired = new ArrayList<>();
+        for (long now = START; now <= START + 7_300_000; now += 1000) {
+            for (Long delay : wheel.advance(now)) {
+                fired.add(new long[]{delay, now});
+            }
+        }
+
+        // then - 모든 항목이 마감 이후 한 틱 안에 반환
+        assertThat(fired).hasSize(delays.length);
+        for (long[] entry : fired) {
+            long due = START + entry[0];
+            assertThat(entry[1]).isGreaterThanOrEqualTo(due - 1000).isLessThan(due + 1000);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("타이밍 휠 - 이미 지난 마감은 등록하지 않음")
+    void add_AlreadyExpired() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+
+        // when & then
+        assertThat(wheel.add("late", START - 1)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,165 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.entity.Order;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import com.bootcamp.paymentdemo.point.consts.PointType;
+import com.bootcamp.paymentdemo.point.repository.PointRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.entity.UserGradeHistory;
+import com.bootcamp.paymentdemo.user.entity.UserPaidAmount;
+import com.bootcamp.paymentdemo.user.entity.UserPointBalance;
+import com.bootcamp.paymentdemo.user.repository.UserGradeHistoryRepository;
+import com.bootcamp.paymentdemo.user.repository.UserPaidAmountRepository;
+import com.bootcamp.paymentdemo.user.repository.UserPointBalanceRepository;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션 없이 실행 (수동 확정과 자동 확정이 각자 트랜잭션으로 커밋되어야 중복 확정 검증 가능)
+@SpringBootTest
+class OrderConfirmConcurrencyTest {
+
+    private static final int ORDER_COUNT = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPaidAmountRepository userPaidAmountRepository;
+
+    @Autowired
+    private UserGradeHistoryRepository userGradeHistoryRepository;
+
+    @Autowired
+    private UserPointBalanceRepository userPointBalanceRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    private User savedUser;
+    private final List<Order> orders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Membership normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL)
+                .orElseThrow(() -> new IllegalStateException("NORMAL 등급이 없습니다"));
+
+        savedUser = userRepository.save(
+                User.register("confirm-" + suffix + "@example.com", "pw", "테스터", "010-1234-5678", normalGrade));
+        userPaidAmountRepository.save(UserPaidAmount.createDefault(savedUser));
+        userGradeHistoryRepository.save(UserGradeHistory.createInitial(savedUser, normalGrade));
+        userPointBalanceRepository.save(UserPointBalance.createDefault(savedUser));
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orders.add(orderRepository.save(Order.builder()
+                    .orderNumber("ORD-CONFIRM-" + suffix + "-" + i)
+                    .user(savedUser)
+                    .totalAmount(new BigDecimal("10000"))
+                    .finalAmount(new BigDecimal("10000"))
+                    .usedPoints(BigDecimal.ZERO)
+                    .orderStatus(OrderStatus.PENDING_CONFIRMATION)
+                    .currency("KRW")
+                    .earnedPoints(new BigDecimal("100"))
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointRepository.deleteAll(pointRepository.findAll().stream()
+                .filter(p -> p.getUser().getUserId().equals(savedUser.getUserId()))
+                .toList());
+        orderRepository.deleteAll(orders);
+        userGradeHistoryRepository.deleteAll(
+                userGradeHistoryRepository.findByUserUserIdOrderByUpdatedAtAsc(savedUser.getUserId()));
+        userPaidAmountRepository.deleteById(savedUser.getUserId());
+        userPointBalanceRepository.deleteById(savedUser.getUserId());
+        userRepository.deleteById(savedUser.getUserId());
+    }
+
+    @Test
+    @DisplayName("수동 확정과 자동 확정이 동시에 들어와도 주문당 한 번만 확정/적립")
+    void manualAndAutoConfirm_ConfirmOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger confirmed = new AtomicInteger();
+
+        // 주문마다 수동 확정과 자동 확정을 동시에 출발시킴 (같은 사용자의 다른 주문끼리는 경합시키지 않음)
+        try {
+            for (Order order : orders) {
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> manual = executor.submit(() -> {
+                    await(start);
+                    try {
+                        orderService.confirmOrder(order.getId());
+                        confirmed.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // 자동 확정이 먼저 확정한 주문은 잠금 획득 후 상태 검증에서 실패
+                    }
+                });
+                Future<?> auto = executor.submit(() -> {
+                    await(start);
+                    if (orderService.autoConfirmOrder(order.getId())) {
+                        confirmed.incrementAndGet();
+                    }
+                });
+                start.countDown();
+                manual.get(10, TimeUnit.SECONDS);
+                auto.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(confirmed.get()).isEqualTo(ORDER_COUNT);
+        for (Order order : orders) {
+            assertThat(orderRepository.findById(order.getId()).orElseThrow().getOrderStatus())
+                    .isEqualTo(OrderStatus.CONFIRMED);
+        }
+        long earnedCount = pointRepository.findAll().stream()
+                .filter(p -> p.getUser().getUserId().equals(savedUser.getUserId()))
+                .filter(p -> p.getType() == PointType.EARNED)
+                .count();
+        assertThat(earnedCount).isEqualTo(ORDER_COUNT);
+        assertThat(userPaidAmountRepository.findByUserId(savedUser.getUserId()).orElseThrow().getTotalPaidAmount())
+                .isEqualByComparingTo(new BigDecimal("10000").multiply(BigDecimal.valueOf(ORDER_COUNT)));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
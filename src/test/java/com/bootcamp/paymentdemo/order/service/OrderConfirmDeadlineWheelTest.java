@@ -0,0 +1,106 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.dto.OrderConfirmTarget;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class OrderConfirmDeadlineWheelTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderConfirmDeadlineWheel orderConfirmDeadlineWheel;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderConfirmDeadlineWheel, "confirmDelay", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("확정 마감 등록 - 마감 전에는 꺼내지 않음")
+    void register_NotDueYet() {
+        // when
+        orderConfirmDeadlineWheel.register(1L, LocalDateTime.now());
+
+        // then
+        assertThat(orderConfirmDeadlineWheel.pollDue()).isEmpty();
+        assertThat(orderConfirmDeadlineWheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확정 마감 등록 - 이미 마감이 지난 주문은 바로 꺼냄")
+    void register_AlreadyDue() {
+        // when
+        orderConfirmDeadlineWheel.register(1L, LocalDateTime.now().minusMinutes(10));
+
+        // then
+        assertThat(orderConfirmDeadlineWheel.pollDue()).extracting(OrderConfirmTarget::id).containsExactly(1L);
+        assertThat(orderConfirmDeadlineWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 확정 대기 주문으로 재구성")
+    void rebuild_FromPendingOrders() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(orderRepository.findTargetsByStatus(eq(OrderStatus.PENDING_CONFIRMATION), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(
+                        new OrderConfirmTarget(1L, now.minusMinutes(10)),
+                        new OrderConfirmTarget(2L, now)));
+        given(orderRepository.findTargetsByStatus(eq(OrderStatus.PENDING_CONFIRMATION), eq(2L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        orderConfirmDeadlineWheel.rebuild();
+
+        // then
+        assertThat(orderConfirmDeadlineWheel.size()).isEqualTo(2);
+        assertThat(orderConfirmDeadlineWheel.pollDue()).extracting(OrderConfirmTarget::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 등록된 주문은 새 휠로 옮겨져 유실되지 않음")
+    void rebuild_KeepsRegistrationsDuringRebuild() {
+        // given: 재구성 조회 도중 결제 완료된 주문 등록
+        LocalDateTime now = LocalDateTime.now();
+        given(orderRepository.findTargetsByStatus(eq(OrderStatus.PENDING_CONFIRMATION), eq(0L), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    orderConfirmDeadlineWheel.register(3L, now);
+                    orderConfirmDeadlineWheel.register(4L, now.minusMinutes(10));
+                    return List.of(new OrderConfirmTarget(1L, now));
+                });
+        given(orderRepository.findTargetsByStatus(eq(OrderStatus.PENDING_CONFIRMATION), eq(1L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        orderConfirmDeadlineWheel.rebuild();
+
+        // then
+        assertThat(orderConfirmDeadlineWheel.pollDue()).extracting(OrderConfirmTarget::id).containsExactly(4L);
+        assertThat(orderConfirmDeadlineWheel.size()).isEqualTo(2);
+
+        // 재구성이 끝난 뒤 등록은 그대로 새 휠에 들어감
+        orderConfirmDeadlineWheel.register(5L, now);
+        assertThat(orderConfirmDeadlineWheel.size()).isEqualTo(3);
+    }
+}
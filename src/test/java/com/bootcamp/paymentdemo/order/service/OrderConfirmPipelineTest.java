@@ -0,0 +1,170 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.dto.OrderConfirmRunResult;
+import com.bootcamp.paymentdemo.order.dto.OrderConfirmTarget;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class OrderConfirmPipelineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @InjectMocks
+    private OrderConfirmPipeline orderConfirmPipeline;
+
+    private final LocalDateTime threshold = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderConfirmPipeline, "workers", 4);
+        ReflectionTestUtils.setField(orderConfirmPipeline, "chunkSize", 3);
+        ReflectionTestUtils.setField(orderConfirmPipeline, "maxInFlight", 2);
+        orderConfirmPipeline.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderConfirmPipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("자동 확정 - id 청크를 이어서 조회하고 건너뜀/실패 건은 따로 집계")
+    void run_ChunksAndCountsFailures() {
+        // given - 5건을 3건, 2건 청크로 반환
+        givenChunk(0L, targets(1, 3));
+        givenChunk(3L, targets(4, 5));
+        givenChunk(5L, List.of());
+        willAnswer(invocation -> {
+            Long orderId = invocation.getArgument(0);
+            if (orderId.equals(2L)) {
+                throw new IllegalStateException("포인트 적립 실패");
+            }
+            return !orderId.equals(3L);
+        }).given(orderService).autoConfirmOrder(anyLong());
+
+        // when
+        OrderConfirmRunResult result = orderConfirmPipeline.run(threshold);
+
+        // then
+        assertThat(result.confirmedCount()).isEqualTo(3);
+        assertThat(result.skippedCount()).isEqualTo(1);
+        assertThat(result.failedCount()).isEqualTo(1);
+        assertThat(result.lag()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(orderConfirmPipeline.getLastResult()).isEqualTo(result);
+        verify(orderService, times(5)).autoConfirmOrder(anyLong());
+    }
+
+    @Test
+    @DisplayName("자동 확정 - 동시 처리 건수는 maxInFlight를 넘지 않음")
+    void run_BackPressure() {
+        // given
+        givenChunk(0L, targets(1, 3));
+        givenChunk(3L, targets(4, 6));
+        givenChunk(6L, List.of());
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return true;
+        }).given(orderService).autoConfirmOrder(anyLong());
+
+        // when
+        OrderConfirmRunResult result = orderConfirmPipeline.run(threshold);
+
+        // then
+        assertThat(result.confirmedCount()).isEqualTo(6);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마감 도래 주문 확정 - 전달받은 대상만 확정")
+    void confirmAll_Targets() {
+        // given
+        given(orderService.autoConfirmOrder(anyLong())).willReturn(true);
+
+        // when
+        OrderConfirmRunResult result = orderConfirmPipeline.confirmAll(targets(1, 3), threshold);
+
+        // then
+        assertThat(result.confirmedCount()).isEqualTo(3);
+        verify(orderService, times(3)).autoConfirmOrder(anyLong());
+    }
+
+    @Test
+    @DisplayName("마감 도래 주문 확정 - 워커가 종료되어 제출이 거절되면 허가를 돌려주고 바로 종료")
+    void confirmAll_Rejected() {
+        // given
+        orderConfirmPipeline.shutdown();
+
+        // when
+        OrderConfirmRunResult result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> orderConfirmPipeline.confirmAll(targets(1, 3), threshold));
+
+        // then
+        assertThat(result.confirmedCount()).isZero();
+        assertThat(result.failedCount()).isEqualTo(1);
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("자동 확정 - 대상이 없으면 지연 0")
+    void run_NoTargets() {
+        // given
+        givenChunk(0L, List.of());
+
+        // when
+        OrderConfirmRunResult result = orderConfirmPipeline.run(threshold);
+
+        // then
+        assertThat(result.totalCount()).isZero();
+        assertThat(result.lag()).isEqualTo(Duration.ZERO);
+    }
+
+    private void givenChunk(Long lastId, List<OrderConfirmTarget> chunk) {
+        given(orderRepository.findConfirmTargets(
+                eq(OrderStatus.PENDING_CONFIRMATION), eq(threshold), eq(lastId), any(Pageable.class)))
+                .willReturn(chunk);
+    }
+
+    // 가장 오래된 주문은 기준 시각보다 5분 전에 생성된 것으로 둠
+    private List<OrderConfirmTarget> targets(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new OrderConfirmTarget(id, threshold.minusMinutes(5).plusSeconds(id - 1)))
+                .toList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderNumberAllocatorTest {
+
+    @Mock
+    private OrderNumberSegmentService orderNumberSegmentService;
+
+    @InjectMocks
+    private OrderNumberAllocator orderNumberAllocator;
+
+    private final String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderNumberAllocator, "blockSize", 10);
+    }
+
+    @Test
+    @DisplayName("주문번호 발급 - 기존 형식 유지")
+    void nextOrderNumber_Format() {
+        // given
+        given(orderNumberSegmentService.reserveBlock(any(LocalDate.class), anyInt())).willReturn(1L);
+
+        // when
+        String orderNumber = orderNumberAllocator.nextOrderNumber();
+
+        // then
+        assertThat(orderNumber).isEqualTo("ORD-" + today + "-0001");
+    }
+
+    @Test
+    @DisplayName("주문번호 발급 - 블록 안에서는 추가 예약 없음")
+    void nextOrderNumber_ReserveOncePerBlock() {
+        // given
+        given(orderNumberSegmentService.reserveBlock(any(LocalDate.class), anyInt())).willReturn(1L, 11L);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            orderNumberAllocator.nextOrderNumber();
+        }
+        String eleventh = orderNumberAllocator.nextOrderNumber();
+
+        // then
+        assertThat(eleventh).isEqualTo("ORD-" + today + "-0011");
+        verify(orderNumberSegmentService, times(2)).reserveBlock(any(LocalDate.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("주문번호 발급 - 동시 요청에도 중복 없음")
+    void nextOrderNumber_Concurrent_NoDuplicates() throws InterruptedException {
+        // given (DB 세그먼트 행 흉내)
+        AtomicLong segment = new AtomicLong(1);
+        given(orderNumberSegmentService.reserveBlock(any(LocalDate.class), anyInt()))
+                .willAnswer(invocation -> segment.getAndAdd(invocation.getArgument(1, Integer.class)));
+
+        int threadCount = 32;
+        int perThread = 100;
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < perThread; j++) {
+                        issued.add(orderNumberAllocator.nextOrderNumber());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(issued).hasSize(threadCount * perThread);
+    }
+}
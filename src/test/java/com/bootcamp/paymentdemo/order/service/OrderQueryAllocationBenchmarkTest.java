@@ -0,0 +1,121 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.entity.Order;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
+import com.bootcamp.paymentdemo.orderProduct.repository.OrderProductRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// 주문 상세/목록 조회 1회당 할당 바이트 측정 (./gradlew benchmark 로 실행)
+@Tag("benchmark")
+@SpringBootTest
+class OrderQueryAllocationBenchmarkTest {
+
+    private static final int ORDER_COUNT = 50;
+    private static final int LINES_PER_ORDER = 3;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    private User user;
+    private List<Order> orders;
+    private List<OrderProduct> orderProducts;
+
+    @BeforeEach
+    void setUp() {
+        Membership normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL)
+                .orElseThrow(() -> new IllegalStateException("NORMAL 등급이 없습니다"));
+        user = userRepository.save(User.register(
+                "order-query-bench@example.com", "encodedPassword", "조회벤치마크유저", "010-0000-0000", normalGrade));
+
+        orders = orderRepository.saveAll(IntStream.range(0, ORDER_COUNT)
+                .mapToObj(i -> Order.builder()
+                        .user(user)
+                        .orderNumber("QBENCH-" + i)
+                        .totalAmount(new BigDecimal("3000"))
+                        .usedPoints(BigDecimal.ZERO)
+                        .finalAmount(new BigDecimal("3000"))
+                        .earnedPoints(new BigDecimal("30"))
+                        .currency("KRW")
+                        .orderStatus(OrderStatus.PENDING_CONFIRMATION)
+                        .build())
+                .toList());
+        orderProducts = orderProductRepository.saveAll(orders.stream()
+                .flatMap(order -> IntStream.range(0, LINES_PER_ORDER)
+                        .mapToObj(line -> OrderProduct.builder()
+                                .order(order)
+                                .productId((long) line + 1)
+                                .productName("벤치마크 상품 " + line)
+                                .orderPrice(new BigDecimal("1000"))
+                                .count(1)
+                                .build()))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAll(orderProducts);
+        orderRepository.deleteAll(orders);
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("주문 상세/목록 조회 할당량")
+    void allocationPerRequest() {
+        Long orderId = orders.get(0).getId();
+        String email = user.getEmail();
+
+        report("detail", measure(() -> orderService.findOrderDetail(orderId)));
+        report("page(20)", measure(() -> orderService.findOrders(email, null, 20)));
+    }
+
+    private long measure(Runnable request) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.run();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    private void report(String name, long bytesPerRequest) {
+        System.out.printf("[benchmark] %-10s allocated=%d bytes/request%n", name, bytesPerRequest);
+    }
+}
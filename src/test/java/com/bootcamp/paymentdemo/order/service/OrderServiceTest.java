@@ -1,5 +1,6 @@
 package com.bootcamp.paymentdemo.order.service;
 
+import com.bootcamp.paymentdemo.common.dto.CursorResponse;
 import com.bootcamp.paymentdemo.membership.entity.Membership;
 import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
 import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
@@ -31,17 +32,23 @@ import com.bootcamp.paymentdemo.user.exception.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.bootcamp.paymentdemo.order.service.OrderServiceTest$SelectCounter")
 @Transactional
 class OrderServiceTest {
 
@@ -75,6 +82,9 @@ class OrderServiceTest {
     @Autowired
     private UserPointBalanceRepository userPointBalanceRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private Product testProduct1;
     private Product testProduct2;
@@ -227,6 +237,51 @@ class OrderServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("주문 생성 실패 - 판매 중이 아닌 상품")
+    void createOrder_Fail_NotForSale() {
+        // given
+        Product soldOut = productRepository.save(new Product(
+                "품절 상품", new BigDecimal("1000"), 10, "테스트 카테고리", ProductStatus.SOLD_OUT));
+        OrderCreateRequest request = new OrderCreateRequest(
+                testUser.getUserId(),
+                BigDecimal.ZERO,
+                List.of(new OrderProductRequest(soldOut.getId(), 1))
+        );
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> {
+            orderService.createOrder(request, testUser.getEmail());
+        });
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 장바구니 크기와 무관하게 SELECT 수 고정")
+    void createOrder_SelectCount_IndependentOfCartSize() {
+        // given
+        List<OrderProductRequest> largeCart = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Product product = productRepository.save(new Product(
+                    "장바구니 상품 " + i, new BigDecimal("1000"), 10, "테스트 카테고리", ProductStatus.FOR_SALE));
+            largeCart.add(new OrderProductRequest(product.getId(), 1));
+        }
+        List<OrderProductRequest> singleCart = List.of(new OrderProductRequest(testProduct1.getId(), 1));
+
+        // 주문번호 블록 예약 등 최초 1회 비용 제외
+        orderService.createOrder(new OrderCreateRequest(testUser.getUserId(), BigDecimal.ZERO, singleCart), testUser.getEmail());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        long singleSelects = countSelects(() ->
+                orderService.createOrder(new OrderCreateRequest(testUser.getUserId(), BigDecimal.ZERO, singleCart), testUser.getEmail()));
+        long largeSelects = countSelects(() ->
+                orderService.createOrder(new OrderCreateRequest(testUser.getUserId(), BigDecimal.ZERO, largeCart), testUser.getEmail()));
+
+        // then
+        assertThat(largeSelects).isEqualTo(singleSelects);
+    }
+
     @Test
     @DisplayName("주문 생성 실패 - 존재하지 않는 사용자")
     void createOrder_Fail_UserNotFound() {
@@ -287,6 +342,120 @@ class OrderServiceTest {
         assertThat(orders).hasSizeGreaterThanOrEqualTo(1);
     }
 
+    @Test
+    @DisplayName("주문 목록 조회 (페이지 파라미터 없음) - 최신 주문 최대 페이지 크기만큼만 반환")
+    void findAllOrders_CappedToLatestOrders() {
+        // given - 최대 페이지 크기 2, 주문 3건
+        OrderService target = AopTestUtils.getTargetObject(orderService);
+        ReflectionTestUtils.setField(target, "maxPageSize", 2);
+        List<Long> createdIds = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                OrderCreateRequest request = new OrderCreateRequest(
+                        testUser.getUserId(),
+                        BigDecimal.ZERO,
+                        List.of(new OrderProductRequest(testProduct1.getId(), 1))
+                );
+                createdIds.add(orderService.createOrder(request, testUser.getEmail()).getId());
+            }
+
+            // when
+            List<OrderGetDetailResponse> orders = orderService.findAllOrders(testUser.getEmail());
+
+            // then
+            assertThat(orders).extracting(OrderGetDetailResponse::getOrderId)
+                    .containsExactly(createdIds.get(2), createdIds.get(1));
+        } finally {
+            ReflectionTestUtils.setField(target, "maxPageSize", 100);
+        }
+    }
+
+    @Test
+    @DisplayName("주문 목록 커서 페이지 조회 - 중복/누락 없이 최신순")
+    void findOrders_CursorPaging() {
+        // given - 주문 5건 생성
+        for (int i = 0; i < 5; i++) {
+            OrderCreateRequest request = new OrderCreateRequest(
+                    testUser.getUserId(),
+                    BigDecimal.ZERO,
+                    List.of(new OrderProductRequest(testProduct1.getId(), 1))
+            );
+            orderService.createOrder(request, testUser.getEmail());
+        }
+        List<Long> allIds = orderService.findAllOrders(testUser.getEmail()).stream()
+                .map(OrderGetDetailResponse::getOrderId)
+                .toList();
+
+        // when - 2건씩 끝까지 조회
+        List<OrderGetDetailResponse> fetched = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<OrderGetDetailResponse> page = orderService.findOrders(testUser.getEmail(), cursor, 2);
+            fetched.addAll(page.getContent());
+            pageSizes.add(page.getContent().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(pageSizes).allMatch(pageSize -> pageSize <= 2);
+        assertThat(pageSizes).hasSize((allIds.size() + 1) / 2);
+        assertThat(fetched).extracting(OrderGetDetailResponse::getOrderId)
+                .containsExactlyInAnyOrderElementsOf(allIds);
+        for (int i = 1; i < fetched.size(); i++) {
+            OrderGetDetailResponse prev = fetched.get(i - 1);
+            OrderGetDetailResponse curr = fetched.get(i);
+            assertThat(!curr.getCreatedAt().isAfter(prev.getCreatedAt())).isTrue();
+            if (curr.getCreatedAt().isEqual(prev.getCreatedAt())) {
+                assertThat(curr.getOrderId()).isLessThan(prev.getOrderId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("주문 목록 커서 페이지 조회 - 페이지 크기 상한 적용")
+    void findOrders_PageSizeCapped() {
+        // when
+        CursorResponse<OrderGetDetailResponse> page = orderService.findOrders(testUser.getEmail(), null, 10000);
+
+        // then
+        assertThat(page.getSize()).isEqualTo(100);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 목록 커서 페이지 조회 실패 - 잘못된 커서")
+    void findOrders_Fail_InvalidCursor() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> {
+            orderService.findOrders(testUser.getEmail(), "not-a-cursor", 10);
+        });
+    }
+
+    @Test
+    @DisplayName("주문 목록 커서 페이지 조회 - 주문 상품 포함, 쿼리 수는 페이지 크기와 무관")
+    void findOrders_LinesBatched() {
+        // given - 주문 상품 2개짜리 주문 3건
+        for (int i = 0; i < 3; i++) {
+            orderService.createOrder(new OrderCreateRequest(
+                    testUser.getUserId(),
+                    BigDecimal.ZERO,
+                    List.of(new OrderProductRequest(testProduct1.getId(), 1),
+                            new OrderProductRequest(testProduct2.getId(), 1))
+            ), testUser.getEmail());
+        }
+
+        // when
+        List<CursorResponse<OrderGetDetailResponse>> pages = new ArrayList<>();
+        long smallPageSelects = countSelects(() -> pages.add(orderService.findOrders(testUser.getEmail(), null, 1)));
+        long largePageSelects = countSelects(() -> pages.add(orderService.findOrders(testUser.getEmail(), null, 3)));
+
+        // then - 사용자 조회 + 주문 페이지 + 주문 상품 일괄 조회
+        assertThat(largePageSelects).isEqualTo(smallPageSelects).isEqualTo(3);
+        assertThat(pages.get(1).getContent()).hasSize(3)
+                .allSatisfy(order -> assertThat(order.getOrderProducts()).hasSize(2));
+    }
+
     @Test
     @DisplayName("주문 상세 조회 성공")
     void findOrderDetail_Success() {
@@ -415,6 +584,37 @@ class OrderServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("주문 자동 확정 - 확정 대기 주문만 확정하고 나머지는 건너뜀")
+    void autoConfirmOrder_SkipsNotPending() {
+        // given - 결제 완료 주문과 결제 미완료 주문
+        OrderCreateResponse paid = orderService.createOrder(new OrderCreateRequest(
+                testUser.getUserId(),
+                BigDecimal.ZERO,
+                List.of(new OrderProductRequest(testProduct1.getId(), 2))
+        ), testUser.getEmail());
+        orderService.completePayment(paid.getId());
+        OrderCreateResponse unpaid = orderService.createOrder(new OrderCreateRequest(
+                testUser.getUserId(),
+                BigDecimal.ZERO,
+                List.of(new OrderProductRequest(testProduct1.getId(), 1))
+        ), testUser.getEmail());
+
+        // when
+        boolean paidConfirmed = orderService.autoConfirmOrder(paid.getId());
+        boolean paidConfirmedAgain = orderService.autoConfirmOrder(paid.getId());
+        boolean unpaidConfirmed = orderService.autoConfirmOrder(unpaid.getId());
+
+        // then
+        assertThat(paidConfirmed).isTrue();
+        assertThat(paidConfirmedAgain).isFalse();
+        assertThat(unpaidConfirmed).isFalse();
+        assertThat(orderRepository.findById(paid.getId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(orderRepository.findById(unpaid.getId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.PENDING_PAYMENT);
+    }
+
     @Test
     @DisplayName("주문 취소 성공 - 포인트 복구")
     void cancelOrder_Success() {
@@ -463,4 +663,28 @@ class OrderServiceTest {
             orderService.cancelOrder(createResponse.getId(), "단순 변심");
         });
     }
+
+    // 현재 스레드에서 실행된 SELECT 수 (백그라운드 스케줄러의 쿼리는 제외)
+    private long countSelects(Runnable action) {
+        SelectCounter.COUNT.get()[0] = 0;
+
+        action.run();
+        entityManager.flush();
+        entityManager.clear();
+
+        return SelectCounter.COUNT.get()[0];
+    }
+
+    public static class SelectCounter implements StatementInspector {
+
+        static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                COUNT.get()[0]++;
+            }
+            return sql;
+        }
+    }
 }
@@ -0,0 +1,189 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.consts.ReservationStatus;
+import com.bootcamp.paymentdemo.order.entity.Order;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import com.bootcamp.paymentdemo.order.repository.StockReservationRepository;
+import com.bootcamp.paymentdemo.order.scheduler.StockReservationScheduler;
+import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
+import com.bootcamp.paymentdemo.orderProduct.repository.OrderProductRepository;
+import com.bootcamp.paymentdemo.product.consts.ProductStatus;
+import com.bootcamp.paymentdemo.product.entity.Product;
+import com.bootcamp.paymentdemo.product.repository.ProductRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 재고 예약 확보/만료 반환 처리량 측정 (./gradlew benchmark 로 실행)
+// TTL을 0으로 두어 확보 직후 바로 만료 대상이 되도록 함
+// 스케줄러는 목으로 대체해 백그라운드 실행이 측정 중인 큐를 가져가지 않도록 함
+@Tag("benchmark")
+@SpringBootTest(properties = "order.stock-reservation.ttl=PT0S")
+class StockReservationBenchmarkTest {
+
+    private static final int ORDER_COUNT = 2000;
+    private static final int THREAD_COUNT = 16;
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationExpiryQueue stockReservationExpiryQueue;
+
+    @MockitoBean
+    private StockReservationScheduler stockReservationScheduler;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    private User user;
+    private Product product;
+    private List<Order> orders;
+
+    @BeforeEach
+    void setUp() {
+        Membership normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL)
+                .orElseThrow(() -> new IllegalStateException("NORMAL 등급이 없습니다"));
+        user = userRepository.save(User.register(
+                "reservation-bench@example.com", "encodedPassword", "벤치마크유저", "010-0000-0000", normalGrade));
+
+        // 주문 생성 시 이미 차감된 상태를 가정해 재고 0에서 시작
+        product = productRepository.save(new Product(
+                "벤치마크 상품", new BigDecimal("1000"), 0, "테스트 카테고리", ProductStatus.FOR_SALE));
+
+        orders = orderRepository.saveAll(IntStream.range(0, ORDER_COUNT)
+                .mapToObj(i -> Order.builder()
+                        .user(user)
+                        .orderNumber("BENCH-" + i)
+                        .totalAmount(new BigDecimal("1000"))
+                        .usedPoints(BigDecimal.ZERO)
+                        .finalAmount(new BigDecimal("1000"))
+                        .earnedPoints(BigDecimal.ZERO)
+                        .currency("KRW")
+                        .orderStatus(OrderStatus.PENDING_PAYMENT)
+                        .build())
+                .toList());
+        orderProductRepository.saveAll(orders.stream()
+                .map(order -> OrderProduct.builder()
+                        .order(order)
+                        .productId(product.getId())
+                        .productName(product.getName())
+                        .orderPrice(product.getPrice())
+                        .count(1)
+                        .build())
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        stockReservationRepository.deleteAll(stockReservationRepository.findAll().stream()
+                .filter(reservation -> orderIds.contains(reservation.getOrderId()))
+                .toList());
+        orderProductRepository.deleteAll(orderProductRepository.findByOrder_IdIn(orderIds));
+        orderRepository.deleteAll(orders);
+        productRepository.delete(product);
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("재고 예약 확보 및 만료 반환 처리량")
+    void holdAndRelease_Throughput() throws InterruptedException {
+        // 1. 확보 (주문마다 별도 트랜잭션, 동시 실행)
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        long holdStart = System.nanoTime();
+        for (Order order : orders) {
+            executorService.submit(() -> stockReservationService.hold(order.getId()));
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        long holdNanos = System.nanoTime() - holdStart;
+
+        // 2. 만료 반환 (큐에서 만료분만 꺼내 청크 단위로 처리)
+        long releaseStart = System.nanoTime();
+        List<Long> expiredIds;
+        while (!(expiredIds = stockReservationExpiryQueue.pollExpired(LocalDateTime.now(), CHUNK_SIZE)).isEmpty()) {
+            stockReservationService.releaseExpired(expiredIds);
+        }
+        long releaseNanos = System.nanoTime() - releaseStart;
+
+        report("hold", ORDER_COUNT, holdNanos);
+        report("release", ORDER_COUNT, releaseNanos);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(ORDER_COUNT);
+        assertThat(stockReservationRepository.findAll().stream()
+                .filter(reservation -> reservation.getStatus() == ReservationStatus.RELEASED)
+                .count()).isEqualTo(ORDER_COUNT);
+    }
+
+    @Test
+    @DisplayName("만료 큐 추가/꺼내기 처리량")
+    void expiryQueue_Throughput() {
+        int count = 200_000;
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+
+        long addStart = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            // 만료 시각이 뒤섞인 순서로 추가
+            stockReservationExpiryQueue.add(-1L - i, base.plusNanos((i * 7919L) % count * 1000));
+        }
+        long addNanos = System.nanoTime() - addStart;
+
+        long pollStart = System.nanoTime();
+        List<Long> polled = new ArrayList<>();
+        List<Long> chunk;
+        while (!(chunk = stockReservationExpiryQueue.pollExpired(LocalDateTime.now(), CHUNK_SIZE)).isEmpty()) {
+            polled.addAll(chunk);
+        }
+        long pollNanos = System.nanoTime() - pollStart;
+
+        report("queue add", count, addNanos);
+        report("queue poll", count, pollNanos);
+
+        assertThat(polled).hasSize(count);
+    }
+
+    private void report(String name, int count, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        System.out.printf("[benchmark] %-10s count=%d elapsed=%.3fs throughput=%.0f ops/s%n",
+                name, count, seconds, count / seconds);
+    }
+}
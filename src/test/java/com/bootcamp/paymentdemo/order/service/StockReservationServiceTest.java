@@ -0,0 +1,215 @@
+package com.bootcamp.paymentdemo.order.service;
+
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.consts.ReservationStatus;
+import com.bootcamp.paymentdemo.order.dto.OrderCreateRequest;
+import com.bootcamp.paymentdemo.order.dto.OrderCreateResponse;
+import com.bootcamp.paymentdemo.order.dto.OrderProductRequest;
+import com.bootcamp.paymentdemo.order.entity.StockReservation;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import com.bootcamp.paymentdemo.order.repository.StockReservationRepository;
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.entity.Payment;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.product.consts.ProductStatus;
+import com.bootcamp.paymentdemo.product.entity.Product;
+import com.bootcamp.paymentdemo.product.repository.ProductRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.entity.UserPointBalance;
+import com.bootcamp.paymentdemo.user.repository.UserPointBalanceRepository;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Transactional
+class StockReservationServiceTest {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPointBalanceRepository userPointBalanceRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        Membership normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL)
+                .orElseThrow(() -> new IllegalStateException("NORMAL 등급이 없습니다"));
+
+        testUser = userRepository.save(User.register(
+                "reservation@example.com",
+                "encodedPassword",
+                "예약테스트유저",
+                "010-1234-5678",
+                normalGrade
+        ));
+        userPointBalanceRepository.save(UserPointBalance.createDefault(testUser));
+
+        testProduct = productRepository.save(new Product(
+                "예약 테스트 상품",
+                new BigDecimal("5000"),
+                10,
+                "테스트 카테고리",
+                ProductStatus.FOR_SALE
+        ));
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 재고 확보")
+    void createOrder_HoldsStock() {
+        // when
+        OrderCreateResponse response = createOrder(3);
+
+        // then
+        StockReservation reservation = findReservation(response.getId());
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.HELD);
+        assertThat(reservation.getExpiresAt()).isAfter(LocalDateTime.now());
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("결제 완료 시 판매 확정")
+    void completePayment_ConfirmsReservation() {
+        // given
+        OrderCreateResponse response = createOrder(3);
+
+        // when
+        orderService.completePayment(response.getId());
+
+        // then
+        assertThat(findReservation(response.getId()).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("만료된 예약 반환 - 재고 복구 및 주문 취소")
+    void releaseExpired_RestoresStockAndCancelsOrder() {
+        // given
+        OrderCreateResponse response = createOrder(3);
+        StockReservation reservation = expire(findReservation(response.getId()));
+
+        // when
+        int released = stockReservationService.releaseExpired(List.of(reservation.getId()));
+
+        // then
+        assertThat(released).isEqualTo(1);
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RELEASED);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(10);
+        assertThat(orderRepository.findById(response.getId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("만료되지 않은 예약은 반환하지 않음")
+    void releaseExpired_IgnoresActiveReservation() {
+        // given
+        OrderCreateResponse response = createOrder(3);
+        StockReservation reservation = findReservation(response.getId());
+
+        // when
+        int released = stockReservationService.releaseExpired(List.of(reservation.getId()));
+
+        // then
+        assertThat(released).isZero();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.HELD);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("결제 검증 중에 만료된 예약은 반환하지 않고 연장 - 검증 성공 후 판매 확정")
+    void releaseExpired_ExtendsWhilePaymentVerifying() {
+        // given: 결제 검증 선점 → 예약 만료 → 만료 반환 → 검증 결과 반영 순서
+        OrderCreateResponse response = createOrder(3);
+        paymentRepository.save(Payment.builder()
+                .dbPaymentId("reservation_verifying_" + response.getId())
+                .order(orderRepository.findById(response.getId()).orElseThrow())
+                .totalAmount(new BigDecimal("15000"))
+                .status(PaymentStatus.VERIFYING)
+                .build());
+        StockReservation reservation = expire(findReservation(response.getId()));
+
+        // when
+        int released = stockReservationService.releaseExpired(List.of(reservation.getId()));
+        orderService.completePayment(response.getId());
+
+        // then
+        assertThat(released).isZero();
+        assertThat(reservation.getExpiresAt()).isAfter(LocalDateTime.now());
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(7);
+        assertThat(orderRepository.findById(response.getId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.PENDING_CONFIRMATION);
+    }
+
+    @Test
+    @DisplayName("반환된 예약은 판매 확정 불가")
+    void confirm_AfterRelease_Fails() {
+        // given
+        OrderCreateResponse response = createOrder(3);
+        StockReservation reservation = expire(findReservation(response.getId()));
+        stockReservationService.releaseExpired(List.of(reservation.getId()));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> {
+            stockReservationService.confirm(response.getId());
+        });
+    }
+
+    private OrderCreateResponse createOrder(int count) {
+        return orderService.createOrder(new OrderCreateRequest(
+                testUser.getUserId(),
+                BigDecimal.ZERO,
+                List.of(new OrderProductRequest(testProduct.getId(), count))
+        ), testUser.getEmail());
+    }
+
+    private StockReservation findReservation(Long orderId) {
+        return stockReservationRepository.findAll().stream()
+                .filter(reservation -> reservation.getOrderId().equals(orderId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private StockReservation expire(StockReservation reservation) {
+        ReflectionTestUtils.setField(reservation, "expiresAt", LocalDateTime.now().minusMinutes(1));
+        return stockReservationRepository.saveAndFlush(reservation);
+    }
+}
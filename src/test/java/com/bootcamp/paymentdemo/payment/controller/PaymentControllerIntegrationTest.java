@@ -33,8 +33,11 @@ import java.math.BigDecimal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -146,8 +149,34 @@ class PaymentControllerIntegrationTest {
                 .andExpect(status().isOk());
 
         // Then
-        Payment confirmedPayment = paymentRepository.findByDbPaymentIdWithLock(dbPaymentId)
+        Payment confirmedPayment = paymentRepository.findByDbPaymentId(dbPaymentId)
                 .orElseThrow(() -> new AssertionError("결제 정보를 찾을 수 없습니다."));
         assertThat(confirmedPayment.getStatus()).isEqualTo(PaymentStatus.PAID);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("결제 확정 통합 테스트: 다른 요청이 검증 중이면 202 처리 중 응답")
+    void confirmPayment_InProgress() throws Exception {
+        // Given
+        String dbPaymentId = "imp_test_verifying";
+        Payment verifyingPayment = Payment.builder()
+                .dbPaymentId(dbPaymentId)
+                .order(savedOrder)
+                .totalAmount(new BigDecimal("10000"))
+                .status(PaymentStatus.VERIFYING)
+                .build();
+        paymentRepository.save(verifyingPayment);
+
+        // When & Then
+        mockMvc.perform(post("/api/payment/" + dbPaymentId + "/confirm")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.inProgress").value(true))
+                .andExpect(jsonPath("$.data.orderId").value(savedOrder.getId()));
+
+        verify(portOneClient, never()).getPayment(dbPaymentId);
+        assertThat(paymentRepository.findByDbPaymentId(dbPaymentId).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.VERIFYING);
+    }
+}
@@ -24,27 +24,18 @@ class PaymentTest {
         assertThat(payment.getPointsToUse()).isEqualTo(BigDecimal.ZERO);
     }
 
-    @Test
-    @DisplayName("completePayment: 결제 완료 상태 변경")
-    void completePayment() {
-        Payment payment = Payment.builder().status(PaymentStatus.PENDING).build();
-
-        payment.completePayment("pg_key_123");
-
-        assertThat(payment.getPaymentId()).isEqualTo("pg_key_123");
-        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
-    }
-
     @Test
     @DisplayName("isAlreadyProcessed: 이미 처리된 결제인지 확인")
     void isAlreadyProcessed() {
         Payment pending = Payment.builder().status(PaymentStatus.PENDING).build();
         Payment paid = Payment.builder().status(PaymentStatus.PAID).build();
+        Payment refunding = Payment.builder().status(PaymentStatus.REFUNDING).build();
         Payment refund = Payment.builder().status(PaymentStatus.REFUND).build();
         Payment fail = Payment.builder().status(PaymentStatus.FAIL).build();
 
         assertThat(pending.isAlreadyProcessed()).isFalse();
         assertThat(paid.isAlreadyProcessed()).isTrue();
+        assertThat(refunding.isAlreadyProcessed()).isTrue();
         assertThat(refund.isAlreadyProcessed()).isTrue();
         assertThat(fail.isAlreadyProcessed()).isTrue();
     }
@@ -64,15 +55,15 @@ class PaymentTest {
     }
 
     @Test
-    @DisplayName("환불 상태 및 로직 테스트")
-    void refundTest() {
-        Payment payment = Payment.builder().status(PaymentStatus.PAID).build();
-
-        assertThat(payment.isPaid()).isTrue();
-
-        payment.refund();
+    @DisplayName("환불 상태 확인: REFUNDING / REFUND")
+    void refundStatusTest() {
+        Payment paid = Payment.builder().status(PaymentStatus.PAID).build();
+        Payment refunding = Payment.builder().status(PaymentStatus.REFUNDING).build();
+        Payment refund = Payment.builder().status(PaymentStatus.REFUND).build();
 
-        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.REFUND);
-        assertThat(payment.isRefund()).isTrue();
+        assertThat(paid.isPaid()).isTrue();
+        assertThat(refunding.isRefunding()).isTrue();
+        assertThat(refunding.isRefund()).isFalse();
+        assertThat(refund.isRefund()).isTrue();
     }
-}
\ No newline at end of file
+}
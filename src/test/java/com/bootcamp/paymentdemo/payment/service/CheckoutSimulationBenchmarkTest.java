@@ -0,0 +1,226 @@
+package com.bootcamp.paymentdemo.payment.service;
+
+import com.bootcamp.paymentdemo.external.portone.simulator.PortOneFaultProfile;
+import com.bootcamp.paymentdemo.external.portone.simulator.PortOneSimulator;
+import com.bootcamp.paymentdemo.external.portone.simulator.PortOneSimulatorStats;
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.order.dto.OrderCreateRequest;
+import com.bootcamp.paymentdemo.order.dto.OrderCreateResponse;
+import com.bootcamp.paymentdemo.order.dto.OrderProductRequest;
+import com.bootcamp.paymentdemo.order.service.OrderService;
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.dto.PaymentCreateRequest;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.product.consts.ProductStatus;
+import com.bootcamp.paymentdemo.product.entity.Product;
+import com.bootcamp.paymentdemo.product.repository.ProductRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.entity.UserPointBalance;
+import com.bootcamp.paymentdemo.user.repository.UserPointBalanceRepository;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 PortOne 시뮬레이터로 결제 전 구간 처리량 측정 (./gradlew benchmark 로 실행)
+// 주문 생성 → 결제 장부 생성 → (브라우저) PG 결제 → 결제 확정 요청, 같은 결제 건의 웹훅도 동시에 도착
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CheckoutSimulationBenchmarkTest {
+
+    private static final String WEBHOOK_SECRET = "whsec_IEyjsd++0+1b/+QrYeDaa+gAfU3htpucGJAqa4hHoT0=";
+    private static final int THREAD_COUNT = 16;
+    private static final int CHECKOUTS_PER_THREAD = 25;
+
+    private static final PortOneSimulator simulator = PortOneSimulator.start(WEBHOOK_SECRET);
+
+    @DynamicPropertySource
+    static void portOneProperties(DynamicPropertyRegistry registry) {
+        registry.add("portone.api.base-url", simulator::baseUrl);
+        registry.add("portone.webhook.secret", () -> WEBHOOK_SECRET);
+        // 주문 생성 중 REQUIRES_NEW 트랜잭션이 커넥션을 하나 더 쓰고 웹훅 워커도 함께 돌므로 스레드 수보다 넉넉히
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREAD_COUNT * 4);
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPointBalanceRepository userPointBalanceRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @LocalServerPort
+    private int port;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Membership normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL)
+                .orElseThrow(() -> new IllegalStateException("NORMAL 등급이 없습니다"));
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        // 스레드마다 사용자/상품을 나눠 재고 행 경합이 아닌 결제 구간을 측정
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            User user = userRepository.save(User.register(
+                    "checkout-" + suffix + "-" + t + "@example.com", "pw", "부하테스트", "010-1234-5678", normalGrade));
+            userPointBalanceRepository.save(UserPointBalance.createDefault(user));
+            users.add(user);
+            products.add(productRepository.save(new Product(
+                    "부하 테스트 상품 " + t, new BigDecimal("10000"), 100_000, "테스트 카테고리", ProductStatus.FOR_SALE)));
+        }
+
+        simulator.webhookTarget("http://127.0.0.1:" + port + "/portone-webhook");
+    }
+
+    @AfterAll
+    static void stop() {
+        simulator.close();
+    }
+
+    @Test
+    @DisplayName("PG 지연/장애 프로파일별 결제 처리량과 p50/p99")
+    void checkoutThroughput() throws Exception {
+        // JIT / 커넥션 풀 워밍업
+        run("warmup", PortOneFaultProfile.none());
+
+        run("ideal", PortOneFaultProfile.none());
+        run("latency", PortOneFaultProfile.latency(Duration.ofMillis(50), Duration.ofMillis(300)));
+        List<String> ids = run("faulty", PortOneFaultProfile.latency(Duration.ofMillis(50), Duration.ofMillis(300))
+                .withErrors(0.05)
+                .withTimeouts(0.02, Duration.ofSeconds(2)));
+
+        assertThat(ids).hasSize(THREAD_COUNT * CHECKOUTS_PER_THREAD);
+    }
+
+    private List<String> run(String name, PortOneFaultProfile profile) throws Exception {
+        simulator.faults(profile);
+        PortOneSimulatorStats before = simulator.getStats();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<String> dbPaymentIds = new ArrayList<>();
+        long[] latencies = new long[THREAD_COUNT * CHECKOUTS_PER_THREAD];
+        long start = System.nanoTime();
+        try {
+            List<Future<CheckoutResult>> futures = new ArrayList<>();
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                User user = users.get(t);
+                Product product = products.get(t);
+                futures.add(executor.submit(() -> checkoutLoop(user, product)));
+            }
+
+            int offset = 0;
+            for (Future<CheckoutResult> future : futures) {
+                CheckoutResult result = future.get();
+                System.arraycopy(result.latencies(), 0, latencies, offset, result.latencies().length);
+                offset += result.latencies().length;
+                dbPaymentIds.addAll(result.dbPaymentIds());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // 확정 요청이 실패한 건은 웹훅 재처리로 확정될 때까지 잠시 대기
+        long paid = waitForPaid(dbPaymentIds, Duration.ofSeconds(15));
+
+        Arrays.sort(latencies);
+        PortOneSimulatorStats after = simulator.getStats();
+        System.out.printf("[checkout] %-7s %6.1f checkouts/s p50=%.1fms p99=%.1fms paid=%d/%d "
+                        + "pgRequests=%d errors=%d timeouts=%d webhooks=%d rejected=%d%n",
+                name, latencies.length / elapsedSeconds, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                paid, dbPaymentIds.size(),
+                after.requests() - before.requests(),
+                after.injectedErrors() - before.injectedErrors(),
+                after.injectedTimeouts() - before.injectedTimeouts(),
+                after.webhooksSent() - before.webhooksSent(),
+                after.webhooksRejected() - before.webhooksRejected());
+        return dbPaymentIds;
+    }
+
+    private CheckoutResult checkoutLoop(User user, Product product) {
+        long[] latencies = new long[CHECKOUTS_PER_THREAD];
+        List<String> dbPaymentIds = new ArrayList<>();
+        for (int i = 0; i < CHECKOUTS_PER_THREAD; i++) {
+            long start = System.nanoTime();
+
+            OrderCreateResponse order = orderService.createOrder(new OrderCreateRequest(
+                    user.getUserId(), BigDecimal.ZERO, List.of(new OrderProductRequest(product.getId(), 1))
+            ), user.getEmail());
+
+            PaymentCreateRequest request = new PaymentCreateRequest();
+            ReflectionTestUtils.setField(request, "orderNumber", order.getOrderNumber());
+            ReflectionTestUtils.setField(request, "totalAmount", order.getFinalAmount());
+            ReflectionTestUtils.setField(request, "pointsToUse", BigDecimal.ZERO);
+            String dbPaymentId = paymentService.createPayment(request).getPaymentId();
+
+            simulator.pay(dbPaymentId, order.getFinalAmount());
+            paymentService.confirmPayment(dbPaymentId);
+
+            latencies[i] = System.nanoTime() - start;
+            dbPaymentIds.add(dbPaymentId);
+        }
+        return new CheckoutResult(latencies, dbPaymentIds);
+    }
+
+    private long waitForPaid(List<String> dbPaymentIds, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long paid;
+        do {
+            paid = dbPaymentIds.stream()
+                    .filter(id -> paymentRepository.findByDbPaymentId(id)
+                            .map(payment -> payment.getStatus() == PaymentStatus.PAID)
+                            .orElse(false))
+                    .count();
+            if (paid == dbPaymentIds.size()) {
+                return paid;
+            }
+            Thread.sleep(200);
+        } while (System.nanoTime() < deadline);
+        return paid;
+    }
+
+    private double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1_000_000.0;
+    }
+
+    private record CheckoutResult(long[] latencies, List<String> dbPaymentIds) {
+    }
+}
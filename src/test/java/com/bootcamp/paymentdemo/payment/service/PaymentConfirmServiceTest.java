@@ -0,0 +1,137 @@
+package com.bootcamp.paymentdemo.payment.service;
+
+import com.bootcamp.paymentdemo.external.portone.client.PortOneClient;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import com.bootcamp.paymentdemo.payment.consts.PaymentVerificationResult;
+import com.bootcamp.paymentdemo.payment.dto.PaymentClaim;
+import com.bootcamp.paymentdemo.payment.dto.PaymentConfirmResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmServiceTest {
+
+    @Mock
+    private PaymentVerificationService paymentVerificationService;
+    @Mock
+    private PortOneClient portOneClient;
+
+    @InjectMocks
+    private PaymentConfirmService paymentConfirmService;
+
+    private final String dbPaymentId = "order_mid_12345";
+    private final PaymentClaim claim = PaymentClaim.claimed(100L, "ORD-20240101");
+
+    @Test
+    @DisplayName("결제 확정 성공: 선점 → PG 조회 → 결과 반영 순서")
+    void confirmPayment_Success() {
+        PortOnePaymentResponse pgResponse = mock(PortOnePaymentResponse.class);
+        given(paymentVerificationService.claim(dbPaymentId)).willReturn(claim);
+        given(portOneClient.getPayment(dbPaymentId)).willReturn(pgResponse);
+        given(paymentVerificationService.apply(dbPaymentId, pgResponse)).willReturn(PaymentVerificationResult.PAID);
+
+        PaymentConfirmResponse response = paymentConfirmService.confirm(dbPaymentId);
+
+        InOrder inOrder = inOrder(paymentVerificationService, portOneClient);
+        assertAll(
+                () -> assertThat(response.getOrderId()).isEqualTo(100L),
+                () -> inOrder.verify(paymentVerificationService).claim(dbPaymentId),
+                () -> inOrder.verify(portOneClient).getPayment(dbPaymentId),
+                () -> inOrder.verify(paymentVerificationService).apply(dbPaymentId, pgResponse),
+                () -> verify(portOneClient, never()).cancelPayment(anyString(), any())
+        );
+    }
+
+    @Test
+    @DisplayName("결제 확정: 다른 요청이 검증 중이면 PG 조회 없이 처리 중으로 반환")
+    void confirmPayment_InProgress() {
+        given(paymentVerificationService.claim(dbPaymentId))
+                .willReturn(PaymentClaim.inProgress(100L, "ORD-20240101"));
+
+        PaymentConfirmResponse response = paymentConfirmService.confirm(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(response.isInProgress()).isTrue(),
+                () -> assertThat(response.getOrderId()).isEqualTo(100L),
+                () -> verifyNoInteractions(portOneClient),
+                () -> verify(paymentVerificationService, never()).apply(anyString(), any())
+        );
+    }
+
+    @Test
+    @DisplayName("결제 확정: 이미 처리된 결제는 PG 조회 없이 반환")
+    void confirmPayment_NotClaimed() {
+        given(paymentVerificationService.claim(dbPaymentId))
+                .willReturn(PaymentClaim.notClaimed(100L, "ORD-20240101"));
+
+        PaymentConfirmResponse response = paymentConfirmService.confirm(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(response.getOrderId()).isEqualTo(100L),
+                () -> verifyNoInteractions(portOneClient),
+                () -> verify(paymentVerificationService, never()).apply(anyString(), any())
+        );
+    }
+
+    @Test
+    @DisplayName("결제 확정 실패: 금액 불일치 (자동 취소는 보상 디스패처에 맡기고 바로 응답)")
+    void confirmPayment_Fail_AmountMismatch() {
+        PortOnePaymentResponse pgResponse = mock(PortOnePaymentResponse.class);
+        given(paymentVerificationService.claim(dbPaymentId)).willReturn(claim);
+        given(portOneClient.getPayment(dbPaymentId)).willReturn(pgResponse);
+        given(paymentVerificationService.apply(dbPaymentId, pgResponse))
+                .willReturn(PaymentVerificationResult.AMOUNT_MISMATCH);
+
+        PaymentConfirmResponse response = paymentConfirmService.confirm(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(response.getOrderId()).isNull(),
+                () -> assertThat(response.getOrderNumber()).isEqualTo("ORD-20240101"),
+                () -> verify(portOneClient, never()).cancelPayment(anyString(), any())
+        );
+    }
+
+    @Test
+    @DisplayName("결제 확정 실패: 내부 로직 에러 (FAIL 처리 및 보상 명령 기록)")
+    void confirmPayment_Fail_InternalError() {
+        PortOnePaymentResponse pgResponse = mock(PortOnePaymentResponse.class);
+        given(paymentVerificationService.claim(dbPaymentId)).willReturn(claim);
+        given(portOneClient.getPayment(dbPaymentId)).willReturn(pgResponse);
+        given(paymentVerificationService.apply(dbPaymentId, pgResponse)).willThrow(new RuntimeException("DB Error"));
+
+        PaymentConfirmResponse response = paymentConfirmService.confirm(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(response.getOrderId()).isNull(),
+                () -> verify(paymentVerificationService).fail(dbPaymentId),
+                () -> verify(portOneClient, never()).cancelPayment(anyString(), any())
+        );
+    }
+
+    @Test
+    @DisplayName("결제 확정 실패: PG 조회 실패 시 선점 해제")
+    void confirmPayment_Fail_PgError() {
+        given(paymentVerificationService.claim(dbPaymentId)).willReturn(claim);
+        given(portOneClient.getPayment(dbPaymentId)).willThrow(new RuntimeException("timeout"));
+
+        PaymentConfirmResponse response = paymentConfirmService.confirm(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(response.getOrderId()).isNull(),
+                () -> verify(paymentVerificationService).release(dbPaymentId),
+                () -> verify(paymentVerificationService, never()).apply(anyString(), any()),
+                () -> verify(portOneClient, never()).cancelPayment(anyString(), any())
+        );
+    }
+}
@@ -1,12 +1,9 @@
 package com.bootcamp.paymentdemo.payment.service;
 
-import com.bootcamp.paymentdemo.external.portone.client.PortOneClient;
-import com.bootcamp.paymentdemo.external.portone.dto.PortOneCancelRequest;
-import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import com.bootcamp.paymentdemo.common.id.SnowflakeIdGenerator;
 import com.bootcamp.paymentdemo.membership.entity.Membership;
 import com.bootcamp.paymentdemo.order.entity.Order;
 import com.bootcamp.paymentdemo.order.repository.OrderRepository;
-import com.bootcamp.paymentdemo.order.service.OrderService;
 import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
 import com.bootcamp.paymentdemo.payment.dto.*;
 import com.bootcamp.paymentdemo.payment.entity.Payment;
@@ -20,11 +17,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -41,11 +46,13 @@ class PaymentServiceTest {
     @Mock
     private OrderRepository orderRepository;
     @Mock
-    private PortOneClient portOneClient;
-    @Mock
-    private OrderService orderService;
+    private PaymentConfirmService paymentConfirmService;
+    @Spy
+    private PaymentConfirmSingleFlight paymentConfirmSingleFlight;
     @Mock
     private UserPointBalanceRepository userPointBalanceRepository;
+    @Spy
+    private SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(1, 5000, System::currentTimeMillis);
 
     @InjectMocks
     private PaymentService paymentService;
@@ -95,6 +102,7 @@ class PaymentServiceTest {
                 () -> assertThat(response.isSuccess()).isTrue(),
                 () -> assertThat(response.getStatus()).isEqualTo("PENDING"),
                 () -> assertThat(testOrder.getUsedPoints()).isEqualByComparingTo(BigDecimal.ZERO),
+                () -> assertThat(response.getPaymentId()).matches("order_mid_\\d{19}"),
                 () -> verify(paymentRepository).save(any(Payment.class))
         );
     }
@@ -146,95 +154,52 @@ class PaymentServiceTest {
     }
 
     @Test
-    @DisplayName("결제 확정 성공")
-    void confirmPayment_Success() {
-        Payment pendingPayment = Payment.builder()
-                .dbPaymentId(dbPaymentId)
-                .order(testOrder)
-                .totalAmount(testOrder.getTotalAmount())
-                .pointsToUse(BigDecimal.ZERO)
-                .status(PaymentStatus.PENDING)
-                .build();
-
-        given(paymentRepository.findByDbPaymentIdWithLock(dbPaymentId)).willReturn(Optional.of(pendingPayment));
-
-        PortOnePaymentResponse mockResponse = mock(PortOnePaymentResponse.class);
-        PortOnePaymentResponse.Amount mockAmount = mock(PortOnePaymentResponse.Amount.class);
-
-        given(mockAmount.total()).willReturn(testOrder.getFinalAmount());
-        given(mockResponse.amount()).willReturn(mockAmount);
-        given(portOneClient.getPayment(dbPaymentId)).willReturn(mockResponse);
+    @DisplayName("결제 확정: 확정 트랜잭션에 위임")
+    void confirmPayment_DelegatesToConfirmService() {
+        PaymentConfirmResponse expected = new PaymentConfirmResponse(testOrder.getId(), testOrder.getOrderNumber());
+        given(paymentConfirmService.confirm(dbPaymentId)).willReturn(expected);
 
         PaymentConfirmResponse response = paymentService.confirmPayment(dbPaymentId);
 
-        assertAll(
-                () -> assertThat(response.getOrderId()).isEqualTo(testOrder.getId()),
-                () -> verify(orderService).completePayment(testOrder.getId()),
-                () -> assertThat(pendingPayment.getStatus()).isEqualTo(PaymentStatus.PAID)
-        );
+        assertThat(response).isSameAs(expected);
     }
 
     @Test
-    @DisplayName("결제 확정 실패: 금액 불일치 (자동 취소 수행)")
-    void confirmPayment_Fail_AmountMismatch() {
-        Payment pendingPayment = Payment.builder()
-                .dbPaymentId(dbPaymentId)
-                .order(testOrder)
-                .totalAmount(testOrder.getTotalAmount())
-                .pointsToUse(new BigDecimal("1000"))
-                .status(PaymentStatus.PENDING)
-                .build();
-
-        Payment spyPayment = spy(pendingPayment);
-
-        given(paymentRepository.findByDbPaymentIdWithLock(dbPaymentId)).willReturn(Optional.of(spyPayment));
-
-        PortOnePaymentResponse mockResponse = mock(PortOnePaymentResponse.class);
-        PortOnePaymentResponse.Amount mockAmount = mock(PortOnePaymentResponse.Amount.class);
-
-        given(mockAmount.total()).willReturn(new BigDecimal("5000"));
-        given(mockResponse.amount()).willReturn(mockAmount);
-        given(portOneClient.getPayment(dbPaymentId)).willReturn(mockResponse);
-
-        PaymentConfirmResponse response = paymentService.confirmPayment(dbPaymentId);
-
-        assertAll(
-                () -> assertThat(response.getOrderId()).isNull(),
-                () -> verify(orderService).rollbackUsedPoint(testOrder.getId()),
-                () -> verify(spyPayment).cancelPointUsage(),
-                () -> verify(portOneClient).cancelPayment(eq(dbPaymentId), any(PortOneCancelRequest.class))
-        );
-    }
-
-    @Test
-    @DisplayName("결제 확정 실패: 내부 로직 에러 (보상 트랜잭션 수행)")
-    void confirmPayment_Fail_InternalError() {
-        Payment pendingPayment = Payment.builder()
-                .dbPaymentId(dbPaymentId)
-                .order(testOrder)
-                .totalAmount(testOrder.getTotalAmount())
-                .status(PaymentStatus.PENDING)
-                .build();
-
-        Payment spyPayment = spy(pendingPayment);
-
-        given(paymentRepository.findByDbPaymentIdWithLock(dbPaymentId)).willReturn(Optional.of(spyPayment));
-
-        PortOnePaymentResponse mockResponse = mock(PortOnePaymentResponse.class);
-        PortOnePaymentResponse.Amount mockAmount = mock(PortOnePaymentResponse.Amount.class);
-        given(mockAmount.total()).willReturn(testOrder.getFinalAmount());
-        given(mockResponse.amount()).willReturn(mockAmount);
-        given(portOneClient.getPayment(dbPaymentId)).willReturn(mockResponse);
-
-        doThrow(new RuntimeException("DB Error")).when(orderService).completePayment(anyLong());
-
-        PaymentConfirmResponse response = paymentService.confirmPayment(dbPaymentId);
+    @DisplayName("결제 확정: 같은 결제 건 동시 요청은 한 번만 처리하고 결과 공유")
+    void confirmPayment_ConcurrentCallsShareOneConfirmation() throws InterruptedException {
+        int callerCount = 10;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PaymentConfirmResponse expected = new PaymentConfirmResponse(testOrder.getId(), testOrder.getOrderNumber());
+        given(paymentConfirmService.confirm(dbPaymentId)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return expected;
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(callerCount);
+        List<Future<PaymentConfirmResponse>> futures = new ArrayList<>();
+        futures.add(executorService.submit(() -> paymentService.confirmPayment(dbPaymentId)));
+        started.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < callerCount; i++) {
+            futures.add(executorService.submit(() -> paymentService.confirmPayment(dbPaymentId)));
+        }
+        // 뒤따른 요청들이 대기열에 합류할 시간을 준 뒤 첫 요청 완료
+        Thread.sleep(200);
+        release.countDown();
+
+        List<PaymentConfirmResponse> responses = futures.stream().map(future -> {
+            try {
+                return future.get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+        executorService.shutdown();
 
         assertAll(
-                () -> assertThat(response.getOrderId()).isNull(),
-                () -> verify(orderService).rollbackUsedPoint(testOrder.getId()),
-                () -> verify(spyPayment).cancelPointUsage(),
-                () -> verify(portOneClient).cancelPayment(eq(dbPaymentId), any(PortOneCancelRequest.class))
+                () -> verify(paymentConfirmService, times(1)).confirm(dbPaymentId),
+                () -> assertThat(responses).hasSize(callerCount).allMatch(response -> response == expected)
         );
     }
 
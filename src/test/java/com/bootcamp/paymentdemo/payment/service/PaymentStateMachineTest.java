@@ -0,0 +1,239 @@
+package com.bootcamp.paymentdemo.payment.service;
+
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.entity.Order;
+import com.bootcamp.paymentdemo.order.repository.OrderRepository;
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransition;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransitionOutcome;
+import com.bootcamp.paymentdemo.payment.dto.PaymentTransitionResult;
+import com.bootcamp.paymentdemo.payment.entity.Payment;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+// 트랜잭션 없이 실행 (스레드마다 별도 트랜잭션으로 커밋되어야 CAS 충돌 검증 가능)
+@SpringBootTest
+class PaymentStateMachineTest {
+
+    private static final int THREAD_COUNT = 20;
+
+    @Autowired
+    private PaymentStateMachine paymentStateMachine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    private User savedUser;
+    private Order savedOrder;
+    private Payment savedPayment;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Membership normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL)
+                .orElseThrow(() -> new IllegalStateException("NORMAL 등급이 없습니다"));
+
+        savedUser = userRepository.save(
+                User.register("state-" + suffix + "@example.com", "pw", "테스터", "010-1234-5678", normalGrade));
+
+        savedOrder = orderRepository.save(Order.builder()
+                .orderNumber("ORD-STATE-" + suffix)
+                .user(savedUser)
+                .totalAmount(new BigDecimal("10000"))
+                .finalAmount(new BigDecimal("10000"))
+                .usedPoints(BigDecimal.ZERO)
+                .orderStatus(OrderStatus.PENDING_PAYMENT)
+                .currency("KRW")
+                .earnedPoints(BigDecimal.ZERO)
+                .build());
+
+        savedPayment = paymentRepository.save(Payment.builder()
+                .dbPaymentId("state_" + suffix)
+                .order(savedOrder)
+                .totalAmount(new BigDecimal("10000"))
+                .status(PaymentStatus.PENDING)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteById(savedPayment.getId());
+        orderRepository.deleteById(savedOrder.getId());
+        userRepository.deleteById(savedUser.getUserId());
+    }
+
+    @Test
+    @DisplayName("전이 성공: 상태 변경 및 버전 증가")
+    void transition_Applied() {
+        PaymentTransitionResult result = paymentStateMachine.transition(reload(), PaymentTransition.CLAIM);
+
+        Payment claimed = reload();
+        assertAll(
+                () -> assertThat(result.outcome()).isEqualTo(PaymentTransitionOutcome.APPLIED),
+                () -> assertThat(result.status()).isEqualTo(PaymentStatus.VERIFYING),
+                () -> assertThat(claimed.getStatus()).isEqualTo(PaymentStatus.VERIFYING),
+                () -> assertThat(claimed.getVersion()).isEqualTo(savedPayment.getVersion() + 1),
+                () -> assertThat(claimed.getVerificationStartedAt()).isNotNull()
+        );
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 전이: 변경 없이 INVALID_STATE")
+    void transition_InvalidState() {
+        PaymentTransitionResult result = paymentStateMachine.transition(reload(), PaymentTransition.COMPLETE);
+
+        assertAll(
+                () -> assertThat(result.outcome()).isEqualTo(PaymentTransitionOutcome.INVALID_STATE),
+                () -> assertThat(result.status()).isEqualTo(PaymentStatus.PENDING),
+                () -> assertThat(reload().getVersion()).isEqualTo(savedPayment.getVersion())
+        );
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 버전이 바뀌면 다시 읽고, 여전히 전이 가능하면 재시도해 성공")
+    void transition_StaleVersion_Retries() {
+        Payment stale = reload();
+        paymentStateMachine.transition(reload(), PaymentTransition.CLAIM);
+        paymentStateMachine.transition(reload(), PaymentTransition.RELEASE);
+
+        PaymentTransitionResult result = paymentStateMachine.transition(stale, PaymentTransition.CLAIM);
+
+        assertAll(
+                () -> assertThat(result.isApplied()).isTrue(),
+                () -> assertThat(result.version()).isEqualTo(stale.getVersion() + 3),
+                () -> assertThat(reload().getStatus()).isEqualTo(PaymentStatus.VERIFYING)
+        );
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 요청이 먼저 전이하면 다시 읽고 INVALID_STATE")
+    void transition_StaleStatus_InvalidState() {
+        Payment stale = reload();
+        paymentStateMachine.transition(reload(), PaymentTransition.CLAIM);
+
+        PaymentTransitionResult result = paymentStateMachine.transition(stale, PaymentTransition.CLAIM);
+
+        assertAll(
+                () -> assertThat(result.outcome()).isEqualTo(PaymentTransitionOutcome.INVALID_STATE),
+                () -> assertThat(result.status()).isEqualTo(PaymentStatus.VERIFYING)
+        );
+    }
+
+    @Test
+    @DisplayName("동시 선점: 하나의 요청만 성공")
+    void transition_ConcurrentClaim_SingleWinner() throws InterruptedException {
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Payment snapshot = reload();
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (paymentStateMachine.transition(snapshot, PaymentTransition.CLAIM).isApplied()) {
+                        applied.incrementAndGet();
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        Payment claimed = reload();
+        assertAll(
+                () -> assertThat(applied.get()).isEqualTo(1),
+                () -> assertThat(rejected.get()).isEqualTo(THREAD_COUNT - 1),
+                () -> assertThat(claimed.getStatus()).isEqualTo(PaymentStatus.VERIFYING),
+                () -> assertThat(claimed.getVersion()).isEqualTo(savedPayment.getVersion() + 1)
+        );
+    }
+
+    @Test
+    @DisplayName("호출자 트랜잭션 안에서 다른 요청이 먼저 결제 완료하면 최신 상태(PAID)로 INVALID_STATE")
+    void transition_InsideCallerTransaction_ReportsCommittedStatus() {
+        // 실제 호출 측(검증/환불 서비스)과 같은 READ COMMITTED
+        TransactionTemplate callerTransaction = new TransactionTemplate(transactionManager);
+        callerTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        ExecutorService other = Executors.newSingleThreadExecutor();
+
+        try {
+            PaymentTransitionResult result = callerTransaction.execute(tx -> {
+                // 호출자 트랜잭션에서 읽은 엔티티 (이 시점 상태는 PENDING)
+                Payment stale = reload();
+                runAndWait(other, () -> {
+                    paymentStateMachine.transition(reload(), PaymentTransition.CLAIM);
+                    paymentStateMachine.transition(reload(), PaymentTransition.COMPLETE);
+                });
+                return paymentStateMachine.transition(stale, PaymentTransition.CLAIM);
+            });
+
+            assertAll(
+                    () -> assertThat(result.outcome()).isEqualTo(PaymentTransitionOutcome.INVALID_STATE),
+                    () -> assertThat(result.status()).isEqualTo(PaymentStatus.PAID),
+                    () -> assertThat(result.version()).isEqualTo(savedPayment.getVersion() + 2)
+            );
+        } finally {
+            other.shutdown();
+        }
+    }
+
+    private void runAndWait(ExecutorService executor, Runnable task) {
+        try {
+            executor.submit(task).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Payment reload() {
+        return paymentRepository.findByDbPaymentId(savedPayment.getDbPaymentId()).orElseThrow();
+    }
+}
@@ -0,0 +1,290 @@
+package com.bootcamp.paymentdemo.payment.service;
+
+import com.bootcamp.paymentdemo.compensation.entity.CompensationType;
+import com.bootcamp.paymentdemo.compensation.service.CompensationCommandService;
+import com.bootcamp.paymentdemo.external.portone.dto.PortOnePaymentResponse;
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.order.entity.Order;
+import com.bootcamp.paymentdemo.order.service.OrderService;
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransition;
+import com.bootcamp.paymentdemo.payment.consts.PaymentVerificationResult;
+import com.bootcamp.paymentdemo.payment.dto.*;
+import com.bootcamp.paymentdemo.payment.entity.Payment;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentVerificationServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentStateMachine paymentStateMachine;
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private CompensationCommandService compensationCommandService;
+
+    @InjectMocks
+    private PaymentVerificationService paymentVerificationService;
+
+    private Order testOrder;
+    private User testUser;
+    private final String dbPaymentId = "order_mid_12345";
+
+    @BeforeEach
+    void setUp() {
+        Membership dummyGrade = mock(Membership.class);
+
+        testUser = User.register(
+                "test@example.com",
+                "pw",
+                "테스트유저",
+                "010-1234-5678",
+                dummyGrade
+        );
+        ReflectionTestUtils.setField(testUser, "userId", 1L);
+
+        testOrder = Order.builder()
+                .orderNumber("ORD-20240101")
+                .user(testUser)
+                .totalAmount(new BigDecimal("10000"))
+                .usedPoints(BigDecimal.ZERO)
+                .finalAmount(new BigDecimal("10000"))
+                .orderStatus(com.bootcamp.paymentdemo.order.consts.OrderStatus.PENDING_PAYMENT)
+                .build();
+
+        ReflectionTestUtils.setField(testOrder, "id", 100L);
+    }
+
+    @Test
+    @DisplayName("검증 선점: PENDING → VERIFYING")
+    void claim_Pending() {
+        Payment pendingPayment = payment(PaymentStatus.PENDING, BigDecimal.ZERO);
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(pendingPayment));
+        givenTransition(pendingPayment, PaymentTransition.CLAIM, PaymentTransitionResult.applied(PaymentStatus.VERIFYING, 1L));
+
+        PaymentClaim claim = paymentVerificationService.claim(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(claim.claimed()).isTrue(),
+                () -> assertThat(claim.orderId()).isEqualTo(testOrder.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("검증 선점: 이미 완료된 결제는 선점하지 않고 주문 정보 반환")
+    void claim_AlreadyPaid() {
+        Payment paidPayment = payment(PaymentStatus.PAID, BigDecimal.ZERO);
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(paidPayment));
+        givenTransition(paidPayment, PaymentTransition.CLAIM, PaymentTransitionResult.invalidState(PaymentStatus.PAID, 2L));
+
+        PaymentClaim claim = paymentVerificationService.claim(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(claim.claimed()).isFalse(),
+                () -> assertThat(claim.orderId()).isEqualTo(testOrder.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("검증 선점: 다른 요청이 검증 중이면 처리 중으로 주문 정보 반환")
+    void claim_AlreadyVerifying() {
+        Payment verifyingPayment = payment(PaymentStatus.VERIFYING, BigDecimal.ZERO);
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(verifyingPayment));
+        givenTransition(verifyingPayment, PaymentTransition.CLAIM, PaymentTransitionResult.invalidState(PaymentStatus.VERIFYING, 1L));
+
+        PaymentClaim claim = paymentVerificationService.claim(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(claim.claimed()).isFalse(),
+                () -> assertThat(claim.inProgress()).isTrue(),
+                () -> assertThat(claim.orderId()).isEqualTo(testOrder.getId()),
+                () -> assertThat(claim.toResponse().isInProgress()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("검증 선점: 실패한 결제는 처리 중이 아니며 주문 id 없이 반환")
+    void claim_AlreadyFailed() {
+        Payment failedPayment = payment(PaymentStatus.FAIL, BigDecimal.ZERO);
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(failedPayment));
+        givenTransition(failedPayment, PaymentTransition.CLAIM, PaymentTransitionResult.invalidState(PaymentStatus.FAIL, 2L));
+
+        PaymentClaim claim = paymentVerificationService.claim(dbPaymentId);
+
+        assertAll(
+                () -> assertThat(claim.claimed()).isFalse(),
+                () -> assertThat(claim.inProgress()).isFalse(),
+                () -> assertThat(claim.orderId()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("결과 반영 성공: VERIFYING → PAID")
+    void apply_Success() {
+        Payment verifyingPayment = payment(PaymentStatus.VERIFYING, BigDecimal.ZERO);
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(verifyingPayment));
+        givenTransition(verifyingPayment, PaymentTransition.COMPLETE, PaymentTransitionResult.applied(PaymentStatus.PAID, 2L));
+
+        PaymentVerificationResult result = paymentVerificationService.apply(dbPaymentId, pgResponse(testOrder.getFinalAmount()));
+
+        assertAll(
+                () -> assertThat(result).isEqualTo(PaymentVerificationResult.PAID),
+                () -> verify(orderService).completePayment(testOrder.getId()),
+                () -> verify(paymentStateMachine).transition(verifyingPayment, PaymentTransition.COMPLETE)
+        );
+    }
+
+    @Test
+    @DisplayName("결과 반영 생략: 반영 직전 다른 요청이 선점을 해제하면 주문 확정하지 않음")
+    void apply_LostClaim() {
+        Payment verifyingPayment = payment(PaymentStatus.VERIFYING, BigDecimal.ZERO);
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(verifyingPayment));
+        givenTransition(verifyingPayment, PaymentTransition.COMPLETE, PaymentTransitionResult.invalidState(PaymentStatus.PENDING, 2L));
+
+        PaymentVerificationResult result = paymentVerificationService.apply(dbPaymentId, pgResponse(testOrder.getFinalAmount()));
+
+        assertAll(
+                () -> assertThat(result).isEqualTo(PaymentVerificationResult.NOT_CLAIMED),
+                () -> verify(orderService, never()).completePayment(anyLong())
+        );
+    }
+
+    @Test
+    @DisplayName("결과 반영 실패: 금액 불일치 (보상 명령 기록 및 FAIL 처리)")
+    void apply_AmountMismatch() {
+        Payment verifyingPayment = payment(PaymentStatus.VERIFYING, new BigDecimal("1000"));
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(verifyingPayment));
+        givenTransition(verifyingPayment, PaymentTransition.FAIL, PaymentTransitionResult.applied(PaymentStatus.FAIL, 2L));
+
+        PaymentVerificationResult result = paymentVerificationService.apply(dbPaymentId, pgResponse(new BigDecimal("5000")));
+
+        assertAll(
+                () -> assertThat(result).isEqualTo(PaymentVerificationResult.AMOUNT_MISMATCH),
+                () -> verify(compensationCommandService).enqueue(CompensationType.POINT_ROLLBACK, dbPaymentId, "금액 위변조 감지"),
+                () -> verify(compensationCommandService).enqueue(CompensationType.PG_CANCEL, dbPaymentId, "금액 위변조 감지"),
+                () -> verify(orderService, never()).rollbackUsedPoint(anyLong()),
+                () -> verify(orderService, never()).completePayment(anyLong()),
+                () -> verify(paymentStateMachine).transition(verifyingPayment, PaymentTransition.FAIL)
+        );
+    }
+
+    @Test
+    @DisplayName("결과 반영 생략: 선점이 해제된 결제")
+    void apply_NotClaimed() {
+        Payment pendingPayment = payment(PaymentStatus.PENDING, BigDecimal.ZERO);
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(pendingPayment));
+
+        PaymentVerificationResult result = paymentVerificationService.apply(dbPaymentId, mock(PortOnePaymentResponse.class));
+
+        assertAll(
+                () -> assertThat(result).isEqualTo(PaymentVerificationResult.NOT_CLAIMED),
+                () -> verify(orderService, never()).completePayment(anyLong()),
+                () -> verify(paymentStateMachine, never()).transition(any(), any())
+        );
+    }
+
+    @Test
+    @DisplayName("결과 반영 중 오류 시 보상: 보상 명령 기록 및 FAIL 처리")
+    void fail_Compensates() {
+        Payment verifyingPayment = payment(PaymentStatus.VERIFYING, new BigDecimal("1000"));
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(verifyingPayment));
+        givenTransition(verifyingPayment, PaymentTransition.FAIL, PaymentTransitionResult.applied(PaymentStatus.FAIL, 2L));
+
+        paymentVerificationService.fail(dbPaymentId);
+
+        assertAll(
+                () -> verify(compensationCommandService).enqueue(CompensationType.POINT_ROLLBACK, dbPaymentId, "서버 오류 자동 취소"),
+                () -> verify(compensationCommandService).enqueue(CompensationType.PG_CANCEL, dbPaymentId, "서버 오류 자동 취소"),
+                () -> verify(paymentStateMachine).transition(verifyingPayment, PaymentTransition.FAIL)
+        );
+    }
+
+    @Test
+    @DisplayName("결과 반영 중 오류 시 보상 생략: 다른 요청이 먼저 FAIL 처리하면 보상 명령 중복 기록 안 함")
+    void fail_AlreadyFailed() {
+        Payment verifyingPayment = payment(PaymentStatus.VERIFYING, new BigDecimal("1000"));
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(verifyingPayment));
+        givenTransition(verifyingPayment, PaymentTransition.FAIL, PaymentTransitionResult.invalidState(PaymentStatus.FAIL, 2L));
+
+        paymentVerificationService.fail(dbPaymentId);
+
+        verifyNoInteractions(compensationCommandService);
+    }
+
+    @Test
+    @DisplayName("보상 명령 실행: 사용 포인트 복구")
+    void rollbackPoints() {
+        Payment spyPayment = spy(payment(PaymentStatus.FAIL, new BigDecimal("1000")));
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(spyPayment));
+
+        paymentVerificationService.rollbackPoints(dbPaymentId);
+
+        assertAll(
+                () -> verify(orderService).rollbackUsedPoint(testOrder.getId()),
+                () -> verify(spyPayment).cancelPointUsage()
+        );
+    }
+
+    @Test
+    @DisplayName("오래된 선점 해제: 기준 시각 이전 선점만 PENDING 복귀")
+    void releaseStale() {
+        Payment stalePayment = payment(PaymentStatus.VERIFYING, BigDecimal.ZERO);
+        ReflectionTestUtils.setField(stalePayment, "verificationStartedAt", LocalDateTime.now().minusMinutes(10));
+        Payment freshPayment = payment(PaymentStatus.VERIFYING, BigDecimal.ZERO);
+        ReflectionTestUtils.setField(freshPayment, "verificationStartedAt", LocalDateTime.now());
+        given(paymentRepository.findByDbPaymentId("stale")).willReturn(Optional.of(stalePayment));
+        given(paymentRepository.findByDbPaymentId("fresh")).willReturn(Optional.of(freshPayment));
+        givenTransition(stalePayment, PaymentTransition.RELEASE, PaymentTransitionResult.applied(PaymentStatus.PENDING, 2L));
+
+        LocalDateTime before = LocalDateTime.now().minusMinutes(2);
+
+        assertAll(
+                () -> assertThat(paymentVerificationService.releaseStale("stale", before)).isTrue(),
+                () -> assertThat(paymentVerificationService.releaseStale("fresh", before)).isFalse(),
+                () -> verify(paymentStateMachine, never()).transition(freshPayment, PaymentTransition.RELEASE)
+        );
+    }
+
+    private Payment payment(PaymentStatus status, BigDecimal pointsToUse) {
+        return Payment.builder()
+                .dbPaymentId(dbPaymentId)
+                .order(testOrder)
+                .totalAmount(testOrder.getTotalAmount())
+                .pointsToUse(pointsToUse)
+                .status(status)
+                .build();
+    }
+
+    private void givenTransition(Payment payment, PaymentTransition transition, PaymentTransitionResult result) {
+        given(paymentStateMachine.transition(payment, transition)).willReturn(result);
+    }
+
+    private PortOnePaymentResponse pgResponse(BigDecimal total) {
+        PortOnePaymentResponse mockResponse = mock(PortOnePaymentResponse.class);
+        PortOnePaymentResponse.Amount mockAmount = mock(PortOnePaymentResponse.Amount.class);
+        given(mockAmount.total()).willReturn(total);
+        given(mockResponse.amount()).willReturn(mockAmount);
+        return mockResponse;
+    }
+}
@@ -0,0 +1,183 @@
+package com.bootcamp.paymentdemo.point.service;
+
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.point.consts.PointType;
+import com.bootcamp.paymentdemo.point.entity.PointTransaction;
+import com.bootcamp.paymentdemo.point.repository.PointCheckpointRepository;
+import com.bootcamp.paymentdemo.point.repository.PointRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.entity.UserPointBalance;
+import com.bootcamp.paymentdemo.user.repository.UserPointBalanceRepository;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션 없이 실행 (워커 스레드가 별도 커넥션으로 읽으므로 데이터가 커밋되어 있어야 함)
+@SpringBootTest
+class PointBalanceReconcilerTest {
+
+    @Autowired
+    private PointBalanceReconciler pointBalanceReconciler;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private PointCheckpointRepository pointCheckpointRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPointBalanceRepository userPointBalanceRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<User> users = new ArrayList<>();
+    private Membership normalGrade;
+
+    @BeforeEach
+    void setUp() {
+        normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL)
+                .orElseThrow(() -> new IllegalStateException("NORMAL 등급이 없습니다"));
+        // 사용자마다 다른 구간 워커가 처리하도록 구간을 작게
+        ReflectionTestUtils.setField(pointBalanceReconciler, "rangeSize", 1L);
+        ReflectionTestUtils.setField(pointBalanceReconciler, "batchSize", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(pointBalanceReconciler, "rangeSize", 10000L);
+        ReflectionTestUtils.setField(pointBalanceReconciler, "batchSize", 500);
+        for (User user : users) {
+            pointCheckpointRepository.findById(user.getUserId()).ifPresent(pointCheckpointRepository::delete);
+            pointRepository.deleteAll(pointRepository.findAll().stream()
+                    .filter(p -> p.getUser().getUserId().equals(user.getUserId()))
+                    .toList());
+            userPointBalanceRepository.deleteById(user.getUserId());
+            userRepository.deleteById(user.getUserId());
+        }
+    }
+
+    @Test
+    @DisplayName("어긋난 스냅샷만 (체크포인트 + 이후 내역) 잔액으로 보정")
+    void reconcile() {
+        // Given
+        User consistent = createUser(300);
+        earn(consistent, 300);
+
+        User drifted = createUser(150);
+        earn(drifted, 100);
+
+        // 체크포인트 이전/이후 내역이 모두 있는 사용자
+        User checkpointed = createUser(0);
+        earn(checkpointed, 1000);
+        pointLedgerService.checkpoint(checkpointed.getUserId(), LocalDateTime.now().plusMinutes(1));
+        pointRepository.save(new PointTransaction(checkpointed, null, BigDecimal.valueOf(-400), PointType.SPENT));
+
+        // When
+        int corrected = reconcileTestUsers(pointBalanceReconciler);
+
+        // Then: 어긋난 두 사용자만 정확한 잔액으로 보정
+        assertThat(corrected).isEqualTo(2);
+        assertThat(balanceOf(consistent)).isEqualByComparingTo("300");
+        assertThat(balanceOf(drifted)).isEqualByComparingTo("100");
+        assertThat(balanceOf(checkpointed)).isEqualByComparingTo("600");
+
+        // 보정 후 다시 실행하면 대상 없음
+        assertThat(reconcileTestUsers(pointBalanceReconciler)).isZero();
+        assertThat(balanceOf(drifted)).isEqualByComparingTo("100");
+    }
+
+    @Test
+    @DisplayName("조회 후 반영 전에 잔액이 바뀌면 보정하지 않음 (읽은 스냅샷 값 조건부 갱신)")
+    void reconcile_ConcurrentChangeNotOverwritten() {
+        // Given
+        User drifted = createUser(150);
+        earn(drifted, 100);
+        User other = createUser(80);
+        earn(other, 50);
+
+        // 어긋난 행을 읽은 뒤 배치 반영 직전에 다른 요청이 drifted 잔액을 바꿈
+        JdbcTemplate racingTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (batchArgs.stream().anyMatch(args -> drifted.getUserId().equals(args[2]))) {
+                    update("UPDATE user_point_balances SET current_points = current_points + 20 WHERE user_id = ?",
+                            drifted.getUserId());
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        PointBalanceReconciler reconciler = new PointBalanceReconciler(racingTemplate);
+        ReflectionTestUtils.setField(reconciler, "workers", 1);
+        ReflectionTestUtils.setField(reconciler, "rangeSize", 10000L);
+        ReflectionTestUtils.setField(reconciler, "batchSize", 500);
+        ReflectionTestUtils.setField(reconciler, "fetchSize", 100);
+        reconciler.init();
+
+        // When
+        int corrected;
+        try {
+            corrected = reconcileTestUsers(reconciler);
+        } finally {
+            reconciler.shutdown();
+        }
+
+        // Then: 바뀐 잔액(170)은 덮어쓰지 않고, 같은 배치의 다른 사용자는 보정
+        assertThat(corrected).isEqualTo(1);
+        assertThat(balanceOf(drifted)).isEqualByComparingTo("170");
+        assertThat(balanceOf(other)).isEqualByComparingTo("50");
+    }
+
+    // 이 테스트에서 만든 사용자 구간만 보정 (다른 테스트 데이터 제외)
+    private int reconcileTestUsers(PointBalanceReconciler reconciler) {
+        long from = users.stream().mapToLong(User::getUserId).min().orElseThrow();
+        long to = users.stream().mapToLong(User::getUserId).max().orElseThrow() + 1;
+        return reconciler.reconcile(from, to);
+    }
+
+    private User createUser(long snapshot) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(
+                User.register("sync-" + suffix + "@example.com", "pw", "테스터", "010-1234-5678", normalGrade));
+        userPointBalanceRepository.save(UserPointBalance.builder()
+                .user(user)
+                .currentPoints(BigDecimal.valueOf(snapshot))
+                .build());
+        users.add(user);
+        return user;
+    }
+
+    private void earn(User user, long amount) {
+        pointRepository.save(new PointTransaction(user, null, BigDecimal.valueOf(amount), PointType.EARNED));
+    }
+
+    private BigDecimal balanceOf(User user) {
+        return userPointBalanceRepository.findById(user.getUserId()).orElseThrow().getCurrentPoints();
+    }
+}
@@ -0,0 +1,150 @@
+package com.bootcamp.paymentdemo.point.service;
+
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.point.consts.PointType;
+import com.bootcamp.paymentdemo.point.entity.PointTransaction;
+import com.bootcamp.paymentdemo.point.repository.PointRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.entity.UserPointBalance;
+import com.bootcamp.paymentdemo.user.repository.UserPointBalanceRepository;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PointExpirationServiceTest {
+
+    @Autowired
+    private PointExpirationService pointExpirationService;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPointBalanceRepository userPointBalanceRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    private User user1;
+    private User user2;
+
+    @BeforeEach
+    void setUp() {
+        Membership normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL).orElseThrow(
+                () -> new IllegalStateException("NORMAL 등급이 없습니다")
+        );
+        user1 = createUser("expire1@test.com", normalGrade, 1000);
+        user2 = createUser("expire2@test.com", normalGrade, 500);
+    }
+
+    @Test
+    @DisplayName("청크의 소멸 대상을 사용자별로 합산해 잔액 차감, 소멸 내역 생성, 잔여 포인트 0")
+    void expire_성공() {
+        // Given
+        LocalDate today = LocalDate.now();
+        PointTransaction lot1 = earn(user1, 300, today.minusDays(1));
+        PointTransaction lot2 = earn(user1, 200, today.minusDays(3));
+        PointTransaction lot3 = earn(user2, 100, today.minusDays(1));
+        PointTransaction notExpired = earn(user1, 500, today.plusDays(1));
+
+        // When
+        int count = pointExpirationService.expire(
+                List.of(lot1.getId(), lot2.getId(), lot3.getId(), notExpired.getId()), today);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(remainingOf(lot1)).isEqualByComparingTo("0");
+        assertThat(remainingOf(lot2)).isEqualByComparingTo("0");
+        assertThat(remainingOf(lot3)).isEqualByComparingTo("0");
+        assertThat(remainingOf(notExpired)).isEqualByComparingTo("500");
+
+        assertThat(balanceOf(user1)).isEqualByComparingTo("500");
+        assertThat(balanceOf(user2)).isEqualByComparingTo("400");
+
+        List<BigDecimal> expiredAmounts = pointRepository.findAll().stream()
+                .filter(p -> p.getType() == PointType.EXPIRED)
+                .filter(p -> p.getUser().getUserId().equals(user1.getUserId()))
+                .map(PointTransaction::getAmount)
+                .toList();
+        assertThat(expiredAmounts).usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactlyInAnyOrder(new BigDecimal("-300"), new BigDecimal("-200"));
+    }
+
+    @Test
+    @DisplayName("이미 소멸된 내역은 다시 처리해도 변화 없음 (중단 후 재실행)")
+    void expire_재실행() {
+        // Given
+        LocalDate today = LocalDate.now();
+        PointTransaction lot = earn(user1, 300, today.minusDays(1));
+        pointExpirationService.expire(List.of(lot.getId()), today);
+
+        // When
+        int count = pointExpirationService.expire(List.of(lot.getId()), today);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(balanceOf(user1)).isEqualByComparingTo("700");
+        assertThat(pointRepository.findAll().stream().filter(p -> p.getType() == PointType.EXPIRED).count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("소멸 대상 ID 조회 - 만료/잔여 포인트 조건과 point_id 커서")
+    void findExpiredPointIds() {
+        // Given
+        LocalDate today = LocalDate.now();
+        PointTransaction lot1 = earn(user1, 300, today.minusDays(1));
+        PointTransaction lot2 = earn(user2, 100, today.minusDays(1));
+        earn(user1, 500, today);
+
+        // When
+        List<Long> ids = pointRepository.findExpiredPointIds(0L, today, PageRequest.ofSize(100));
+
+        // Then
+        assertThat(ids).contains(lot1.getId(), lot2.getId()).hasSize(2);
+        assertThat(pointRepository.findExpiredPointIds(lot1.getId(), today,
+                PageRequest.ofSize(100))).containsExactly(lot2.getId());
+    }
+
+    private User createUser(String email, Membership grade, long points) {
+        User user = userRepository.save(User.register(email, "encodedPassword", "test", "010-1234-5678", grade));
+        userPointBalanceRepository.save(UserPointBalance.builder()
+                .user(user)
+                .currentPoints(BigDecimal.valueOf(points))
+                .build());
+        return user;
+    }
+
+    private PointTransaction earn(User user, long amount, LocalDate expiresAt) {
+        PointTransaction earned = new PointTransaction(user, null, BigDecimal.valueOf(amount), PointType.EARNED);
+        ReflectionTestUtils.setField(earned, "expiresAt", expiresAt);
+        return pointRepository.save(earned);
+    }
+
+    private BigDecimal remainingOf(PointTransaction lot) {
+        return pointRepository.findById(lot.getId()).orElseThrow().getRemainingAmount();
+    }
+
+    private BigDecimal balanceOf(User user) {
+        return userPointBalanceRepository.findByUserId(user.getUserId()).orElseThrow().getCurrentPoints();
+    }
+}
@@ -0,0 +1,168 @@
+package com.bootcamp.paymentdemo.point.service;
+
+import com.bootcamp.paymentdemo.membership.entity.Membership;
+import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
+import com.bootcamp.paymentdemo.membership.repository.MembershipRepository;
+import com.bootcamp.paymentdemo.point.consts.PointType;
+import com.bootcamp.paymentdemo.point.entity.PointCheckpoint;
+import com.bootcamp.paymentdemo.point.entity.PointTransaction;
+import com.bootcamp.paymentdemo.point.repository.PointCheckpointRepository;
+import com.bootcamp.paymentdemo.point.repository.PointRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import com.bootcamp.paymentdemo.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PointLedgerServiceTest {
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private PointCheckpointRepository pointCheckpointRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        Membership normalGrade = membershipRepository.findByGradeName(MembershipGrade.NORMAL).orElseThrow(
+                () -> new IllegalStateException("NORMAL 등급이 없습니다")
+        );
+        testUser = userRepository.save(User.register(
+                "ledger@test.com", "encodedPassword", "test", "010-1234-5678", normalGrade));
+    }
+
+    @Test
+    @DisplayName("체크포인트가 없으면 전체 내역 합계")
+    void balanceOf_체크포인트없음() {
+        // Given
+        save(1000, PointType.EARNED);
+        save(-300, PointType.SPENT);
+
+        // When & Then
+        assertThat(pointLedgerService.balanceOf(testUser.getUserId())).isEqualByComparingTo("700");
+        assertThat(pointCheckpointRepository.findById(testUser.getUserId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("체크포인트를 여러 번 전진해도 체크포인트 + 이후 내역 합계가 전체 합계와 같음")
+    void balanceOf_체크포인트전진() {
+        Long userId = testUser.getUserId();
+
+        save(1000, PointType.EARNED);
+        save(-300, PointType.SPENT);
+        assertThat(pointLedgerService.checkpoint(userId, settled())).isTrue();
+
+        save(500, PointType.EARNED);
+        PointTransaction last = save(-200, PointType.SPENT);
+        assertThat(pointLedgerService.checkpoint(userId, settled())).isTrue();
+
+        // 체크포인트 이후 내역
+        save(50, PointType.REFUNDED);
+        save(-100, PointType.EXPIRED);
+
+        PointCheckpoint checkpoint = pointCheckpointRepository.findById(userId).orElseThrow();
+        assertThat(checkpoint.getLastPointId()).isEqualTo(last.getId());
+        assertThat(checkpoint.getBalance()).isEqualByComparingTo("1000");
+        assertThat(pointLedgerService.balanceOf(userId)).isEqualByComparingTo("950");
+        assertThat(pointLedgerService.balanceOf(userId)).isEqualByComparingTo(pointRepository.sumAfter(userId, 0L));
+        assertThat(pointLedgerService.verify(userId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("settledBefore 이후에 생성된 내역은 체크포인트에 포함하지 않음")
+    void checkpoint_최근내역제외() {
+        // Given
+        save(1000, PointType.EARNED);
+
+        // When
+        boolean advanced = pointLedgerService.checkpoint(testUser.getUserId(), LocalDateTime.now().minusMinutes(10));
+
+        // Then
+        assertThat(advanced).isFalse();
+        assertThat(pointCheckpointRepository.findById(testUser.getUserId())).isEmpty();
+        assertThat(pointLedgerService.balanceOf(testUser.getUserId())).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("새 내역이 없으면 체크포인트를 전진하지 않음")
+    void checkpoint_변경없음() {
+        // Given
+        save(1000, PointType.EARNED);
+        pointLedgerService.checkpoint(testUser.getUserId(), settled());
+
+        // When & Then
+        assertThat(pointLedgerService.checkpoint(testUser.getUserId(), settled())).isFalse();
+    }
+
+    @Test
+    @DisplayName("체크포인트 잔액이 전체 합계와 다르면 검증 실패 후 재구성")
+    void verify_불일치재구성() {
+        // Given
+        Long userId = testUser.getUserId();
+        save(1000, PointType.EARNED);
+        save(-300, PointType.SPENT);
+        pointLedgerService.checkpoint(userId, settled());
+
+        PointCheckpoint checkpoint = pointCheckpointRepository.findById(userId).orElseThrow();
+        ReflectionTestUtils.setField(checkpoint, "balance", new BigDecimal("9999"));
+
+        // When
+        boolean matches = pointLedgerService.verify(userId);
+
+        // Then
+        assertThat(matches).isFalse();
+        assertThat(checkpoint.getBalance()).isEqualByComparingTo("700");
+        assertThat(pointLedgerService.verify(userId)).isTrue();
+        assertThat(pointLedgerService.balanceOf(userId)).isEqualByComparingTo("700");
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 확정된 내역이 있는 사용자만 체크포인트 대상")
+    void findUserIdsToCheckpoint() {
+        // Given
+        Long userId = testUser.getUserId();
+        save(1000, PointType.EARNED);
+
+        // When & Then
+        assertThat(pointRepository.findUserIdsToCheckpoint(0L, settled(), PageRequest.ofSize(100))).contains(userId);
+
+        pointLedgerService.checkpoint(userId, settled());
+        assertThat(pointRepository.findUserIdsToCheckpoint(0L, settled(), PageRequest.ofSize(100))).doesNotContain(userId);
+
+        save(-300, PointType.SPENT);
+        assertThat(pointRepository.findUserIdsToCheckpoint(0L, settled(), PageRequest.ofSize(100))).contains(userId);
+        assertThat(pointRepository.findUserIdsToCheckpoint(userId, settled(), PageRequest.ofSize(100))).doesNotContain(userId);
+    }
+
+    private PointTransaction save(long amount, PointType type) {
+        return pointRepository.save(new PointTransaction(testUser, null, BigDecimal.valueOf(amount), type));
+    }
+
+    // 테스트에서는 방금 저장한 내역까지 확정된 것으로 간주
+    private LocalDateTime settled() {
+        return LocalDateTime.now().plusMinutes(1);
+    }
+}
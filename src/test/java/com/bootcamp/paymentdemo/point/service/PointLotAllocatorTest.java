@@ -0,0 +1,63 @@
+package com.bootcamp.paymentdemo.point.service;
+
+import com.bootcamp.paymentdemo.point.consts.PointType;
+import com.bootcamp.paymentdemo.point.dto.PointLotAllocation;
+import com.bootcamp.paymentdemo.point.entity.PointTransaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointLotAllocatorTest {
+
+    @Test
+    @DisplayName("앞의 적립 내역부터 소진하고 마지막 내역은 남은 만큼만 차감")
+    void allocate_순서대로소진() {
+        PointTransaction lot1 = lot(100);
+        PointTransaction lot2 = lot(300);
+        PointTransaction lot3 = lot(500);
+
+        List<PointLotAllocation> allocations = PointLotAllocator.allocate(List.of(lot1, lot2, lot3), BigDecimal.valueOf(250));
+
+        assertThat(allocations).extracting(PointLotAllocation::lot).containsExactly(lot1, lot2);
+        assertThat(allocations.get(0).amount()).isEqualByComparingTo("100");
+        assertThat(allocations.get(1).amount()).isEqualByComparingTo("150");
+        assertThat(PointLotAllocator.total(allocations)).isEqualByComparingTo("250");
+    }
+
+    @Test
+    @DisplayName("사용 가능한 포인트가 부족하면 가능한 만큼만 나눔")
+    void allocate_잔액부족() {
+        PointTransaction lot1 = lot(100);
+        PointTransaction lot2 = lot(50);
+
+        List<PointLotAllocation> allocations = PointLotAllocator.allocate(List.of(lot1, lot2), BigDecimal.valueOf(500));
+
+        assertThat(allocations).hasSize(2);
+        assertThat(PointLotAllocator.total(allocations)).isEqualByComparingTo("150");
+    }
+
+    @Test
+    @DisplayName("계산만 하고 적립 내역의 잔여 포인트는 바꾸지 않음")
+    void allocate_적립내역변경없음() {
+        PointTransaction lot1 = lot(100);
+
+        PointLotAllocator.allocate(List.of(lot1), BigDecimal.valueOf(100));
+
+        assertThat(lot1.getRemainingAmount()).isEqualByComparingTo("100");
+    }
+
+    @Test
+    @DisplayName("적립 내역이 없으면 빈 목록")
+    void allocate_적립내역없음() {
+        assertThat(PointLotAllocator.allocate(List.of(), BigDecimal.valueOf(100))).isEmpty();
+        assertThat(PointLotAllocator.total(List.of())).isEqualByComparingTo("0");
+    }
+
+    private PointTransaction lot(long amount) {
+        return new PointTransaction(null, null, BigDecimal.valueOf(amount), PointType.EARNED);
+    }
+}
@@ -141,26 +141,10 @@ class PointServiceIntegrationTest {
 
         // then
         assertThat(pointService.checkPointBalance(testUser)).isEqualByComparingTo(BigDecimal.ZERO);
-        assertThat(earned.getRemainingAmount()).isEqualByComparingTo(BigDecimal.ZERO);
-    }
-
-    @Test
-    @DisplayName("포인트 정합성 보정 테스트")
-    void syncPointBalance() {
-        // given
-        Order earnOrder = createOrder(BigDecimal.valueOf(10000), BigDecimal.ZERO, BigDecimal.valueOf(100));
-        pointService.earnPoints(testUser, earnOrder);
-
-        // 포인트 잔액 잘못된 값으로 설정
-        UserPointBalance userPointBalance = userPointBalanceRepository.findByUserId(testUser.getUserId()).get();
-        ReflectionTestUtils.setField(userPointBalance, "currentPoints", BigDecimal.valueOf(150));
-        userPointBalanceRepository.save(userPointBalance);
-
-        // when
-        pointService.syncPointBalance();
-
-        // then
-        assertThat(userPointBalance.getCurrentPoints()).isEqualByComparingTo(BigDecimal.valueOf(100));
+        // 일괄 UPDATE 로 반영되므로 다시 조회
+        assertThat(pointRepository.findById(earned.getId()).get().getRemainingAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(userPointBalanceRepository.findByUserId(testUser.getUserId()).get().getCurrentPoints())
+                .isEqualByComparingTo(BigDecimal.ZERO);
     }
 
     // 주문 생성 메서드
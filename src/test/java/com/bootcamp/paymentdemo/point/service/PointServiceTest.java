@@ -1,6 +1,7 @@
 package com.bootcamp.paymentdemo.point.service;
 
 import com.bootcamp.paymentdemo.common.dto.PageResponse;
+import com.bootcamp.paymentdemo.common.id.SnowflakeIdGenerator;
 import com.bootcamp.paymentdemo.membership.entity.Membership;
 import com.bootcamp.paymentdemo.membership.entity.MembershipGrade;
 import com.bootcamp.paymentdemo.order.consts.OrderStatus;
@@ -29,11 +30,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +57,18 @@ class PointServiceTest {
     @Mock
     private UserPointBalanceRepository userPointBalanceRepository;
 
+    @Mock
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private PointExpirationService pointExpirationService;
+
+    @Mock
+    private PointBalanceReconciler pointBalanceReconciler;
+
+    @Mock
+    private SnowflakeIdGenerator snowflakeIdGenerator;
+
     @InjectMocks
     private PointService pointService;
 
@@ -137,7 +153,7 @@ class PointServiceTest {
     @DisplayName("포인트 잔액 조회 - 잔액 O")
     void checkPointBalance_잔액O() {
         // Given
-        given(pointRepository.calculatePointBalance(1L))
+        given(pointLedgerService.balanceOf(1L))
                 .willReturn(BigDecimal.valueOf(100));
 
         // When
@@ -151,8 +167,8 @@ class PointServiceTest {
     @DisplayName("포인트 잔액 조회 - 잔액 X")
     void checkPointBalance_잔액X() {
         // Given
-        given(pointRepository.calculatePointBalance(1L))
-                .willReturn(null);
+        given(pointLedgerService.balanceOf(1L))
+                .willReturn(BigDecimal.ZERO);
 
         // When
         BigDecimal result = pointService.checkPointBalance(testUser);
@@ -183,7 +199,10 @@ class PointServiceTest {
 
         verify(pointRepository, times(1)).save(argThat(transaction ->
                 transaction.getType() == PointType.SPENT && transaction.getAmount().compareTo(BigDecimal.valueOf(400).negate()) == 0));
-        verify(pointUsageRepository, times(2)).save(any(PointUsage.class));
+        // 적립 내역별 사용 기록은 한 번에 저장
+        verify(pointUsageRepository, times(1)).saveAll(argThat((List<PointUsage> usages) -> usages.size() == 2
+                && usages.get(0).getAmount().compareTo(BigDecimal.valueOf(200)) == 0
+                && usages.get(1).getAmount().compareTo(BigDecimal.valueOf(200)) == 0));
     }
 
 
@@ -198,8 +217,8 @@ class PointServiceTest {
         earned1.deduct(BigDecimal.valueOf(200));
         earned2.deduct(BigDecimal.valueOf(200));
 
-        PointUsage usage1 = new PointUsage(earned1, testOrder, BigDecimal.valueOf(200));
-        PointUsage usage2 = new PointUsage(earned2, testOrder, BigDecimal.valueOf(200));
+        PointUsage usage1 = new PointUsage(1L, earned1, testOrder, BigDecimal.valueOf(200));
+        PointUsage usage2 = new PointUsage(2L, earned2, testOrder, BigDecimal.valueOf(200));
 
         given(pointUsageRepository.findByOrderId(1L)).willReturn(List.of(usage1, usage2));
         given(userPointBalanceRepository.findByUserId(1L)).willReturn(Optional.of(testUserPointBalance));
@@ -237,53 +256,67 @@ class PointServiceTest {
 
     // 포인트 소멸 테스트
     @Test
-    @DisplayName("포인트 소멸")
+    @DisplayName("포인트 소멸 - point_id 커서로 청크를 끝까지 순회, 실패한 청크는 건너뜀")
     void expirePoints_성공() {
         // Given
-        PointTransaction earned = new PointTransaction(testUser, testOrder, BigDecimal.valueOf(200), PointType.EARNED);
-        ReflectionTestUtils.setField(earned, "expiresAt", LocalDate.now().minusDays(1));
-
-        given(pointRepository.findExpiredPoints()).willReturn(List.of(earned));
-        given(userPointBalanceRepository.findByUserId(1L)).willReturn(Optional.of(testUserPointBalance));
+        ReflectionTestUtils.setField(pointService, "expirationChunkSize", 2);
+        given(pointRepository.findExpiredPointIds(eq(0L), any(LocalDate.class), any(Pageable.class)))
+                .willReturn(List.of(10L, 11L));
+        given(pointRepository.findExpiredPointIds(eq(11L), any(LocalDate.class), any(Pageable.class)))
+                .willReturn(List.of(12L, 13L));
+        given(pointRepository.findExpiredPointIds(eq(13L), any(LocalDate.class), any(Pageable.class)))
+                .willReturn(List.of(14L));
+        given(pointRepository.findExpiredPointIds(eq(14L), any(LocalDate.class), any(Pageable.class)))
+                .willReturn(List.of());
+        given(pointExpirationService.expire(eq(List.of(10L, 11L)), any(LocalDate.class))).willReturn(2);
+        given(pointExpirationService.expire(eq(List.of(12L, 13L)), any(LocalDate.class)))
+                .willThrow(new IllegalStateException("실패"));
+        given(pointExpirationService.expire(eq(List.of(14L)), any(LocalDate.class))).willReturn(1);
 
         // When
-        pointService.expirePoints();
+        int successCount = pointService.expirePoints();
 
         // Then
-        assertThat(testUserPointBalance.getCurrentPoints()).isEqualByComparingTo(BigDecimal.valueOf(300));
-        assertThat(earned.getRemainingAmount()).isEqualByComparingTo(BigDecimal.ZERO);
-
-        verify(pointRepository, times(1)).save(argThat(transaction ->
-                transaction.getType() == PointType.EXPIRED && transaction.getAmount().compareTo(BigDecimal.valueOf(200).negate()) == 0));
+        assertThat(successCount).isEqualTo(3);
+        verify(pointExpirationService, times(3)).expire(anyList(), any(LocalDate.class));
     }
 
 
-    // 스냅샷 정합성 보정 테스트
+    // 스냅샷 정합성 보정 테스트 (집계/보정은 PointBalanceReconcilerTest)
     @Test
-    @DisplayName("스냅샷 정합성 보정 테스트 - 일치")
-    void syncPointBalance_일치() {
+    @DisplayName("스냅샷 정합성 보정 - 보정 건수 반환")
+    void syncPointBalance() {
         // Given
-        given(userPointBalanceRepository.findAll()).willReturn(List.of(testUserPointBalance));
-        given(pointRepository.calculatePointBalance(1L)).willReturn(BigDecimal.valueOf(500));
+        given(pointBalanceReconciler.reconcile()).willReturn(3);
 
         // When
-        pointService.syncPointBalance();
+        int successCount = pointService.syncPointBalance();
 
         // Then
-        assertThat(testUserPointBalance.getCurrentPoints()).isEqualByComparingTo(BigDecimal.valueOf(500));
+        assertThat(successCount).isEqualTo(3);
     }
 
+    // 체크포인트 전진 테스트
     @Test
-    @DisplayName("스냅샷 정합성 보정 테스트 - 불일치")
-    void syncPointBalance_불일치() {
+    @DisplayName("체크포인트 전진 - userId 커서로 청크를 끝까지 순회")
+    void checkpointBalances_청크순회() {
         // Given
-        given(userPointBalanceRepository.findAll()).willReturn(List.of(testUserPointBalance));
-        given(pointRepository.calculatePointBalance(1L)).willReturn(BigDecimal.valueOf(300));
+        ReflectionTestUtils.setField(pointService, "checkpointSettleLag", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(pointService, "checkpointChunkSize", 2);
+        given(pointRepository.findUserIdsToCheckpoint(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L));
+        given(pointRepository.findUserIdsToCheckpoint(eq(2L), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(3L));
+        given(pointRepository.findUserIdsToCheckpoint(eq(3L), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of());
+        given(pointLedgerService.checkpoint(anyLong(), any(LocalDateTime.class))).willReturn(true);
+        given(pointLedgerService.checkpoint(eq(2L), any(LocalDateTime.class))).willThrow(new IllegalStateException("실패"));
 
         // When
-        pointService.syncPointBalance();
+        int successCount = pointService.checkpointBalances();
 
         // Then
-        assertThat(testUserPointBalance.getCurrentPoints()).isEqualByComparingTo(BigDecimal.valueOf(300));
+        assertThat(successCount).isEqualTo(2);
+        verify(pointLedgerService, times(3)).checkpoint(anyLong(), any(LocalDateTime.class));
     }
-}
\ No newline at end of file
+}
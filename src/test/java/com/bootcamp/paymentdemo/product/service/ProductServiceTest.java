@@ -212,4 +212,85 @@ class ProductServiceTest {
         Product afterIncrease = productRepository.findById(testProduct1.getId()).orElseThrow();
         assertThat(afterIncrease.getStock()).isEqualTo(originalStock);
     }
+
+    @Test
+    @DisplayName("샤딩 재고 - 전환 후 조회 시 합산 재고 반환")
+    void enableStockSharding_ReportsAggregatedStock() {
+        // when
+        productService.enableStockSharding(testProduct1.getId(), 4);
+
+        // then
+        ProductGetResponse response = productService.findOneProduct(testProduct1.getId());
+        assertThat(response.getStock()).isEqualTo(100);
+        assertThat(productService.findAllProducts())
+                .filteredOn(product -> product.getId().equals(testProduct1.getId()))
+                .extracting(ProductGetResponse::getStock)
+                .containsExactly(100);
+    }
+
+    @Test
+    @DisplayName("샤딩 재고 - 차감/복구 후 해제 시 단일 재고로 복귀")
+    void stockSharding_DecreaseIncreaseAndDisable() {
+        // given
+        productService.enableStockSharding(testProduct1.getId(), 4);
+
+        // when
+        productService.decreaseStock(testProduct1.getId(), 30);
+        productService.increaseStock(testProduct1.getId(), 5);
+
+        // then
+        assertThat(productService.findOneProduct(testProduct1.getId()).getStock()).isEqualTo(75);
+
+        // when - 해제
+        productService.disableStockSharding(testProduct1.getId());
+
+        // then
+        Product merged = productRepository.findById(testProduct1.getId()).orElseThrow();
+        assertThat(merged.isStockSharded()).isFalse();
+        assertThat(merged.getStock()).isEqualTo(75);
+    }
+
+    @Test
+    @DisplayName("샤딩 재고 - 한 샤드보다 큰 수량도 전체 재고 안에서 차감")
+    void stockSharding_DecreaseAcrossShards() {
+        // given (샤드당 25개)
+        productService.enableStockSharding(testProduct1.getId(), 4);
+
+        // when
+        productService.decreaseStock(testProduct1.getId(), 90);
+
+        // then
+        assertThat(productService.findOneProduct(testProduct1.getId()).getStock()).isEqualTo(10);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            productService.decreaseStock(testProduct1.getId(), 11);
+        });
+        // 부족 메시지는 products.stock(0)이 아닌 샤드 합계를 표시
+        assertThat(exception.getMessage()).contains("현재 재고: 10");
+    }
+
+    @Test
+    @DisplayName("샤딩 재고 설정 적용 - 전환, 샤드 수 변경, 해제 (재고 합계 유지)")
+    void applyStockSharding() {
+        // when - 전환
+        productService.applyStockSharding(testProduct1.getId(), 4);
+
+        // then
+        assertThat(productRepository.findById(testProduct1.getId()).orElseThrow().getStockShardCount()).isEqualTo(4);
+
+        // when - 샤드 수 변경 (같은 값이면 변경 없음)
+        productService.applyStockSharding(testProduct1.getId(), 4);
+        productService.applyStockSharding(testProduct1.getId(), 8);
+
+        // then
+        assertThat(productRepository.findById(testProduct1.getId()).orElseThrow().getStockShardCount()).isEqualTo(8);
+        assertThat(productService.findOneProduct(testProduct1.getId()).getStock()).isEqualTo(100);
+
+        // when - 해제
+        productService.applyStockSharding(testProduct1.getId(), 0);
+
+        // then
+        Product merged = productRepository.findById(testProduct1.getId()).orElseThrow();
+        assertThat(merged.isStockSharded()).isFalse();
+        assertThat(merged.getStock()).isEqualTo(100);
+    }
 }
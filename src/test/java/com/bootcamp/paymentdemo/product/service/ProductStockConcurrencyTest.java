@@ -0,0 +1,157 @@
+package com.bootcamp.paymentdemo.product.service;
+
+import com.bootcamp.paymentdemo.product.consts.ProductStatus;
+import com.bootcamp.paymentdemo.product.entity.Product;
+import com.bootcamp.paymentdemo.product.repository.ProductRepository;
+import com.bootcamp.paymentdemo.product.repository.ProductStockShardRepository;
+import com.bootcamp.paymentdemo.product.service.ProductStockEngine.StockLine;
+import com.bootcamp.paymentdemo.product.service.ProductStockEngine.StockLineResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션 없이 실행 (스레드마다 별도 트랜잭션으로 커밋되어야 동시성 검증 가능)
+@SpringBootTest
+class ProductStockConcurrencyTest {
+
+    private static final int THREAD_COUNT = 200;
+    private static final int REQUEST_COUNT = 300;
+    private static final int INITIAL_STOCK = 100;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockShardRepository productStockShardRepository;
+
+    private Product hotProduct;
+    private Product otherProduct;
+
+    @BeforeEach
+    void setUp() {
+        hotProduct = productRepository.save(new Product(
+                "동시성 테스트 상품", new BigDecimal("1000"), INITIAL_STOCK, "테스트 카테고리", ProductStatus.FOR_SALE));
+        otherProduct = productRepository.save(new Product(
+                "동시성 테스트 상품 2", new BigDecimal("1000"), INITIAL_STOCK, "테스트 카테고리", ProductStatus.FOR_SALE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productStockShardRepository.deleteAll(productStockShardRepository.findAll().stream()
+                .filter(shard -> shard.getProductId().equals(hotProduct.getId()))
+                .toList());
+        productRepository.deleteAll(List.of(hotProduct, otherProduct));
+    }
+
+    @Test
+    @DisplayName("재고 동시 차감 - 초과 판매 없음")
+    void decreaseStock_Concurrent_NoOversell() throws InterruptedException {
+        // given
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        runConcurrently(() -> {
+            try {
+                productService.decreaseStock(hotProduct.getId(), 1);
+                successCount.incrementAndGet();
+            } catch (IllegalStateException e) {
+                failCount.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(successCount.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(failCount.get()).isEqualTo(REQUEST_COUNT - INITIAL_STOCK);
+        assertThat(productRepository.findById(hotProduct.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("재고 동시 일괄 차감 - 라인별 결과 반환, 초과 판매 없음")
+    void decreaseStocks_Concurrent_NoOversell() throws InterruptedException {
+        // given
+        AtomicInteger hotSuccess = new AtomicInteger();
+        AtomicInteger otherSuccess = new AtomicInteger();
+
+        // when (같은 요청 안에서 두 상품을 서로 다른 수량으로 차감)
+        runConcurrently(() -> {
+            List<StockLineResult> results = productService.decreaseStocks(List.of(
+                    new StockLine(hotProduct.getId(), 1),
+                    new StockLine(otherProduct.getId(), 3)
+            ));
+            if (results.get(0).success()) {
+                hotSuccess.incrementAndGet();
+            }
+            if (results.get(1).success()) {
+                otherSuccess.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(hotSuccess.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(otherSuccess.get()).isEqualTo(INITIAL_STOCK / 3);
+        assertThat(productRepository.findById(hotProduct.getId()).orElseThrow().getStock()).isZero();
+        assertThat(productRepository.findById(otherProduct.getId()).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK % 3);
+    }
+
+    @Test
+    @DisplayName("샤딩 재고 동시 차감 - 초과 판매 없음")
+    void decreaseStock_Sharded_Concurrent_NoOversell() throws InterruptedException {
+        // given
+        productService.enableStockSharding(hotProduct.getId(), 8);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        runConcurrently(() -> {
+            try {
+                productService.decreaseStock(hotProduct.getId(), 1);
+                successCount.incrementAndGet();
+            } catch (IllegalStateException e) {
+                // 재고 부족
+            }
+        });
+
+        // then
+        assertThat(successCount.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(productService.findOneProduct(hotProduct.getId()).getStock()).isZero();
+    }
+
+    private void runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bootcamp.paymentdemo.product.service;
+
+import com.bootcamp.paymentdemo.product.entity.Product;
+import com.bootcamp.paymentdemo.product.service.ProductStockEngine.StockLine;
+import com.bootcamp.paymentdemo.product.service.ProductStockEngine.StockLineResult;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockEngineTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ProductStockShardEngine productStockShardEngine;
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ProductStockEngine productStockEngine;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(productStockEngine, "entityManager", entityManager);
+        // 두 상품 모두 단일 행 재고
+        Map<Long, Integer> shardCounts = (Map<Long, Integer>) ReflectionTestUtils.getField(productStockEngine, "shardCounts");
+        shardCounts.put(1L, 0);
+        shardCounts.put(2L, 0);
+    }
+
+    @Test
+    @DisplayName("일괄 차감: 드라이버가 SUCCESS_NO_INFO를 돌려주면 차감 여부를 알 수 없으므로 배치 전체 거부")
+    void tryDecreaseAll_SuccessNoInfoRejected() {
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willReturn(new int[]{Statement.SUCCESS_NO_INFO, 1});
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> productStockEngine.tryDecreaseAll(List.of(
+                        new StockLine(1L, 3),
+                        new StockLine(2L, 5)
+                ))),
+                () -> verify(entityManager, never()).getReference(any(), any())
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("일괄 차감: 같은 상품 라인은 합치고 상품 id 순으로 배치 (잠금 순서 고정), 0건 갱신 상품만 실패")
+    void tryDecreaseAll_MergedAndSortedByProductId() {
+        Product product = mock(Product.class);
+        given(entityManager.getReference(Product.class, 1L)).willReturn(product);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1, 0});
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(2L))).willReturn(List.of(0));
+
+        List<StockLineResult> results = productStockEngine.tryDecreaseAll(List.of(
+                new StockLine(2L, 5),
+                new StockLine(1L, 3),
+                new StockLine(1L, 2)
+        ));
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertAll(
+                () -> assertThat(args.getValue()).extracting(arg -> arg[2]).containsExactly(1L, 2L),
+                () -> assertThat(args.getValue()).extracting(arg -> arg[0]).containsExactly(5, 5),
+                () -> assertThat(results).extracting(StockLineResult::productId).containsExactly(1L, 2L),
+                () -> assertThat(results).extracting(StockLineResult::success).containsExactly(true, false),
+                () -> verify(product).syncStock(-5)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("재고 복구: 캐시가 단일 행이라 해도 다른 노드에서 샤딩된 상품이면 샤드에 더함")
+    void increase_StaleCacheSeesShardedProduct() {
+        // 캐시는 단일 행(0)이지만 DB는 이미 4개 샤드로 전환됨 -> stock_shard_count 조건으로 0건 갱신
+        given(jdbcTemplate.update(anyString(), any(), any(), eq(1L))).willReturn(0);
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L))).willReturn(List.of(4));
+        given(productStockShardEngine.increase(1L, 4, 3)).willReturn(true);
+
+        boolean increased = productStockEngine.increase(1L, 3);
+
+        assertAll(
+                () -> assertThat(increased).isTrue(),
+                () -> verify(jdbcTemplate).update(contains("stock_shard_count IS NULL"), any(), any(), eq(1L)),
+                () -> verify(productStockShardEngine).increase(1L, 4, 3)
+        );
+    }
+}
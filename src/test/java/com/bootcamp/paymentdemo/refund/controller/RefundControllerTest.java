@@ -178,7 +178,7 @@ class RefundControllerIntegrationTest {
     @DisplayName("이미 환불된 결제 - 예외 발생")
     void refundAlreadyRefunded() throws Exception {
         // Given: 결제를 이미 환불된 상태로 변경
-        savedPayment.refund();
+        ReflectionTestUtils.setField(savedPayment, "status", PaymentStatus.REFUND);
         paymentRepository.save(savedPayment);
 
         String dbPaymentId = "db1";
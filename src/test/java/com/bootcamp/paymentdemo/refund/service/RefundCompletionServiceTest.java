@@ -0,0 +1,155 @@
+package com.bootcamp.paymentdemo.refund.service;
+
+import com.bootcamp.paymentdemo.membership.service.MembershipService;
+import com.bootcamp.paymentdemo.order.consts.OrderStatus;
+import com.bootcamp.paymentdemo.order.entity.Order;
+import com.bootcamp.paymentdemo.order.service.OrderService;
+import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
+import com.bootcamp.paymentdemo.orderProduct.repository.OrderProductRepository;
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransition;
+import com.bootcamp.paymentdemo.payment.dto.PaymentTransitionResult;
+import com.bootcamp.paymentdemo.payment.entity.Payment;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.payment.service.PaymentStateMachine;
+import com.bootcamp.paymentdemo.product.service.ProductService;
+import com.bootcamp.paymentdemo.refund.entity.Refund;
+import com.bootcamp.paymentdemo.refund.exception.RefundException;
+import com.bootcamp.paymentdemo.refund.repository.RefundRepository;
+import com.bootcamp.paymentdemo.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefundCompletionServiceTest {
+
+    @Mock
+    private RefundRepository refundRepository;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentStateMachine paymentStateMachine;
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private ProductService productService;
+    @Mock
+    private OrderProductRepository orderProductRepository;
+    @Mock
+    private MembershipService membershipService;
+
+    @InjectMocks
+    private RefundCompletionService refundCompletionService;
+
+    private Payment testPayment;
+    private Order testOrder;
+    private User testUser;
+    private final String refundReason = "단순 변심";
+    private final String portOneRefundId = "portone-refund-456";
+    private final String refundGroupId = "rfnd-grp-1";
+
+    @BeforeEach
+    void setUp() {
+        testUser = mock(User.class);
+
+        testOrder = Order.builder()
+                .user(testUser)
+                .orderNumber("ORD-20240101")
+                .totalAmount(new BigDecimal("10000"))
+                .usedPoints(new BigDecimal("1000"))
+                .finalAmount(new BigDecimal("9000"))
+                .earnedPoints(BigDecimal.ZERO)
+                .currency("KRW")
+                .orderStatus(OrderStatus.PENDING_CONFIRMATION)
+                .build();
+        ReflectionTestUtils.setField(testOrder, "id", 100L);
+
+        testPayment = Payment.builder()
+                .dbPaymentId("db1")
+                .order(testOrder)
+                .totalAmount(new BigDecimal("10000"))
+                .pointsToUse(new BigDecimal("1000"))
+                .status(PaymentStatus.REFUNDING)
+                .build();
+        ReflectionTestUtils.setField(testPayment, "id", 1L);
+
+        given(paymentRepository.findByDbPaymentId("db1")).willReturn(Optional.of(testPayment));
+    }
+
+    @Test
+    @DisplayName("환불 완료: 이력 저장, 주문 취소, 재고 복구, 멤버십 갱신")
+    void complete_Success() {
+        // given
+        given(testUser.getUserId()).willReturn(1L);
+        givenRefundCompleted();
+        List<OrderProduct> orderProducts = Arrays.asList(
+                createOrderProduct(200L, 3),
+                createOrderProduct(201L, 5)
+        );
+        given(orderProductRepository.findByOrder_Id(testOrder.getId()))
+                .willReturn(orderProducts);
+
+        ArgumentCaptor<Refund> refundCaptor = ArgumentCaptor.forClass(Refund.class);
+
+        // when
+        refundCompletionService.complete("db1", refundReason, portOneRefundId, refundGroupId);
+
+        // then
+        verify(refundRepository, times(1)).save(refundCaptor.capture());
+        assertAll(
+                () -> assertThat(ReflectionTestUtils.getField(refundCaptor.getValue(), "paymentId")).isEqualTo(testPayment.getId()),
+                () -> verify(orderService, times(1)).cancelOrder(testOrder.getId(), refundReason),
+                () -> verify(productService, times(1)).increaseStock(200L, 3),
+                () -> verify(productService, times(1)).increaseStock(201L, 5),
+                () -> verify(membershipService, times(1))
+                        .handleRefund(1L, testOrder.getFinalAmount(), testOrder.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("환불 완료 실패: 선점 상태가 아니면 변경 없이 예외 발생")
+    void complete_NotRefunding() {
+        // given
+        given(paymentStateMachine.transition(testPayment, PaymentTransition.COMPLETE_REFUND))
+                .willReturn(PaymentTransitionResult.invalidState(PaymentStatus.REFUND, 3L));
+
+        // when & then
+        assertThatThrownBy(() -> refundCompletionService.complete("db1", refundReason, portOneRefundId, refundGroupId))
+                .isInstanceOf(RefundException.class);
+
+        verify(refundRepository, never()).save(any());
+        verify(orderService, never()).cancelOrder(anyLong(), anyString());
+        verify(productService, never()).increaseStock(anyLong(), anyInt());
+    }
+
+    private void givenRefundCompleted() {
+        given(paymentStateMachine.transition(testPayment, PaymentTransition.COMPLETE_REFUND))
+                .willReturn(PaymentTransitionResult.applied(PaymentStatus.REFUND, 2L));
+    }
+
+    private OrderProduct createOrderProduct(Long productId, int count) {
+        OrderProduct orderProduct = mock(OrderProduct.class);
+        given(orderProduct.getProductId()).willReturn(productId);
+        given(orderProduct.getCount()).willReturn(count);
+        return orderProduct;
+    }
+}
@@ -1,24 +1,21 @@
 package com.bootcamp.paymentdemo.refund.service;
 
+import com.bootcamp.paymentdemo.common.id.SnowflakeIdGenerator;
 import com.bootcamp.paymentdemo.external.portone.client.PortOneClient;
 import com.bootcamp.paymentdemo.external.portone.dto.PortOneRefundRequest;
 import com.bootcamp.paymentdemo.external.portone.dto.PortOneRefundResponse;
 import com.bootcamp.paymentdemo.external.portone.exception.PortOneException;
-import com.bootcamp.paymentdemo.membership.service.MembershipService;
 import com.bootcamp.paymentdemo.order.consts.OrderStatus;
 import com.bootcamp.paymentdemo.order.entity.Order;
-import com.bootcamp.paymentdemo.order.service.OrderService;
-import com.bootcamp.paymentdemo.orderProduct.entity.OrderProduct;
-import com.bootcamp.paymentdemo.orderProduct.repository.OrderProductRepository;
 import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.consts.PaymentTransition;
+import com.bootcamp.paymentdemo.payment.dto.PaymentTransitionResult;
 import com.bootcamp.paymentdemo.payment.entity.Payment;
 import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
-import com.bootcamp.paymentdemo.product.service.ProductService;
+import com.bootcamp.paymentdemo.payment.service.PaymentStateMachine;
 import com.bootcamp.paymentdemo.refund.dto.RefundRequest;
 import com.bootcamp.paymentdemo.refund.dto.RefundResponse;
-import com.bootcamp.paymentdemo.refund.entity.Refund;
 import com.bootcamp.paymentdemo.refund.exception.RefundException;
-import com.bootcamp.paymentdemo.refund.repository.RefundRepository;
 import com.bootcamp.paymentdemo.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,13 +24,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,27 +37,24 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class RefundServiceTest {
 
-    @Mock
-    private RefundRepository refundRepository;
     @Mock
     private RefundHistoryService refundHistoryService;
     @Mock
-    private PaymentRepository paymentRepository;
-    @Mock
-    private PortOneClient portOneClient;
+    private RefundCompletionService refundCompletionService;
     @Mock
-    private OrderService orderService;
-    @Mock
-    private ProductService productService;
+    private PaymentRepository paymentRepository;
     @Mock
-    private OrderProductRepository orderProductRepository;
+    private PaymentStateMachine paymentStateMachine;
     @Mock
-    private MembershipService membershipService;
+    private PortOneClient portOneClient;
+    @Spy
+    private SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(1, 5000, System::currentTimeMillis);
 
     @InjectMocks
     private RefundService refundService;
@@ -109,23 +102,16 @@ class RefundServiceTest {
     @DisplayName("정상적인 환불 요청 성공")
     void refundAll_Success() {
         // given
-        given(testUser.getUserId()).willReturn(1L);
-
         RefundRequest refundRequest = createRefundRequest(refundReason);
 
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.of(testPayment));
+        givenRefundClaimed();
 
         PortOneRefundResponse portOneResponse = createSuccessfulPortOneResponse();
         given(portOneClient.refundPayment(eq(testPayment.getPaymentId()), any(PortOneRefundRequest.class)))
                 .willReturn(portOneResponse);
 
-        List<OrderProduct> orderProducts = createOrderProducts(200L, 2);
-        given(orderProductRepository.findByOrder_Id(testOrder.getId()))
-                .willReturn(orderProducts);
-
-        ArgumentCaptor<Refund> refundCaptor = ArgumentCaptor.forClass(Refund.class);
-
         // when
         RefundResponse response = refundService.refundAll(testPayment.getDbPaymentId(), refundRequest);
 
@@ -150,13 +136,9 @@ class RefundServiceTest {
                 .refundPayment(eq(testPayment.getPaymentId()), portOneRequestCaptor.capture());
         assertThat(portOneRequestCaptor.getValue().getReason()).isEqualTo(refundReason);
 
-        verify(refundRepository, times(1)).save(refundCaptor.capture());
-        verify(orderService, times(1)).cancelOrder(testOrder.getId(), refundReason);
-        verify(productService, times(1)).increaseStock(200L, 2);
-        verify(membershipService, times(1))
-                .handleRefund(1L, testOrder.getFinalAmount(), testOrder.getId());
-
-        assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.REFUND);
+        verify(refundCompletionService, times(1))
+                .complete(eq(testPayment.getDbPaymentId()), eq(refundReason), eq(portOneRefundId), anyString());
+        verify(paymentStateMachine, never()).transition(any(), eq(PaymentTransition.ABORT_REFUND));
     }
 
     @Test
@@ -164,7 +146,7 @@ class RefundServiceTest {
     void refundAll_PaymentNotFound() {
         // given
         RefundRequest refundRequest = createRefundRequest(refundReason);
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.empty());
 
         // when & then
@@ -194,7 +176,7 @@ class RefundServiceTest {
                 .status(PaymentStatus.REFUND)
                 .build();
 
-        given(paymentRepository.findByDbPaymentIdWithLock(refundedPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(refundedPayment.getDbPaymentId()))
                 .willReturn(Optional.of(refundedPayment));
 
         // when & then
@@ -202,6 +184,7 @@ class RefundServiceTest {
                 .isInstanceOf(RefundException.class);
 
         verify(portOneClient, never()).refundPayment(anyString(), any());
+        verify(paymentStateMachine, never()).transition(any(), any());
     }
 
     @Test
@@ -228,7 +211,7 @@ class RefundServiceTest {
                 .status(PaymentStatus.PAID)
                 .build();
 
-        given(paymentRepository.findByDbPaymentIdWithLock(paymentWithCancelledOrder.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(paymentWithCancelledOrder.getDbPaymentId()))
                 .willReturn(Optional.of(paymentWithCancelledOrder));
 
         // when & then
@@ -236,6 +219,7 @@ class RefundServiceTest {
                 .isInstanceOf(RefundException.class);
 
         verify(portOneClient, never()).refundPayment(anyString(), any());
+        verify(paymentStateMachine, never()).transition(any(), any());
     }
 
     @Test
@@ -251,7 +235,7 @@ class RefundServiceTest {
                 .status(PaymentStatus.PENDING)
                 .build();
 
-        given(paymentRepository.findByDbPaymentIdWithLock(unpaidPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(unpaidPayment.getDbPaymentId()))
                 .willReturn(Optional.of(unpaidPayment));
 
         // when & then
@@ -259,6 +243,7 @@ class RefundServiceTest {
                 .isInstanceOf(RefundException.class);
 
         verify(portOneClient, never()).refundPayment(anyString(), any());
+        verify(paymentStateMachine, never()).transition(any(), any());
     }
 
     @Test
@@ -285,7 +270,7 @@ class RefundServiceTest {
                 .status(PaymentStatus.PAID)
                 .build();
 
-        given(paymentRepository.findByDbPaymentIdWithLock(paymentWithConfirmedOrder.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(paymentWithConfirmedOrder.getDbPaymentId()))
                 .willReturn(Optional.of(paymentWithConfirmedOrder));
 
         // when & then
@@ -293,16 +278,19 @@ class RefundServiceTest {
                 .isInstanceOf(RefundException.class);
 
         verify(portOneClient, never()).refundPayment(anyString(), any());
+        verify(paymentStateMachine, never()).transition(any(), any());
     }
 
     @Test
-    @DisplayName("PortOne API 호출 실패 시 예외 발생 및 실패 이력 저장")
+    @DisplayName("PortOne API 호출 실패 시 예외 발생 및 실패 이력 저장, 환불 선점 해제")
     void refundAll_PortOneApiFailure() {
         // given
         RefundRequest refundRequest = createRefundRequest(refundReason);
 
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.of(testPayment));
+        givenRefundClaimed();
+        givenRefundReleased();
 
         PortOneException portOneException = new PortOneException(
                 HttpStatus.BAD_REQUEST,
@@ -332,10 +320,8 @@ class RefundServiceTest {
                         isNull(),
                         anyString()
                 );
-        verify(refundRepository, never()).save(any(Refund.class));
-        verify(orderService, never()).cancelOrder(anyLong(), anyString());
-
-        assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.PAID);
+        verify(refundCompletionService, never()).complete(anyString(), anyString(), anyString(), anyString());
+        verify(paymentStateMachine, times(1)).transition(any(), eq(PaymentTransition.ABORT_REFUND));
     }
 
     @Test
@@ -344,8 +330,10 @@ class RefundServiceTest {
         // given
         RefundRequest refundRequest = createRefundRequest(refundReason);
 
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.of(testPayment));
+        givenRefundClaimed();
+        givenRefundReleased();
 
         given(portOneClient.refundPayment(eq(testPayment.getPaymentId()), any(PortOneRefundRequest.class)))
                 .willReturn(null);
@@ -370,8 +358,10 @@ class RefundServiceTest {
         // given
         RefundRequest refundRequest = createRefundRequest(refundReason);
 
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.of(testPayment));
+        givenRefundClaimed();
+        givenRefundReleased();
 
         PortOneRefundResponse portOneResponse = new PortOneRefundResponse();
 
@@ -398,8 +388,10 @@ class RefundServiceTest {
         // given
         RefundRequest refundRequest = createRefundRequest(refundReason);
 
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.of(testPayment));
+        givenRefundClaimed();
+        givenRefundReleased();
 
         PortOneRefundResponse portOneResponse = createFailedPortOneResponse();
         given(portOneClient.refundPayment(eq(testPayment.getPaymentId()), any(PortOneRefundRequest.class)))
@@ -419,21 +411,22 @@ class RefundServiceTest {
     }
 
     @Test
-    @DisplayName("환불 완료 처리 중 서버 내부 오류 발생 시 실패 이력 저장")
+    @DisplayName("PG 환불 후 내부 반영 실패 시 실패 이력 저장, REFUNDING 유지 (선점 해제 안 함)")
     void refundAll_InternalServerError() {
         // given
         RefundRequest refundRequest = createRefundRequest(refundReason);
 
         PortOneRefundResponse portOneResponse = createSuccessfulPortOneResponse();
 
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.of(testPayment));
+        givenRefundClaimed();
 
         given(portOneClient.refundPayment(eq(testPayment.getPaymentId()), any(PortOneRefundRequest.class)))
                 .willReturn(portOneResponse);
 
-        given(refundRepository.save(any()))
-                .willThrow(new RuntimeException("DB 오류"));
+        willThrow(new RuntimeException("DB 오류"))
+                .given(refundCompletionService).complete(anyString(), anyString(), anyString(), anyString());
 
         // when & then
         assertThatThrownBy(() -> refundService.refundAll(testPayment.getDbPaymentId(), refundRequest))
@@ -447,73 +440,64 @@ class RefundServiceTest {
                         eq(refundReason),
                         anyString()
                 );
+        verify(refundHistoryService, times(1))
+                .saveFailHistory(
+                        eq(testPayment.getId()),
+                        eq(testPayment.getTotalAmount()),
+                        eq(refundReason),
+                        eq(portOneRefundId),
+                        anyString()
+                );
+        verify(paymentStateMachine, never()).transition(any(), eq(PaymentTransition.ABORT_REFUND));
     }
 
     @Test
-    @DisplayName("환불 완료 후 재고 복구가 정확히 이루어지는지 검증")
-    void refundAll_StockRestoration() {
+    @DisplayName("다른 요청이 먼저 환불을 선점하면 PG 호출 없이 예외 발생")
+    void refundAll_ClaimConflict() {
         // given
-        given(testUser.getUserId()).willReturn(1L);
-
         RefundRequest refundRequest = createRefundRequest(refundReason);
 
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.of(testPayment));
+        given(paymentStateMachine.transition(testPayment, PaymentTransition.START_REFUND))
+                .willReturn(PaymentTransitionResult.invalidState(PaymentStatus.REFUNDING, 2L));
 
-        PortOneRefundResponse portOneResponse = createSuccessfulPortOneResponse();
-        given(portOneClient.refundPayment(eq(testPayment.getPaymentId()), any(PortOneRefundRequest.class)))
-                .willReturn(portOneResponse);
-
-        List<OrderProduct> orderProducts = Arrays.asList(
-                createOrderProduct(200L, 3),
-                createOrderProduct(201L, 5)
-        );
-        given(orderProductRepository.findByOrder_Id(testOrder.getId()))
-                .willReturn(orderProducts);
-
-        // when
-        refundService.refundAll(testPayment.getDbPaymentId(), refundRequest);
+        // when & then
+        assertThatThrownBy(() -> refundService.refundAll(testPayment.getDbPaymentId(), refundRequest))
+                .isInstanceOf(RefundException.class)
+                .hasMessage("환불이 진행 중인 결제입니다");
 
-        // then
-        verify(productService, times(1)).increaseStock(200L, 3);
-        verify(productService, times(1)).increaseStock(201L, 5);
+        verify(refundHistoryService, never()).saveRequestHistory(anyLong(), any(), anyString(), anyString());
+        verify(portOneClient, never()).refundPayment(anyString(), any());
     }
 
     @Test
-    @DisplayName("환불 완료 후 멤버십 갱신이 정확히 이루어지는지 검증")
-    void refundAll_MembershipUpdate() {
+    @DisplayName("환불 진행 중인 결제에 대해 환불 시도 시 예외 발생")
+    void refundAll_AlreadyRefunding() {
         // given
-        given(testUser.getUserId()).willReturn(1L);
-
         RefundRequest refundRequest = createRefundRequest(refundReason);
+        ReflectionTestUtils.setField(testPayment, "status", PaymentStatus.REFUNDING);
 
-        given(paymentRepository.findByDbPaymentIdWithLock(testPayment.getDbPaymentId()))
+        given(paymentRepository.findWithOrderByDbPaymentId(testPayment.getDbPaymentId()))
                 .willReturn(Optional.of(testPayment));
 
-        PortOneRefundResponse portOneResponse = createSuccessfulPortOneResponse();
-        given(portOneClient.refundPayment(eq(testPayment.getPaymentId()), any(PortOneRefundRequest.class)))
-                .willReturn(portOneResponse);
-
-        List<OrderProduct> orderProducts = createOrderProducts(200L, 2);
-        given(orderProductRepository.findByOrder_Id(testOrder.getId()))
-                .willReturn(orderProducts);
-
-        ArgumentCaptor<Long> userIdCaptor = ArgumentCaptor.forClass(Long.class);
-        ArgumentCaptor<BigDecimal> amountCaptor = ArgumentCaptor.forClass(BigDecimal.class);
-        ArgumentCaptor<Long> orderIdCaptor = ArgumentCaptor.forClass(Long.class);
+        // when & then
+        assertThatThrownBy(() -> refundService.refundAll(testPayment.getDbPaymentId(), refundRequest))
+                .isInstanceOf(RefundException.class)
+                .hasMessage("환불이 진행 중인 결제입니다");
 
-        // when
-        refundService.refundAll(testPayment.getDbPaymentId(), refundRequest);
+        verify(portOneClient, never()).refundPayment(anyString(), any());
+        verify(paymentStateMachine, never()).transition(any(), any());
+    }
 
-        // then
-        verify(membershipService, times(1))
-                .handleRefund(userIdCaptor.capture(), amountCaptor.capture(), orderIdCaptor.capture());
+    private void givenRefundClaimed() {
+        given(paymentStateMachine.transition(testPayment, PaymentTransition.START_REFUND))
+                .willReturn(PaymentTransitionResult.applied(PaymentStatus.REFUNDING, 1L));
+    }
 
-        assertAll(
-                () -> assertThat(userIdCaptor.getValue()).isEqualTo(1L),
-                () -> assertThat(amountCaptor.getValue()).isEqualByComparingTo(testOrder.getFinalAmount()),
-                () -> assertThat(orderIdCaptor.getValue()).isEqualTo(testOrder.getId())
-        );
+    private void givenRefundReleased() {
+        given(paymentStateMachine.transition(any(), eq(PaymentTransition.ABORT_REFUND)))
+                .willReturn(PaymentTransitionResult.applied(PaymentStatus.PAID, 2L));
     }
 
     private RefundRequest createRefundRequest(String reason) {
@@ -546,16 +530,4 @@ class RefundServiceTest {
 
         return response;
     }
-
-    private List<OrderProduct> createOrderProducts(Long productId, int count) {
-        OrderProduct orderProduct = createOrderProduct(productId, count);
-        return Arrays.asList(orderProduct);
-    }
-
-    private OrderProduct createOrderProduct(Long productId, int count) {
-        OrderProduct orderProduct = mock(OrderProduct.class);
-        given(orderProduct.getProductId()).willReturn(productId);
-        given(orderProduct.getCount()).willReturn(count);
-        return orderProduct;
-    }
-}
\ No newline at end of file
+}
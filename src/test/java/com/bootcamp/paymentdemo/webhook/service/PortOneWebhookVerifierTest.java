@@ -0,0 +1,109 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.webhook.dto.WebhookBody;
+import com.bootcamp.paymentdemo.webhook.exception.InvalidWebhookSignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PortOneWebhookVerifierTest {
+
+    static final String SECRET = "whsec_IEyjsd++0+1b/+QrYeDaa+gAfU3htpucGJAqa4hHoT0=";
+    private static final String BODY = """
+            {"type":"Transaction.Paid","timestamp":"2026-01-01T00:00:00Z","data":{"paymentId":"order_mid_1","storeId":"store-1"}}""";
+
+    private PortOneWebhookVerifier verifier;
+    private String timestamp;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new PortOneWebhookVerifier();
+        ReflectionTestUtils.setField(verifier, "webhookSecret", SECRET);
+        ReflectionTestUtils.setField(verifier, "tolerance", Duration.ofMinutes(5));
+        verifier.init();
+        timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+    }
+
+    @Test
+    @DisplayName("버퍼 일부(길이 지정)만으로 시그니처 검증 성공")
+    void verify_Success() {
+        // 버퍼 뒤쪽의 이전 요청 잔여 바이트는 무시되어야 함
+        byte[] buffer = Arrays.copyOf(BODY.getBytes(StandardCharsets.UTF_8), 1024);
+        Arrays.fill(buffer, BODY.length(), buffer.length, (byte) 'x');
+        WebhookBody body = new WebhookBody(buffer, BODY.length());
+
+        assertDoesNotThrow(() -> verifier.verify(body, "msg_1", "v1,invalid v1," + sign("msg_1", timestamp, BODY), timestamp));
+    }
+
+    @Test
+    @DisplayName("Standard Webhooks 규격 테스트 벡터로 시그니처 검증 (고정 기대값)")
+    void verify_KnownAnswer() {
+        // standard-webhooks 참조 구현의 테스트 벡터 (서명 함수를 거치지 않은 고정 기대값)
+        PortOneWebhookVerifier specVerifier = new PortOneWebhookVerifier();
+        ReflectionTestUtils.setField(specVerifier, "webhookSecret", "whsec_MfKQ9r8GKYqrTwjUPD8ILPZIo2LaLaSw");
+        ReflectionTestUtils.setField(specVerifier, "tolerance", Duration.ofDays(365 * 100));
+        specVerifier.init();
+
+        String msgId = "msg_p5jXN8AQM9LWM0D4loKWxJek";
+        String msgTimestamp = "1614265330";
+        String payload = "{\"test\": 2432232314}";
+        String expected = "v1,g0hM9SsE+OTPJTGt/tmIKtSyZlE3uFJELVlNIOLJ1OE=";
+
+        assertAll(
+                () -> assertDoesNotThrow(() -> specVerifier.verify(body(payload), msgId, expected, msgTimestamp)),
+                () -> assertThrows(InvalidWebhookSignatureException.class,
+                        () -> specVerifier.verify(body(payload), msgId, expected.replace("g0hM", "g0hN"), msgTimestamp)),
+                // 같은 시그니처라도 id가 다르면 실패
+                () -> assertThrows(InvalidWebhookSignatureException.class,
+                        () -> specVerifier.verify(body(payload), "msg_other", expected, msgTimestamp))
+        );
+    }
+
+    @Test
+    @DisplayName("바디가 변조되면 검증 실패")
+    void verify_TamperedBody() {
+        String signature = "v1," + sign("msg_1", timestamp, BODY);
+        WebhookBody tampered = body(BODY.replace("order_mid_1", "order_mid_2"));
+
+        assertThrows(InvalidWebhookSignatureException.class,
+                () -> verifier.verify(tampered, "msg_1", signature, timestamp));
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 타임스탬프는 검증 실패")
+    void verify_ExpiredTimestamp() {
+        String old = String.valueOf(System.currentTimeMillis() / 1000 - 600);
+        String signature = "v1," + sign("msg_1", old, BODY);
+
+        assertThrows(InvalidWebhookSignatureException.class,
+                () -> verifier.verify(body(BODY), "msg_1", signature, old));
+    }
+
+    static WebhookBody body(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new WebhookBody(bytes, bytes.length);
+    }
+
+    static String sign(String id, String timestamp, String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET.substring("whsec_".length())), "HmacSHA256"));
+            byte[] signature = mac.doFinal((id + "." + timestamp + "." + body).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
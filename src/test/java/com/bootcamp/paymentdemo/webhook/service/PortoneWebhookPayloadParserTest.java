@@ -0,0 +1,81 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.webhook.dto.PortoneWebhookPayload;
+import com.bootcamp.paymentdemo.webhook.dto.WebhookBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PortoneWebhookPayloadParserTest {
+
+    private final PortoneWebhookPayloadParser parser = new PortoneWebhookPayloadParser(JsonMapper.builder().build());
+
+    @Test
+    @DisplayName("사용하는 필드만 읽고 중첩된 나머지 필드는 건너뜀")
+    void parse() {
+        PortoneWebhookPayload payload = parser.parse(PortOneWebhookVerifierTest.body("""
+                {"type":"Transaction.Paid","extra":{"nested":[1,{"paymentId":"wrong"}]},
+                 "data":{"cancellationId":null,"paymentId":"order_mid_1","transactionId":"tx-1","storeId":"store-1","items":[{"a":1}]},
+                 "timestamp":"2026-01-01T00:00:00Z"}"""));
+
+        assertAll(
+                () -> assertThat(payload.getType()).isEqualTo("Transaction.Paid"),
+                () -> assertThat(payload.getTimestamp()).isEqualTo("2026-01-01T00:00:00Z"),
+                () -> assertThat(payload.getData().getPaymentId()).isEqualTo("order_mid_1"),
+                () -> assertThat(payload.getData().getTransactionId()).isEqualTo("tx-1"),
+                () -> assertThat(payload.getData().getStoreId()).isEqualTo("store-1")
+        );
+    }
+
+    @Test
+    @DisplayName("예상과 다른 구조의 값은 건너뛰고 뒤의 필드를 계속 읽음")
+    void parse_UnexpectedStructuredValues() {
+        PortoneWebhookPayload payload = parser.parse(PortOneWebhookVerifierTest.body("""
+                {"data":[{"paymentId":"wrong"}],"type":{"name":"Transaction.Paid"},
+                 "timestamp":"2026-01-01T00:00:00Z","extra":1}"""));
+        PortoneWebhookPayload nested = parser.parse(PortOneWebhookVerifierTest.body("""
+                {"data":{"paymentId":["wrong"],"storeId":{"id":"x"},"transactionId":"tx-1"},"type":"Transaction.Paid"}"""));
+
+        assertAll(
+                () -> assertThat(payload.getData()).isNull(),
+                () -> assertThat(payload.getType()).isNull(),
+                () -> assertThat(payload.getTimestamp()).isEqualTo("2026-01-01T00:00:00Z"),
+                () -> assertThat(nested.getData().getPaymentId()).isNull(),
+                () -> assertThat(nested.getData().getStoreId()).isNull(),
+                () -> assertThat(nested.getData().getTransactionId()).isEqualTo("tx-1"),
+                () -> assertThat(nested.getType()).isEqualTo("Transaction.Paid")
+        );
+    }
+
+    @Test
+    @DisplayName("스레드 버퍼로 읽은 바디를 길이만큼만 파싱")
+    void parse_FromReusedBuffer() throws Exception {
+        WebhookBodyReader reader = new WebhookBodyReader();
+        ReflectionTestUtils.setField(reader, "retainedBufferSize", 65536);
+        ReflectionTestUtils.setField(reader, "maxBodySize", 1 << 20);
+
+        String large = "{\"type\":\"Transaction.Ready\",\"pad\":\"" + "x".repeat(10_000) + "\",\"data\":{\"paymentId\":\"order_mid_big\"}}";
+        String small = "{\"type\":\"Transaction.Paid\",\"data\":{\"paymentId\":\"order_mid_1\"}}";
+
+        WebhookBody first = reader.read(new ByteArrayInputStream(large.getBytes(StandardCharsets.UTF_8)), -1);
+        assertThat(parser.parse(first).getData().getPaymentId()).isEqualTo("order_mid_big");
+
+        WebhookBody second = reader.read(new ByteArrayInputStream(small.getBytes(StandardCharsets.UTF_8)), -1);
+        PortoneWebhookPayload payload = parser.parse(second);
+
+        assertAll(
+                // 같은 버퍼를 재사용
+                () -> assertThat(second.bytes()).isSameAs(first.bytes()),
+                () -> assertThat(second.asString()).isEqualTo(small),
+                () -> assertThat(payload.getType()).isEqualTo("Transaction.Paid"),
+                () -> assertThat(payload.getData().getPaymentId()).isEqualTo("order_mid_1")
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.webhook.dto.PortoneWebhookPayload;
+import com.bootcamp.paymentdemo.webhook.dto.WebhookBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 웹훅 1건당 할당량/CPU 시간 비교 (./gradlew benchmark 로 실행)
+// - 기존: byte[] 복사 → String 변환 → 문자열 연결 후 HMAC → SDK 내부 파싱 + DTO 전체 역직렬화
+// - 변경: 스레드 버퍼에 한 번 읽기 → 바이트 그대로 HMAC → 필요한 필드만 스트리밍 파싱
+@Tag("benchmark")
+class WebhookBodyBenchmarkTest {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private static final String BODY = """
+            {"type":"Transaction.Paid","timestamp":"2026-01-01T00:00:00.000Z","data":{"storeId":"store-4f6a2c1e-0000-4000-8000-000000000001",\
+            "paymentId":"order_mid_0000000000000000042","transactionId":"0193a1b2-c3d4-7e5f-8a9b-0c1d2e3f4a5b","cancellationId":null}}""";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final byte[] raw = BODY.getBytes(StandardCharsets.UTF_8);
+    private final String id = "msg_2p6kz0uVqBbn8xRC";
+    private final String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+    private final String signature = "v1," + PortOneWebhookVerifierTest.sign(id, timestamp, BODY);
+
+    @Test
+    @DisplayName("웹훅 1건당 할당 바이트와 CPU 시간")
+    void allocationAndCpu() throws Exception {
+        LegacyPath legacy = new LegacyPath();
+        StreamingPath streaming = new StreamingPath();
+
+        for (int i = 0; i < WARMUP; i++) {
+            legacy.handle();
+            streaming.handle();
+        }
+
+        long[] before = measure(legacy::handle);
+        long[] after = measure(streaming::handle);
+
+        System.out.printf("[webhook-body] legacy    alloc=%,d B/op cpu=%,d ns/op%n", before[0], before[1]);
+        System.out.printf("[webhook-body] streaming alloc=%,d B/op cpu=%,d ns/op%n", after[0], after[1]);
+
+        assertThat(after[0]).isLessThan(before[0]);
+    }
+
+    private long[] measure(ThrowingRunnable task) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        long cpu = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return new long[]{
+                (threads.getCurrentThreadAllocatedBytes() - allocated) / ITERATIONS,
+                (threads.getCurrentThreadCpuTime() - cpu) / ITERATIONS
+        };
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private class LegacyPath {
+
+        private final Mac mac;
+
+        LegacyPath() throws Exception {
+            mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Base64.getDecoder().decode(
+                    PortOneWebhookVerifierTest.SECRET.substring("whsec_".length())), "HmacSHA256"));
+        }
+
+        void handle() throws Exception {
+            byte[] rawBody = StreamUtils.copyToByteArray(new ByteArrayInputStream(raw));
+            String bodyString = new String(rawBody, StandardCharsets.UTF_8);
+
+            byte[] expected = mac.doFinal((id + "." + timestamp + "." + bodyString).getBytes(StandardCharsets.UTF_8));
+            if (!signature.endsWith(Base64.getEncoder().encodeToString(expected))) {
+                throw new IllegalStateException("signature");
+            }
+            // SDK 검증기는 검증 후 바디를 Webhook 객체로 한 번 더 파싱함
+            objectMapper.readTree(bodyString);
+
+            PortoneWebhookPayload payload = objectMapper.readValue(rawBody, PortoneWebhookPayload.class);
+            consume(payload, bodyString);
+        }
+    }
+
+    private class StreamingPath {
+
+        private final WebhookBodyReader reader = new WebhookBodyReader();
+        private final PortOneWebhookVerifier verifier = new PortOneWebhookVerifier();
+        private final PortoneWebhookPayloadParser parser = new PortoneWebhookPayloadParser(objectMapper);
+
+        StreamingPath() {
+            ReflectionTestUtils.setField(reader, "retainedBufferSize", 65536);
+            ReflectionTestUtils.setField(reader, "maxBodySize", 1 << 20);
+            ReflectionTestUtils.setField(verifier, "webhookSecret", PortOneWebhookVerifierTest.SECRET);
+            ReflectionTestUtils.setField(verifier, "tolerance", Duration.ofMinutes(5));
+            verifier.init();
+        }
+
+        void handle() throws Exception {
+            WebhookBody body = reader.read(new ByteArrayInputStream(raw), raw.length);
+            verifier.verify(body, id, signature, timestamp);
+            PortoneWebhookPayload payload = parser.parse(body);
+            // 원문 저장용 문자열 변환은 기존과 동일하게 1회
+            consume(payload, body.asString());
+        }
+    }
+
+    private void consume(PortoneWebhookPayload payload, String rawBody) {
+        if (payload.getData() == null || rawBody.isEmpty()) {
+            throw new IllegalStateException("payload");
+        }
+    }
+}
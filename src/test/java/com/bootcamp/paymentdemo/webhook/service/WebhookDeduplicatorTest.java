@@ -0,0 +1,114 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.webhook.dto.WebhookDedupStats;
+import com.bootcamp.paymentdemo.webhook.repository.WebhookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookDeduplicatorTest {
+
+    @Mock
+    private WebhookRepository webhookRepository;
+
+    @InjectMocks
+    private WebhookDeduplicator webhookDeduplicator;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(webhookDeduplicator, "recentCacheSize", 2);
+        ReflectionTestUtils.setField(webhookDeduplicator, "expectedIds", 10_000L);
+        ReflectionTestUtils.setField(webhookDeduplicator, "falsePositiveRate", 0.01);
+        webhookDeduplicator.init();
+    }
+
+    @Test
+    @DisplayName("처음 보는 id는 NEW, 기록한 id는 DUPLICATE")
+    void check_RecentCache() {
+        assertThat(webhookDeduplicator.check("webhook-1")).isEqualTo(WebhookDeduplicator.Verdict.NEW);
+
+        webhookDeduplicator.remember("webhook-1");
+
+        assertThat(webhookDeduplicator.check("webhook-1")).isEqualTo(WebhookDeduplicator.Verdict.DUPLICATE);
+    }
+
+    @Test
+    @DisplayName("최근 캐시에서 밀려난 id는 Bloom filter로 MAYBE_SEEN")
+    void check_EvictedFallsBackToBloom() {
+        webhookDeduplicator.remember("webhook-1");
+        webhookDeduplicator.remember("webhook-2");
+        webhookDeduplicator.remember("webhook-3");
+
+        assertAll(
+                () -> assertThat(webhookDeduplicator.check("webhook-1")).isEqualTo(WebhookDeduplicator.Verdict.MAYBE_SEEN),
+                () -> assertThat(webhookDeduplicator.check("webhook-3")).isEqualTo(WebhookDeduplicator.Verdict.DUPLICATE)
+        );
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 저장된 웹훅 id로 Bloom filter 적재")
+    void warmUp_LoadsStoredIds() {
+        given(webhookRepository.findIdsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.<Object[]>of(new Object[]{1L, "stored-1"}, new Object[]{2L, "stored-2"}));
+        given(webhookRepository.findIdsAfter(eq(2L), any(Pageable.class))).willReturn(List.of());
+
+        webhookDeduplicator.warmUp();
+
+        assertThat(webhookDeduplicator.check("stored-2")).isEqualTo(WebhookDeduplicator.Verdict.MAYBE_SEEN);
+    }
+
+    @Test
+    @DisplayName("Bloom filter 오탐률은 설정값 근처")
+    void bloomFilter_FalsePositiveRate() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("webhook-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (bloomFilter.mightContain("webhook-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertAll(
+                () -> assertThat(bloomFilter.mightContain("webhook-42")).isTrue(),
+                () -> assertThat(bloomFilter.getHashCount()).isEqualTo(7)
+        );
+        assertThat(falsePositives).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("통계: 캐시 적중률")
+    void stats_HitRate() {
+        webhookDeduplicator.remember("webhook-1");
+        webhookDeduplicator.check("webhook-1");
+        webhookDeduplicator.check("webhook-9");
+        webhookDeduplicator.recordDbDuplicate("webhook-9");
+
+        WebhookDedupStats stats = webhookDeduplicator.getStats();
+
+        assertAll(
+                () -> assertThat(stats.lookups()).isEqualTo(2),
+                () -> assertThat(stats.cacheHits()).isEqualTo(1),
+                () -> assertThat(stats.dbDuplicates()).isEqualTo(1),
+                () -> assertThat(stats.hitRate()).isEqualTo(0.5)
+        );
+    }
+}
@@ -0,0 +1,132 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookEventDispatcherTest {
+
+    @Mock
+    private WebhookEventService webhookEventService;
+
+    @InjectMocks
+    private WebhookEventDispatcher webhookEventDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(webhookEventDispatcher, "workerThreads", 4);
+        ReflectionTestUtils.setField(webhookEventDispatcher, "capacity", 3);
+        webhookEventDispatcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        webhookEventDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 결제 건의 이벤트는 id 순서대로 하나씩 처리")
+    void offer_PerPaymentOrdering() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> {
+            Long eventId = invocation.getArgument(0);
+            if (eventId == 1L) {
+                firstStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            processed.add(eventId);
+            return true;
+        }).given(webhookEventService).process(anyLong());
+
+        webhookEventDispatcher.offer(1L, "pay-A");
+        firstStarted.await(5, TimeUnit.SECONDS);
+        // 처리 중에 뒤 이벤트가 역순으로 들어와도 id 순으로 처리
+        webhookEventDispatcher.offer(3L, "pay-A");
+        webhookEventDispatcher.offer(2L, "pay-A");
+        release.countDown();
+
+        waitUntil(() -> processed.size() == 3);
+        assertThat(processed).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 같은 결제 건의 뒤 이벤트는 미루고 다른 결제 건은 계속 처리")
+    void offer_FailureDefersLane() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> {
+            Long eventId = invocation.getArgument(0);
+            if (eventId == 1L) {
+                firstStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return false;
+            }
+            processed.add(eventId);
+            return true;
+        }).given(webhookEventService).process(anyLong());
+
+        webhookEventDispatcher.offer(1L, "pay-A");
+        firstStarted.await(5, TimeUnit.SECONDS);
+        webhookEventDispatcher.offer(2L, "pay-A");
+        webhookEventDispatcher.offer(10L, "pay-B");
+        release.countDown();
+
+        waitUntil(() -> webhookEventDispatcher.queuedCount() == 0);
+        assertThat(processed).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("capacity에 도달하면 더 받지 않음 (back-pressure)")
+    void offer_RejectsWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentHashMap<Long, Boolean> processed = new ConcurrentHashMap<>();
+        willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            processed.put(invocation.getArgument(0), true);
+            return true;
+        }).given(webhookEventService).process(anyLong());
+
+        boolean first = webhookEventDispatcher.offer(1L, "pay-A");
+        boolean second = webhookEventDispatcher.offer(2L, "pay-B");
+        boolean third = webhookEventDispatcher.offer(3L, "pay-C");
+        boolean duplicate = webhookEventDispatcher.offer(3L, "pay-C");
+        boolean overflow = webhookEventDispatcher.offer(4L, "pay-D");
+        release.countDown();
+
+        assertAll(
+                () -> assertThat(first && second && third && duplicate).isTrue(),
+                () -> assertThat(overflow).isFalse()
+        );
+        waitUntil(() -> processed.size() == 3);
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
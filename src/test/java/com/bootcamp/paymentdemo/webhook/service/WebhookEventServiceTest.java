@@ -0,0 +1,278 @@
+package com.bootcamp.paymentdemo.webhook.service;
+
+import com.bootcamp.paymentdemo.payment.consts.PaymentStatus;
+import com.bootcamp.paymentdemo.payment.entity.Payment;
+import com.bootcamp.paymentdemo.payment.repository.PaymentRepository;
+import com.bootcamp.paymentdemo.payment.service.PaymentService;
+import com.bootcamp.paymentdemo.webhook.dto.PortoneWebhookPayload;
+import com.bootcamp.paymentdemo.webhook.entity.WebhookEvent;
+import com.bootcamp.paymentdemo.webhook.entity.WebhookStatus;
+import com.bootcamp.paymentdemo.webhook.repository.WebhookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookEventServiceTest {
+
+    @Mock
+    private WebhookRepository webhookRepository;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private WebhookDeduplicator webhookDeduplicator;
+
+    @InjectMocks
+    private WebhookEventService webhookEventService;
+
+    private final String dbPaymentId = "order_mid_12345";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(webhookEventService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(webhookEventService, "initialBackoff", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(webhookEventService, "maxBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(webhookEventService, "lease", Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("웹훅 수신: 원문과 함께 RECEIVED 상태로 저장")
+    void receive_SavesRawEvent() {
+        given(webhookDeduplicator.check("webhook-1")).willReturn(WebhookDeduplicator.Verdict.NEW);
+        given(webhookRepository.saveAndFlush(any(WebhookEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<WebhookEvent> event = webhookEventService.receive(webhookPayload(dbPaymentId), "webhook-1", "{\"raw\":true}");
+
+        assertAll(
+                () -> assertThat(event).isPresent(),
+                () -> assertThat(event.get().getStatus()).isEqualTo(WebhookStatus.RECEIVED),
+                () -> assertThat(event.get().getPaymentId()).isEqualTo(dbPaymentId),
+                () -> assertThat(event.get().getRawBody()).isEqualTo("{\"raw\":true}"),
+                () -> verify(webhookDeduplicator).remember("webhook-1"),
+                () -> verify(webhookRepository, never()).existsByWebhookId(anyString()),
+                () -> verifyNoInteractions(paymentService)
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 수신: 중복 웹훅은 무시 (unique 제약)")
+    void receive_DuplicateIgnored() {
+        given(webhookDeduplicator.check("webhook-1")).willReturn(WebhookDeduplicator.Verdict.NEW);
+        given(webhookRepository.saveAndFlush(any(WebhookEvent.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate webhookId"));
+
+        Optional<WebhookEvent> event = webhookEventService.receive(webhookPayload(dbPaymentId), "webhook-1", "{}");
+
+        assertAll(
+                () -> assertThat(event).isEmpty(),
+                () -> verify(webhookDeduplicator).recordDbDuplicate("webhook-1")
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 수신: 최근 캐시에 있는 중복은 DB 없이 무시")
+    void receive_RecentDuplicateSkipsDb() {
+        given(webhookDeduplicator.check("webhook-1")).willReturn(WebhookDeduplicator.Verdict.DUPLICATE);
+
+        Optional<WebhookEvent> event = webhookEventService.receive(webhookPayload(dbPaymentId), "webhook-1", "{}");
+
+        assertAll(
+                () -> assertThat(event).isEmpty(),
+                () -> verifyNoInteractions(webhookRepository)
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 수신: Bloom filter 양성이면 조회로 중복 확인 (insert 시도 없음)")
+    void receive_BloomPositiveConfirmedByLookup() {
+        given(webhookDeduplicator.check("webhook-1")).willReturn(WebhookDeduplicator.Verdict.MAYBE_SEEN);
+        given(webhookRepository.existsByWebhookId("webhook-1")).willReturn(true);
+
+        Optional<WebhookEvent> event = webhookEventService.receive(webhookPayload(dbPaymentId), "webhook-1", "{}");
+
+        assertAll(
+                () -> assertThat(event).isEmpty(),
+                () -> verify(webhookDeduplicator).recordDbDuplicate("webhook-1"),
+                () -> verify(webhookRepository, never()).saveAndFlush(any())
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 수신: Bloom filter 오탐이면 그대로 저장")
+    void receive_BloomFalsePositiveSaves() {
+        given(webhookDeduplicator.check("webhook-1")).willReturn(WebhookDeduplicator.Verdict.MAYBE_SEEN);
+        given(webhookRepository.existsByWebhookId("webhook-1")).willReturn(false);
+        given(webhookRepository.saveAndFlush(any(WebhookEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<WebhookEvent> event = webhookEventService.receive(webhookPayload(dbPaymentId), "webhook-1", "{}");
+
+        assertAll(
+                () -> assertThat(event).isPresent(),
+                () -> verify(webhookDeduplicator).recordFalsePositive(),
+                () -> verify(webhookDeduplicator).remember("webhook-1")
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 처리: 웹훅의 결제 ID로 바로 확정 후 PROCESSED")
+    void process_ConfirmsWithPaymentId() {
+        WebhookEvent event = event(1L);
+        givenClaimed(1L);
+        given(webhookRepository.findById(1L)).willReturn(Optional.of(event));
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(payment(PaymentStatus.PAID)));
+
+        boolean done = webhookEventService.process(1L);
+
+        assertAll(
+                () -> assertThat(done).isTrue(),
+                () -> verify(paymentService).confirmPayment(dbPaymentId),
+                () -> assertThat(event.getStatus()).isEqualTo(WebhookStatus.PROCESSED),
+                () -> verify(webhookRepository).save(event)
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 처리: 같은 결제 건의 앞선 이벤트가 남아 있으면 그 이벤트의 다음 시도 시각까지 미룸")
+    void process_WaitsForEarlierEvent() {
+        WebhookEvent event = event(2L);
+        LocalDateTime earlierRetryAt = LocalDateTime.now().plusSeconds(20);
+        givenClaimed(2L);
+        given(webhookRepository.findById(2L)).willReturn(Optional.of(event));
+        given(webhookRepository.findLatestNextAttemptAtBefore(dbPaymentId, WebhookStatus.RECEIVED, 2L))
+                .willReturn(Optional.of(earlierRetryAt));
+
+        boolean done = webhookEventService.process(2L);
+
+        assertAll(
+                () -> assertThat(done).isFalse(),
+                () -> verifyNoInteractions(paymentService),
+                () -> assertThat(event.getAttempts()).isZero(),
+                () -> assertThat(event.getNextAttemptAt()).isEqualTo(earlierRetryAt),
+                () -> verify(webhookRepository).save(event)
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 처리: 다른 노드가 선점한 이벤트는 건너뜀")
+    void process_SkipsWhenClaimedElsewhere() {
+        given(webhookRepository.claim(eq(1L), eq(WebhookStatus.RECEIVED), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        boolean done = webhookEventService.process(1L);
+
+        assertAll(
+                () -> assertThat(done).isTrue(),
+                () -> verify(webhookRepository, never()).findById(anyLong()),
+                () -> verifyNoInteractions(paymentService)
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 처리 실패: 백오프 후 재시도 예약")
+    void process_RetryWithBackoff() {
+        WebhookEvent event = event(1L);
+        givenClaimed(1L);
+        given(webhookRepository.findById(1L)).willReturn(Optional.of(event));
+        given(paymentService.confirmPayment(dbPaymentId)).willThrow(new RuntimeException("DB Error"));
+
+        boolean done = webhookEventService.process(1L);
+
+        assertAll(
+                () -> assertThat(done).isFalse(),
+                () -> assertThat(event.getStatus()).isEqualTo(WebhookStatus.RECEIVED),
+                () -> assertThat(event.getAttempts()).isEqualTo(1),
+                () -> assertThat(event.getLastError()).isEqualTo("DB Error"),
+                () -> assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(4))
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 처리 실패: PG 조회 실패로 결제가 PENDING이면 재시도")
+    void process_RetryWhenStillPending() {
+        WebhookEvent event = event(1L);
+        givenClaimed(1L);
+        given(webhookRepository.findById(1L)).willReturn(Optional.of(event));
+        given(paymentRepository.findByDbPaymentId(dbPaymentId)).willReturn(Optional.of(payment(PaymentStatus.PENDING)));
+
+        boolean done = webhookEventService.process(1L);
+
+        assertAll(
+                () -> assertThat(done).isFalse(),
+                () -> assertThat(event.getAttempts()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("웹훅 처리 실패: 최대 횟수 도달 시 FAILED")
+    void process_FailedAfterMaxAttempts() {
+        WebhookEvent event = event(1L);
+        ReflectionTestUtils.setField(event, "attempts", 2);
+        givenClaimed(1L);
+        given(webhookRepository.findById(1L)).willReturn(Optional.of(event));
+        given(paymentService.confirmPayment(dbPaymentId)).willThrow(new RuntimeException("DB Error"));
+
+        boolean done = webhookEventService.process(1L);
+
+        assertAll(
+                () -> assertThat(done).isTrue(),
+                () -> assertThat(event.getStatus()).isEqualTo(WebhookStatus.FAILED)
+        );
+    }
+
+    @Test
+    @DisplayName("백오프: 시도마다 두 배, 최대값 제한")
+    void backoff() {
+        assertAll(
+                () -> assertThat(webhookEventService.backoff(1)).isEqualTo(Duration.ofSeconds(5)),
+                () -> assertThat(webhookEventService.backoff(3)).isEqualTo(Duration.ofSeconds(20)),
+                () -> assertThat(webhookEventService.backoff(10)).isEqualTo(Duration.ofSeconds(30))
+        );
+    }
+
+    private void givenClaimed(Long id) {
+        given(webhookRepository.claim(eq(id), eq(WebhookStatus.RECEIVED), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(1);
+    }
+
+    private WebhookEvent event(Long id) {
+        WebhookEvent event = WebhookEvent.builder()
+                .webhookId("webhook-" + id)
+                .paymentId(dbPaymentId)
+                .eventStatus("Transaction.Paid")
+                .rawBody("{}")
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    private Payment payment(PaymentStatus status) {
+        return Payment.builder().dbPaymentId(dbPaymentId).status(status).build();
+    }
+
+    private PortoneWebhookPayload webhookPayload(String paymentId) {
+        PortoneWebhookPayload.Data data = new PortoneWebhookPayload.Data();
+        ReflectionTestUtils.setField(data, "paymentId", paymentId);
+        PortoneWebhookPayload payload = new PortoneWebhookPayload();
+        ReflectionTestUtils.setField(payload, "type", "Transaction.Paid");
+        ReflectionTestUtils.setField(payload, "data", data);
+        return payload;
+    }
+}